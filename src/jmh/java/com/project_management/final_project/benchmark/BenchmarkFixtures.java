@@ -0,0 +1,194 @@
+package com.project_management.final_project.benchmark;
+
+import com.project_management.final_project.config.JwtKeyProvider;
+import com.project_management.final_project.config.PermissionClaimCodec;
+import com.project_management.final_project.entities.Module;
+import com.project_management.final_project.entities.Permission;
+import com.project_management.final_project.entities.Project;
+import com.project_management.final_project.entities.Role;
+import com.project_management.final_project.entities.Task;
+import com.project_management.final_project.entities.User;
+import com.project_management.final_project.repository.ModuleRepository;
+import com.project_management.final_project.service.TokenRevocationService;
+import com.project_management.final_project.service.impl.AuthServiceImpl;
+import com.project_management.final_project.util.BloomFilter;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Deterministic fixtures shared by the benchmarks.
+ * Everything is derived from a fixed seed and a fixed signing key so runs are comparable across releases.
+ */
+public final class BenchmarkFixtures {
+
+    public static final long SEED = 20240501L;
+
+    /** 512-bit HS512 key, hex encoded like jwt.secret */
+    public static final String JWT_SECRET_HEX =
+            "8f3c2a1b9d7e6f5a4c3b2a19087f6e5d4c3b2a1908f7e6d5c4b3a29180f7e6d5" +
+            "c4b3a2918f7e6d5c4b3a29180f7e6d5c4b3a2918f7e6d5c4b3a29180f7e6d5c4";
+
+    public static final long ACCESS_TOKEN_EXPIRATION_MS = 3_600_000L;
+    public static final long REFRESH_TOKEN_EXPIRATION_MS = 604_800_000L;
+
+    private static final String[] MODULES = {"PROJECT", "TASK", "TEAM", "FRIEND", "ROLE", "USER", "TASK_HISTORY"};
+
+    private BenchmarkFixtures() {
+    }
+
+    public static JwtKeyProvider keyProvider() {
+        return new JwtKeyProvider(JWT_SECRET_HEX);
+    }
+
+    /**
+     * AuthServiceImpl wired for token generation and validation only (no repository or encoder)
+     */
+    public static AuthServiceImpl authService(JwtKeyProvider keyProvider, PermissionClaimCodec permissionClaimCodec,
+                                              String permissionClaimFormat) {
+        AuthServiceImpl authService = new AuthServiceImpl(null, null, keyProvider, permissionClaimCodec, null);
+        ReflectionTestUtils.setField(authService, "secret", JWT_SECRET_HEX);
+        ReflectionTestUtils.setField(authService, "accessTokenExpiration", ACCESS_TOKEN_EXPIRATION_MS);
+        ReflectionTestUtils.setField(authService, "refreshTokenExpiration", REFRESH_TOKEN_EXPIRATION_MS);
+        ReflectionTestUtils.setField(authService, "permissionClaimFormat", permissionClaimFormat);
+        return authService;
+    }
+
+    /**
+     * Revocation check backed only by a local Bloom filter holding a fixed set of revoked sessions,
+     * matching the common path where the filter answers without reaching Redis
+     */
+    public static TokenRevocationService tokenRevocationService() {
+        BloomFilter revoked = new BloomFilter(100_000, 0.01);
+        Random random = new Random(SEED);
+        for (int i = 0; i < 10_000; i++) {
+            revoked.add(new UUID(random.nextLong(), random.nextLong()).toString());
+        }
+        return new TokenRevocationService() {
+            @Override
+            public void revokeSessions(Collection<String> sessionIds) {
+                sessionIds.forEach(revoked::add);
+            }
+
+            @Override
+            public boolean isSessionRevoked(String sessionId) {
+                return revoked.mightContain(sessionId);
+            }
+        };
+    }
+
+    /**
+     * Codec backed by an in-memory module table instead of the database
+     */
+    public static PermissionClaimCodec permissionClaimCodec() {
+        List<Module> modules = new ArrayList<>();
+        for (int i = 0; i < MODULES.length; i++) {
+            modules.add(Module.builder().id(i + 1).name(MODULES[i]).permissions(new ArrayList<>()).build());
+        }
+        ModuleRepository moduleRepository = (ModuleRepository) Proxy.newProxyInstance(
+                ModuleRepository.class.getClassLoader(),
+                new Class<?>[] {ModuleRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findAll") && method.getParameterCount() == 0) {
+                        return modules;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        return new PermissionClaimCodec(moduleRepository);
+    }
+
+    /**
+     * A project manager with a permission row for every module
+     */
+    public static User projectManager() {
+        Role role = Role.builder()
+                .id(2)
+                .name("PROJECT_MANAGER")
+                .permissions(new ArrayList<>())
+                .build();
+        for (int i = 0; i < MODULES.length; i++) {
+            Module module = Module.builder()
+                    .id(i + 1)
+                    .name(MODULES[i])
+                    .permissions(new ArrayList<>())
+                    .build();
+            role.getPermissions().add(Permission.builder()
+                    .id(i + 1)
+                    .role(role)
+                    .module(module)
+                    .canView(true)
+                    .canCreate(i % 2 == 0)
+                    .canUpdate(i % 3 != 0)
+                    .canDelete(i == 0)
+                    .build());
+        }
+        return User.builder()
+                .id(42)
+                .name("Benchmark Manager")
+                .email("manager@example.com")
+                .password("{noop}unused")
+                .role(role)
+                .status(User.Status.ACTIVE)
+                .build();
+    }
+
+    /**
+     * Build tasks with seeded random titles, dates, priorities, statuses and assignees
+     */
+    public static List<Task> tasks(int count) {
+        Random random = new Random(SEED);
+        User creator = projectManager();
+        Project project = Project.builder()
+                .id(1)
+                .name("Benchmark Project")
+                .description("Fixture project")
+                .startDate(LocalDate.of(2024, 1, 1))
+                .endDate(LocalDate.of(2024, 12, 31))
+                .status(Project.Status.values()[0])
+                .createdBy(creator)
+                .createdAt(LocalDateTime.of(2024, 1, 1, 9, 0))
+                .teamMembers(new ArrayList<>())
+                .tasks(new ArrayList<>())
+                .build();
+
+        List<User> assignees = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            assignees.add(User.builder()
+                    .id(1000 + i)
+                    .name("Developer " + i)
+                    .email("dev" + i + "@example.com")
+                    .status(User.Status.ACTIVE)
+                    .build());
+        }
+
+        Task.Priority[] priorities = Task.Priority.values();
+        Task.Status[] statuses = Task.Status.values();
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDate start = LocalDate.of(2024, 1, 1).plusDays(random.nextInt(300));
+            tasks.add(Task.builder()
+                    .id(i + 1)
+                    .title("Task " + i + " " + Long.toHexString(random.nextLong()))
+                    .description("Description for task " + i)
+                    .priority(priorities[random.nextInt(priorities.length)])
+                    .status(statuses[random.nextInt(statuses.length)])
+                    .startDate(start)
+                    .dueDate(start.plusDays(1 + random.nextInt(30)))
+                    .project(project)
+                    .assignee(random.nextInt(5) == 0 ? null : assignees.get(random.nextInt(assignees.size())))
+                    .createdBy(creator)
+                    .createdAt(start.atTime(9, 0))
+                    .updatedAt(start.atTime(17, 0))
+                    .taskHistory(new ArrayList<>())
+                    .build());
+        }
+        return tasks;
+    }
+}
@@ -0,0 +1,158 @@
+package com.project_management.final_project.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulk insert of task history rows, replaying the JDBC traffic Hibernate produces before and after
+ * the switch from IDENTITY to pooled table-generated IDs:
+ * <ul>
+ *   <li>identity: one INSERT round trip per row, reading back the generated key (no batching possible)</li>
+ *   <li>pooled: IDs reserved 50 at a time from a generator row, inserts sent as JDBC batches of 50</li>
+ * </ul>
+ * Needs a scratch MySQL schema: BENCH_DB_URL (defaults to project_manager_bench on localhost),
+ * DB_USER and DB_PASS. The benchmark creates and drops its own bench_* tables.
+ * Scores are the time to insert and commit one bulk of {@code rows} rows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class BulkInsertBenchmark {
+
+    private static final String DEFAULT_URL = "jdbc:mysql://localhost:3306/project_manager_bench"
+            + "?useSSL=false&allowPublicKeyRetrieval=true&rewriteBatchedStatements=true";
+    private static final int BLOCK_SIZE = 50;
+    private static final String INSERT_IDENTITY_SQL =
+            "INSERT INTO bench_task_history (task_id, old_status, new_status, changed_by) VALUES (?, ?, ?, ?)";
+    private static final String INSERT_POOLED_SQL =
+            "INSERT INTO bench_task_history (id, task_id, old_status, new_status, changed_by) VALUES (?, ?, ?, ?, ?)";
+
+    @Param({"identity", "pooled"})
+    private String strategy;
+
+    @Param({"1000"})
+    private int rows;
+
+    private Connection connection;
+    private Connection generatorConnection;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        String url = System.getenv().getOrDefault("BENCH_DB_URL", DEFAULT_URL);
+        connection = DriverManager.getConnection(url, System.getenv("DB_USER"), System.getenv("DB_PASS"));
+        generatorConnection = DriverManager.getConnection(url, System.getenv("DB_USER"), System.getenv("DB_PASS"));
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS bench_task_history");
+            statement.execute("DROP TABLE IF EXISTS bench_id_generators");
+            statement.execute("CREATE TABLE bench_task_history ("
+                    + "id INT AUTO_INCREMENT PRIMARY KEY, task_id INT NOT NULL, "
+                    + "old_status VARCHAR(20), new_status VARCHAR(20), changed_by INT NOT NULL, "
+                    + "changed_at DATETIME DEFAULT CURRENT_TIMESTAMP)");
+            statement.execute("CREATE TABLE bench_id_generators ("
+                    + "sequence_name VARCHAR(64) PRIMARY KEY, next_val BIGINT NOT NULL)");
+            statement.execute("INSERT INTO bench_id_generators VALUES ('task_history', 1)");
+        }
+        connection.setAutoCommit(false);
+        generatorConnection.setAutoCommit(false);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS bench_task_history");
+            statement.execute("DROP TABLE IF EXISTS bench_id_generators");
+        }
+        generatorConnection.close();
+        connection.close();
+    }
+
+    @Benchmark
+    public long insertHistory() throws SQLException {
+        long lastId = "pooled".equals(strategy) ? insertPooled() : insertIdentity();
+        connection.commit();
+        return lastId;
+    }
+
+    private long insertIdentity() throws SQLException {
+        long lastId = 0;
+        try (PreparedStatement ps = connection.prepareStatement(INSERT_IDENTITY_SQL, Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < rows; i++) {
+                bindRow(ps, 1, i);
+                ps.executeUpdate();
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    keys.next();
+                    lastId = keys.getLong(1);
+                }
+            }
+        }
+        return lastId;
+    }
+
+    private long insertPooled() throws SQLException {
+        long nextId = 0;
+        long blockEnd = 0;
+        try (PreparedStatement ps = connection.prepareStatement(INSERT_POOLED_SQL)) {
+            for (int i = 0; i < rows; i++) {
+                if (nextId == blockEnd) {
+                    nextId = allocateBlock();
+                    blockEnd = nextId + BLOCK_SIZE;
+                }
+                ps.setLong(1, nextId++);
+                bindRow(ps, 2, i);
+                ps.addBatch();
+                if ((i + 1) % BLOCK_SIZE == 0) {
+                    ps.executeBatch();
+                }
+            }
+            ps.executeBatch();
+        }
+        return nextId - 1;
+    }
+
+    // Same statements as the table generator / IdBlockAllocator, in a separate short transaction
+    private long allocateBlock() throws SQLException {
+        long first;
+        try (PreparedStatement select = generatorConnection.prepareStatement(
+                "SELECT next_val FROM bench_id_generators WHERE sequence_name = 'task_history' FOR UPDATE");
+             ResultSet rs = select.executeQuery()) {
+            rs.next();
+            first = rs.getLong(1);
+        }
+        try (PreparedStatement update = generatorConnection.prepareStatement(
+                "UPDATE bench_id_generators SET next_val = next_val + ? WHERE sequence_name = 'task_history'")) {
+            update.setInt(1, BLOCK_SIZE);
+            update.executeUpdate();
+        }
+        generatorConnection.commit();
+        return first;
+    }
+
+    private static void bindRow(PreparedStatement ps, int firstIndex, int row) throws SQLException {
+        ps.setInt(firstIndex, 1 + row % 500);
+        ps.setString(firstIndex + 1, "TODO");
+        ps.setString(firstIndex + 2, "IN_PROGRESS");
+        ps.setInt(firstIndex + 3, 1 + row % 50);
+    }
+}
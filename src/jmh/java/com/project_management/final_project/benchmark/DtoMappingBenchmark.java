@@ -0,0 +1,64 @@
+package com.project_management.final_project.benchmark;
+
+import com.project_management.final_project.dto.response.AssignedTaskResponse;
+import com.project_management.final_project.dto.response.PageResponse;
+import com.project_management.final_project.dto.response.PagedResponse;
+import com.project_management.final_project.dto.response.ProjectTaskResponse;
+import com.project_management.final_project.dto.response.TaskResponse;
+import com.project_management.final_project.entities.Task;
+import com.project_management.final_project.util.PaginationUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity-to-DTO mapping and page wrapping for one page of tasks
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DtoMappingBenchmark {
+
+    @Param({"10", "100"})
+    private int pageSize;
+
+    private Page<Task> taskPage;
+
+    @Setup
+    public void setUp() {
+        List<Task> tasks = BenchmarkFixtures.tasks(pageSize);
+        taskPage = new PageImpl<>(tasks, PageRequest.of(0, pageSize), pageSize * 25L);
+    }
+
+    @Benchmark
+    public PagedResponse<ProjectTaskResponse> projectTaskResponses() {
+        return PagedResponse.fromPage(taskPage.map(ProjectTaskResponse::fromEntity));
+    }
+
+    @Benchmark
+    public PagedResponse<TaskResponse> taskResponses() {
+        return PagedResponse.fromPage(taskPage.map(TaskResponse::fromEntity));
+    }
+
+    @Benchmark
+    public PageResponse<AssignedTaskResponse> assignedTaskResponses() {
+        return PaginationUtil.createPageResponse(taskPage.map(AssignedTaskResponse::fromEntity));
+    }
+}
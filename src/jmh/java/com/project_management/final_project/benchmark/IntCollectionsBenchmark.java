@@ -0,0 +1,111 @@
+package com.project_management.final_project.benchmark;
+
+import com.project_management.final_project.util.collection.IntHashSet;
+import com.project_management.final_project.util.collection.IntIntMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Boxed JDK collections versus the primitive int collections on bulk ID workloads:
+ * de-duplicating and probing member IDs, and counting tasks per assignee.
+ * Run with -Djmh.args="-prof gc IntCollectionsBenchmark" to compare allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class IntCollectionsBenchmark {
+
+    @Param({"100000"})
+    private int memberCount;
+
+    @Param({"1000000"})
+    private int taskCount;
+
+    private int[] memberUserIds;
+    private int[] probeUserIds;
+    private int[] taskAssigneeIds;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(BenchmarkFixtures.SEED);
+        memberUserIds = new int[memberCount];
+        for (int i = 0; i < memberCount; i++) {
+            memberUserIds[i] = 1 + random.nextInt(memberCount * 2);
+        }
+        probeUserIds = new int[memberCount];
+        for (int i = 0; i < memberCount; i++) {
+            probeUserIds[i] = 1 + random.nextInt(memberCount * 2);
+        }
+        taskAssigneeIds = new int[taskCount];
+        for (int i = 0; i < taskCount; i++) {
+            taskAssigneeIds[i] = memberUserIds[random.nextInt(memberCount)];
+        }
+    }
+
+    @Benchmark
+    public int membershipBoxed() {
+        Set<Integer> members = new HashSet<>();
+        for (int id : memberUserIds) {
+            members.add(id);
+        }
+        int hits = 0;
+        for (int id : probeUserIds) {
+            if (members.contains(id)) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+    @Benchmark
+    public int membershipPrimitive() {
+        IntHashSet members = new IntHashSet(memberUserIds.length);
+        for (int id : memberUserIds) {
+            members.add(id);
+        }
+        int hits = 0;
+        for (int id : probeUserIds) {
+            if (members.contains(id)) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+    @Benchmark
+    public int workloadBoxed() {
+        Map<Integer, Integer> counts = new HashMap<>();
+        for (int assigneeId : taskAssigneeIds) {
+            counts.merge(assigneeId, 1, Integer::sum);
+        }
+        return counts.size();
+    }
+
+    @Benchmark
+    public int workloadPrimitive() {
+        IntIntMap counts = new IntIntMap(memberUserIds.length);
+        for (int assigneeId : taskAssigneeIds) {
+            counts.addTo(assigneeId, 1);
+        }
+        return counts.size();
+    }
+}
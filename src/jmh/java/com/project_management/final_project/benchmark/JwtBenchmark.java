@@ -0,0 +1,75 @@
+package com.project_management.final_project.benchmark;
+
+import com.project_management.final_project.config.CustomGrantedAuthoritiesConverter;
+import com.project_management.final_project.config.CustomJwtDecoder;
+import com.project_management.final_project.config.JwtKeyProvider;
+import com.project_management.final_project.config.PermissionClaimCodec;
+import com.project_management.final_project.entities.User;
+import com.project_management.final_project.service.impl.AuthServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issue, decode and authority mapping as done on login and on every authenticated request
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+
+    private static final String SESSION_ID = "5f0c8a9e-3b1d-4c2a-9e7f-1a2b3c4d5e6f";
+
+    @Param({"compact", "legacy"})
+    private String permissionClaimFormat;
+
+    private AuthServiceImpl authService;
+    private CustomJwtDecoder jwtDecoder;
+    private CustomGrantedAuthoritiesConverter authoritiesConverter;
+    private User user;
+    private String accessToken;
+    private Jwt decodedJwt;
+
+    @Setup
+    public void setUp() {
+        JwtKeyProvider keyProvider = BenchmarkFixtures.keyProvider();
+        PermissionClaimCodec permissionClaimCodec = BenchmarkFixtures.permissionClaimCodec();
+        authService = BenchmarkFixtures.authService(keyProvider, permissionClaimCodec, permissionClaimFormat);
+        jwtDecoder = new CustomJwtDecoder(authService, keyProvider, BenchmarkFixtures.tokenRevocationService());
+        authoritiesConverter = new CustomGrantedAuthoritiesConverter(permissionClaimCodec);
+        user = BenchmarkFixtures.projectManager();
+        accessToken = authService.generateAccessToken(user, SESSION_ID);
+        decodedJwt = jwtDecoder.decode(accessToken);
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return authService.generateAccessToken(user, SESSION_ID);
+    }
+
+    @Benchmark
+    public Jwt decode() {
+        return jwtDecoder.decode(accessToken);
+    }
+
+    @Benchmark
+    public Collection<GrantedAuthority> convertAuthorities() {
+        return authoritiesConverter.convert(decodedJwt);
+    }
+}
@@ -0,0 +1,48 @@
+package com.project_management.final_project.benchmark;
+
+import com.project_management.final_project.util.ValidationUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Email and password validation, including inputs that force the regex to backtrack
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+    @Param({
+            "developer.one@example.com",
+            "first.middle.last+tag@sub.domain.example.org",
+            "aaaaaaaaaaaaaaaaaaaaaaaaaaaaaa.aaaaaaaaaaaaaaaaaaaa@",
+            "not-an-email"
+    })
+    private String email;
+
+    @Param({"Passw0rd!", "short1", "onlylettersbutverylongpasswordvalue"})
+    private String password;
+
+    @Benchmark
+    public boolean validateEmail() {
+        return ValidationUtil.isValidEmail(email);
+    }
+
+    @Benchmark
+    public boolean validatePassword() {
+        return ValidationUtil.isValidPassword(password);
+    }
+}
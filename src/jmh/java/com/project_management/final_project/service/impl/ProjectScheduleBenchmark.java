@@ -0,0 +1,106 @@
+package com.project_management.final_project.service.impl;
+
+import com.project_management.final_project.benchmark.BenchmarkFixtures;
+import com.project_management.final_project.util.collection.IntArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rebuilding a project schedule versus updating one task's dates in place, as TaskScheduleServiceImpl does
+ * on a date change. Lives in the schedule's package because ProjectSchedule is package-private.
+ * Tasks form chains of chainLength with some cross links, like phases of a project.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class ProjectScheduleBenchmark {
+
+    private static final int ORIGIN = 20_000;
+    private static final int UPDATES = 1024;
+
+    @Param({"1000", "10000"})
+    private int taskCount;
+
+    @Param({"20"})
+    private int chainLength;
+
+    private IntArrayList taskIds;
+    private IntArrayList startDates;
+    private IntArrayList dueDates;
+    private IntArrayList predecessorIds;
+    private IntArrayList successorIds;
+    private ProjectSchedule schedule;
+
+    // Date changes applied in turn by the incremental benchmark
+    private int[] updateTaskIds;
+    private int[] updateStarts;
+    private int[] updateDues;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(BenchmarkFixtures.SEED);
+        taskIds = new IntArrayList(taskCount);
+        startDates = new IntArrayList(taskCount);
+        dueDates = new IntArrayList(taskCount);
+        predecessorIds = new IntArrayList(taskCount * 2);
+        successorIds = new IntArrayList(taskCount * 2);
+        for (int i = 0; i < taskCount; i++) {
+            int start = ORIGIN + random.nextInt(90);
+            taskIds.add(i + 1);
+            startDates.add(start);
+            dueDates.add(start + random.nextInt(10));
+            if (i % chainLength != 0) {
+                predecessorIds.add(i);
+                successorIds.add(i + 1);
+            }
+            // Cross links only point to later tasks, so the graph stays acyclic
+            if (i > 0 && random.nextInt(4) == 0) {
+                predecessorIds.add(1 + random.nextInt(i));
+                successorIds.add(i + 1);
+            }
+        }
+        schedule = build();
+
+        updateTaskIds = new int[UPDATES];
+        updateStarts = new int[UPDATES];
+        updateDues = new int[UPDATES];
+        for (int u = 0; u < UPDATES; u++) {
+            updateTaskIds[u] = 1 + random.nextInt(taskCount);
+            updateStarts[u] = ORIGIN + random.nextInt(90);
+            updateDues[u] = updateStarts[u] + random.nextInt(10);
+        }
+    }
+
+    @Benchmark
+    public int rebuild() {
+        return build().projectedFinish();
+    }
+
+    @Benchmark
+    public int updateTask() {
+        int u = next;
+        next = (u + 1) % UPDATES;
+        schedule.updateTask(updateTaskIds[u], updateStarts[u], updateDues[u]);
+        return schedule.projectedFinish();
+    }
+
+    private ProjectSchedule build() {
+        return new ProjectSchedule(ORIGIN, 0, taskIds, startDates, dueDates, predecessorIds, successorIds);
+    }
+}
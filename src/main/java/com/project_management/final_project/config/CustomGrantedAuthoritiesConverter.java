@@ -9,22 +9,69 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Maps the role and permissions claims of a JWT to granted authorities.
+ * Accepts both the compact claim (see {@link PermissionClaimCodec}) and the legacy list of permission objects.
+ * Only a handful of distinct role/permission combinations exist, so each resulting authority list
+ * is built once, cached by its claim values and shared (immutable) across requests.
+ */
 public class CustomGrantedAuthoritiesConverter implements Converter<Jwt, Collection<GrantedAuthority>> {
+
+    // Upper bound on distinct claim combinations kept; anything beyond is converted without caching
+    private static final int MAX_CACHED_AUTHORITY_SETS = 256;
+
+    private final Map<AuthorityKey, List<GrantedAuthority>> authorityCache = new ConcurrentHashMap<>();
+    private final PermissionClaimCodec permissionClaimCodec;
+
+    public CustomGrantedAuthoritiesConverter(PermissionClaimCodec permissionClaimCodec) {
+        this.permissionClaimCodec = permissionClaimCodec;
+    }
+
     @Override
     public Collection<GrantedAuthority> convert(Jwt jwt) {
+        AuthorityKey key = new AuthorityKey(
+                jwt.getClaim("role"),
+                jwt.getClaim(PermissionClaimCodec.VERSION_CLAIM),
+                jwt.getClaim(PermissionClaimCodec.PERMISSIONS_CLAIM),
+                jwt.getClaim("permissions"));
+
+        List<GrantedAuthority> authorities = authorityCache.get(key);
+        if (authorities != null) {
+            return authorities;
+        }
+
+        authorities = List.copyOf(buildAuthorities(key));
+        if (authorityCache.size() < MAX_CACHED_AUTHORITY_SETS) {
+            List<GrantedAuthority> existing = authorityCache.putIfAbsent(key, authorities);
+            if (existing != null) {
+                return existing;
+            }
+        }
+        return authorities;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<GrantedAuthority> buildAuthorities(AuthorityKey key) {
         List<GrantedAuthority> authorities = new ArrayList<>();
 
         // Add role
-        String role = jwt.getClaimAsString("role");
-        if (role != null) {
-            authorities.add(new SimpleGrantedAuthority("ROLE_" + role));
+        if (key.role() != null) {
+            authorities.add(new SimpleGrantedAuthority("ROLE_" + key.role()));
         }
 
-        // Add permissions
-        List<Map<String, Object>> permissions = jwt.getClaim("permissions");
-        if (permissions != null) {
-            for (Map<String, Object> permission : permissions) {
+        // Add permissions from the compact claim
+        if (key.compactPermissions() instanceof Map<?, ?> compactPermissions) {
+            for (String authority : permissionClaimCodec.decode(key.permissionVersion(), compactPermissions)) {
+                authorities.add(new SimpleGrantedAuthority(authority));
+            }
+        }
+
+        // Add permissions from the legacy claim
+        if (key.permissions() instanceof List<?> permissions) {
+            for (Object entry : permissions) {
+                Map<String, Object> permission = (Map<String, Object>) entry;
                 String module = (String) permission.get("module");
                 if (Boolean.TRUE.equals(permission.get("canView"))) {
                     authorities.add(new SimpleGrantedAuthority(module + "_VIEW"));
@@ -43,4 +90,10 @@ public class CustomGrantedAuthoritiesConverter implements Converter<Jwt, Collect
 
         return authorities;
     }
+
+    /**
+     * Cache key made of the raw claim values; the permission claims are compared by value
+     */
+    private record AuthorityKey(Object role, Object permissionVersion, Object compactPermissions, Object permissions) {
+    }
 }
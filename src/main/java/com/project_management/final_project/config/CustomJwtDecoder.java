@@ -1,14 +1,11 @@
 package com.project_management.final_project.config;
 
-import com.project_management.final_project.dto.request.IntrospectRequest;
-import com.project_management.final_project.dto.response.IntrospectResponse;
 import com.project_management.final_project.exception.AppException;
 import com.project_management.final_project.exception.ErrorCode;
 import com.project_management.final_project.service.AuthService;
+import com.project_management.final_project.service.TokenRevocationService;
 import com.project_management.final_project.service.impl.AuthServiceImpl;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.security.Keys;
-import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -18,8 +15,6 @@ import org.springframework.security.oauth2.jwt.JwtException;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
-import java.nio.charset.StandardCharsets;
-import java.util.Base64;
 import java.util.HashMap;
 import java.util.Map;
 @Component
@@ -28,33 +23,40 @@ public class CustomJwtDecoder implements JwtDecoder{
     private String secret;
     private SecretKey key;
     private final AuthService authService;
+    private final TokenRevocationService tokenRevocationService;
     private static final Logger logger = LoggerFactory.getLogger(CustomJwtDecoder.class);
 
-    public CustomJwtDecoder(AuthService authService, JwtKeyProvider jwtKeyProvider) {
+    public CustomJwtDecoder(AuthService authService, JwtKeyProvider jwtKeyProvider,
+                            TokenRevocationService tokenRevocationService) {
         this.authService = authService;
         this.key = jwtKeyProvider.getKey();
+        this.tokenRevocationService = tokenRevocationService;
     }
 
     @Override
     public Jwt decode(String token) throws JwtException {
         try {
-            logger.info("GEN key: " + Base64.getEncoder().encodeToString(key.getEncoded()));
-            // Step 1: Custom introspection check
-            IntrospectRequest request = new IntrospectRequest();
-            request.setToken(token);
-            IntrospectResponse response = authService.introspect(request);
-            if (!response.isValid()) {
+            // Step 1: Verify signature and expiry
+            Claims claims = authService.validateToken(token);
+
+            // Step 2: Refresh tokens are only accepted by the refresh endpoint
+            if (AuthServiceImpl.REFRESH_TOKEN_TYPE.equals(claims.get(AuthServiceImpl.TOKEN_TYPE_CLAIM))) {
                 throw new AppException(ErrorCode.TOKEN_INVALID);
             }
 
-            Claims claims = authService.validateToken(token);
+            // Step 3: Reject tokens of revoked sessions (local Bloom filter first, Redis only on a hit)
+            Object sessionId = claims.get(AuthServiceImpl.SESSION_ID_CLAIM);
+            if (sessionId instanceof String sid && tokenRevocationService.isSessionRevoked(sid)) {
+                logger.warn("Rejected access token of revoked session {}", sid);
+                throw new AppException(ErrorCode.TOKEN_REVOKED);
+            }
 
             // Create headers map with at least one entry
             Map<String, Object> headers = new HashMap<>();
             headers.put("alg", "HS512");
             headers.put("typ", "JWT");
 
-            // Step 3: Build Spring Security Jwt object
+            // Step 4: Build Spring Security Jwt object
             return new Jwt(
                     token,
                     claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
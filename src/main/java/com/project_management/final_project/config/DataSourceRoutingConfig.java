@@ -0,0 +1,139 @@
+package com.project_management.final_project.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Replaces the single auto-configured pool with a primary pool plus one pool per read replica
+ * when datasource.routing.enabled is set. Read-only transactions go to a replica that is within
+ * the lag threshold; writes, lagging replicas and users who just wrote something go to the primary.
+ * Every pool publishes the standard hikaricp.* metrics tagged with its pool name.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(DataSourceRoutingConfig.class);
+
+    private final List<HikariDataSource> pools = new ArrayList<>();
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            DataSourceProperties properties,
+            Environment environment,
+            MeterRegistry meterRegistry,
+            @Value("${datasource.replica.urls}") String replicaUrls,
+            @Value("${datasource.replica.maximum-pool-size:10}") int replicaPoolSize,
+            @Value("${datasource.replica.max-lag-seconds:5}") long maxLagSeconds) {
+        String username = environment.getProperty("datasource.replica.username", properties.determineUsername());
+        String password = environment.getProperty("datasource.replica.password", properties.determinePassword());
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        List<String> urls = Arrays.stream(replicaUrls.split(","))
+                .map(String::trim)
+                .filter(url -> !url.isEmpty())
+                .toList();
+        for (int i = 0; i < urls.size(); i++) {
+            String key = "replica-" + (i + 1);
+            HikariDataSource replica = properties.initializeDataSourceBuilder()
+                    .type(HikariDataSource.class)
+                    .url(urls.get(i))
+                    .username(username)
+                    .password(password)
+                    .build();
+            replica.setPoolName(key);
+            replica.setMaximumPoolSize(replicaPoolSize);
+            replica.setReadOnly(true);
+            replicas.put(key, register(replica, meterRegistry));
+        }
+        if (replicas.isEmpty()) {
+            logger.warn("Read/write routing is enabled but datasource.replica.urls is empty; all reads use the primary");
+        }
+
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replicas, maxLagSeconds);
+        for (String key : replicas.keySet()) {
+            Gauge.builder("datasource.replica.lag", monitor, m -> {
+                        long lag = m.getLagSeconds(key);
+                        return lag == Long.MAX_VALUE ? Double.NaN : lag;
+                    })
+                    .description("Replication lag of the replica behind the primary")
+                    .baseUnit("seconds")
+                    .tag("pool", key)
+                    .register(meterRegistry);
+        }
+        return monitor;
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(
+            @Value("${datasource.routing.read-your-writes-window-ms:5000}") long windowMillis) {
+        return new ReadYourWritesTracker(windowMillis);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceProperties properties,
+                                 Environment environment,
+                                 MeterRegistry meterRegistry,
+                                 ReplicaLagMonitor replicaLagMonitor,
+                                 ReadYourWritesTracker readYourWritesTracker) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        // Keep honouring spring.datasource.hikari.* for the primary pool
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setPoolName(ReadWriteRoutingDataSource.PRIMARY);
+        register(primary, meterRegistry);
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(ReadWriteRoutingDataSource.PRIMARY, primary);
+        for (HikariDataSource pool : pools) {
+            if (pool != primary) {
+                targets.put(pool.getPoolName(), pool);
+            }
+        }
+
+        ReadWriteRoutingDataSource routingDataSource =
+                new ReadWriteRoutingDataSource(replicaLagMonitor, readYourWritesTracker, meterRegistry);
+        routingDataSource.setTargetDataSources(targets);
+        routingDataSource.setDefaultTargetDataSource(primary);
+        routingDataSource.afterPropertiesSet();
+
+        logger.info("Read/write routing enabled with {} replica pool(s)", targets.size() - 1);
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @PreDestroy
+    public void closePools() {
+        pools.forEach(HikariDataSource::close);
+    }
+
+    private HikariDataSource register(HikariDataSource pool, MeterRegistry meterRegistry) {
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        pools.add(pool);
+        return pool;
+    }
+}
@@ -0,0 +1,116 @@
+package com.project_management.final_project.config;
+
+import com.project_management.final_project.entities.Module;
+import com.project_management.final_project.entities.Permission;
+import com.project_management.final_project.repository.ModuleRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encodes role permissions into the compact access token claim and decodes them back to authority names.
+ * The compact claim maps each module ID (as a string) to a bitmask of VIEW/CREATE/UPDATE/DELETE,
+ * and is tagged with a version claim so the format can evolve.
+ */
+@Component
+public class PermissionClaimCodec {
+
+    public static final String VERSION_CLAIM = "pv";
+    public static final String PERMISSIONS_CLAIM = "perms";
+    public static final int CURRENT_VERSION = 1;
+
+    public static final int VIEW = 1;
+    public static final int CREATE = 1 << 1;
+    public static final int UPDATE = 1 << 2;
+    public static final int DELETE = 1 << 3;
+
+    private static final Logger logger = LoggerFactory.getLogger(PermissionClaimCodec.class);
+
+    private final ModuleRepository moduleRepository;
+    private volatile Map<Integer, String> moduleNames = Map.of();
+
+    public PermissionClaimCodec(ModuleRepository moduleRepository) {
+        this.moduleRepository = moduleRepository;
+    }
+
+    /**
+     * Encode permissions as module ID to bitmask
+     * @param permissions The role permissions
+     * @return The compact permissions claim
+     */
+    public Map<String, Integer> encode(Collection<Permission> permissions) {
+        Map<String, Integer> claim = new LinkedHashMap<>();
+        for (Permission permission : permissions) {
+            int mask = (permission.isCanView() ? VIEW : 0)
+                    | (permission.isCanCreate() ? CREATE : 0)
+                    | (permission.isCanUpdate() ? UPDATE : 0)
+                    | (permission.isCanDelete() ? DELETE : 0);
+            if (mask != 0) {
+                claim.put(String.valueOf(permission.getModule().getId()), mask);
+            }
+        }
+        return claim;
+    }
+
+    /**
+     * Decode a compact permissions claim into authority names such as TASK_VIEW
+     * @param version The value of the version claim
+     * @param claim The compact permissions claim
+     * @return The authority names
+     */
+    public List<String> decode(Object version, Map<?, ?> claim) {
+        if (!(version instanceof Number number) || number.intValue() != CURRENT_VERSION) {
+            logger.warn("Unsupported permission claim version: {}", version);
+            return List.of();
+        }
+
+        List<String> authorities = new ArrayList<>();
+        for (Map.Entry<?, ?> entry : claim.entrySet()) {
+            int moduleId = Integer.parseInt(String.valueOf(entry.getKey()));
+            int mask = ((Number) entry.getValue()).intValue();
+            String module = moduleName(moduleId);
+            if (module == null) {
+                logger.warn("Unknown module ID {} in permission claim", moduleId);
+                continue;
+            }
+            if ((mask & VIEW) != 0) {
+                authorities.add(module + "_VIEW");
+            }
+            if ((mask & CREATE) != 0) {
+                authorities.add(module + "_CREATE");
+            }
+            if ((mask & UPDATE) != 0) {
+                authorities.add(module + "_UPDATE");
+            }
+            if ((mask & DELETE) != 0) {
+                authorities.add(module + "_DELETE");
+            }
+        }
+        return authorities;
+    }
+
+    private String moduleName(int moduleId) {
+        String name = moduleNames.get(moduleId);
+        if (name == null) {
+            // Modules are seeded by migrations and rarely change; reload on first use or an unknown ID
+            reloadModules();
+            name = moduleNames.get(moduleId);
+        }
+        return name;
+    }
+
+    private synchronized void reloadModules() {
+        Map<Integer, String> names = new HashMap<>();
+        for (Module module : moduleRepository.findAll()) {
+            names.put(module.getId(), module.getName());
+        }
+        moduleNames = Map.copyOf(names);
+    }
+}
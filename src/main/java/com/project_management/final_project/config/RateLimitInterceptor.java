@@ -0,0 +1,71 @@
+package com.project_management.final_project.config;
+
+import com.project_management.final_project.service.RateLimitService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Applies per-IP and per-route rate limits before throttled handlers run.
+ * Runs as an MVC interceptor (not a servlet filter) so rejections go through GlobalExceptionHandler.
+ * Per-email limits need the request body and are applied in the controllers, which find the
+ * resolved client IP in the {@link #CLIENT_IP_ATTRIBUTE} request attribute.
+ */
+@Component
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    public static final String CLIENT_IP_ATTRIBUTE = "rateLimit.clientIp";
+
+    private final RateLimitService rateLimitService;
+    private final boolean trustForwardedFor;
+
+    public RateLimitInterceptor(RateLimitService rateLimitService,
+                                @Value("${rate-limit.trust-forwarded-for:false}") boolean trustForwardedFor) {
+        this.rateLimitService = rateLimitService;
+        this.trustForwardedFor = trustForwardedFor;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        String clientIp = clientIp(request);
+        request.setAttribute(CLIENT_IP_ATTRIBUTE, clientIp);
+
+        RateLimitPolicy[] policies = policiesFor(path);
+        if (policies != null) {
+            // The caller's own bucket first: a single client over its limit must not drain the shared route bucket
+            rateLimitService.consume(policies[0], clientIp);
+            rateLimitService.consume(policies[1], path);
+        }
+        return true;
+    }
+
+    /**
+     * @return The per-IP and per-route policy of a throttled path, or null if it is not throttled here
+     */
+    private static RateLimitPolicy[] policiesFor(String path) {
+        if (path.equals("/api/auth/refresh")) {
+            return new RateLimitPolicy[]{RateLimitPolicy.REFRESH_IP, RateLimitPolicy.REFRESH_ROUTE};
+        } else if (path.equals("/api/auth/reset-password")) {
+            return new RateLimitPolicy[]{RateLimitPolicy.RESET_PASSWORD_IP, RateLimitPolicy.RESET_PASSWORD_ROUTE};
+        } else if (path.startsWith("/api/auth/")) {
+            return new RateLimitPolicy[]{RateLimitPolicy.LOGIN_IP, RateLimitPolicy.LOGIN_ROUTE};
+        } else if (path.startsWith("/api/email/")) {
+            return new RateLimitPolicy[]{RateLimitPolicy.OTP_IP, RateLimitPolicy.OTP_ROUTE};
+        }
+        return null;
+    }
+
+    private String clientIp(HttpServletRequest request) {
+        if (trustForwardedFor) {
+            String forwardedFor = request.getHeader("X-Forwarded-For");
+            if (forwardedFor != null && !forwardedFor.isBlank()) {
+                int comma = forwardedFor.indexOf(',');
+                return (comma >= 0 ? forwardedFor.substring(0, comma) : forwardedFor).trim();
+            }
+        }
+        return request.getRemoteAddr();
+    }
+}
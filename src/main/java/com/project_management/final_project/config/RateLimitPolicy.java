@@ -0,0 +1,49 @@
+package com.project_management.final_project.config;
+
+/**
+ * Token bucket policies for throttled endpoints.
+ * Defaults can be overridden with rate-limit.policies.{name}.capacity and
+ * rate-limit.policies.{name}.refill-period-seconds, where name is the policy name in kebab case (e.g. login-ip-email).
+ */
+public enum RateLimitPolicy {
+    // Per client IP
+    LOGIN_IP(20, 60),
+    REFRESH_IP(60, 60),
+    RESET_PASSWORD_IP(10, 600),
+    OTP_IP(10, 600),
+    // Per client IP and target email address, so no single client can lock an account out
+    LOGIN_IP_EMAIL(5, 300),
+    // Per target email address
+    OTP_EMAIL(3, 600),
+    // Per route, across all callers (protects SMTP and BCrypt capacity)
+    LOGIN_ROUTE(600, 60),
+    REFRESH_ROUTE(3000, 60),
+    RESET_PASSWORD_ROUTE(200, 60),
+    OTP_ROUTE(200, 60);
+
+    private final int defaultCapacity;
+    private final long defaultRefillPeriodSeconds;
+
+    RateLimitPolicy(int defaultCapacity, long defaultRefillPeriodSeconds) {
+        this.defaultCapacity = defaultCapacity;
+        this.defaultRefillPeriodSeconds = defaultRefillPeriodSeconds;
+    }
+
+    /**
+     * Bucket size: requests allowed in a burst
+     */
+    public int getDefaultCapacity() {
+        return defaultCapacity;
+    }
+
+    /**
+     * Time for an empty bucket to refill completely
+     */
+    public long getDefaultRefillPeriodSeconds() {
+        return defaultRefillPeriodSeconds;
+    }
+
+    public String propertyName() {
+        return name().toLowerCase().replace('_', '-');
+    }
+}
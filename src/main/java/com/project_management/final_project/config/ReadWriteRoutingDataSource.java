@@ -0,0 +1,94 @@
+package com.project_management.final_project.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Supplier;
+
+/**
+ * Sends read-only transactions to a replica and everything else to the primary.
+ * Must be wrapped in a LazyConnectionDataSourceProxy: the transaction's read-only flag is only
+ * published after the transaction manager asked for a connection, so the physical connection
+ * has to be fetched on the first statement.
+ * <p>
+ * Reads run through {@link #readFromPrimary(Supplier)} also use the primary, e.g. bodies tagged with a change
+ * counter that a lagging replica may not have caught up with.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private static final ThreadLocal<Boolean> PRIMARY_READS = new ThreadLocal<>();
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final Counter writeRoutes;
+    private final Counter replicaRoutes;
+    private final Counter pinnedRoutes;
+    private final Counter laggingRoutes;
+    private final Counter requestedRoutes;
+
+    public ReadWriteRoutingDataSource(ReplicaLagMonitor replicaLagMonitor, ReadYourWritesTracker readYourWritesTracker,
+                                      MeterRegistry meterRegistry) {
+        this.replicaLagMonitor = replicaLagMonitor;
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.writeRoutes = routeCounter(meterRegistry, PRIMARY, "write");
+        this.replicaRoutes = routeCounter(meterRegistry, "replica", "read");
+        this.pinnedRoutes = routeCounter(meterRegistry, PRIMARY, "read-your-writes");
+        this.laggingRoutes = routeCounter(meterRegistry, PRIMARY, "replicas-lagging");
+        this.requestedRoutes = routeCounter(meterRegistry, PRIMARY, "requested");
+    }
+
+    /**
+     * Run an action with its read-only transactions served by the primary
+     * @param action The action, run on the current thread
+     * @return The action's result
+     */
+    public static <T> T readFromPrimary(Supplier<T> action) {
+        if (PRIMARY_READS.get() != null) {
+            return action.get();
+        }
+        PRIMARY_READS.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            PRIMARY_READS.remove();
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                readYourWritesTracker.trackCurrentTransaction();
+            }
+            writeRoutes.increment();
+            return PRIMARY;
+        }
+        if (PRIMARY_READS.get() != null) {
+            requestedRoutes.increment();
+            return PRIMARY;
+        }
+        if (readYourWritesTracker.isCurrentUserPinnedToPrimary()) {
+            pinnedRoutes.increment();
+            return PRIMARY;
+        }
+        String replica = replicaLagMonitor.nextHealthyReplica();
+        if (replica == null) {
+            laggingRoutes.increment();
+            return PRIMARY;
+        }
+        replicaRoutes.increment();
+        return replica;
+    }
+
+    private static Counter routeCounter(MeterRegistry meterRegistry, String route, String reason) {
+        return Counter.builder("datasource.routing.connections")
+                .description("Physical connections handed out by the read/write routing data source")
+                .tag("route", route)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
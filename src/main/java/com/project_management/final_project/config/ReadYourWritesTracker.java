@@ -0,0 +1,94 @@
+package com.project_management.final_project.config;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers which users committed a write recently, so their reads are served by the primary
+ * until replicas had time to catch up with their own changes.
+ * The window is kept per node; it should be at least the tolerated replica lag.
+ */
+public class ReadYourWritesTracker {
+
+    private static final int MAX_TRACKED_USERS = 100_000;
+    private static final Object SYNCHRONIZATION_MARKER = new Object();
+
+    private final ConcurrentHashMap<Integer, Long> primaryUntil = new ConcurrentHashMap<>();
+    private final long windowMillis;
+
+    public ReadYourWritesTracker(long windowMillis) {
+        this.windowMillis = windowMillis;
+    }
+
+    /**
+     * Registers (once per transaction) a callback that starts the window for the current user
+     * when the current read-write transaction commits
+     */
+    public void trackCurrentTransaction() {
+        if (windowMillis <= 0 || !TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(SYNCHRONIZATION_MARKER)) {
+            return;
+        }
+        Integer userId = currentUserId();
+        if (userId == null) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(SYNCHRONIZATION_MARKER, userId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recordWrite(userId);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(SYNCHRONIZATION_MARKER);
+            }
+        });
+    }
+
+    /**
+     * Whether the current user committed a write within the window
+     * @return true if reads of the current user must go to the primary
+     */
+    public boolean isCurrentUserPinnedToPrimary() {
+        if (windowMillis <= 0 || primaryUntil.isEmpty()) {
+            return false;
+        }
+        Integer userId = currentUserId();
+        if (userId == null) {
+            return false;
+        }
+        Long until = primaryUntil.get(userId);
+        if (until == null) {
+            return false;
+        }
+        if (until > System.currentTimeMillis()) {
+            return true;
+        }
+        primaryUntil.remove(userId, until);
+        return false;
+    }
+
+    private void recordWrite(Integer userId) {
+        long now = System.currentTimeMillis();
+        if (primaryUntil.size() >= MAX_TRACKED_USERS) {
+            primaryUntil.values().removeIf(until -> until <= now);
+        }
+        primaryUntil.put(userId, now + windowMillis);
+    }
+
+    private static Integer currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof Jwt jwt)) {
+            return null;
+        }
+        Object idClaim = jwt.getClaim("id");
+        return idClaim instanceof Number number ? number.intValue() : null;
+    }
+}
@@ -0,0 +1,104 @@
+package com.project_management.final_project.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Periodically measures how far each read replica is behind the primary and keeps the ones
+ * within the tolerated lag in rotation. A replica whose lag cannot be read (replication stopped,
+ * probe failed) is taken out of rotation until the next successful probe.
+ */
+public class ReplicaLagMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+    // Lag reported until a replica has been probed once
+    private static final long UNKNOWN_LAG = Long.MAX_VALUE;
+
+    private final Map<String, JdbcTemplate> replicas = new LinkedHashMap<>();
+    private final Map<String, Long> lagSeconds = new ConcurrentHashMap<>();
+    private final long maxLagSeconds;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private volatile List<String> healthyReplicas = List.of();
+
+    public ReplicaLagMonitor(Map<String, DataSource> replicaDataSources, long maxLagSeconds) {
+        this.maxLagSeconds = maxLagSeconds;
+        replicaDataSources.forEach((key, dataSource) -> {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            jdbcTemplate.setQueryTimeout(2);
+            replicas.put(key, jdbcTemplate);
+            lagSeconds.put(key, UNKNOWN_LAG);
+        });
+    }
+
+    /**
+     * Picks the next replica within the lag threshold, round robin
+     * @return The routing key of the replica, or null if no replica is usable
+     */
+    public String nextHealthyReplica() {
+        List<String> healthy = healthyReplicas;
+        if (healthy.isEmpty()) {
+            return null;
+        }
+        return healthy.get(Math.floorMod(nextReplica.getAndIncrement(), healthy.size()));
+    }
+
+    /**
+     * Last measured lag of a replica
+     * @param replicaKey The routing key of the replica
+     * @return The lag in seconds, or Long.MAX_VALUE if unknown
+     */
+    public long getLagSeconds(String replicaKey) {
+        return lagSeconds.getOrDefault(replicaKey, UNKNOWN_LAG);
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval-ms:5000}")
+    public void checkReplicationLag() {
+        List<String> healthy = new ArrayList<>();
+        replicas.forEach((key, jdbcTemplate) -> {
+            long lag = probe(key, jdbcTemplate);
+            Long previous = lagSeconds.put(key, lag);
+            boolean usable = lag <= maxLagSeconds;
+            boolean wasUsable = previous != null && previous <= maxLagSeconds;
+            if (usable != wasUsable) {
+                if (usable) {
+                    logger.info("Replica {} back in rotation, lag {}s", key, lag);
+                } else {
+                    logger.warn("Replica {} taken out of rotation, lag {}", key, lag == UNKNOWN_LAG ? "unknown" : lag + "s");
+                }
+            }
+            if (usable) {
+                healthy.add(key);
+            }
+        });
+        healthyReplicas = List.copyOf(healthy);
+    }
+
+    private long probe(String key, JdbcTemplate jdbcTemplate) {
+        try {
+            // SHOW REPLICA STATUS returns no row when the server is not a replica (e.g. a proxy endpoint), treat as in sync
+            Long lag = jdbcTemplate.query("SHOW REPLICA STATUS", (ResultSetExtractor<Long>) rs -> {
+                if (!rs.next()) {
+                    return 0L;
+                }
+                long seconds = rs.getLong("Seconds_Behind_Source");
+                // NULL means the replication threads are not running
+                return rs.wasNull() ? UNKNOWN_LAG : seconds;
+            });
+            return lag == null ? UNKNOWN_LAG : lag;
+        } catch (Exception e) {
+            logger.debug("Replication lag probe failed for {}: {}", key, e.getMessage());
+            return UNKNOWN_LAG;
+        }
+    }
+}
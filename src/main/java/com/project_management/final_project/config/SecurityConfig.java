@@ -1,6 +1,8 @@
 package com.project_management.final_project.config;
 
 import com.project_management.final_project.service.AuthService;
+import com.project_management.final_project.service.TokenRevocationService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -41,12 +43,14 @@ public class SecurityConfig {
     };
 
     @Bean
-    public CustomJwtDecoder customJwtDecoder(AuthService authService, JwtKeyProvider keyProvider) {
-        return new CustomJwtDecoder(authService, keyProvider);
+    public CustomJwtDecoder customJwtDecoder(AuthService authService, JwtKeyProvider keyProvider,
+                                             TokenRevocationService tokenRevocationService) {
+        return new CustomJwtDecoder(authService, keyProvider, tokenRevocationService);
     }
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity httpSecurity, CustomJwtDecoder customJwtDecoder) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity httpSecurity, CustomJwtDecoder customJwtDecoder,
+                                           JwtAuthenticationConverter jwtAuthenticationConverter) throws Exception {
         httpSecurity
                 .cors(Customizer.withDefaults())
                 .authorizeHttpRequests(request -> request
@@ -58,7 +62,7 @@ public class SecurityConfig {
                 .oauth2ResourceServer(oauth2 -> oauth2
                         .jwt(jwtConfigurer -> jwtConfigurer
                                 .decoder(customJwtDecoder)
-                                .jwtAuthenticationConverter(jwtAuthenticationConverter())
+                                .jwtAuthenticationConverter(jwtAuthenticationConverter)
                         )
                         .authenticationEntryPoint(new JwtAuthenticationEntryPoint())
                 )
@@ -81,14 +85,14 @@ public class SecurityConfig {
     }
 
     @Bean
-    JwtAuthenticationConverter jwtAuthenticationConverter() {
+    JwtAuthenticationConverter jwtAuthenticationConverter(PermissionClaimCodec permissionClaimCodec) {
         JwtAuthenticationConverter converter = new JwtAuthenticationConverter();
-        converter.setJwtGrantedAuthoritiesConverter(new CustomGrantedAuthoritiesConverter());
+        converter.setJwtGrantedAuthoritiesConverter(new CustomGrantedAuthoritiesConverter(permissionClaimCodec));
         return converter;
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${password.bcrypt.strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 }
@@ -5,7 +5,7 @@ import com.project_management.final_project.exception.AppException;
 import com.project_management.final_project.exception.ErrorCode;
 import com.project_management.final_project.repository.ProjectRepository;
 import com.project_management.final_project.repository.TaskRepository;
-import com.project_management.final_project.repository.TeamMemberRepository;
+import com.project_management.final_project.service.MembershipService;
 import com.project_management.final_project.service.UserService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -19,7 +19,7 @@ public class SecurityService {
     
     private static final Logger logger = LoggerFactory.getLogger(SecurityService.class);
     private final SecurityUtil securityUtil;
-    private final TeamMemberRepository teamMemberRepository;
+    private final MembershipService membershipService;
     private final ProjectRepository projectRepository;
     private final TaskRepository taskRepository;
     private final UserService userService;
@@ -27,12 +27,12 @@ public class SecurityService {
     @Autowired
     public SecurityService(
             SecurityUtil securityUtil,
-            TeamMemberRepository teamMemberRepository,
+            MembershipService membershipService,
             ProjectRepository projectRepository,
             TaskRepository taskRepository,
             UserService userService) {
         this.securityUtil = securityUtil;
-        this.teamMemberRepository = teamMemberRepository;
+        this.membershipService = membershipService;
         this.projectRepository = projectRepository;
         this.taskRepository = taskRepository;
         this.userService = userService;
@@ -71,7 +71,7 @@ public class SecurityService {
         // Step 3: Check if the current user has access to this project
         boolean isProjectCreator = project.getCreatedBy() != null && 
                                    project.getCreatedBy().getId().equals(currentUserId);
-        boolean isCurrentUserInProject = teamMemberRepository.existsByUserIdAndProjectId(currentUserId, projectId);
+        boolean isCurrentUserInProject = membershipService.isMember(currentUserId, projectId);
         boolean isProjectManager = userService.hasRole(currentUserId, "PROJECT_MANAGER");
         
         logger.info("Current user access check - Is creator: {}, Is team member: {}, Is PM: {}", 
@@ -88,7 +88,7 @@ public class SecurityService {
         }
         
         // Step 4: Check if the target user is a member of the project
-        boolean isTargetInProject = teamMemberRepository.existsByUserIdAndProjectId(userId, projectId);
+        boolean isTargetInProject = membershipService.isMember(userId, projectId);
         logger.info("Is target user ID {} a member of project ID {}: {}", userId, projectId, isTargetInProject);
         
         if (!isTargetInProject) {
@@ -108,6 +108,44 @@ public class SecurityService {
         return canView;
     }
     
+    /**
+     * Check that the current user can view a project: its creator or one of its team members.
+     * Members are answered from the membership cache without a query.
+     * 
+     * @param projectId The project ID
+     * @throws AppException if the project does not exist or the user has no access to it
+     */
+    public void checkProjectAccess(Integer projectId) {
+        Integer currentUserId = securityUtil.getCurrentUserId();
+        if (membershipService.isMember(currentUserId, projectId)
+                || projectRepository.existsByIdAndCreatedById(projectId, currentUserId)) {
+            return;
+        }
+        denyProjectAccess(currentUserId, projectId);
+    }
+    
+    /**
+     * Check that the current user created a project, without loading the project
+     * 
+     * @param projectId The project ID
+     * @throws AppException if the project does not exist or was created by another user
+     */
+    public void checkProjectOwner(Integer projectId) {
+        Integer currentUserId = securityUtil.getCurrentUserId();
+        if (!projectRepository.existsByIdAndCreatedById(projectId, currentUserId)) {
+            denyProjectAccess(currentUserId, projectId);
+        }
+    }
+    
+    private void denyProjectAccess(Integer currentUserId, Integer projectId) {
+        if (!projectRepository.existsById(projectId)) {
+            logger.warn("Project ID {} not found", projectId);
+            throw new AppException(ErrorCode.NOT_FOUND, "Project not found with ID: " + projectId);
+        }
+        logger.warn("User ID {} does not have access to project ID {}", currentUserId, projectId);
+        throw new AppException(ErrorCode.UNAUTHORIZED, "You don't have access to this project");
+    }
+    
     /**
      * Check if the current user can update the status of a task
      * 
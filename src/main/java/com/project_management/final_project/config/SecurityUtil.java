@@ -90,4 +90,23 @@ public class SecurityUtil {
         
         return email;
     }
+    
+    /**
+     * Gets the login session ID (sid claim) of the current access token
+     * @return The session ID, or null for tokens issued without one
+     * @throws AppException if the user is not authenticated
+     */
+    public String getCurrentSessionId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        
+        if (authentication == null || !authentication.isAuthenticated()) {
+            throw new AppException(ErrorCode.UNAUTHENTICATED);
+        }
+        
+        if (!(authentication.getPrincipal() instanceof Jwt jwt)) {
+            throw new AppException(ErrorCode.UNAUTHENTICATED);
+        }
+        
+        return jwt.getClaimAsString("sid");
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.project_management.final_project.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private final RateLimitInterceptor rateLimitInterceptor;
+
+    public WebConfig(RateLimitInterceptor rateLimitInterceptor) {
+        this.rateLimitInterceptor = rateLimitInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(rateLimitInterceptor)
+                .addPathPatterns(
+                        "/api/auth/login",
+                        "/api/auth/refresh",
+                        "/api/auth/reset-password",
+                        "/api/email/otp/send",
+                        "/api/email/otp/verify",
+                        "/api/email/token/generate");
+    }
+}
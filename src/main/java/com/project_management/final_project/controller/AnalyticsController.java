@@ -0,0 +1,135 @@
+package com.project_management.final_project.controller;
+
+import com.project_management.final_project.dto.response.ApiResponse;
+import com.project_management.final_project.dto.response.BurndownPointResponse;
+import com.project_management.final_project.dto.response.CumulativeFlowPointResponse;
+import com.project_management.final_project.dto.response.FlowTimeSummaryResponse;
+import com.project_management.final_project.dto.response.PagedResponse;
+import com.project_management.final_project.dto.response.TaskFlowMetricResponse;
+import com.project_management.final_project.dto.response.ThroughputWeekResponse;
+import com.project_management.final_project.service.AnalyticsService;
+import com.project_management.final_project.util.ApiResponseUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/analytics/projects/{projectId}")
+public class AnalyticsController {
+
+    private static final Logger logger = LoggerFactory.getLogger(AnalyticsController.class);
+    private final AnalyticsService analyticsService;
+
+    @Autowired
+    public AnalyticsController(AnalyticsService analyticsService) {
+        this.analyticsService = analyticsService;
+    }
+
+    /**
+     * Get the daily burndown of a project: scope, completed and remaining tasks at the end of each day
+     *
+     * @param projectId The ID of the project
+     * @param from      First day (ISO date), defaults to 29 days before {@code to}
+     * @param to        Last day (ISO date), defaults to today
+     * @return One point per day
+     */
+    @GetMapping("/burndown")
+    @PreAuthorize("hasRole('PROJECT_MANAGER') and hasAuthority('TASK_HISTORY_VIEW')")
+    public ApiResponse<List<BurndownPointResponse>> getBurndown(
+            @PathVariable Integer projectId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        logger.info("Getting burndown for project ID: {} from {} to {}", projectId, from, to);
+        return ApiResponseUtil.success(analyticsService.getBurndown(projectId, from, to));
+    }
+
+    /**
+     * Get the cumulative flow of a project: number of tasks in each status at the end of each day
+     *
+     * @param projectId The ID of the project
+     * @param from      First day (ISO date), defaults to 29 days before {@code to}
+     * @param to        Last day (ISO date), defaults to today
+     * @return One point per day
+     */
+    @GetMapping("/cumulative-flow")
+    @PreAuthorize("hasRole('PROJECT_MANAGER') and hasAuthority('TASK_HISTORY_VIEW')")
+    public ApiResponse<List<CumulativeFlowPointResponse>> getCumulativeFlow(
+            @PathVariable Integer projectId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        logger.info("Getting cumulative flow for project ID: {} from {} to {}", projectId, from, to);
+        return ApiResponseUtil.success(analyticsService.getCumulativeFlow(projectId, from, to));
+    }
+
+    /**
+     * Get the number of tasks completed per week
+     *
+     * @param projectId The ID of the project
+     * @param weeks     Number of weeks, the current one included (default 12)
+     * @return One entry per week, oldest first
+     */
+    @GetMapping("/throughput")
+    @PreAuthorize("hasRole('PROJECT_MANAGER') and hasAuthority('TASK_HISTORY_VIEW')")
+    public ApiResponse<List<ThroughputWeekResponse>> getThroughput(
+            @PathVariable Integer projectId,
+            @RequestParam(defaultValue = "12") int weeks) {
+        logger.info("Getting weekly throughput for project ID: {} over {} weeks", projectId, weeks);
+        return ApiResponseUtil.success(analyticsService.getWeeklyThroughput(projectId, weeks));
+    }
+
+    /**
+     * Get lead time and cycle time statistics of the tasks completed within a date range
+     *
+     * @param projectId The ID of the project
+     * @param from      First day (ISO date), defaults to 29 days before {@code to}
+     * @param to        Last day (ISO date), defaults to today
+     * @return Average and percentiles, in hours
+     */
+    @GetMapping("/flow-times")
+    @PreAuthorize("hasRole('PROJECT_MANAGER') and hasAuthority('TASK_HISTORY_VIEW')")
+    public ApiResponse<FlowTimeSummaryResponse> getFlowTimes(
+            @PathVariable Integer projectId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        logger.info("Getting flow times for project ID: {} from {} to {}", projectId, from, to);
+        return ApiResponseUtil.success(analyticsService.getFlowTimes(projectId, from, to));
+    }
+
+    /**
+     * Get lead time and cycle time of each completed task
+     *
+     * @param projectId The ID of the project
+     * @param pageable  Pagination information (default: most recently completed first)
+     * @return Paged flow metrics
+     */
+    @GetMapping("/flow-times/tasks")
+    @PreAuthorize("hasRole('PROJECT_MANAGER') and hasAuthority('TASK_HISTORY_VIEW')")
+    public ApiResponse<PagedResponse<TaskFlowMetricResponse>> getTaskFlowMetrics(
+            @PathVariable Integer projectId,
+            @PageableDefault(size = 10, sort = "completedAt", direction = Sort.Direction.DESC) Pageable pageable) {
+        return ApiResponseUtil.success(analyticsService.getTaskFlowMetrics(projectId, pageable));
+    }
+
+    /**
+     * Rebuild the analytics of a project from its full task history
+     *
+     * @param projectId The ID of the project
+     * @return Confirmation message
+     */
+    @PostMapping("/rebuild")
+    @PreAuthorize("hasRole('PROJECT_MANAGER') and hasAuthority('TASK_UPDATE')")
+    public ApiResponse<String> rebuild(@PathVariable Integer projectId) {
+        logger.info("Rebuilding analytics for project ID: {}", projectId);
+        analyticsService.rebuildProject(projectId);
+        return ApiResponseUtil.success("Analytics rebuilt for project ID: " + projectId);
+    }
+}
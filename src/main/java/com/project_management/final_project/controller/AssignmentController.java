@@ -0,0 +1,62 @@
+package com.project_management.final_project.controller;
+
+import com.project_management.final_project.dto.response.ApiResponse;
+import com.project_management.final_project.dto.response.AssigneeRecommendationResponse;
+import com.project_management.final_project.dto.response.AutoAssignmentResponse;
+import com.project_management.final_project.service.AssignmentRecommendationService;
+import com.project_management.final_project.util.ApiResponseUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/assignments/projects/{projectId}")
+public class AssignmentController {
+
+    private static final Logger logger = LoggerFactory.getLogger(AssignmentController.class);
+    private final AssignmentRecommendationService assignmentRecommendationService;
+
+    @Autowired
+    public AssignmentController(AssignmentRecommendationService assignmentRecommendationService) {
+        this.assignmentRecommendationService = assignmentRecommendationService;
+    }
+
+    /**
+     * Rank the team members of a project as assignees, balancing their workload
+     *
+     * @param projectId        The ID of the project
+     * @param specializationId Optional specialization the work needs; matching members rank higher
+     * @param limit            Maximum number of members to return (default: 5)
+     * @return Members, best first
+     */
+    @GetMapping("/recommendations")
+    @PreAuthorize("hasRole('PROJECT_MANAGER') and hasAuthority('TASK_VIEW')")
+    public ApiResponse<List<AssigneeRecommendationResponse>> recommendAssignees(
+            @PathVariable Integer projectId,
+            @RequestParam(required = false) Integer specializationId,
+            @RequestParam(defaultValue = "5") int limit) {
+        return ApiResponseUtil.success(
+                assignmentRecommendationService.recommendAssignees(projectId, specializationId, limit));
+    }
+
+    /**
+     * Assign the unassigned tasks of a project to its team members, most urgent tasks first
+     *
+     * @param projectId        The ID of the project
+     * @param specializationId Optional specialization the tasks need; matching members rank higher
+     * @return The assignments made
+     */
+    @PostMapping("/auto-assign")
+    @PreAuthorize("hasRole('PROJECT_MANAGER') and hasAuthority('TASK_UPDATE')")
+    public ApiResponse<AutoAssignmentResponse> autoAssign(
+            @PathVariable Integer projectId,
+            @RequestParam(required = false) Integer specializationId) {
+        logger.info("Auto-assigning unassigned tasks in project ID: {}", projectId);
+        return ApiResponseUtil.success(
+                assignmentRecommendationService.autoAssignUnassignedTasks(projectId, specializationId));
+    }
+}
@@ -1,14 +1,19 @@
 package com.project_management.final_project.controller;
 
+import com.project_management.final_project.config.RateLimitInterceptor;
+import com.project_management.final_project.config.RateLimitPolicy;
+import com.project_management.final_project.config.SecurityUtil;
 import com.project_management.final_project.dto.request.AuthRequest;
 import com.project_management.final_project.dto.request.RefreshTokenRequest;
 import com.project_management.final_project.dto.request.ResetPasswordRequest;
 import com.project_management.final_project.dto.response.ApiResponse;
 import com.project_management.final_project.dto.response.AuthResponse;
 import com.project_management.final_project.service.AuthService;
+import com.project_management.final_project.service.RateLimitService;
 import com.project_management.final_project.util.ApiResponseUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestAttribute;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -19,9 +24,15 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class AuthController {
     private final AuthService authService;
+    private final SecurityUtil securityUtil;
+    private final RateLimitService rateLimitService;
 
     @PostMapping("/login")
-    public ApiResponse<AuthResponse> login(@RequestBody AuthRequest request) {
+    public ApiResponse<AuthResponse> login(
+            @RequestBody AuthRequest request,
+            @RequestAttribute(name = RateLimitInterceptor.CLIENT_IP_ATTRIBUTE, required = false) String clientIp) {
+        // Keyed by IP as well: bad passwords sent for someone else's email must not lock them out
+        rateLimitService.consume(RateLimitPolicy.LOGIN_IP_EMAIL, clientIp + "|" + normalizeEmail(request.getEmail()));
         var result = authService.login(request);
         return ApiResponseUtil.success(result);
     }
@@ -33,9 +44,28 @@ public class AuthController {
     }
 
     // POST /api/auth/refresh
+    // Refresh tokens are single-use: the response carries a new refresh token that replaces the one sent
     @PostMapping("/refresh")
-    public ApiResponse<String> refreshToken(@RequestBody RefreshTokenRequest request) {
+    public ApiResponse<AuthResponse> refreshToken(@RequestBody RefreshTokenRequest request) {
         var result = authService.refreshAccessToken(request.getRefreshToken());
         return ApiResponseUtil.success(result);
     }
+
+    // POST /api/auth/logout
+    @PostMapping("/logout")
+    public ApiResponse<String> logout() {
+        authService.logout(securityUtil.getCurrentUserId(), securityUtil.getCurrentSessionId());
+        return ApiResponseUtil.success("Logged out successfully");
+    }
+
+    // POST /api/auth/logout-all
+    @PostMapping("/logout-all")
+    public ApiResponse<String> logoutAllSessions() {
+        authService.logoutAllSessions(securityUtil.getCurrentUserId());
+        return ApiResponseUtil.success("Logged out from all sessions");
+    }
+
+    private static String normalizeEmail(String email) {
+        return email == null ? null : email.trim().toLowerCase();
+    }
 }
@@ -0,0 +1,37 @@
+package com.project_management.final_project.controller;
+
+import com.project_management.final_project.dto.response.ApiResponse;
+import com.project_management.final_project.dto.response.CacheRegionStatisticsResponse;
+import com.project_management.final_project.service.ReferenceDataCacheService;
+import com.project_management.final_project.util.ApiResponseUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/cache")
+@RequiredArgsConstructor
+public class CacheAdminController {
+
+    private final ReferenceDataCacheService referenceDataCacheService;
+
+    // GET /api/admin/cache/statistics
+    @GetMapping("/statistics")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ApiResponse<List<CacheRegionStatisticsResponse>> getStatistics() {
+        return ApiResponseUtil.success(referenceDataCacheService.getStatistics());
+    }
+
+    // POST /api/admin/cache/evict
+    @PostMapping("/evict")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ApiResponse<String> evictAll() {
+        referenceDataCacheService.evictAll();
+        return ApiResponseUtil.success("Second-level cache evicted on all nodes");
+    }
+}
@@ -1,9 +1,11 @@
 package com.project_management.final_project.controller;
 
+import com.project_management.final_project.config.RateLimitPolicy;
 import com.project_management.final_project.dto.request.OtpRequest;
 import com.project_management.final_project.dto.request.VerifyOtpRequest;
 import com.project_management.final_project.dto.response.ApiResponse;
 import com.project_management.final_project.service.EmailService;
+import com.project_management.final_project.service.RateLimitService;
 import com.project_management.final_project.util.ApiResponseUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -16,9 +18,11 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class EmailController {
     private final EmailService emailService;
+    private final RateLimitService rateLimitService;
     
     @PostMapping("/otp/send")
     public ApiResponse<String> sendOtp(@RequestBody OtpRequest request) {
+        rateLimitService.consume(RateLimitPolicy.OTP_EMAIL, normalizeEmail(request.getEmail()));
         String otp = emailService.sendOtp(request.getEmail());
         return ApiResponseUtil.success("OTP sent successfully");
     }
@@ -31,7 +35,12 @@ public class EmailController {
     
     @PostMapping("/token/generate")
     public ApiResponse<String> generateToken(@RequestBody OtpRequest request) {
+        rateLimitService.consume(RateLimitPolicy.OTP_EMAIL, normalizeEmail(request.getEmail()));
         String token = emailService.generateToken(request.getEmail());
         return ApiResponseUtil.success(token);
     }
+    
+    private static String normalizeEmail(String email) {
+        return email == null ? null : email.trim().toLowerCase();
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,146 @@
+package com.project_management.final_project.controller;
+
+import com.project_management.final_project.dto.request.ExportFormat;
+import com.project_management.final_project.service.ExportService;
+import com.project_management.final_project.service.ExportService.ExportScope;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streaming file exports of tasks and task history.
+ * The body is written while the rows are read, so exports of any size use constant memory.
+ */
+@RestController
+@RequestMapping("/api/exports")
+public class ExportController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExportController.class);
+    private static final MediaType GZIP = MediaType.parseMediaType("application/gzip");
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private final ExportService exportService;
+
+    @Autowired
+    public ExportController(ExportService exportService) {
+        this.exportService = exportService;
+    }
+
+    /**
+     * Export all tasks of a project created by the current user
+     *
+     * @param projectId The ID of the project
+     * @param format    ndjson (default) or csv
+     * @param gzip      Whether to gzip the file
+     * @return The export file, streamed
+     */
+    @GetMapping("/projects/{projectId}/tasks")
+    @PreAuthorize("hasRole('PROJECT_MANAGER') and hasAuthority('TASK_VIEW')")
+    public ResponseEntity<StreamingResponseBody> exportProjectTasks(
+            @PathVariable Integer projectId,
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        logger.info("Exporting tasks of project ID: {} as {}", projectId, format);
+        ExportScope scope = exportService.resolveScope(projectId);
+        return stream("project-" + projectId + "-tasks", ExportFormat.fromParam(format), gzip,
+                (exportFormat, out) -> exportService.writeTasks(scope, exportFormat, out));
+    }
+
+    /**
+     * Export the task history of a project created by the current user
+     *
+     * @param projectId The ID of the project
+     * @param format    ndjson (default) or csv
+     * @param gzip      Whether to gzip the file
+     * @return The export file, streamed
+     */
+    @GetMapping("/projects/{projectId}/task-history")
+    @PreAuthorize("hasRole('PROJECT_MANAGER') and hasAuthority('TASK_HISTORY_VIEW')")
+    public ResponseEntity<StreamingResponseBody> exportProjectTaskHistory(
+            @PathVariable Integer projectId,
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        logger.info("Exporting task history of project ID: {} as {}", projectId, format);
+        ExportScope scope = exportService.resolveScope(projectId);
+        return stream("project-" + projectId + "-task-history", ExportFormat.fromParam(format), gzip,
+                (exportFormat, out) -> exportService.writeTaskHistory(scope, exportFormat, out));
+    }
+
+    /**
+     * Export the tasks of every project created by the current user
+     *
+     * @param format ndjson (default) or csv
+     * @param gzip   Whether to gzip the file
+     * @return The export file, streamed
+     */
+    @GetMapping("/my-projects/tasks")
+    @PreAuthorize("hasRole('PROJECT_MANAGER') and hasAuthority('TASK_VIEW')")
+    public ResponseEntity<StreamingResponseBody> exportMyProjectsTasks(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        logger.info("Exporting tasks of all projects of the current user as {}", format);
+        ExportScope scope = exportService.resolveScope(null);
+        return stream("my-projects-tasks", ExportFormat.fromParam(format), gzip,
+                (exportFormat, out) -> exportService.writeTasks(scope, exportFormat, out));
+    }
+
+    /**
+     * Export the task history of every project created by the current user
+     *
+     * @param format ndjson (default) or csv
+     * @param gzip   Whether to gzip the file
+     * @return The export file, streamed
+     */
+    @GetMapping("/my-projects/task-history")
+    @PreAuthorize("hasRole('PROJECT_MANAGER') and hasAuthority('TASK_HISTORY_VIEW')")
+    public ResponseEntity<StreamingResponseBody> exportMyProjectsTaskHistory(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        logger.info("Exporting task history of all projects of the current user as {}", format);
+        ExportScope scope = exportService.resolveScope(null);
+        return stream("my-projects-task-history", ExportFormat.fromParam(format), gzip,
+                (exportFormat, out) -> exportService.writeTaskHistory(scope, exportFormat, out));
+    }
+
+    /**
+     * Build the download response; the scope is resolved beforehand on the request thread,
+     * the body itself is written on an async thread
+     */
+    private ResponseEntity<StreamingResponseBody> stream(String baseName, ExportFormat format, boolean gzip,
+                                                         ExportWriter exportWriter) {
+        String fileName = baseName + "." + format.getExtension() + (gzip ? ".gz" : "");
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream gzipOut = new GZIPOutputStream(out, GZIP_BUFFER_SIZE);
+                exportWriter.write(format, gzipOut);
+                gzipOut.finish();
+            } else {
+                exportWriter.write(format, out);
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(gzip ? GZIP : format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(body);
+    }
+
+    @FunctionalInterface
+    private interface ExportWriter {
+        long write(ExportFormat format, OutputStream out) throws IOException;
+    }
+}
@@ -0,0 +1,54 @@
+package com.project_management.final_project.controller;
+
+import com.project_management.final_project.dto.request.CloneProjectRequest;
+import com.project_management.final_project.dto.response.ApiResponse;
+import com.project_management.final_project.dto.response.ProjectCloneJobResponse;
+import com.project_management.final_project.service.ProjectCloneService;
+import com.project_management.final_project.util.ApiResponseUtil;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/projects")
+public class ProjectCloneController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProjectCloneController.class);
+    private final ProjectCloneService projectCloneService;
+
+    @Autowired
+    public ProjectCloneController(ProjectCloneService projectCloneService) {
+        this.projectCloneService = projectCloneService;
+    }
+
+    /**
+     * Start copying a project, with its team members and tasks, into a new project
+     *
+     * @param projectId The ID of the project to copy
+     * @param request   The name and start date of the copy, and what to copy
+     * @return The queued clone job; poll it for progress and the new project's ID
+     */
+    @PostMapping("/{projectId}/clone")
+    @PreAuthorize("hasRole('PROJECT_MANAGER') and hasAuthority('PROJECT_CREATE')")
+    public ApiResponse<ProjectCloneJobResponse> cloneProject(
+            @PathVariable Integer projectId,
+            @Valid @RequestBody CloneProjectRequest request) {
+        logger.info("Cloning project ID {} as '{}'", projectId, request.getName());
+        return ApiResponseUtil.success(projectCloneService.startClone(projectId, request));
+    }
+
+    /**
+     * Get the progress of a clone job
+     *
+     * @param jobId The ID of the clone job
+     * @return The clone job
+     */
+    @GetMapping("/clone-jobs/{jobId}")
+    @PreAuthorize("hasRole('PROJECT_MANAGER') and hasAuthority('PROJECT_CREATE')")
+    public ApiResponse<ProjectCloneJobResponse> getCloneJob(@PathVariable String jobId) {
+        return ApiResponseUtil.success(projectCloneService.getJob(jobId));
+    }
+}
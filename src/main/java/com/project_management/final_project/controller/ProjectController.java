@@ -1,5 +1,7 @@
 package com.project_management.final_project.controller;
 
+import com.project_management.final_project.config.ReadWriteRoutingDataSource;
+import com.project_management.final_project.config.SecurityUtil;
 import com.project_management.final_project.dto.request.CreateProjectRequest;
 import com.project_management.final_project.dto.request.ProjectFilterRequest;
 import com.project_management.final_project.dto.request.UpdateProjectRequest;
@@ -9,8 +11,10 @@ import com.project_management.final_project.dto.response.ProjectDetailResponse;
 import com.project_management.final_project.dto.response.ProjectDropdownResponse;
 import com.project_management.final_project.dto.response.ProjectResponse;
 import com.project_management.final_project.entities.Project;
+import com.project_management.final_project.service.ChangeVersionService;
 import com.project_management.final_project.service.ProjectService;
 import com.project_management.final_project.util.ApiResponseUtil;
+import com.project_management.final_project.util.ETagUtil;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -19,6 +23,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/projects")
@@ -26,10 +31,15 @@ public class ProjectController {
     
     private static final Logger logger = LoggerFactory.getLogger(ProjectController.class);
     private final ProjectService projectService;
+    private final ChangeVersionService changeVersionService;
+    private final SecurityUtil securityUtil;
     
     @Autowired
-    public ProjectController(ProjectService projectService) {
+    public ProjectController(ProjectService projectService, ChangeVersionService changeVersionService,
+                             SecurityUtil securityUtil) {
         this.projectService = projectService;
+        this.changeVersionService = changeVersionService;
+        this.securityUtil = securityUtil;
     }
     
     @GetMapping
@@ -129,20 +139,30 @@ public class ProjectController {
      * @param size          Page size
      * @param sortBy        Field to sort by
      * @param sortDirection Sort direction (asc or desc)
+     * @param includeTotal  Whether to compute totals; false skips the count query (totals reported as -1)
+     * @param webRequest    Used to answer If-None-Match with 304
      * @return Paged response of projects
      */
     @GetMapping("/my-projects")
     @PreAuthorize("hasRole('DEVELOPER') and hasAuthority('PROJECT_VIEW')")
-    public ApiResponse<PagedResponse<ProjectResponse>> getMyProjects(
+    public ResponseEntity<ApiResponse<PagedResponse<ProjectResponse>>> getMyProjects(
             @RequestParam(required = false) String name,
             @RequestParam(required = false) String status,
             @RequestParam(defaultValue = "0") Integer page,
             @RequestParam(defaultValue = "10") Integer size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
-            @RequestParam(defaultValue = "desc") String sortDirection) {
+            @RequestParam(defaultValue = "desc") String sortDirection,
+            @RequestParam(defaultValue = "true") boolean includeTotal,
+            WebRequest webRequest) {
         
         logger.info("Getting projects where current user is a team member");
         
+        // Read the tag first: a change committed meanwhile leaves an older tag on a newer body, never the reverse
+        String eTag = changeVersionService.userProjectsETag(securityUtil.getCurrentUserId());
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        
         Project.Status statusEnum = null;
         if (status != null && !status.isEmpty()) {
             try {
@@ -159,10 +179,13 @@ public class ProjectController {
                 .size(size)
                 .sortBy(sortBy)
                 .sortDirection(sortDirection)
+                .includeTotal(includeTotal)
                 .build();
         
-        PagedResponse<ProjectResponse> response = projectService.getMyProjects(filterRequest);
-        return ApiResponseUtil.success(response);
+        // The body comes from the primary so it is never older than its tag
+        PagedResponse<ProjectResponse> response = ReadWriteRoutingDataSource.readFromPrimary(
+                () -> projectService.getMyProjects(filterRequest));
+        return ETagUtil.ok(eTag).body(ApiResponseUtil.success(response));
     }
     
     /**
@@ -171,6 +194,7 @@ public class ProjectController {
      * @param search Optional search term for project name
      * @param page Page number (zero-based)
      * @param size Page size
+     * @param includeTotal Whether to compute totals; false skips the count query
      * @return Paged response of projects with minimal information (id and name)
      */
     @GetMapping("/my-projects/dropdown")
@@ -178,11 +202,12 @@ public class ProjectController {
     public ApiResponse<PagedResponse<ProjectDropdownResponse>> getMyProjectsDropdown(
             @RequestParam(required = false) String search,
             @RequestParam(defaultValue = "0") Integer page,
-            @RequestParam(defaultValue = "5") Integer size) {
+            @RequestParam(defaultValue = "5") Integer size,
+            @RequestParam(defaultValue = "true") boolean includeTotal) {
         
         logger.info("Getting dropdown list of projects where current user is a team member");
         
-        PagedResponse<ProjectDropdownResponse> response = projectService.getMyProjectsForDropdown(search, page, size);
+        PagedResponse<ProjectDropdownResponse> response = projectService.getMyProjectsForDropdown(search, page, size, includeTotal);
         return ApiResponseUtil.success(response);
     }
 } 
\ No newline at end of file
@@ -0,0 +1,89 @@
+package com.project_management.final_project.controller;
+
+import com.project_management.final_project.dto.request.RecurringTaskTemplateRequest;
+import com.project_management.final_project.dto.response.ApiResponse;
+import com.project_management.final_project.dto.response.RecurringTaskTemplateResponse;
+import com.project_management.final_project.service.RecurringTaskService;
+import com.project_management.final_project.util.ApiResponseUtil;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/recurring-tasks/projects/{projectId}")
+public class RecurringTaskController {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecurringTaskController.class);
+    private final RecurringTaskService recurringTaskService;
+
+    @Autowired
+    public RecurringTaskController(RecurringTaskService recurringTaskService) {
+        this.recurringTaskService = recurringTaskService;
+    }
+
+    /**
+     * Get the recurring task templates of a project
+     *
+     * @param projectId The ID of the project
+     * @return Templates, oldest first
+     */
+    @GetMapping
+    @PreAuthorize("hasRole('PROJECT_MANAGER') and hasAuthority('TASK_VIEW')")
+    public ApiResponse<List<RecurringTaskTemplateResponse>> getTemplates(@PathVariable Integer projectId) {
+        return ApiResponseUtil.success(recurringTaskService.getTemplates(projectId));
+    }
+
+    /**
+     * Create a recurring task template; a task is created ahead of time for each occurrence
+     *
+     * @param projectId The ID of the project
+     * @param request   The template, with a Spring cron expression such as "0 0 9 * * MON"
+     * @return The created template
+     */
+    @PostMapping
+    @PreAuthorize("hasRole('PROJECT_MANAGER') and hasAuthority('TASK_CREATE')")
+    public ApiResponse<RecurringTaskTemplateResponse> createTemplate(
+            @PathVariable Integer projectId,
+            @Valid @RequestBody RecurringTaskTemplateRequest request) {
+        logger.info("Creating recurring task template '{}' in project ID: {}", request.getTitle(), projectId);
+        return ApiResponseUtil.success(recurringTaskService.createTemplate(projectId, request));
+    }
+
+    /**
+     * Replace a recurring task template; tasks already created are not changed
+     *
+     * @param projectId  The ID of the project
+     * @param templateId The ID of the template
+     * @param request    The template
+     * @return The updated template
+     */
+    @PutMapping("/{templateId}")
+    @PreAuthorize("hasRole('PROJECT_MANAGER') and hasAuthority('TASK_UPDATE')")
+    public ApiResponse<RecurringTaskTemplateResponse> updateTemplate(
+            @PathVariable Integer projectId,
+            @PathVariable Integer templateId,
+            @Valid @RequestBody RecurringTaskTemplateRequest request) {
+        logger.info("Updating recurring task template ID {} in project ID: {}", templateId, projectId);
+        return ApiResponseUtil.success(recurringTaskService.updateTemplate(projectId, templateId, request));
+    }
+
+    /**
+     * Delete a recurring task template; tasks already created are kept
+     *
+     * @param projectId  The ID of the project
+     * @param templateId The ID of the template
+     * @return Confirmation message
+     */
+    @DeleteMapping("/{templateId}")
+    @PreAuthorize("hasRole('PROJECT_MANAGER') and hasAuthority('TASK_UPDATE')")
+    public ApiResponse<String> deleteTemplate(@PathVariable Integer projectId, @PathVariable Integer templateId) {
+        logger.info("Deleting recurring task template ID {} from project ID: {}", templateId, projectId);
+        recurringTaskService.deleteTemplate(projectId, templateId);
+        return ApiResponseUtil.success("Recurring task template deleted");
+    }
+}
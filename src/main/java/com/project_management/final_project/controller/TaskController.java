@@ -1,5 +1,6 @@
 package com.project_management.final_project.controller;
 
+import com.project_management.final_project.config.ReadWriteRoutingDataSource;
 import com.project_management.final_project.config.SecurityService;
 import com.project_management.final_project.dto.request.AssignTaskRequest;
 import com.project_management.final_project.dto.request.CreateTaskRequest;
@@ -18,8 +19,10 @@ import com.project_management.final_project.dto.response.UpcomingDueTaskResponse
 import com.project_management.final_project.entities.Task;
 import com.project_management.final_project.exception.AppException;
 import com.project_management.final_project.exception.ErrorCode;
+import com.project_management.final_project.service.ChangeVersionService;
 import com.project_management.final_project.service.TaskService;
 import com.project_management.final_project.util.ApiResponseUtil;
+import com.project_management.final_project.util.ETagUtil;
 import com.project_management.final_project.validator.DateValidator;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
@@ -29,12 +32,14 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -46,12 +51,15 @@ public class TaskController {
     private final TaskService taskService;
     private final SecurityService securityService;
     private final DateValidator dateValidator;
+    private final ChangeVersionService changeVersionService;
 
     @Autowired
-    public TaskController(TaskService taskService, SecurityService securityService, DateValidator dateValidator) {
+    public TaskController(TaskService taskService, SecurityService securityService, DateValidator dateValidator,
+                          ChangeVersionService changeVersionService) {
         this.taskService = taskService;
         this.securityService = securityService;
         this.dateValidator = dateValidator;
+        this.changeVersionService = changeVersionService;
     }
     
     @InitBinder
@@ -158,17 +166,19 @@ public class TaskController {
      *
      * @param taskId  The ID of the task to assign
      * @param request The assignment request containing the user ID
-     * @return The updated task
+     * @param ifMatch Optional ETag of the task as last read; a mismatch fails with 412
+     * @return The updated task, with its new ETag
      */
     @PutMapping("/{taskId}/assign")
     @PreAuthorize("hasRole('PROJECT_MANAGER') and hasAuthority('TASK_UPDATE')")
     public ResponseEntity<ApiResponse<TaskResponse>> assignTask(
             @PathVariable Integer taskId,
-            @Valid @RequestBody AssignTaskRequest request) {
+            @Valid @RequestBody AssignTaskRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         
         logger.info("Assigning task ID {} to user ID {}", taskId, request.getUserId());
         
-        TaskResponse taskResponse = taskService.assignTask(taskId, request);
+        TaskResponse taskResponse = taskService.assignTask(taskId, request, ETagUtil.parseIfMatch(ifMatch));
         
         ApiResponse<TaskResponse> response = ApiResponse.<TaskResponse>builder()
                 .code(HttpStatus.OK.value())
@@ -176,7 +186,9 @@ public class TaskController {
                 .result(taskResponse)
                 .build();
         
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                .eTag(ETagUtil.fromVersion(taskResponse.getVersion()))
+                .body(response);
     }
 
     /**
@@ -238,18 +250,21 @@ public class TaskController {
      * @param taskId    The ID of the task to update
      * @param projectId The ID of the project the task belongs to
      * @param request   The status update request
-     * @return The updated task
+     * @param ifMatch   Optional ETag of the task as last read; without it the change is applied to the latest state
+     * @return The updated task, with its new ETag
      */
     @PatchMapping("/{taskId}/projects/{projectId}/status")
     @PreAuthorize("hasAuthority('TASK_VIEW') and @securityService.canUpdateTaskStatus(#taskId, #projectId)")
     public ResponseEntity<ApiResponse<TaskResponse>> updateTaskStatus(
             @PathVariable Integer taskId,
             @PathVariable Integer projectId,
-            @Valid @RequestBody UpdateTaskStatusRequest request) {
+            @Valid @RequestBody UpdateTaskStatusRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         
         logger.info("Updating status of task ID {} in project ID {} to {}", taskId, projectId, request.getStatus());
         
-        TaskResponse taskResponse = taskService.updateTaskStatus(taskId, projectId, request);
+        TaskResponse taskResponse = taskService.updateTaskStatus(
+                taskId, projectId, request, ETagUtil.parseIfMatch(ifMatch));
         
         ApiResponse<TaskResponse> response = ApiResponse.<TaskResponse>builder()
                 .code(HttpStatus.OK.value())
@@ -257,7 +272,9 @@ public class TaskController {
                 .result(taskResponse)
                 .build();
         
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                .eTag(ETagUtil.fromVersion(taskResponse.getVersion()))
+                .body(response);
     }
 
     /**
@@ -271,11 +288,12 @@ public class TaskController {
      * @param size Page size (default 10)
      * @param sortBy Field to sort by (default dueDate)
      * @param sortDirection Sort direction (asc or desc, default asc)
+     * @param webRequest Used to answer If-None-Match with 304
      * @return Paged response of project tasks
      */
     @GetMapping("/projects/{projectId}/all-tasks")
     @PreAuthorize("hasRole('PROJECT_MANAGER') and hasAuthority('TASK_VIEW')")
-    public ApiResponse<PagedResponse<ProjectTaskResponse>> getAllProjectTasks(
+    public ResponseEntity<ApiResponse<PagedResponse<ProjectTaskResponse>>> getAllProjectTasks(
             @PathVariable Integer projectId,
             @RequestParam(required = false) String search,
             @RequestParam(required = false) Task.Status status,
@@ -283,11 +301,21 @@ public class TaskController {
             @RequestParam(defaultValue = "0") Integer page,
             @RequestParam(defaultValue = "10") Integer size,
             @RequestParam(defaultValue = "dueDate") String sortBy,
-            @RequestParam(defaultValue = "asc") String sortDirection) {
+            @RequestParam(defaultValue = "asc") String sortDirection,
+            WebRequest webRequest) {
         
         logger.info("Getting all tasks for project ID: {}, Search: {}, Status: {}, Priority: {}", 
                 projectId, search, status, priority);
         
+        // Check access before answering from the tag, so a 304 never reveals a project the user may not view
+        securityService.checkProjectAccess(projectId);
+        
+        // Read the tag first: a change committed meanwhile leaves an older tag on a newer body, never the reverse
+        String eTag = changeVersionService.projectETag(projectId);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        
         ProjectTaskFilterRequest filterRequest = ProjectTaskFilterRequest.builder()
                 .search(search)
                 .status(status)
@@ -298,26 +326,36 @@ public class TaskController {
                 .sortDirection(sortDirection)
                 .build();
         
-        PagedResponse<ProjectTaskResponse> response = taskService.getAllProjectTasks(projectId, filterRequest);
+        // The body comes from the primary so it is never older than its tag
+        PagedResponse<ProjectTaskResponse> response = ReadWriteRoutingDataSource.readFromPrimary(
+                () -> taskService.getAllProjectTasks(projectId, filterRequest));
         
-        return ApiResponseUtil.success(response);
+        return ETagUtil.ok(eTag).body(ApiResponseUtil.success(response));
     }
 
     /**
      * Get detailed information about a task by ID
      *
      * @param taskId The ID of the task to retrieve
-     * @return The task details
+     * @param webRequest Used to answer If-None-Match with 304
+     * @return The task details, with the ETag to send back in If-Match when updating
      */
     @GetMapping("/{taskId}")
     @PreAuthorize("hasRole('PROJECT_MANAGER') and hasAuthority('TASK_VIEW')")
-    public ApiResponse<TaskDetailResponse> getTaskById(@PathVariable Integer taskId) {
+    public ResponseEntity<ApiResponse<TaskDetailResponse>> getTaskById(@PathVariable Integer taskId, WebRequest webRequest) {
         
         logger.info("Getting detailed information for task ID: {}", taskId);
         
-        TaskDetailResponse taskDetail = taskService.getTaskById(taskId);
+        // From the primary: a lagging replica's version would make the next If-Match fail
+        TaskDetailResponse taskDetail = ReadWriteRoutingDataSource.readFromPrimary(() -> taskService.getTaskById(taskId));
+        String eTag = ETagUtil.fromVersion(taskDetail.getVersion());
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
         
-        return ApiResponseUtil.success(taskDetail);
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .body(ApiResponseUtil.success(taskDetail));
     }
 
     /**
@@ -326,6 +364,7 @@ public class TaskController {
      * @param taskId    The ID of the task to update
      * @param projectId The ID of the project the task belongs to
      * @param request   The task update request
+     * @param ifMatch   Optional ETag of the task as last read; a mismatch fails with 412
      * @return List of all tasks in the project including the updated task
      * 
      * Note: If a task's status is UNASSIGNED and an assignee is provided, 
@@ -337,7 +376,8 @@ public class TaskController {
             @PathVariable Integer taskId,
             @PathVariable Integer projectId,
             @Valid @RequestBody UpdateTaskRequest request,
-            BindingResult bindingResult) {
+            BindingResult bindingResult,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         
         logger.info("Updating task ID {} in project ID {}", taskId, projectId);
         
@@ -358,7 +398,8 @@ public class TaskController {
         }
         
         try {
-            List<ProjectTaskResponse> taskResponses = taskService.updateTask(taskId, projectId, request);
+            List<ProjectTaskResponse> taskResponses = taskService.updateTask(
+                    taskId, projectId, request, ETagUtil.parseIfMatch(ifMatch));
             
             ApiResponse<List<ProjectTaskResponse>> response = ApiResponse.<List<ProjectTaskResponse>>builder()
                     .code(HttpStatus.OK.value())
@@ -366,10 +407,27 @@ public class TaskController {
                     .result(taskResponses)
                     .build();
             
-            return ResponseEntity.ok(response);
+            // The ETag describes the updated task, not the list
+            ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+            taskResponses.stream()
+                    .filter(task -> taskId.equals(task.getId()))
+                    .findFirst()
+                    .ifPresent(task -> builder.eTag(ETagUtil.fromVersion(task.getVersion())));
+            return builder.body(response);
         } catch (AppException e) {
             String errorMessage;
             
+            // Version conflicts keep their own status so clients know to reload the task
+            if (e.getErrorCode() == ErrorCode.PRECONDITION_FAILED
+                    || e.getErrorCode() == ErrorCode.CONCURRENT_MODIFICATION) {
+                logger.warn("Conflict updating task ID {}: {}", taskId, e.getMessage());
+                ApiResponse<List<ProjectTaskResponse>> response = ApiResponse.<List<ProjectTaskResponse>>builder()
+                        .code(e.getErrorCode().getStatus().value())
+                        .message(e.getMessage())
+                        .build();
+                return ResponseEntity.status(e.getErrorCode().getStatus()).body(response);
+            }
+            
             if (e.getErrorCode() == ErrorCode.DUPLICATE_ENTITY) {
                 errorMessage = "Task name already exists, please choose a different name.";
             } else if (e.getErrorCode() == ErrorCode.INVALID_REQUEST) {
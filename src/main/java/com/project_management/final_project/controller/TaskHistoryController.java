@@ -1,18 +1,29 @@
 package com.project_management.final_project.controller;
 
+import com.project_management.final_project.config.ReadWriteRoutingDataSource;
+import com.project_management.final_project.config.SecurityUtil;
 import com.project_management.final_project.dto.response.ApiResponse;
 import com.project_management.final_project.dto.response.TaskHistoryResponse;
+import com.project_management.final_project.dto.response.TaskTransitionCountResponse;
+import com.project_management.final_project.service.ChangeVersionService;
+import com.project_management.final_project.service.TaskHistoryRetentionService;
 import com.project_management.final_project.service.TaskHistoryService;
 import com.project_management.final_project.util.ApiResponseUtil;
+import com.project_management.final_project.util.ETagUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -21,11 +32,19 @@ public class TaskHistoryController {
 
     private static final Logger logger = LoggerFactory.getLogger(TaskHistoryController.class);
     private final TaskHistoryService taskHistoryService;
+    private final TaskHistoryRetentionService taskHistoryRetentionService;
+    private final ChangeVersionService changeVersionService;
+    private final SecurityUtil securityUtil;
     private static final int MAX_RECENT_HISTORY_RECORDS = 7;
 
     @Autowired
-    public TaskHistoryController(TaskHistoryService taskHistoryService) {
+    public TaskHistoryController(TaskHistoryService taskHistoryService,
+                                 TaskHistoryRetentionService taskHistoryRetentionService,
+                                 ChangeVersionService changeVersionService, SecurityUtil securityUtil) {
         this.taskHistoryService = taskHistoryService;
+        this.taskHistoryRetentionService = taskHistoryRetentionService;
+        this.changeVersionService = changeVersionService;
+        this.securityUtil = securityUtil;
     }
 
     /**
@@ -50,16 +69,25 @@ public class TaskHistoryController {
      * Limited to 7 records maximum
      * Accessible by developers
      *
+     * @param webRequest Used to answer If-None-Match with 304
      * @return List of recent task history entries with formatted messages
      */
     @GetMapping("/my-recent")
     @PreAuthorize("hasRole('DEVELOPER') and hasAuthority('TASK_HISTORY_VIEW')")
-    public ApiResponse<List<TaskHistoryResponse>> getMyRecentTaskHistory() {
+    public ResponseEntity<ApiResponse<List<TaskHistoryResponse>>> getMyRecentTaskHistory(WebRequest webRequest) {
         logger.info("Developer getting most recent task history records (max {})", MAX_RECENT_HISTORY_RECORDS);
         
-        List<TaskHistoryResponse> taskHistory = taskHistoryService.getMyRecentTaskHistory(MAX_RECENT_HISTORY_RECORDS);
+        // Assigned tasks always belong to the user's projects, so their project versions cover this list
+        String eTag = changeVersionService.userProjectsETag(securityUtil.getCurrentUserId());
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null;
+        }
         
-        return ApiResponseUtil.success(taskHistory);
+        // The body comes from the primary so it is never older than its tag
+        List<TaskHistoryResponse> taskHistory = ReadWriteRoutingDataSource.readFromPrimary(
+                () -> taskHistoryService.getMyRecentTaskHistory(MAX_RECENT_HISTORY_RECORDS));
+        
+        return ETagUtil.ok(eTag).body(ApiResponseUtil.success(taskHistory));
     }
 
     /**
@@ -96,4 +124,24 @@ public class TaskHistoryController {
         
         return ApiResponseUtil.success(taskHistory);
     }
+
+    /**
+     * Get the number of status transitions per day in a project, including days whose history is archived
+     * Only accessible by project managers
+     *
+     * @param projectId The ID of the project
+     * @param from First day (ISO date), defaults to 29 days before {@code to}
+     * @param to Last day (ISO date), defaults to today
+     * @return Transition counts per day and (old status, new status) pair
+     */
+    @GetMapping("/projects/{projectId}/daily-transitions")
+    @PreAuthorize("hasRole('PROJECT_MANAGER') and hasAuthority('TASK_HISTORY_VIEW')")
+    public ApiResponse<List<TaskTransitionCountResponse>> getDailyTransitions(
+            @PathVariable Integer projectId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        logger.info("Getting daily status transitions for project ID: {} from {} to {}", projectId, from, to);
+        
+        return ApiResponseUtil.success(taskHistoryRetentionService.getDailyTransitions(projectId, from, to));
+    }
 } 
\ No newline at end of file
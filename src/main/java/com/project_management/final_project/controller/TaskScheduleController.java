@@ -0,0 +1,100 @@
+package com.project_management.final_project.controller;
+
+import com.project_management.final_project.dto.request.AddTaskDependencyRequest;
+import com.project_management.final_project.dto.response.ApiResponse;
+import com.project_management.final_project.dto.response.ProjectScheduleResponse;
+import com.project_management.final_project.dto.response.TaskDependencyResponse;
+import com.project_management.final_project.dto.response.TaskScheduleResponse;
+import com.project_management.final_project.service.TaskScheduleService;
+import com.project_management.final_project.util.ApiResponseUtil;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/schedule/projects/{projectId}")
+public class TaskScheduleController {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskScheduleController.class);
+    private final TaskScheduleService taskScheduleService;
+
+    @Autowired
+    public TaskScheduleController(TaskScheduleService taskScheduleService) {
+        this.taskScheduleService = taskScheduleService;
+    }
+
+    /**
+     * Get the schedule of a project: projected finish, slip against the planned end date and one critical path
+     *
+     * @param projectId The ID of the project
+     * @return The schedule summary
+     */
+    @GetMapping
+    @PreAuthorize("hasAuthority('TASK_VIEW')")
+    public ApiResponse<ProjectScheduleResponse> getProjectSchedule(@PathVariable Integer projectId) {
+        logger.info("Getting schedule of project ID: {}", projectId);
+        return ApiResponseUtil.success(taskScheduleService.getProjectSchedule(projectId));
+    }
+
+    /**
+     * Get the earliest and latest dates and the slack of a task
+     *
+     * @param projectId The ID of the project
+     * @param taskId    The ID of the task
+     * @return The task's schedule
+     */
+    @GetMapping("/tasks/{taskId}")
+    @PreAuthorize("hasAuthority('TASK_VIEW')")
+    public ApiResponse<TaskScheduleResponse> getTaskSchedule(@PathVariable Integer projectId, @PathVariable Integer taskId) {
+        return ApiResponseUtil.success(taskScheduleService.getTaskSchedule(projectId, taskId));
+    }
+
+    /**
+     * Get the task dependencies of a project
+     *
+     * @param projectId The ID of the project
+     * @return Dependencies, oldest first
+     */
+    @GetMapping("/dependencies")
+    @PreAuthorize("hasAuthority('TASK_VIEW')")
+    public ApiResponse<List<TaskDependencyResponse>> getDependencies(@PathVariable Integer projectId) {
+        return ApiResponseUtil.success(taskScheduleService.getDependencies(projectId));
+    }
+
+    /**
+     * Make a task depend on another task of the same project (finish-to-start)
+     *
+     * @param projectId The ID of the project
+     * @param request   The predecessor and successor task IDs
+     * @return The created dependency
+     */
+    @PostMapping("/dependencies")
+    @PreAuthorize("hasRole('PROJECT_MANAGER') and hasAuthority('TASK_UPDATE')")
+    public ApiResponse<TaskDependencyResponse> addDependency(
+            @PathVariable Integer projectId,
+            @Valid @RequestBody AddTaskDependencyRequest request) {
+        logger.info("Adding dependency of task ID {} on task ID {} in project ID: {}",
+                request.getSuccessorId(), request.getPredecessorId(), projectId);
+        return ApiResponseUtil.success(taskScheduleService.addDependency(projectId, request));
+    }
+
+    /**
+     * Remove a task dependency
+     *
+     * @param projectId    The ID of the project
+     * @param dependencyId The ID of the dependency
+     * @return Confirmation message
+     */
+    @DeleteMapping("/dependencies/{dependencyId}")
+    @PreAuthorize("hasRole('PROJECT_MANAGER') and hasAuthority('TASK_UPDATE')")
+    public ApiResponse<String> removeDependency(@PathVariable Integer projectId, @PathVariable Long dependencyId) {
+        logger.info("Removing dependency ID {} from project ID: {}", dependencyId, projectId);
+        taskScheduleService.removeDependency(projectId, dependencyId);
+        return ApiResponseUtil.success("Dependency removed");
+    }
+}
@@ -1,5 +1,7 @@
 package com.project_management.final_project.controller;
 
+import com.project_management.final_project.config.ReadWriteRoutingDataSource;
+import com.project_management.final_project.config.SecurityService;
 import com.project_management.final_project.dto.request.AddTeamMemberRequest;
 import com.project_management.final_project.dto.request.TeamMemberFilterRequest;
 import com.project_management.final_project.dto.response.ApiResponse;
@@ -8,8 +10,10 @@ import com.project_management.final_project.dto.response.TeamMemberResponse;
 import com.project_management.final_project.dto.response.TeamMemberWithWorkloadResponse;
 import com.project_management.final_project.exception.AppException;
 import com.project_management.final_project.exception.ErrorCode;
+import com.project_management.final_project.service.ChangeVersionService;
 import com.project_management.final_project.service.TeamMemberService;
 import com.project_management.final_project.util.ApiResponseUtil;
+import com.project_management.final_project.util.ETagUtil;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
@@ -19,7 +23,11 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
 import java.util.Map;
@@ -31,6 +39,8 @@ public class TeamMemberController {
     
     private static final Logger logger = LoggerFactory.getLogger(TeamMemberController.class);
     private final TeamMemberService teamMemberService;
+    private final ChangeVersionService changeVersionService;
+    private final SecurityService securityService;
     
     @PostMapping("/projects/{projectId}/add")
     @PreAuthorize("hasRole('PROJECT_MANAGER') and hasAuthority('TEAM_CREATE')")
@@ -62,23 +72,64 @@ public class TeamMemberController {
         }
     }
     
+    @PostMapping(value = "/projects/{projectId}/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasRole('PROJECT_MANAGER') and hasAuthority('TEAM_CREATE')")
+    public ApiResponse<Map<String, Object>> importTeamMembers(
+            @PathVariable Integer projectId,
+            @RequestParam("file") MultipartFile file) {
+        try {
+            logger.info("Received roster import for project ID: {} ({} bytes)", projectId, file.getSize());
+            
+            if (file.isEmpty()) {
+                logger.warn("Empty roster file for project ID: {}", projectId);
+                throw new AppException(ErrorCode.INVALID_REQUEST, "Roster file is empty");
+            }
+            
+            int addedCount = teamMemberService.importTeamMembers(projectId, file.getInputStream());
+            
+            logger.info("Successfully imported {} team members into project ID: {}", addedCount, projectId);
+            
+            return ApiResponseUtil.success(Map.of(
+                    "message", "Team members imported successfully",
+                    "addedCount", addedCount
+            ));
+        } catch (AppException e) {
+            logger.error("Application exception while importing team members into project ID {}: {}", projectId, e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            logger.error("Unexpected error while importing team members into project ID {}: {}", projectId, e.getMessage(), e);
+            throw new AppException(ErrorCode.INTERNAL_ERROR, "Failed to import team members: " + e.getMessage());
+        }
+    }
+    
     @GetMapping("/projects/{projectId}/member-list")
     @PreAuthorize("hasRole('PROJECT_MANAGER') and hasAuthority('TEAM_VIEW')")
-    public ApiResponse<PagedResponse<TeamMemberResponse>> getProjectTeamMembers(
+    public ResponseEntity<ApiResponse<PagedResponse<TeamMemberResponse>>> getProjectTeamMembers(
             @PathVariable Integer projectId,
             @RequestParam(required = false) String search,
             @RequestParam(required = false) Integer specializationId,
-            @PageableDefault(size = 5, sort = "user.name", direction = Sort.Direction.ASC) Pageable pageable) {
+            @PageableDefault(size = 5, sort = "user.name", direction = Sort.Direction.ASC) Pageable pageable,
+            WebRequest webRequest) {
+        
+        // Check ownership before answering from the tag, so a 304 never reveals another user's project
+        securityService.checkProjectOwner(projectId);
+        
+        // Read the tag first: a change committed meanwhile leaves an older tag on a newer body, never the reverse
+        String eTag = changeVersionService.projectETag(projectId);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null;
+        }
         
         TeamMemberFilterRequest filterRequest = TeamMemberFilterRequest.builder()
                 .search(search)
                 .specializationId(specializationId)
                 .build();
         
-        Page<TeamMemberResponse> teamMembers = teamMemberService.getProjectTeamMembers(
-                projectId, filterRequest, pageable);
+        // The body comes from the primary so it is never older than its tag
+        Page<TeamMemberResponse> teamMembers = ReadWriteRoutingDataSource.readFromPrimary(
+                () -> teamMemberService.getProjectTeamMembers(projectId, filterRequest, pageable));
         
-        return ApiResponseUtil.success(PagedResponse.fromPage(teamMembers));
+        return ETagUtil.ok(eTag).body(ApiResponseUtil.success(PagedResponse.fromPage(teamMembers)));
     }
     
     @GetMapping("/projects/{projectId}/members-with-workload")
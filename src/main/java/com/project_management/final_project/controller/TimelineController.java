@@ -0,0 +1,64 @@
+package com.project_management.final_project.controller;
+
+import com.project_management.final_project.dto.response.ApiResponse;
+import com.project_management.final_project.dto.response.TimelineResponse;
+import com.project_management.final_project.service.TimelineService;
+import com.project_management.final_project.util.ApiResponseUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/timeline")
+public class TimelineController {
+
+    private static final Logger logger = LoggerFactory.getLogger(TimelineController.class);
+    private final TimelineService timelineService;
+
+    @Autowired
+    public TimelineController(TimelineService timelineService) {
+        this.timelineService = timelineService;
+    }
+
+    /**
+     * Get the tasks of a project whose planned dates overlap a date range
+     *
+     * @param projectId The ID of the project
+     * @param from      First day of the range
+     * @param to        Last day of the range
+     * @param bucket    Bucket size of the counts: DAY or WEEK (default: DAY)
+     * @return Tasks in start order and counts per bucket
+     */
+    @GetMapping("/projects/{projectId}")
+    @PreAuthorize("hasAuthority('TASK_VIEW')")
+    public ApiResponse<TimelineResponse> getProjectTimeline(
+            @PathVariable Integer projectId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "DAY") TimelineService.Bucket bucket) {
+        logger.info("Getting timeline of project ID {} from {} to {}", projectId, from, to);
+        return ApiResponseUtil.success(timelineService.getProjectTimeline(projectId, from, to, bucket));
+    }
+
+    /**
+     * Get the tasks assigned to the current user whose planned dates overlap a date range, across projects
+     *
+     * @param from   First day of the range
+     * @param to     Last day of the range
+     * @param bucket Bucket size of the counts: DAY or WEEK (default: DAY)
+     * @return Tasks in start order and counts per bucket
+     */
+    @GetMapping("/my-tasks")
+    @PreAuthorize("hasAuthority('TASK_VIEW')")
+    public ApiResponse<TimelineResponse> getMyTimeline(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "DAY") TimelineService.Bucket bucket) {
+        return ApiResponseUtil.success(timelineService.getMyTimeline(from, to, bucket));
+    }
+}
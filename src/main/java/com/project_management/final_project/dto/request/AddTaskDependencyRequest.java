@@ -0,0 +1,20 @@
+package com.project_management.final_project.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AddTaskDependencyRequest {
+
+    @NotNull(message = "Predecessor task ID is required")
+    private Integer predecessorId;
+
+    @NotNull(message = "Successor task ID is required")
+    private Integer successorId;
+}
@@ -0,0 +1,35 @@
+package com.project_management.final_project.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CloneProjectRequest {
+
+    @NotBlank(message = "Project name is required")
+    @Size(max = 255, message = "Project name must not exceed 255 characters")
+    private String name;
+
+    // Start date of the copy; all dates move by the same number of days. Null keeps the dates
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate startDate;
+
+    // Defaults to true
+    private Boolean includeTeamMembers;
+
+    // Defaults to true
+    private Boolean includeTasks;
+
+    // Defaults to true; only applies when team members are copied too
+    private Boolean keepAssignees;
+}
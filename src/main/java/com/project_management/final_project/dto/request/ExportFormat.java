@@ -0,0 +1,38 @@
+package com.project_management.final_project.dto.request;
+
+import com.project_management.final_project.exception.AppException;
+import com.project_management.final_project.exception.ErrorCode;
+import lombok.Getter;
+import org.springframework.http.MediaType;
+
+/**
+ * File formats supported by the streaming exports
+ */
+@Getter
+public enum ExportFormat {
+    NDJSON("ndjson", MediaType.parseMediaType("application/x-ndjson")),
+    CSV("csv", MediaType.parseMediaType("text/csv;charset=UTF-8"));
+
+    private final String extension;
+    private final MediaType mediaType;
+
+    ExportFormat(String extension, MediaType mediaType) {
+        this.extension = extension;
+        this.mediaType = mediaType;
+    }
+
+    /**
+     * Parse the format request parameter (case-insensitive)
+     * @param value The parameter value
+     * @return The export format
+     * @throws AppException with INVALID_REQUEST if the format is not supported
+     */
+    public static ExportFormat fromParam(String value) {
+        for (ExportFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new AppException(ErrorCode.INVALID_REQUEST, "Unsupported export format: " + value);
+    }
+}
@@ -17,4 +17,6 @@ public class ProjectFilterRequest {
     private Integer size = 10;
     private String sortBy = "createdAt";
     private String sortDirection = "desc";
+    @Builder.Default
+    private Boolean includeTotal = true;
 } 
\ No newline at end of file
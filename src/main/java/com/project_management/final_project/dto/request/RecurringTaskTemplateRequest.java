@@ -0,0 +1,40 @@
+package com.project_management.final_project.dto.request;
+
+import com.project_management.final_project.entities.Task;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecurringTaskTemplateRequest {
+
+    // Each task is named after the template and the day of its occurrence
+    @NotBlank(message = "Please fill in all required fields.")
+    @Size(max = 200, message = "Template name cannot exceed 200 characters.")
+    private String title;
+
+    private String description;
+
+    private Task.Priority priority;
+
+    // Spring cron format: second, minute, hour, day of month, month, day of week; e.g. "0 0 9 * * MON"
+    @NotBlank(message = "Please fill in all required fields.")
+    @Size(max = 120, message = "Cron expression cannot exceed 120 characters.")
+    private String cronExpression;
+
+    @Min(value = 0, message = "Duration cannot be negative.")
+    @Max(value = 365, message = "Duration cannot exceed 365 days.")
+    private Integer durationDays;
+
+    private Integer assigneeId;
+
+    private Boolean active;
+}
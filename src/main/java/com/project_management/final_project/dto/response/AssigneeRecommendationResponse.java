@@ -0,0 +1,22 @@
+package com.project_management.final_project.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssigneeRecommendationResponse {
+    private Integer userId;
+    private String name;
+    private String email;
+    private String specialization;
+    private boolean specializationMatch;
+    private int openTasks; // TODO, IN_PROGRESS and OVERDUE tasks in the project
+    private int dueSoonTasks; // Open tasks that are overdue or due within the horizon
+    private Double averageCycleHours; // Null if the member has not completed a task recently
+    private double score;
+}
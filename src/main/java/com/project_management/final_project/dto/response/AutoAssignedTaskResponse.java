@@ -0,0 +1,21 @@
+package com.project_management.final_project.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AutoAssignedTaskResponse {
+    private Integer taskId;
+    private String title;
+    private String priority;
+    private LocalDate dueDate;
+    private Integer assigneeId;
+    private String assigneeName;
+}
@@ -0,0 +1,19 @@
+package com.project_management.final_project.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AutoAssignmentResponse {
+    private Integer projectId;
+    private int assignedCount;
+    private boolean moreUnassigned; // The run stopped at its task limit; run again for the rest
+    private List<AutoAssignedTaskResponse> assignments;
+}
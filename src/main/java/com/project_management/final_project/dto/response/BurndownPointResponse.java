@@ -0,0 +1,29 @@
+package com.project_management.final_project.dto.response;
+
+import com.project_management.final_project.entities.ProjectDailySnapshot;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BurndownPointResponse {
+    private LocalDate date;
+    private int scope; // Tasks in scope at the end of the day (archived tasks excluded)
+    private int completed;
+    private int remaining;
+
+    public static BurndownPointResponse fromSnapshot(ProjectDailySnapshot snapshot) {
+        return BurndownPointResponse.builder()
+                .date(snapshot.getSnapshotDate())
+                .scope(snapshot.getScope())
+                .completed(snapshot.getCompleted())
+                .remaining(snapshot.getRemaining())
+                .build();
+    }
+}
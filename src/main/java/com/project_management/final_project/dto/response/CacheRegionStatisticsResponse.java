@@ -0,0 +1,19 @@
+package com.project_management.final_project.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheRegionStatisticsResponse {
+    private String region;
+    private long hitCount;
+    private long missCount;
+    private long putCount;
+    private long elementCount;
+    private double hitRatio;
+}
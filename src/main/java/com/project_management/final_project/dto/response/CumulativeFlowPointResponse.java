@@ -0,0 +1,35 @@
+package com.project_management.final_project.dto.response;
+
+import com.project_management.final_project.entities.ProjectDailySnapshot;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CumulativeFlowPointResponse {
+    private LocalDate date;
+    private int unassigned;
+    private int todo;
+    private int inProgress;
+    private int completed;
+    private int overdue;
+    private int archived;
+
+    public static CumulativeFlowPointResponse fromSnapshot(ProjectDailySnapshot snapshot) {
+        return CumulativeFlowPointResponse.builder()
+                .date(snapshot.getSnapshotDate())
+                .unassigned(snapshot.getUnassigned())
+                .todo(snapshot.getTodo())
+                .inProgress(snapshot.getInProgress())
+                .completed(snapshot.getCompleted())
+                .overdue(snapshot.getOverdue())
+                .archived(snapshot.getArchived())
+                .build();
+    }
+}
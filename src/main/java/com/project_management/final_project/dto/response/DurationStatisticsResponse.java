@@ -0,0 +1,18 @@
+package com.project_management.final_project.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DurationStatisticsResponse {
+    private int count;
+    private Double averageHours;
+    private Double p50Hours;
+    private Double p85Hours;
+    private Double p95Hours;
+}
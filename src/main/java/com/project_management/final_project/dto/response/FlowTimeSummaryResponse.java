@@ -0,0 +1,16 @@
+package com.project_management.final_project.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FlowTimeSummaryResponse {
+    private int completedTasks;
+    private DurationStatisticsResponse leadTime;
+    private DurationStatisticsResponse cycleTime;
+}
@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -30,4 +31,19 @@ public class PagedResponse<T> {
                 .last(page.isLast())
                 .build();
     }
+    
+    /**
+     * Build a response from a slice, which carries no total count.
+     * totalElements and totalPages are reported as -1.
+     */
+    public static <T> PagedResponse<T> fromSlice(Slice<T> slice) {
+        return PagedResponse.<T>builder()
+                .content(slice.getContent())
+                .page(slice.getNumber())
+                .size(slice.getSize())
+                .totalElements(-1)
+                .totalPages(-1)
+                .last(slice.isLast())
+                .build();
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.project_management.final_project.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectCloneJobResponse {
+    private String jobId;
+    // QUEUED, RUNNING, COMPLETED or FAILED
+    private String status;
+    private Integer sourceProjectId;
+    // Set once the copy is complete
+    private Integer projectId;
+    private int tasksTotal;
+    private int tasksCopied;
+    private int membersCopied;
+    private int dependenciesCopied;
+    private String error;
+}
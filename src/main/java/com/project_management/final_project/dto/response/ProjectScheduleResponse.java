@@ -0,0 +1,26 @@
+package com.project_management.final_project.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectScheduleResponse {
+    private Integer projectId;
+    private LocalDate scheduleStart; // Start of tasks without a start date or predecessors
+    private LocalDate projectedFinish;
+    private LocalDate plannedEndDate;
+    private int slipDays; // Days the projected finish lies past the planned end date
+    private int taskCount;
+    private int dependencyCount;
+    private int criticalTaskCount;
+    private int lateTaskCount;
+    private List<TaskScheduleResponse> criticalPath;
+}
@@ -15,6 +15,7 @@ import java.time.LocalDate;
 @AllArgsConstructor
 public class ProjectTaskResponse {
     private Integer id;
+    private Integer version;
     private String title;
     private String assignedTo;
     private Task.Status status;
@@ -35,6 +36,7 @@ public class ProjectTaskResponse {
     public static ProjectTaskResponse fromEntity(Task task) {
         return ProjectTaskResponse.builder()
                 .id(task.getId())
+                .version(task.getVersion())
                 .title(task.getTitle())
                 .assignedTo(task.getAssignee() != null ? task.getAssignee().getName() : null)
                 .status(task.getStatus())
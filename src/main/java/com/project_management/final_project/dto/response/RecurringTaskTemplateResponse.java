@@ -0,0 +1,51 @@
+package com.project_management.final_project.dto.response;
+
+import com.project_management.final_project.entities.RecurringTaskTemplate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecurringTaskTemplateResponse {
+    private Integer id;
+    private Integer projectId;
+    private String title;
+    private String description;
+    private String priority;
+    private String cronExpression;
+    private int durationDays;
+    private Integer assigneeId;
+    private String assigneeName;
+    private boolean active;
+    private LocalDateTime nextOccurrence; // First occurrence without a task yet
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public static RecurringTaskTemplateResponse fromEntity(RecurringTaskTemplate template) {
+        if (template == null) {
+            return null;
+        }
+
+        return RecurringTaskTemplateResponse.builder()
+                .id(template.getId())
+                .projectId(template.getProject() != null ? template.getProject().getId() : null)
+                .title(template.getTitle())
+                .description(template.getDescription())
+                .priority(template.getPriority() != null ? template.getPriority().name() : null)
+                .cronExpression(template.getCronExpression())
+                .durationDays(template.getDurationDays())
+                .assigneeId(template.getAssignee() != null ? template.getAssignee().getId() : null)
+                .assigneeName(template.getAssignee() != null ? template.getAssignee().getName() : null)
+                .active(template.isActive())
+                .nextOccurrence(template.getNextOccurrence())
+                .createdAt(template.getCreatedAt())
+                .updatedAt(template.getUpdatedAt())
+                .build();
+    }
+}
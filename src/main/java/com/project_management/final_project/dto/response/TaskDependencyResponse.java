@@ -0,0 +1,37 @@
+package com.project_management.final_project.dto.response;
+
+import com.project_management.final_project.entities.TaskDependency;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskDependencyResponse {
+    private Long id;
+    private Integer predecessorId;
+    private String predecessorTitle;
+    private Integer successorId;
+    private String successorTitle;
+    private LocalDateTime createdAt;
+
+    public static TaskDependencyResponse fromEntity(TaskDependency dependency) {
+        if (dependency == null) {
+            return null;
+        }
+
+        return TaskDependencyResponse.builder()
+                .id(dependency.getId())
+                .predecessorId(dependency.getPredecessor().getId())
+                .predecessorTitle(dependency.getPredecessor().getTitle())
+                .successorId(dependency.getSuccessor().getId())
+                .successorTitle(dependency.getSuccessor().getTitle())
+                .createdAt(dependency.getCreatedAt())
+                .build();
+    }
+}
@@ -16,6 +16,7 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class TaskDetailResponse {
     private Integer id;
+    private Integer version;
     private String title;
     private String description;
     private Task.Priority priority;
@@ -47,6 +48,7 @@ public class TaskDetailResponse {
     public static TaskDetailResponse fromEntity(Task task) {
         return TaskDetailResponse.builder()
                 .id(task.getId())
+                .version(task.getVersion())
                 .title(task.getTitle())
                 .description(task.getDescription())
                 .priority(task.getPriority())
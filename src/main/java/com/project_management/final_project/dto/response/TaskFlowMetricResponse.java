@@ -0,0 +1,42 @@
+package com.project_management.final_project.dto.response;
+
+import com.project_management.final_project.entities.TaskFlowMetric;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskFlowMetricResponse {
+    private Integer taskId;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+    private Double leadTimeHours;
+    private Double cycleTimeHours;
+
+    public static TaskFlowMetricResponse fromEntity(TaskFlowMetric metric) {
+        if (metric == null) {
+            return null;
+        }
+
+        return TaskFlowMetricResponse.builder()
+                .taskId(metric.getTaskId())
+                .createdAt(metric.getCreatedAt())
+                .startedAt(metric.getStartedAt())
+                .completedAt(metric.getCompletedAt())
+                .leadTimeHours(toHours(metric.getLeadTime()))
+                .cycleTimeHours(toHours(metric.getCycleTime()))
+                .build();
+    }
+
+    private static Double toHours(Duration duration) {
+        return duration != null ? Math.round(duration.toMinutes() / 60.0 * 100) / 100.0 : null;
+    }
+}
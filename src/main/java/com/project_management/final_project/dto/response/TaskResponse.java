@@ -15,6 +15,7 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class TaskResponse {
     private Integer id;
+    private Integer version;
     private String title;
     private String description;
     private String priority;
@@ -31,6 +32,7 @@ public class TaskResponse {
     public static TaskResponse fromEntity(Task task) {
         return TaskResponse.builder()
                 .id(task.getId())
+                .version(task.getVersion())
                 .title(task.getTitle())
                 .description(task.getDescription())
                 .priority(task.getPriority().name())
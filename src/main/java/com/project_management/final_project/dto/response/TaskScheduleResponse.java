@@ -0,0 +1,24 @@
+package com.project_management.final_project.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskScheduleResponse {
+    private Integer taskId;
+    private LocalDate dueDate;
+    private LocalDate earliestStart;
+    private LocalDate earliestFinish;
+    private LocalDate latestStart;
+    private LocalDate latestFinish;
+    private int slackDays; // Days the task can slip without moving the projected finish
+    private boolean critical;
+    private int slipDays; // Days the earliest finish lies past the due date
+}
@@ -0,0 +1,19 @@
+package com.project_management.final_project.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskTransitionCountResponse {
+    private LocalDate date;
+    private String oldStatus;
+    private String newStatus;
+    private long count; // Number of tasks that moved from oldStatus to newStatus on this day
+}
@@ -0,0 +1,19 @@
+package com.project_management.final_project.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimelineBucketResponse {
+    private LocalDate start;
+    private LocalDate end;
+    private int activeTasks; // Tasks whose planned range overlaps the bucket
+    private int dueTasks; // Tasks due within the bucket
+}
@@ -0,0 +1,23 @@
+package com.project_management.final_project.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimelineResponse {
+    private LocalDate from;
+    private LocalDate to;
+    private String bucket;
+    private int taskCount; // All tasks overlapping the range, also when the task list is truncated
+    private boolean truncated; // Only the first tasks by start date are listed; narrow the range for the rest
+    private List<TimelineBucketResponse> buckets;
+    private List<TimelineTaskResponse> tasks;
+}
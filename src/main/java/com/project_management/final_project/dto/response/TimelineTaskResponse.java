@@ -0,0 +1,45 @@
+package com.project_management.final_project.dto.response;
+
+import com.project_management.final_project.entities.Task;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimelineTaskResponse {
+    private Integer id;
+    private String title;
+    private String status;
+    private String priority;
+    private LocalDate startDate;
+    private LocalDate dueDate;
+    private Integer projectId;
+    private String projectName;
+    private Integer assigneeId;
+    private String assigneeName;
+
+    public static TimelineTaskResponse fromEntity(Task task) {
+        if (task == null) {
+            return null;
+        }
+
+        return TimelineTaskResponse.builder()
+                .id(task.getId())
+                .title(task.getTitle())
+                .status(task.getStatus() != null ? task.getStatus().name() : null)
+                .priority(task.getPriority() != null ? task.getPriority().name() : null)
+                .startDate(task.getStartDate())
+                .dueDate(task.getDueDate())
+                .projectId(task.getProject() != null ? task.getProject().getId() : null)
+                .projectName(task.getProject() != null ? task.getProject().getName() : null)
+                .assigneeId(task.getAssignee() != null ? task.getAssignee().getId() : null)
+                .assigneeName(task.getAssignee() != null ? task.getAssignee().getName() : null)
+                .build();
+    }
+}
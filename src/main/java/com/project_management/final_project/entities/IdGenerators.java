@@ -0,0 +1,23 @@
+package com.project_management.final_project.entities;
+
+/**
+ * Names shared by the table-based ID generators of write-heavy entities.
+ * IDs are handed out in blocks of ALLOCATION_SIZE from the id_generators table (pooled-lo),
+ * so inserts no longer need the generated key back and Hibernate can batch them.
+ * Anything inserting into these tables outside Hibernate must take its IDs from the same rows.
+ */
+public final class IdGenerators {
+
+    public static final String TABLE = "id_generators";
+    public static final String NAME_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 50;
+
+    public static final String TASKS = "tasks";
+    public static final String TASK_HISTORY = "task_history";
+    public static final String TEAM_MEMBERS = "team_members";
+    public static final String MESSAGES = "messages";
+
+    private IdGenerators() {
+    }
+}
@@ -2,8 +2,12 @@ package com.project_management.final_project.entities;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY)
 @Table(name = "permissions", uniqueConstraints = {
         @UniqueConstraint(columnNames = {"role_id", "module_id"})
 })
@@ -0,0 +1,63 @@
+package com.project_management.final_project.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * Task counts of a project at the end of a day, derived from task_history
+ */
+@Entity
+@Table(name = "project_daily_snapshots", uniqueConstraints = {
+        @UniqueConstraint(columnNames = {"project_id", "snapshot_date"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProjectDailySnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "project_id", nullable = false)
+    private Integer projectId;
+
+    @Column(name = "snapshot_date", nullable = false)
+    private LocalDate snapshotDate;
+
+    // Number of tasks in each status at the end of the day
+    private int unassigned;
+    private int todo;
+
+    @Column(name = "in_progress")
+    private int inProgress;
+
+    private int completed;
+    private int overdue;
+    private int archived;
+
+    // Tasks created and tasks moved to COMPLETED during the day
+    @Column(name = "created_today")
+    private int createdToday;
+
+    @Column(name = "completed_today")
+    private int completedToday;
+
+    /**
+     * Tasks that still count towards the project scope (everything but archived tasks)
+     */
+    public int getScope() {
+        return unassigned + todo + inProgress + completed + overdue;
+    }
+
+    /**
+     * Tasks in scope that are not completed yet
+     */
+    public int getRemaining() {
+        return unassigned + todo + inProgress + overdue;
+    }
+}
@@ -0,0 +1,82 @@
+package com.project_management.final_project.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Rule creating a task of a project for every occurrence of a cron expression
+ */
+@Entity
+@Table(name = "recurring_task_templates")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RecurringTaskTemplate {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "project_id", nullable = false)
+    private Project project;
+
+    @Column(nullable = false, length = 200)
+    private String title;
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Task.Priority priority;
+
+    // Spring cron format: second, minute, hour, day of month, month, day of week
+    @Column(name = "cron_expression", nullable = false, length = 120)
+    private String cronExpression;
+
+    // Each task is due this many days after the day of its occurrence
+    @Column(name = "duration_days", nullable = false)
+    private int durationDays;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "assignee_id")
+    private User assignee;
+
+    @Column(nullable = false)
+    private boolean active;
+
+    // First occurrence without a task yet; null once the expression has no further occurrences
+    @Column(name = "next_occurrence")
+    private LocalDateTime nextOccurrence;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "created_by", nullable = false)
+    private User createdBy;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // Advancing nextOccurrence under this version lets only one node create an occurrence's tasks
+    @Version
+    @Column(nullable = false)
+    private Integer version;
+
+    @PrePersist
+    public void onCreate() {
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = this.createdAt;
+    }
+
+    @PreUpdate
+    public void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -2,11 +2,15 @@ package com.project_management.final_project.entities;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY)
 @Table(name = "roles")
 @Getter
 @Setter
@@ -23,5 +27,6 @@ public class Role {
     private String name;
 
     @OneToMany(mappedBy = "role", fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_ONLY)
     private List<Permission> permissions = new ArrayList<>();
 }
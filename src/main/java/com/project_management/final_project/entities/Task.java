@@ -2,6 +2,7 @@ package com.project_management.final_project.entities;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.OptimisticLock;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -18,7 +19,10 @@ import java.util.List;
 public class Task {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "task_id_generator")
+    @TableGenerator(name = "task_id_generator", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.NAME_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = IdGenerators.TASKS, allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Integer id;
 
     @Column(nullable = false, length = 255)
@@ -59,6 +63,20 @@ public class Task {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // Set on tasks created from a recurring task template
+    @Column(name = "recurring_template_id")
+    private Integer recurringTemplateId;
+
+    @Column(name = "occurrence_at")
+    private LocalDateTime occurrenceAt;
+
+    // Optimistic lock; exposed to clients as the task's ETag
+    @Version
+    @Column(nullable = false)
+    private Integer version;
+
+    // Appending history must not conflict with concurrent edits of the task itself
+    @OptimisticLock(excluded = true)
     @OneToMany(mappedBy = "task", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<TaskHistory> taskHistory = new ArrayList<>();
 
@@ -0,0 +1,52 @@
+package com.project_management.final_project.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Timestamps of a task's way through the workflow, derived from task_history
+ */
+@Entity
+@Table(name = "task_flow_metrics")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskFlowMetric {
+
+    @Id
+    @Column(name = "task_id")
+    private Integer taskId;
+
+    @Column(name = "project_id", nullable = false)
+    private Integer projectId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // First time the task entered IN_PROGRESS
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    // Last time the task entered COMPLETED, null unless it is still completed
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    /**
+     * Time from creation to completion, or null if the task is not completed
+     */
+    public Duration getLeadTime() {
+        return completedAt != null && createdAt != null ? Duration.between(createdAt, completedAt) : null;
+    }
+
+    /**
+     * Time from starting work to completion, or null if the task is not completed or was never in progress
+     */
+    public Duration getCycleTime() {
+        return completedAt != null && startedAt != null ? Duration.between(startedAt, completedAt) : null;
+    }
+}
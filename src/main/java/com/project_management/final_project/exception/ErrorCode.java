@@ -16,6 +16,7 @@ public enum ErrorCode {
     TOKEN_SIGNATURE_INVALID(HttpStatus.UNAUTHORIZED, "Token signature is invalid"),
     TOKEN_INVALID(HttpStatus.UNAUTHORIZED, "Token is invalid"),
     TOKEN_MALFORMED(HttpStatus.BAD_REQUEST, "Malformed token"),
+    TOKEN_REVOKED(HttpStatus.UNAUTHORIZED, "Token has been revoked"),
     TOKEN_GENERATION_FAILED(HttpStatus.BAD_REQUEST, "Failed to generate tokens"),
     ACCOUNT_INVALID(HttpStatus.BAD_REQUEST, "Email or password invalid!"),
     UNAUTHENTICATED(HttpStatus.UNAUTHORIZED, "Unauthenticated"),
@@ -27,6 +28,10 @@ public enum ErrorCode {
     INVALID_PASSWORD_FORMAT(HttpStatus.BAD_REQUEST, "Invalid password format. Password must be at least 8 characters long and contain at least one letter and one number."),
     PASSWORD_RESET_FAILED(HttpStatus.BAD_REQUEST, "Password reset failed. The token may be invalid or expired."),
     NOT_FOUND(HttpStatus.NOT_FOUND, "Resource not found"),
+    SERVICE_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "Server is busy, please try again shortly"),
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "Too many requests, please try again later"),
+    CONCURRENT_MODIFICATION(HttpStatus.CONFLICT, "The resource was modified by someone else, reload it and try again"),
+    PRECONDITION_FAILED(HttpStatus.PRECONDITION_FAILED, "The resource has changed since it was last read"),
     UNAUTHORIZED(HttpStatus.FORBIDDEN, "Not authorized to perform this action");
     
     private final HttpStatus status;
@@ -3,6 +3,8 @@ package com.project_management.final_project.exception;
 import com.project_management.final_project.dto.response.ApiResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -48,4 +50,26 @@ public class GlobalExceptionHandler {
         apiResponse.setMessage(exception.getMessage());
         return new ResponseEntity<>(apiResponse, errorCode.getStatus());
     }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiResponse<?>> handleOptimisticLockingFailure(OptimisticLockingFailureException exception) {
+        logger.warn("Concurrent modification detected: {}", exception.getMessage());
+        ErrorCode errorCode = ErrorCode.CONCURRENT_MODIFICATION;
+        ApiResponse<?> apiResponse = new ApiResponse<>();
+        apiResponse.setCode(errorCode.getStatus().value());
+        apiResponse.setMessage(errorCode.getMessage());
+        return new ResponseEntity<>(apiResponse, errorCode.getStatus());
+    }
+
+    @ExceptionHandler(RateLimitException.class)
+    public ResponseEntity<ApiResponse<?>> handleRateLimitException(RateLimitException exception) {
+        logger.warn("Rate limit exceeded: {}", exception.getMessage());
+        ErrorCode errorCode = exception.getErrorCode();
+        ApiResponse<?> apiResponse = new ApiResponse<>();
+        apiResponse.setCode(errorCode.getStatus().value());
+        apiResponse.setMessage(exception.getMessage());
+        return ResponseEntity.status(errorCode.getStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(exception.getRetryAfterSeconds()))
+                .body(apiResponse);
+    }
 }
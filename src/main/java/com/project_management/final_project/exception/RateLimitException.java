@@ -0,0 +1,17 @@
+package com.project_management.final_project.exception;
+
+import lombok.Getter;
+
+import java.io.Serial;
+
+@Getter
+public class RateLimitException extends AppException {
+    @Serial
+    private static final long serialVersionUID = 1L;
+    private final long retryAfterSeconds;
+
+    public RateLimitException(long retryAfterSeconds) {
+        super(ErrorCode.TOO_MANY_REQUESTS);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,185 @@
+package com.project_management.final_project.repository;
+
+import com.project_management.final_project.entities.ProjectDailySnapshot;
+import com.project_management.final_project.entities.Task;
+import com.project_management.final_project.entities.TaskFlowMetric;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * JDBC access for the project analytics: the status-change stream folded into snapshots,
+ * and batched upserts of the derived rows.
+ */
+@Repository
+public class AnalyticsRepository {
+
+    // One row per history record, live or archived, or one row with NULL history columns for a task without
+    // live history; ordered so each task's changes arrive together and in the order they happened, with the
+    // NULL row last (archived rows are older than live ones, so it only matters for tasks whose history is all archived)
+    private static final String FLOW_EVENTS_SQL =
+            "SELECT t.id, t.created_at, t.status, h.old_status, h.new_status, h.changed_at, " +
+            "h.id IS NULL AS no_change, h.id AS change_id " +
+            "FROM tasks t " +
+            "LEFT JOIN task_history h ON h.task_id = t.id AND h.changed_at >= ? " +
+            "WHERE t.project_id = ? AND (t.created_at >= ? OR h.id IS NOT NULL) " +
+            "UNION ALL " +
+            "SELECT t.id, t.created_at, t.status, a.old_status, a.new_status, a.changed_at, 0, a.id " +
+            "FROM task_history_archive a JOIN tasks t ON t.id = a.task_id " +
+            "WHERE a.project_id = ? AND a.changed_at >= ? " +
+            "ORDER BY 1, 7, 6, 8";
+
+    private static final String UPSERT_SNAPSHOT_SQL =
+            "INSERT INTO project_daily_snapshots (project_id, snapshot_date, unassigned, todo, in_progress, " +
+            "completed, overdue, archived, created_today, completed_today) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE unassigned = VALUES(unassigned), todo = VALUES(todo), " +
+            "in_progress = VALUES(in_progress), completed = VALUES(completed), overdue = VALUES(overdue), " +
+            "archived = VALUES(archived), created_today = VALUES(created_today), " +
+            "completed_today = VALUES(completed_today)";
+
+    // A task keeps the first start ever seen; its completion follows the latest changes
+    private static final String UPSERT_FLOW_METRIC_SQL =
+            "INSERT INTO task_flow_metrics (task_id, project_id, created_at, started_at, completed_at) " +
+            "VALUES (?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE started_at = COALESCE(started_at, VALUES(started_at)), " +
+            "completed_at = VALUES(completed_at)";
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public AnalyticsRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Receives the rows of {@link #streamFlowEvents}
+     */
+    @FunctionalInterface
+    public interface FlowEventConsumer {
+        /**
+         * @param taskId The task ID
+         * @param createdAt When the task was created
+         * @param status The current status of the task
+         * @param oldStatus Status before the change, null if the row has no change
+         * @param newStatus Status after the change, null if the row has no change
+         * @param changedAt When the change happened, null if the row has no change
+         */
+        void accept(int taskId, LocalDateTime createdAt, Task.Status status,
+                    Task.Status oldStatus, Task.Status newStatus, LocalDateTime changedAt);
+    }
+
+    /**
+     * Stream the status changes of a project's tasks made since a point in time, from task_history and its archive,
+     * grouped by task in change order.
+     * Tasks created since then are included even without changes. Rows are streamed from the server
+     * (forward-only cursor, fetch size Integer.MIN_VALUE), so the consumer must not run other queries.
+     * @param projectId The project ID
+     * @param since Start of the period (inclusive)
+     * @param consumer Called once per row
+     */
+    public void streamFlowEvents(Integer projectId, LocalDateTime since, FlowEventConsumer consumer) {
+        Timestamp sinceTimestamp = Timestamp.valueOf(since);
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    FLOW_EVENTS_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(Integer.MIN_VALUE);
+            ps.setTimestamp(1, sinceTimestamp);
+            ps.setInt(2, projectId);
+            ps.setTimestamp(3, sinceTimestamp);
+            ps.setInt(4, projectId);
+            ps.setTimestamp(5, sinceTimestamp);
+            return ps;
+        }, rs -> {
+            consumer.accept(
+                    rs.getInt(1),
+                    rs.getObject(2, LocalDateTime.class),
+                    toStatus(rs.getString(3)),
+                    toStatus(rs.getString(4)),
+                    toStatus(rs.getString(5)),
+                    rs.getObject(6, LocalDateTime.class));
+        });
+    }
+
+    /**
+     * Find the day the first task of a project was created
+     * @param projectId The project ID
+     * @return The date, or null if the project has no tasks
+     */
+    public LocalDate findFirstTaskDate(Integer projectId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT DATE(MIN(created_at)) FROM tasks WHERE project_id = ?", LocalDate.class, projectId);
+    }
+
+    /**
+     * Find the IDs of projects that have at least one task
+     * @return Project IDs
+     */
+    public List<Integer> findProjectIdsWithTasks() {
+        return jdbcTemplate.queryForList("SELECT DISTINCT project_id FROM tasks", Integer.class);
+    }
+
+    /**
+     * Remove all derived analytics rows of a project, before rebuilding them
+     * @param projectId The project ID
+     */
+    public void deleteProjectAnalytics(Integer projectId) {
+        jdbcTemplate.update("DELETE FROM project_daily_snapshots WHERE project_id = ?", projectId);
+        jdbcTemplate.update("DELETE FROM task_flow_metrics WHERE project_id = ?", projectId);
+    }
+
+    /**
+     * Insert or replace daily snapshots
+     * @param snapshots The snapshots
+     */
+    public void upsertSnapshots(List<ProjectDailySnapshot> snapshots) {
+        jdbcTemplate.batchUpdate(UPSERT_SNAPSHOT_SQL, snapshots, BATCH_SIZE, (ps, snapshot) -> {
+            ps.setInt(1, snapshot.getProjectId());
+            ps.setObject(2, snapshot.getSnapshotDate());
+            ps.setInt(3, snapshot.getUnassigned());
+            ps.setInt(4, snapshot.getTodo());
+            ps.setInt(5, snapshot.getInProgress());
+            ps.setInt(6, snapshot.getCompleted());
+            ps.setInt(7, snapshot.getOverdue());
+            ps.setInt(8, snapshot.getArchived());
+            ps.setInt(9, snapshot.getCreatedToday());
+            ps.setInt(10, snapshot.getCompletedToday());
+        });
+    }
+
+    /**
+     * Insert flow metrics, or merge them into the existing rows of the same tasks
+     * @param metrics The metrics
+     */
+    public void upsertFlowMetrics(List<TaskFlowMetric> metrics) {
+        jdbcTemplate.batchUpdate(UPSERT_FLOW_METRIC_SQL, metrics, BATCH_SIZE, (ps, metric) -> {
+            ps.setInt(1, metric.getTaskId());
+            ps.setInt(2, metric.getProjectId());
+            ps.setObject(3, metric.getCreatedAt());
+            setDateTime(ps, 4, metric.getStartedAt());
+            setDateTime(ps, 5, metric.getCompletedAt());
+        });
+    }
+
+    private static void setDateTime(PreparedStatement ps, int index, LocalDateTime value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.TIMESTAMP);
+        } else {
+            ps.setObject(index, value);
+        }
+    }
+
+    private static Task.Status toStatus(String value) {
+        return value != null ? Task.Status.valueOf(value) : null;
+    }
+}
@@ -0,0 +1,98 @@
+package com.project_management.final_project.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+/**
+ * Read-only JDBC queries backing the task and task history exports.
+ * Results are streamed row by row: the statement is forward-only and read-only with a fetch size of
+ * Integer.MIN_VALUE, which makes the MySQL driver hand out rows as they arrive instead of buffering the
+ * whole result. No entities are created, so nothing accumulates in a persistence context.
+ * The connection is busy until the last row has been read, so handlers should not issue other queries.
+ * Column labels are the field names used in the exported files.
+ */
+@Repository
+public class ExportRepository {
+
+    private static final String TASK_COLUMNS =
+            "SELECT t.id AS id, t.project_id AS projectId, p.name AS projectName, t.title AS title, " +
+            "t.description AS description, t.priority AS priority, t.status AS status, " +
+            "t.start_date AS startDate, t.due_date AS dueDate, a.email AS assigneeEmail, " +
+            "c.email AS createdByEmail, t.created_at AS createdAt, t.updated_at AS updatedAt " +
+            "FROM tasks t " +
+            "JOIN projects p ON p.id = t.project_id " +
+            "LEFT JOIN users a ON a.id = t.assignee_id " +
+            "JOIN users c ON c.id = t.created_by ";
+    private static final String TASKS_BY_PROJECT_SQL = TASK_COLUMNS + "WHERE t.project_id = ? ORDER BY t.id";
+    private static final String TASKS_BY_OWNER_SQL = TASK_COLUMNS + "WHERE p.created_by = ? ORDER BY t.id";
+
+    private static final String HISTORY_COLUMNS =
+            "SELECT h.id AS id, h.task_id AS taskId, t.project_id AS projectId, t.title AS taskTitle, " +
+            "h.old_status AS oldStatus, h.new_status AS newStatus, u.email AS changedByEmail, " +
+            "h.changed_at AS changedAt " +
+            "FROM task_history h " +
+            "JOIN tasks t ON t.id = h.task_id " +
+            "JOIN users u ON u.id = h.changed_by ";
+    private static final String HISTORY_BY_PROJECT_SQL = HISTORY_COLUMNS + "WHERE t.project_id = ? ORDER BY h.id";
+    private static final String HISTORY_BY_OWNER_SQL = HISTORY_COLUMNS +
+            "JOIN projects p ON p.id = t.project_id WHERE p.created_by = ? ORDER BY h.id";
+
+    // Same columns for rows moved to the archive by the retention job
+    private static final String ARCHIVED_HISTORY_COLUMNS =
+            "SELECT a.id AS id, a.task_id AS taskId, a.project_id AS projectId, t.title AS taskTitle, " +
+            "a.old_status AS oldStatus, a.new_status AS newStatus, u.email AS changedByEmail, " +
+            "a.changed_at AS changedAt " +
+            "FROM task_history_archive a " +
+            "JOIN tasks t ON t.id = a.task_id " +
+            "JOIN users u ON u.id = a.changed_by ";
+    private static final String ARCHIVED_HISTORY_BY_PROJECT_SQL = ARCHIVED_HISTORY_COLUMNS +
+            "WHERE a.project_id = ? ORDER BY a.id";
+    private static final String ARCHIVED_HISTORY_BY_OWNER_SQL = ARCHIVED_HISTORY_COLUMNS +
+            "JOIN projects p ON p.id = a.project_id WHERE p.created_by = ? ORDER BY a.id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public ExportRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Stream the tasks of one project, or of every project created by a user
+     * @param projectId The project ID, or null to export by owner
+     * @param ownerId The ID of the user who created the projects (used when projectId is null)
+     * @param handler Called once per row
+     */
+    public void streamTasks(Integer projectId, Integer ownerId, RowCallbackHandler handler) {
+        stream(projectId != null ? TASKS_BY_PROJECT_SQL : TASKS_BY_OWNER_SQL,
+                projectId != null ? projectId : ownerId, handler);
+    }
+
+    /**
+     * Stream the task history of one project, or of every project created by a user.
+     * Archived rows come first; they are all older than the rows still in task_history.
+     * @param projectId The project ID, or null to export by owner
+     * @param ownerId The ID of the user who created the projects (used when projectId is null)
+     * @param handler Called once per row
+     */
+    public void streamTaskHistory(Integer projectId, Integer ownerId, RowCallbackHandler handler) {
+        Integer parameter = projectId != null ? projectId : ownerId;
+        stream(projectId != null ? ARCHIVED_HISTORY_BY_PROJECT_SQL : ARCHIVED_HISTORY_BY_OWNER_SQL, parameter, handler);
+        stream(projectId != null ? HISTORY_BY_PROJECT_SQL : HISTORY_BY_OWNER_SQL, parameter, handler);
+    }
+
+    private void stream(String sql, Integer parameter, RowCallbackHandler handler) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(Integer.MIN_VALUE);
+            ps.setInt(1, parameter);
+            return ps;
+        }, handler);
+    }
+}
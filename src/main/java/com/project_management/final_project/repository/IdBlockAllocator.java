@@ -0,0 +1,58 @@
+package com.project_management.final_project.repository;
+
+import com.project_management.final_project.entities.IdGenerators;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Reserves blocks of IDs from the id_generators table for rows inserted outside Hibernate
+ * (JDBC batches, INSERT ... SELECT), using the same rows as the entities' table generators.
+ * Each reservation commits in its own short transaction so the generator row is not locked
+ * for the duration of the caller's transaction.
+ * <p>
+ * next_val is read as the first free ID, which is how Hibernate reads it only with
+ * hibernate.id.generator.stored_last_used=false (set in application.properties).
+ */
+@Repository
+public class IdBlockAllocator {
+
+    private static final String SELECT_SQL = "SELECT " + IdGenerators.VALUE_COLUMN + " FROM " + IdGenerators.TABLE
+            + " WHERE " + IdGenerators.NAME_COLUMN + " = ? FOR UPDATE";
+    private static final String UPDATE_SQL = "UPDATE " + IdGenerators.TABLE + " SET " + IdGenerators.VALUE_COLUMN
+            + " = " + IdGenerators.VALUE_COLUMN + " + ? WHERE " + IdGenerators.NAME_COLUMN + " = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate requiresNew;
+
+    @Autowired
+    public IdBlockAllocator(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Reserve a contiguous block of IDs
+     * @param sequenceName The generator row, one of the {@link IdGenerators} sequence names
+     * @param count Number of IDs needed
+     * @return The first ID of the block; the block is [first, first + count)
+     */
+    public long allocate(String sequenceName, int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("count must be positive");
+        }
+        Long first = requiresNew.execute(status -> {
+            Long next = jdbcTemplate.queryForObject(SELECT_SQL, Long.class, sequenceName);
+            jdbcTemplate.update(UPDATE_SQL, count, sequenceName);
+            return next;
+        });
+        if (first == null) {
+            throw new IllegalStateException("No ID generator row for " + sequenceName);
+        }
+        return first;
+    }
+}
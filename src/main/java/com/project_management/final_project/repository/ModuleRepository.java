@@ -0,0 +1,9 @@
+package com.project_management.final_project.repository;
+
+import com.project_management.final_project.entities.Module;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ModuleRepository extends JpaRepository<Module, Integer> {
+}
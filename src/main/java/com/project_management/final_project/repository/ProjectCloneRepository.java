@@ -0,0 +1,213 @@
+package com.project_management.final_project.repository;
+
+import com.project_management.final_project.entities.IdGenerators;
+import com.project_management.final_project.util.collection.IntArrayList;
+import com.project_management.final_project.util.collection.IntIntMap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Set-based copies of a project's rows into a new project. Rows are copied with INSERT ... SELECT, so they
+ * never travel through the application; team member and task IDs are reserved as one block per statement
+ * from the generator rows shared with the entities, and the n-th copied row (in source ID order) gets the
+ * n-th ID of the block through ROW_NUMBER().
+ * <p>
+ * All methods participate in the surrounding transaction.
+ */
+@Repository
+public class ProjectCloneRepository {
+
+    private static final String INSERT_PROJECT_SQL =
+            "INSERT INTO projects (name, description, start_date, end_date, status, created_by) " +
+            "SELECT ?, description, DATE_ADD(start_date, INTERVAL ? DAY), DATE_ADD(end_date, INTERVAL ? DAY), " +
+            "'ACTIVE', ? " +
+            "FROM projects WHERE id = ?";
+
+    private static final String MEMBER_USER_IDS_SQL =
+            "SELECT user_id FROM team_members WHERE project_id = ? ORDER BY id";
+
+    private static final String COPY_MEMBERS_SQL =
+            "INSERT INTO team_members (id, user_id, project_id, specialization_id) " +
+            "SELECT ? + ROW_NUMBER() OVER (ORDER BY id) - 1, user_id, ?, specialization_id " +
+            "FROM team_members WHERE project_id = ?";
+
+    // Archived tasks are left behind
+    private static final String TASK_CHUNK_IDS_SQL =
+            "SELECT id FROM tasks " +
+            "WHERE project_id = ? AND id > ? AND status <> 'ARCHIVED' " +
+            "ORDER BY id LIMIT ?";
+
+    private static final String COUNT_TASKS_SQL =
+            "SELECT COUNT(*) FROM tasks WHERE project_id = ? AND status <> 'ARCHIVED'";
+
+    // Copies start over: TODO when they keep an assignee, UNASSIGNED otherwise
+    private static final String COPY_TASKS_SQL =
+            "INSERT INTO tasks (id, title, description, priority, status, start_date, due_date, project_id, " +
+            "assignee_id, created_by, created_at, updated_at, version) " +
+            "SELECT ? + ROW_NUMBER() OVER (ORDER BY id) - 1, title, description, priority, " +
+            "CASE WHEN ? AND assignee_id IS NOT NULL THEN 'TODO' ELSE 'UNASSIGNED' END, " +
+            "DATE_ADD(start_date, INTERVAL ? DAY), DATE_ADD(due_date, INTERVAL ? DAY), ?, " +
+            "CASE WHEN ? THEN assignee_id END, ?, NOW(), NOW(), 0 " +
+            "FROM tasks " +
+            "WHERE project_id = ? AND id > ? AND id <= ? AND status <> 'ARCHIVED'";
+
+    private static final String DEPENDENCIES_SQL =
+            "SELECT predecessor_id, successor_id FROM task_dependencies WHERE project_id = ?";
+
+    private static final String INSERT_DEPENDENCY_SQL =
+            "INSERT INTO task_dependencies (project_id, predecessor_id, successor_id, created_by, created_at) " +
+            "VALUES (?, ?, ?, ?, NOW())";
+
+    private static final String DELETE_DEPENDENCIES_SQL = "DELETE FROM task_dependencies WHERE project_id = ?";
+    private static final String DELETE_TASKS_SQL = "DELETE FROM tasks WHERE project_id = ?";
+    private static final String DELETE_MEMBERS_SQL = "DELETE FROM team_members WHERE project_id = ?";
+    private static final String DELETE_PROJECT_SQL = "DELETE FROM projects WHERE id = ?";
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final IdBlockAllocator idBlockAllocator;
+
+    @Autowired
+    public ProjectCloneRepository(JdbcTemplate jdbcTemplate, IdBlockAllocator idBlockAllocator) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.idBlockAllocator = idBlockAllocator;
+    }
+
+    /**
+     * Insert a copy of a project's details
+     * @param sourceProjectId The project to copy
+     * @param name The name of the copy
+     * @param shiftDays Days added to the start and end dates
+     * @param ownerId The user creating the copy
+     * @return The ID of the new project
+     */
+    public int insertProject(int sourceProjectId, String name, int shiftDays, int ownerId) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(INSERT_PROJECT_SQL, Statement.RETURN_GENERATED_KEYS);
+            ps.setString(1, name);
+            ps.setInt(2, shiftDays);
+            ps.setInt(3, shiftDays);
+            ps.setInt(4, ownerId);
+            ps.setInt(5, sourceProjectId);
+            return ps;
+        }, keyHolder);
+        Number key = keyHolder.getKey();
+        if (key == null) {
+            throw new IllegalStateException("Project not found with ID: " + sourceProjectId);
+        }
+        return key.intValue();
+    }
+
+    /**
+     * Copy the team members of a project
+     * @return The user IDs of the copied members
+     */
+    public IntArrayList copyTeamMembers(int sourceProjectId, int targetProjectId) {
+        IntArrayList userIds = new IntArrayList();
+        jdbcTemplate.query(MEMBER_USER_IDS_SQL, rs -> {
+            userIds.add(rs.getInt(1));
+        }, sourceProjectId);
+        if (userIds.isEmpty()) {
+            return userIds;
+        }
+        long firstId = idBlockAllocator.allocate(IdGenerators.TEAM_MEMBERS, userIds.size());
+        int copied = jdbcTemplate.update(COPY_MEMBERS_SQL, firstId, targetProjectId, sourceProjectId);
+        checkCopied("team members", userIds.size(), copied);
+        return userIds;
+    }
+
+    /**
+     * Count the tasks a copy of the project gets
+     */
+    public int countCopiedTasks(int sourceProjectId) {
+        Integer count = jdbcTemplate.queryForObject(COUNT_TASKS_SQL, Integer.class, sourceProjectId);
+        return count != null ? count : 0;
+    }
+
+    /**
+     * Copy the next chunk of tasks, in source ID order
+     * @param sourceProjectId The project to copy from
+     * @param targetProjectId The project to copy to
+     * @param afterId Copy tasks with a greater ID; 0 for the first chunk
+     * @param limit Maximum number of tasks to copy
+     * @param shiftDays Days added to the start and due dates
+     * @param keepAssignees Whether copies keep their assignee
+     * @param ownerId The user creating the copies
+     * @param idMap Receives source task ID -> copy task ID for every copied task
+     * @return The greatest source ID copied, or afterId if no task was left
+     */
+    public int copyTaskChunk(int sourceProjectId, int targetProjectId, int afterId, int limit, int shiftDays,
+                             boolean keepAssignees, int ownerId, IntIntMap idMap) {
+        IntArrayList sourceIds = new IntArrayList(Math.min(limit, 1024));
+        jdbcTemplate.query(TASK_CHUNK_IDS_SQL, rs -> {
+            sourceIds.add(rs.getInt(1));
+        }, sourceProjectId, afterId, limit);
+        if (sourceIds.isEmpty()) {
+            return afterId;
+        }
+        int lastId = sourceIds.get(sourceIds.size() - 1);
+        long firstId = idBlockAllocator.allocate(IdGenerators.TASKS, sourceIds.size());
+        int copied = jdbcTemplate.update(COPY_TASKS_SQL, firstId, keepAssignees, shiftDays, shiftDays,
+                targetProjectId, keepAssignees, ownerId, sourceProjectId, afterId, lastId);
+        // A task added to the range since it was read would take an ID outside the block
+        checkCopied("tasks", sourceIds.size(), copied);
+        for (int i = 0; i < sourceIds.size(); i++) {
+            idMap.put(sourceIds.get(i), (int) (firstId + i));
+        }
+        return lastId;
+    }
+
+    /**
+     * Copy the dependencies between copied tasks
+     * @param idMap Source task ID -> copy task ID; links to tasks not copied are left out
+     * @return Number of dependencies copied
+     */
+    public int copyDependencies(int sourceProjectId, int targetProjectId, IntIntMap idMap, int ownerId) {
+        List<int[]> links = new ArrayList<>();
+        jdbcTemplate.query(DEPENDENCIES_SQL, rs -> {
+            int predecessorId = idMap.get(rs.getInt(1), 0);
+            int successorId = idMap.get(rs.getInt(2), 0);
+            if (predecessorId != 0 && successorId != 0) {
+                links.add(new int[]{predecessorId, successorId});
+            }
+        }, sourceProjectId);
+        if (links.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate(INSERT_DEPENDENCY_SQL, links, BATCH_SIZE, (ps, link) -> {
+            ps.setInt(1, targetProjectId);
+            ps.setInt(2, link[0]);
+            ps.setInt(3, link[1]);
+            ps.setInt(4, ownerId);
+        });
+        return links.size();
+    }
+
+    /**
+     * Delete a partially copied project; only valid while nothing but the copy refers to its rows
+     * @param projectId The ID of the copy
+     */
+    public void deleteCopy(int projectId) {
+        jdbcTemplate.update(DELETE_DEPENDENCIES_SQL, projectId);
+        jdbcTemplate.update(DELETE_TASKS_SQL, projectId);
+        jdbcTemplate.update(DELETE_MEMBERS_SQL, projectId);
+        jdbcTemplate.update(DELETE_PROJECT_SQL, projectId);
+    }
+
+    private static void checkCopied(String rows, int expected, int copied) {
+        if (copied != expected) {
+            // Roll back rather than keep rows numbered outside the reserved block
+            throw new IllegalStateException("Expected to copy " + expected + " " + rows + " but copied " + copied);
+        }
+    }
+}
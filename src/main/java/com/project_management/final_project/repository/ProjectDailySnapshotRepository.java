@@ -0,0 +1,30 @@
+package com.project_management.final_project.repository;
+
+import com.project_management.final_project.entities.ProjectDailySnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ProjectDailySnapshotRepository extends JpaRepository<ProjectDailySnapshot, Long> {
+
+    /**
+     * Find the snapshots of a project within a date range
+     * @param projectId The project ID
+     * @param from First day (inclusive)
+     * @param to Last day (inclusive)
+     * @return Snapshots ordered by date
+     */
+    List<ProjectDailySnapshot> findByProjectIdAndSnapshotDateBetweenOrderBySnapshotDateAsc(
+            Integer projectId, LocalDate from, LocalDate to);
+
+    /**
+     * Find the most recent snapshot of a project
+     * @param projectId The project ID
+     * @return The latest snapshot, if the project has any
+     */
+    Optional<ProjectDailySnapshot> findTopByProjectIdOrderBySnapshotDateDesc(Integer projectId);
+}
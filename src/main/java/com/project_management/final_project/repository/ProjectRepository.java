@@ -3,6 +3,7 @@ package com.project_management.final_project.repository;
 import com.project_management.final_project.entities.Project;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -31,12 +32,24 @@ public interface ProjectRepository extends JpaRepository<Project, Integer> {
     boolean existsByNameAndCreatedById(String name, Integer createdById);
     
     /**
-     * Find projects where a specific user is a team member
+     * Check if a project was created by a specific user, without loading it
+     * @param id The project ID
+     * @param createdById The user ID
+     * @return True if the project exists and was created by the user, false otherwise
+     */
+    boolean existsByIdAndCreatedById(Integer id, Integer createdById);
+    
+    /**
+     * Find projects where a specific user is a team member.
+     * Uses a semi-join on team_members instead of DISTINCT over a join, so the derived
+     * count is a plain COUNT served by the (user_id, project_id) unique index.
      * @param userId The user ID
      * @param pageable Pagination information
      * @return Page of projects
      */
-    @Query("SELECT DISTINCT p FROM Project p JOIN p.teamMembers tm WHERE tm.user.id = :userId")
+    @Query(value = "SELECT p FROM Project p " +
+                   "WHERE p.id IN (SELECT tm.project.id FROM TeamMember tm WHERE tm.user.id = :userId)",
+           countQuery = "SELECT COUNT(tm) FROM TeamMember tm WHERE tm.user.id = :userId")
     Page<Project> findProjectsByTeamMemberUserId(@Param("userId") Integer userId, Pageable pageable);
     
     /**
@@ -47,11 +60,34 @@ public interface ProjectRepository extends JpaRepository<Project, Integer> {
      * @param pageable Pagination information
      * @return Page of projects
      */
-    @Query("SELECT DISTINCT p FROM Project p JOIN p.teamMembers tm " +
-           "WHERE tm.user.id = :userId " +
+    @Query(value = "SELECT p FROM Project p " +
+                   "WHERE p.id IN (SELECT tm.project.id FROM TeamMember tm WHERE tm.user.id = :userId) " +
+                   "AND (:name IS NULL OR LOWER(p.name) LIKE LOWER(CONCAT('%', :name, '%'))) " +
+                   "AND (:status IS NULL OR p.status = :status)",
+           countQuery = "SELECT COUNT(p) FROM Project p " +
+                   "WHERE p.id IN (SELECT tm.project.id FROM TeamMember tm WHERE tm.user.id = :userId) " +
+                   "AND (:name IS NULL OR LOWER(p.name) LIKE LOWER(CONCAT('%', :name, '%'))) " +
+                   "AND (:status IS NULL OR p.status = :status)")
+    Page<Project> findProjectsByTeamMemberUserIdWithFilters(
+            @Param("userId") Integer userId,
+            @Param("name") String name,
+            @Param("status") Project.Status status,
+            Pageable pageable);
+    
+    /**
+     * Same as {@link #findProjectsByTeamMemberUserIdWithFilters} but without a total count.
+     * Fetches one extra row to determine whether a next page exists.
+     * @param userId The user ID
+     * @param name Optional project name filter
+     * @param status Optional project status filter
+     * @param pageable Pagination information
+     * @return Slice of projects
+     */
+    @Query("SELECT p FROM Project p " +
+           "WHERE p.id IN (SELECT tm.project.id FROM TeamMember tm WHERE tm.user.id = :userId) " +
            "AND (:name IS NULL OR LOWER(p.name) LIKE LOWER(CONCAT('%', :name, '%'))) " +
            "AND (:status IS NULL OR p.status = :status)")
-    Page<Project> findProjectsByTeamMemberUserIdWithFilters(
+    Slice<Project> findProjectSliceByTeamMemberUserIdWithFilters(
             @Param("userId") Integer userId,
             @Param("name") String name,
             @Param("status") Project.Status status,
@@ -0,0 +1,27 @@
+package com.project_management.final_project.repository;
+
+import com.project_management.final_project.entities.RecurringTaskTemplate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface RecurringTaskTemplateRepository extends JpaRepository<RecurringTaskTemplate, Integer> {
+
+    /**
+     * Find the templates of a project
+     * @param projectId The project ID
+     * @return List of templates, oldest first
+     */
+    List<RecurringTaskTemplate> findByProjectIdOrderByIdAsc(Integer projectId);
+
+    /**
+     * Find when each active template has its next occurrence
+     * @return Pairs of template ID and next occurrence
+     */
+    @Query("SELECT t.id, t.nextOccurrence FROM RecurringTaskTemplate t " +
+           "WHERE t.active = true AND t.nextOccurrence IS NOT NULL")
+    List<Object[]> findActiveOccurrences();
+}
@@ -0,0 +1,39 @@
+package com.project_management.final_project.repository;
+
+import com.project_management.final_project.entities.TaskDependency;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface TaskDependencyRepository extends JpaRepository<TaskDependency, Long> {
+
+    /**
+     * Check if a task already depends on another one
+     * @param predecessorId The ID of the predecessor task
+     * @param successorId The ID of the successor task
+     * @return true if the link exists
+     */
+    boolean existsByPredecessorIdAndSuccessorId(Integer predecessorId, Integer successorId);
+
+    /**
+     * Find the dependencies of a project with both tasks loaded
+     * @param projectId The project ID
+     * @return Dependencies, oldest first
+     */
+    @Query("SELECT d FROM TaskDependency d JOIN FETCH d.predecessor JOIN FETCH d.successor " +
+           "WHERE d.projectId = :projectId ORDER BY d.id")
+    List<TaskDependency> findByProjectIdWithTasks(@Param("projectId") Integer projectId);
+
+    /**
+     * Find the dependencies a task takes part in, as predecessor or successor, with both tasks loaded
+     * @param taskId The task ID
+     * @return Dependencies, oldest first
+     */
+    @Query("SELECT d FROM TaskDependency d JOIN FETCH d.predecessor JOIN FETCH d.successor " +
+           "WHERE d.predecessor.id = :taskId OR d.successor.id = :taskId ORDER BY d.id")
+    List<TaskDependency> findByTaskIdWithTasks(@Param("taskId") Integer taskId);
+}
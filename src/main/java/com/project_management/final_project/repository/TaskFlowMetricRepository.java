@@ -0,0 +1,31 @@
+package com.project_management.final_project.repository;
+
+import com.project_management.final_project.entities.TaskFlowMetric;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface TaskFlowMetricRepository extends JpaRepository<TaskFlowMetric, Integer> {
+
+    /**
+     * Find the flow metrics of tasks completed within a time range
+     * @param projectId The project ID
+     * @param from Start of the range (inclusive)
+     * @param to End of the range (inclusive)
+     * @return Flow metrics of the completed tasks
+     */
+    List<TaskFlowMetric> findByProjectIdAndCompletedAtBetween(Integer projectId, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Find the flow metrics of a project's completed tasks
+     * @param projectId The project ID
+     * @param pageable Pagination information
+     * @return Page of flow metrics
+     */
+    Page<TaskFlowMetric> findByProjectIdAndCompletedAtIsNotNull(Integer projectId, Pageable pageable);
+}
@@ -0,0 +1,122 @@
+package com.project_management.final_project.repository;
+
+import com.project_management.final_project.dto.response.TaskTransitionCountResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * JDBC operations moving expired task_history rows into daily rollups and the archive table.
+ * A chunk is the expired rows with the lowest IDs up to a bound: every row with id <= maxId
+ * and changed_at < cutoff, so the rollup, copy and delete statements all see the same rows.
+ */
+@Repository
+public class TaskHistoryArchiveRepository {
+
+    private static final String CHUNK_UPPER_ID_SQL =
+            "SELECT MAX(id) FROM (SELECT id FROM task_history WHERE changed_at < ? ORDER BY id LIMIT ?) chunk";
+
+    private static final String ROLLUP_CHUNK_SQL =
+            "INSERT INTO task_history_daily_rollups (project_id, rollup_date, old_status, new_status, transition_count) " +
+            "SELECT t.project_id, DATE(h.changed_at), COALESCE(h.old_status, ''), COALESCE(h.new_status, ''), COUNT(*) " +
+            "FROM task_history h JOIN tasks t ON t.id = h.task_id " +
+            "WHERE h.id <= ? AND h.changed_at < ? " +
+            "GROUP BY t.project_id, DATE(h.changed_at), COALESCE(h.old_status, ''), COALESCE(h.new_status, '') " +
+            "ON DUPLICATE KEY UPDATE transition_count = transition_count + VALUES(transition_count)";
+
+    private static final String ARCHIVE_CHUNK_SQL =
+            "INSERT INTO task_history_archive (id, task_id, project_id, old_status, new_status, changed_by, changed_at) " +
+            "SELECT h.id, h.task_id, t.project_id, h.old_status, h.new_status, h.changed_by, h.changed_at " +
+            "FROM task_history h JOIN tasks t ON t.id = h.task_id " +
+            "WHERE h.id <= ? AND h.changed_at < ?";
+
+    private static final String DELETE_CHUNK_SQL =
+            "DELETE FROM task_history WHERE id <= ? AND changed_at < ?";
+
+    // Archived days come from the rollups, recent days are counted from task_history; a day split by
+    // an interrupted run is found in both and summed
+    private static final String DAILY_TRANSITIONS_SQL =
+            "SELECT day, old_status, new_status, SUM(transition_count) FROM (" +
+            "SELECT r.rollup_date AS day, r.old_status, r.new_status, r.transition_count " +
+            "FROM task_history_daily_rollups r " +
+            "WHERE r.project_id = ? AND r.rollup_date BETWEEN ? AND ? " +
+            "UNION ALL " +
+            "SELECT DATE(h.changed_at), COALESCE(h.old_status, ''), COALESCE(h.new_status, ''), COUNT(*) " +
+            "FROM task_history h JOIN tasks t ON t.id = h.task_id " +
+            "WHERE t.project_id = ? AND h.changed_at >= ? AND h.changed_at < ? " +
+            "GROUP BY DATE(h.changed_at), COALESCE(h.old_status, ''), COALESCE(h.new_status, '')" +
+            ") transitions GROUP BY day, old_status, new_status ORDER BY day, old_status, new_status";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public TaskHistoryArchiveRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Find the upper ID bound of the next chunk of expired rows
+     * @param cutoff Rows changed before this time are expired
+     * @param chunkSize Maximum number of rows in the chunk
+     * @return The highest ID in the chunk, or null if no rows are expired
+     */
+    public Integer findChunkUpperId(LocalDateTime cutoff, int chunkSize) {
+        return jdbcTemplate.queryForObject(CHUNK_UPPER_ID_SQL, Integer.class, Timestamp.valueOf(cutoff), chunkSize);
+    }
+
+    /**
+     * Add the chunk's transitions to the daily rollups
+     * @param maxId Upper ID bound of the chunk
+     * @param cutoff The expiry cutoff
+     */
+    public void rollupChunk(int maxId, LocalDateTime cutoff) {
+        jdbcTemplate.update(ROLLUP_CHUNK_SQL, maxId, Timestamp.valueOf(cutoff));
+    }
+
+    /**
+     * Copy the chunk's rows into the archive table
+     * @param maxId Upper ID bound of the chunk
+     * @param cutoff The expiry cutoff
+     * @return Number of rows copied
+     */
+    public int archiveChunk(int maxId, LocalDateTime cutoff) {
+        return jdbcTemplate.update(ARCHIVE_CHUNK_SQL, maxId, Timestamp.valueOf(cutoff));
+    }
+
+    /**
+     * Delete the chunk's rows from task_history
+     * @param maxId Upper ID bound of the chunk
+     * @param cutoff The expiry cutoff
+     * @return Number of rows deleted
+     */
+    public int deleteChunk(int maxId, LocalDateTime cutoff) {
+        return jdbcTemplate.update(DELETE_CHUNK_SQL, maxId, Timestamp.valueOf(cutoff));
+    }
+
+    /**
+     * Count a project's status transitions per day and (old, new) status pair
+     * @param projectId The project ID
+     * @param from First day (inclusive)
+     * @param to Last day (inclusive)
+     * @return Counts ordered by day
+     */
+    public List<TaskTransitionCountResponse> findDailyTransitions(Integer projectId, LocalDate from, LocalDate to) {
+        return jdbcTemplate.query(DAILY_TRANSITIONS_SQL, (rs, rowNum) -> TaskTransitionCountResponse.builder()
+                        .date(rs.getObject(1, LocalDate.class))
+                        .oldStatus(emptyToNull(rs.getString(2)))
+                        .newStatus(emptyToNull(rs.getString(3)))
+                        .count(rs.getLong(4))
+                        .build(),
+                projectId, from, to,
+                projectId, Timestamp.valueOf(from.atStartOfDay()), Timestamp.valueOf(to.plusDays(1).atStartOfDay()));
+    }
+
+    private static String emptyToNull(String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+}
@@ -10,6 +10,8 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -44,6 +46,14 @@ public interface TaskRepository extends JpaRepository<Task, Integer> {
      */
     int countByAssigneeId(Integer assigneeId);
     
+    /**
+     * Count tasks assigned to each of the given users in one grouped query
+     * @param assigneeIds The assignee user IDs
+     * @return Rows of [assignee ID, task count]; users without tasks are omitted
+     */
+    @Query("SELECT t.assignee.id, COUNT(t) FROM Task t WHERE t.assignee.id IN :assigneeIds GROUP BY t.assignee.id")
+    List<Object[]> countTasksByAssigneeIds(@Param("assigneeIds") Collection<Integer> assigneeIds);
+    
     /**
      * Find unassigned tasks with optional filtering by project ID, search term, and priority
      * @param projectId The project ID (optional)
@@ -143,7 +153,8 @@ public interface TaskRepository extends JpaRepository<Task, Integer> {
      * @return Number of tasks updated
      */
     @Modifying
-    @Query("UPDATE Task t SET t.assignee = null, t.status = com.project_management.final_project.entities.Task.Status.UNASSIGNED " +
+    @Query("UPDATE Task t SET t.assignee = null, t.status = com.project_management.final_project.entities.Task.Status.UNASSIGNED, " +
+           "t.version = t.version + 1 " +
            "WHERE t.assignee.id = :assigneeId AND t.project.id = :projectId")
     int unassignTasksForTeamMember(@Param("assigneeId") Integer assigneeId, @Param("projectId") Integer projectId);
     
@@ -192,4 +203,58 @@ public interface TaskRepository extends JpaRepository<Task, Integer> {
      * @return List of tasks
      */
     List<Task> findAllByProjectIdOrderByUpdatedAtDesc(Integer projectId);
+    
+    /**
+     * Find the unassigned tasks of a project in the order they should be handed out:
+     * earliest due date first (tasks without one last), then highest priority
+     * @param projectId The project ID
+     * @param pageable Limits the number of tasks
+     * @return List of tasks
+     */
+    @Query("SELECT t FROM Task t " +
+           "WHERE t.project.id = :projectId " +
+           "AND t.status = com.project_management.final_project.entities.Task.Status.UNASSIGNED " +
+           "AND t.assignee IS NULL " +
+           "ORDER BY CASE WHEN t.dueDate IS NULL THEN 1 ELSE 0 END, t.dueDate ASC, " +
+           "CASE t.priority WHEN com.project_management.final_project.entities.Task.Priority.HIGH THEN 0 " +
+           "WHEN com.project_management.final_project.entities.Task.Priority.MEDIUM THEN 1 ELSE 2 END, t.id ASC")
+    List<Task> findUnassignedTasksForAutoAssignment(@Param("projectId") Integer projectId, Pageable pageable);
+    
+    /**
+     * Find tasks by ID with their project and assignee
+     * @param ids The task IDs
+     * @return List of tasks, in no particular order
+     */
+    @Query("SELECT t FROM Task t JOIN FETCH t.project LEFT JOIN FETCH t.assignee WHERE t.id IN :ids")
+    List<Task> findByIdInWithProjectAndAssignee(@Param("ids") Collection<Integer> ids);
+    
+    /**
+     * Find assigned tasks in the given statuses due within a date range, with their project and assignee,
+     * in ID order for keyset paging
+     * @param afterId Only tasks with a greater ID
+     * @param from First due date
+     * @param to Last due date
+     * @param statuses The statuses to include
+     * @param pageable Page size (the page number should stay 0)
+     * @return List of tasks
+     */
+    @Query("SELECT t FROM Task t JOIN FETCH t.project JOIN FETCH t.assignee " +
+           "WHERE t.id > :afterId " +
+           "AND t.dueDate >= :from AND t.dueDate <= :to " +
+           "AND t.status IN :statuses " +
+           "ORDER BY t.id ASC")
+    List<Task> findAssignedTasksDueBetween(
+            @Param("afterId") Integer afterId,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to,
+            @Param("statuses") Collection<Task.Status> statuses,
+            Pageable pageable);
+    
+    /**
+     * Find the latest occurrence a recurring task template has a task for
+     * @param templateId The template ID
+     * @return The latest occurrence, or null if the template has no tasks
+     */
+    @Query("SELECT MAX(t.occurrenceAt) FROM Task t WHERE t.recurringTemplateId = :templateId")
+    LocalDateTime findLastOccurrence(@Param("templateId") Integer templateId);
 } 
\ No newline at end of file
@@ -0,0 +1,97 @@
+package com.project_management.final_project.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * JDBC access for the project schedule: task dates and dependency links read straight into primitive
+ * structures, without creating entities, plus the per-project dependency version that serializes
+ * dependency changes.
+ */
+@Repository
+public class TaskScheduleRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public TaskScheduleRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Receives the rows of {@link #forEachTask}
+     */
+    @FunctionalInterface
+    public interface TaskDatesConsumer {
+        /**
+         * @param taskId The task ID
+         * @param startDate The planned start date, or null
+         * @param dueDate The due date, or null
+         */
+        void accept(int taskId, LocalDate startDate, LocalDate dueDate);
+    }
+
+    /**
+     * Receives the rows of {@link #forEachDependency}
+     */
+    @FunctionalInterface
+    public interface DependencyConsumer {
+        void accept(int predecessorId, int successorId);
+    }
+
+    /**
+     * Read the planned dates of every task of a project
+     * @param projectId The project ID
+     * @param consumer Called once per task
+     */
+    public void forEachTask(Integer projectId, TaskDatesConsumer consumer) {
+        jdbcTemplate.query("SELECT id, start_date, due_date FROM tasks WHERE project_id = ?", rs -> {
+            consumer.accept(rs.getInt(1), rs.getObject(2, LocalDate.class), rs.getObject(3, LocalDate.class));
+        }, projectId);
+    }
+
+    /**
+     * Read the dependency links of a project
+     * @param projectId The project ID
+     * @param consumer Called once per link
+     */
+    public void forEachDependency(Integer projectId, DependencyConsumer consumer) {
+        jdbcTemplate.query("SELECT predecessor_id, successor_id FROM task_dependencies WHERE project_id = ?", rs -> {
+            consumer.accept(rs.getInt(1), rs.getInt(2));
+        }, projectId);
+    }
+
+    /**
+     * Read the dependency version of a project
+     * @param projectId The project ID
+     * @return The version, or null if the project does not exist
+     */
+    public Integer findDependencyVersion(Integer projectId) {
+        List<Integer> versions = jdbcTemplate.queryForList(
+                "SELECT dependency_version FROM projects WHERE id = ?", Integer.class, projectId);
+        return versions.isEmpty() ? null : versions.get(0);
+    }
+
+    /**
+     * Lock a project's row until the end of the transaction, serializing changes to its dependencies
+     * @param projectId The project ID
+     * @return The dependency version, or null if the project does not exist
+     */
+    public Integer lockDependencyVersion(Integer projectId) {
+        List<Integer> versions = jdbcTemplate.queryForList(
+                "SELECT dependency_version FROM projects WHERE id = ? FOR UPDATE", Integer.class, projectId);
+        return versions.isEmpty() ? null : versions.get(0);
+    }
+
+    /**
+     * Bump the dependency version of a project locked with {@link #lockDependencyVersion}
+     * @param projectId The project ID
+     */
+    public void incrementDependencyVersion(Integer projectId) {
+        jdbcTemplate.update("UPDATE projects SET dependency_version = dependency_version + 1 WHERE id = ?", projectId);
+    }
+}
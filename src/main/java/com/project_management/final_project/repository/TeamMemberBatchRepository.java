@@ -0,0 +1,56 @@
+package com.project_management.final_project.repository;
+
+import com.project_management.final_project.dto.request.AddTeamMemberRequest;
+import com.project_management.final_project.entities.IdGenerators;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * JDBC-backed bulk operations on the team_members table.
+ * Inserts are sent as JDBC batches, which the MySQL driver rewrites into
+ * multi-row INSERT statements (rewriteBatchedStatements=true on the datasource URL).
+ * IDs are reserved up front from the team_members generator row shared with the TeamMember entity.
+ */
+@Repository
+public class TeamMemberBatchRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO team_members (id, user_id, project_id, specialization_id) VALUES (?, ?, ?, ?)";
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final IdBlockAllocator idBlockAllocator;
+
+    @Autowired
+    public TeamMemberBatchRepository(JdbcTemplate jdbcTemplate, IdBlockAllocator idBlockAllocator) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.idBlockAllocator = idBlockAllocator;
+    }
+
+    /**
+     * Insert team members for a project in batches.
+     * Participates in the surrounding transaction.
+     * @param projectId The project ID
+     * @param members The members to insert (user ID and specialization ID)
+     * @return Number of members inserted
+     */
+    public int insertAll(Integer projectId, List<AddTeamMemberRequest> members) {
+        if (members.isEmpty()) {
+            return 0;
+        }
+        long firstId = idBlockAllocator.allocate(IdGenerators.TEAM_MEMBERS, members.size());
+        AtomicLong nextId = new AtomicLong(firstId);
+        jdbcTemplate.batchUpdate(INSERT_SQL, members, BATCH_SIZE, (ps, member) -> {
+            ps.setLong(1, nextId.getAndIncrement());
+            ps.setInt(2, member.getUserId());
+            ps.setInt(3, projectId);
+            ps.setInt(4, member.getSpecializationId());
+        });
+        // Rewritten batches report SUCCESS_NO_INFO per row, so the batch size is the insert count
+        return members.size();
+    }
+}
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -32,6 +33,25 @@ public interface TeamMemberRepository extends JpaRepository<TeamMember, Integer>
      */
     boolean existsByUserIdAndProjectId(Integer userId, Integer projectId);
     
+    /**
+     * Find the IDs of all projects a user is a member of
+     * @param userId The user ID
+     * @return List of project IDs
+     */
+    @Query("SELECT tm.project.id FROM TeamMember tm WHERE tm.user.id = :userId")
+    List<Integer> findProjectIdsByUserId(@Param("userId") Integer userId);
+    
+    /**
+     * Find which of the given users are already members of a project
+     * @param projectId The project ID
+     * @param userIds The user IDs to check
+     * @return IDs of the users that are already members of the project
+     */
+    @Query("SELECT tm.user.id FROM TeamMember tm WHERE tm.project.id = :projectId AND tm.user.id IN :userIds")
+    List<Integer> findMemberUserIdsByProjectIdAndUserIdIn(
+            @Param("projectId") Integer projectId,
+            @Param("userIds") Collection<Integer> userIds);
+    
     /**
      * Find team members by project ID with optional search and specialization filter
      * @param projectId The project ID
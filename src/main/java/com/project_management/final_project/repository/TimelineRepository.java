@@ -0,0 +1,44 @@
+package com.project_management.final_project.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+
+/**
+ * JDBC access for timelines spanning projects. Project timelines are answered from the in-memory interval
+ * index built from {@link TaskScheduleRepository#forEachTask}.
+ */
+@Repository
+public class TimelineRepository {
+
+    // Both range conditions can be checked on idx_tasks_assignee_due without reading the rows
+    private static final String ASSIGNED_TASKS_IN_RANGE_SQL =
+            "SELECT id, start_date, due_date FROM tasks " +
+            "WHERE assignee_id = ? " +
+            "AND (due_date >= ? OR (due_date IS NULL AND start_date >= ?)) " +
+            "AND COALESCE(start_date, due_date) <= ? " +
+            "ORDER BY COALESCE(start_date, due_date), id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public TimelineRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Read the tasks assigned to a user whose planned dates overlap a range, in start order
+     * @param assigneeId The user ID
+     * @param from First day of the range
+     * @param to Last day of the range
+     * @param consumer Called once per task
+     */
+    public void forEachAssignedTaskInRange(Integer assigneeId, LocalDate from, LocalDate to,
+                                           TaskScheduleRepository.TaskDatesConsumer consumer) {
+        jdbcTemplate.query(ASSIGNED_TASKS_IN_RANGE_SQL, rs -> {
+            consumer.accept(rs.getInt(1), rs.getObject(2, LocalDate.class), rs.getObject(3, LocalDate.class));
+        }, assigneeId, from, from, to);
+    }
+}
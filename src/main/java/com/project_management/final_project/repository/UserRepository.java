@@ -9,6 +9,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,6 +25,8 @@ public interface UserRepository extends JpaRepository<User, Integer> {
     
     boolean existsByEmail(String email);
     
+    List<User> findByEmailIn(Collection<String> emails);
+    
     boolean existsByPhoneNumber(String phoneNumber);
 
     /**
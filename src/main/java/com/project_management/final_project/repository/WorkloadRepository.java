@@ -0,0 +1,111 @@
+package com.project_management.final_project.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * JDBC access for assignee recommendations: team members and their open and completed work, aggregated in
+ * MySQL and read without creating entities.
+ */
+@Repository
+public class WorkloadRepository {
+
+    private static final String MEMBERS_SQL =
+            "SELECT u.id, u.name, u.email, tm.specialization_id, s.name " +
+            "FROM team_members tm JOIN users u ON u.id = tm.user_id " +
+            "LEFT JOIN specializations s ON s.id = tm.specialization_id " +
+            "WHERE tm.project_id = ? AND u.status = 'ACTIVE'";
+
+    private static final String OPEN_TASK_COUNTS_SQL =
+            "SELECT assignee_id, COUNT(*), SUM(CASE WHEN status = 'OVERDUE' OR due_date <= ? THEN 1 ELSE 0 END) " +
+            "FROM tasks " +
+            "WHERE project_id = ? AND assignee_id IS NOT NULL AND status IN ('TODO', 'IN_PROGRESS', 'OVERDUE') " +
+            "GROUP BY assignee_id";
+
+    // Members are rated on their work in every project, not only this one
+    private static final String AVERAGE_CYCLE_TIMES_SQL =
+            "SELECT t.assignee_id, AVG(TIMESTAMPDIFF(MINUTE, m.started_at, m.completed_at)) / 60 " +
+            "FROM team_members tm " +
+            "JOIN tasks t ON t.assignee_id = tm.user_id " +
+            "JOIN task_flow_metrics m ON m.task_id = t.id " +
+            "WHERE tm.project_id = ? AND m.started_at IS NOT NULL AND m.completed_at > ? " +
+            "GROUP BY t.assignee_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public WorkloadRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Receives the rows of {@link #forEachMember}
+     */
+    @FunctionalInterface
+    public interface MemberConsumer {
+        /**
+         * @param userId The user ID
+         * @param name The user's name
+         * @param email The user's email
+         * @param specializationId The member's specialization ID, or 0 if none
+         * @param specializationName The member's specialization name, or null
+         */
+        void accept(int userId, String name, String email, int specializationId, String specializationName);
+    }
+
+    /**
+     * Receives the rows of {@link #forEachOpenTaskCount}
+     */
+    @FunctionalInterface
+    public interface OpenTaskCountConsumer {
+        void accept(int userId, int openTasks, int dueSoonTasks);
+    }
+
+    /**
+     * Receives the rows of {@link #forEachAverageCycleTime}
+     */
+    @FunctionalInterface
+    public interface CycleTimeConsumer {
+        void accept(int userId, double averageHours);
+    }
+
+    /**
+     * Read the active team members of a project
+     * @param projectId The project ID
+     * @param consumer Called once per member
+     */
+    public void forEachMember(Integer projectId, MemberConsumer consumer) {
+        jdbcTemplate.query(MEMBERS_SQL, rs -> {
+            consumer.accept(rs.getInt(1), rs.getString(2), rs.getString(3), rs.getInt(4), rs.getString(5));
+        }, projectId);
+    }
+
+    /**
+     * Count the open tasks (TODO, IN_PROGRESS, OVERDUE) of a project per assignee
+     * @param projectId The project ID
+     * @param dueBy Open tasks due on or before this date, or marked overdue, count as due soon
+     * @param consumer Called once per assignee with at least one open task
+     */
+    public void forEachOpenTaskCount(Integer projectId, LocalDate dueBy, OpenTaskCountConsumer consumer) {
+        jdbcTemplate.query(OPEN_TASK_COUNTS_SQL, rs -> {
+            consumer.accept(rs.getInt(1), rs.getInt(2), rs.getInt(3));
+        }, dueBy, projectId);
+    }
+
+    /**
+     * Average the cycle time (first IN_PROGRESS to completion) of the tasks completed by a project's members
+     * @param projectId The project whose members are read
+     * @param completedAfter Only tasks completed after this time count
+     * @param consumer Called once per member with at least one such task
+     */
+    public void forEachAverageCycleTime(Integer projectId, LocalDateTime completedAfter, CycleTimeConsumer consumer) {
+        jdbcTemplate.query(AVERAGE_CYCLE_TIMES_SQL, rs -> {
+            consumer.accept(rs.getInt(1), rs.getDouble(2));
+        }, projectId, Timestamp.valueOf(completedAfter));
+    }
+}
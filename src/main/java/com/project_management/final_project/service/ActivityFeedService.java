@@ -0,0 +1,61 @@
+package com.project_management.final_project.service;
+
+import com.project_management.final_project.dto.response.TaskHistoryResponse;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * Per-user activity feeds of task status changes, materialized in Redis.
+ * Entries are pushed when history is written (fan-out on write) with their message already formatted,
+ * so reading a feed is a single range read. Feeds hold the most recent entries only and are rebuilt
+ * from the database when missing.
+ */
+public interface ActivityFeedService {
+
+    enum Feed {
+        /** Changes to tasks of projects created by the user (project manager dashboard) */
+        PROJECTS("projects"),
+        /** Changes to tasks assigned to the user */
+        ASSIGNED("assigned");
+
+        private final String keyName;
+
+        Feed(String keyName) {
+            this.keyName = keyName;
+        }
+
+        public String getKeyName() {
+            return keyName;
+        }
+    }
+
+    /**
+     * Push a history entry to the feeds of the project creator and the task assignee, after the surrounding
+     * transaction commits
+     * @param entry The history entry with its formatted message
+     * @param projectOwnerId The ID of the user who created the task's project
+     * @param assigneeId The ID of the task assignee, or null if the task is unassigned
+     */
+    void publish(TaskHistoryResponse entry, Integer projectOwnerId, Integer assigneeId);
+
+    /**
+     * Drop feeds whose content no longer matches the database (e.g. tasks moved to another assignee),
+     * after the surrounding transaction commits. They are rebuilt on their next read.
+     * @param feed The feed type
+     * @param userIds The IDs of the feed owners
+     */
+    void evict(Feed feed, Collection<Integer> userIds);
+
+    /**
+     * Read the newest entries of a user's feed
+     * @param feed The feed type
+     * @param userId The ID of the feed owner
+     * @param limit Maximum number of entries to return
+     * @param loader Loads the given number of newest entries from the database, used when the feed is cold
+     *               or Redis is unavailable; it should read the primary, as its result backfills the feed
+     * @return The entries, newest first
+     */
+    List<TaskHistoryResponse> getFeed(Feed feed, Integer userId, int limit, IntFunction<List<TaskHistoryResponse>> loader);
+}
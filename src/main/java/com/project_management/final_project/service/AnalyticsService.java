@@ -0,0 +1,75 @@
+package com.project_management.final_project.service;
+
+import com.project_management.final_project.dto.response.BurndownPointResponse;
+import com.project_management.final_project.dto.response.CumulativeFlowPointResponse;
+import com.project_management.final_project.dto.response.FlowTimeSummaryResponse;
+import com.project_management.final_project.dto.response.PagedResponse;
+import com.project_management.final_project.dto.response.TaskFlowMetricResponse;
+import com.project_management.final_project.dto.response.ThroughputWeekResponse;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Project analytics derived from task_history: burndown, cumulative flow, throughput and lead/cycle times.
+ * Past days are read from daily snapshots persisted by a nightly job; only the days since the last
+ * snapshot are folded from the history on request.
+ * <p>
+ * Every request method is limited to the project's creator.
+ */
+public interface AnalyticsService {
+    /**
+     * Get the daily burndown of a project
+     * @param projectId The ID of the project
+     * @param from First day, defaults to 29 days before {@code to}
+     * @param to Last day, defaults to today
+     * @return One point per day
+     */
+    List<BurndownPointResponse> getBurndown(Integer projectId, LocalDate from, LocalDate to);
+
+    /**
+     * Get the daily cumulative flow (task count per status) of a project
+     * @param projectId The ID of the project
+     * @param from First day, defaults to 29 days before {@code to}
+     * @param to Last day, defaults to today
+     * @return One point per day
+     */
+    List<CumulativeFlowPointResponse> getCumulativeFlow(Integer projectId, LocalDate from, LocalDate to);
+
+    /**
+     * Get the number of tasks completed per week, the current week included
+     * @param projectId The ID of the project
+     * @param weeks Number of weeks
+     * @return One entry per week, oldest first
+     */
+    List<ThroughputWeekResponse> getWeeklyThroughput(Integer projectId, int weeks);
+
+    /**
+     * Get lead and cycle time statistics of the tasks completed within a date range
+     * @param projectId The ID of the project
+     * @param from First day, defaults to 29 days before {@code to}
+     * @param to Last day, defaults to today
+     * @return Lead and cycle time statistics
+     */
+    FlowTimeSummaryResponse getFlowTimes(Integer projectId, LocalDate from, LocalDate to);
+
+    /**
+     * Get lead and cycle time per completed task
+     * @param projectId The ID of the project
+     * @param pageable Pagination information
+     * @return Paged flow metrics
+     */
+    PagedResponse<TaskFlowMetricResponse> getTaskFlowMetrics(Integer projectId, Pageable pageable);
+
+    /**
+     * Rebuild all snapshots and flow metrics of a project from its full history
+     * @param projectId The ID of the project
+     */
+    void rebuildProject(Integer projectId);
+
+    /**
+     * Extend the snapshots and flow metrics of every project up to yesterday
+     */
+    void snapshotAllProjects();
+}
@@ -0,0 +1,30 @@
+package com.project_management.final_project.service;
+
+import com.project_management.final_project.dto.response.AssigneeRecommendationResponse;
+import com.project_management.final_project.dto.response.AutoAssignmentResponse;
+
+import java.util.List;
+
+/**
+ * Assignee recommendations balancing the team's workload.
+ * Members are ranked by their open work in the project, the requested specialization, how many of their
+ * tasks are overdue or due soon, and how quickly they have completed tasks before.
+ */
+public interface AssignmentRecommendationService {
+    /**
+     * Rank the team members of a project as assignees for new work
+     * @param projectId The ID of the project
+     * @param specializationId Members with this specialization rank higher, or null to ignore specializations
+     * @param limit Maximum number of members to return
+     * @return Members, best first
+     */
+    List<AssigneeRecommendationResponse> recommendAssignees(Integer projectId, Integer specializationId, int limit);
+
+    /**
+     * Assign the unassigned tasks of a project, most urgent first, each to the best ranked member at that point
+     * @param projectId The ID of the project
+     * @param specializationId Members with this specialization rank higher, or null to ignore specializations
+     * @return The assignments made
+     */
+    AutoAssignmentResponse autoAssignUnassignedTasks(Integer projectId, Integer specializationId);
+}
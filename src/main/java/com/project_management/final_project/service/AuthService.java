@@ -9,10 +9,12 @@ import com.project_management.final_project.entities.User;
 import io.jsonwebtoken.Claims;
 
 public interface AuthService {
-    String generateAccessToken(User user);
-    String generateRefreshToken(User user);
+    String generateAccessToken(User user, String sessionId);
+    String generateRefreshToken(User user, String sessionId);
     Claims validateToken(String token);
-    String refreshAccessToken(String refreshToken);
+    AuthResponse refreshAccessToken(String refreshToken);
+    void logout(Integer userId, String sessionId);
+    void logoutAllSessions(Integer userId);
     AuthResponse login(AuthRequest request);
     IntrospectResponse introspect(IntrospectRequest request);
     void resetPassword(ResetPasswordRequest request);
@@ -0,0 +1,38 @@
+package com.project_management.final_project.service;
+
+import java.util.Collection;
+
+/**
+ * Change counters kept in Redis, used to answer conditional GETs on list endpoints without querying MySQL.
+ * A project's counter moves whenever its tasks, members or details change; a user's counter moves
+ * whenever the set of projects they belong to changes. Counters are bumped after the surrounding
+ * transaction commits.
+ */
+public interface ChangeVersionService {
+    /**
+     * Record a change to a project's data (project details, tasks, task history)
+     * @param projectId The ID of the changed project
+     */
+    void projectChanged(Integer projectId);
+
+    /**
+     * Record that users joined or left a project
+     * @param projectId The ID of the project
+     * @param userIds The IDs of the users whose project set changed
+     */
+    void membershipChanged(Integer projectId, Collection<Integer> userIds);
+
+    /**
+     * Strong ETag for project-scoped lists (tasks, team members of one project)
+     * @param projectId The ID of the project
+     * @return The quoted entity tag, or null if the versions are unavailable
+     */
+    String projectETag(Integer projectId);
+
+    /**
+     * Strong ETag for lists spanning all projects of a user (my projects, recent history of my projects)
+     * @param userId The ID of the user
+     * @return The quoted entity tag, or null if the versions are unavailable
+     */
+    String userProjectsETag(Integer userId);
+}
@@ -0,0 +1,49 @@
+package com.project_management.final_project.service;
+
+import com.project_management.final_project.dto.request.ExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Streaming exports of tasks and task history for project managers.
+ * Rows are read through a forward-only JDBC cursor and written to the output as they arrive,
+ * so memory use does not depend on the size of the export.
+ */
+public interface ExportService {
+    /**
+     * Resolve and authorize the projects covered by an export.
+     * Must be called on the request thread, since it reads the current user.
+     * @param projectId A single project, or null for every project created by the current user
+     * @return The export scope
+     * @throws com.project_management.final_project.exception.AppException if the project does not exist
+     *         or was not created by the current user
+     */
+    ExportScope resolveScope(Integer projectId);
+
+    /**
+     * Write the tasks of the scope, one row per task
+     * @param scope The resolved scope
+     * @param format The output format
+     * @param out The stream to write to; it is flushed but not closed
+     * @return Number of rows written
+     * @throws IOException if writing to the stream fails
+     */
+    long writeTasks(ExportScope scope, ExportFormat format, OutputStream out) throws IOException;
+
+    /**
+     * Write the task history of the scope, one row per status change
+     * @param scope The resolved scope
+     * @param format The output format
+     * @param out The stream to write to; it is flushed but not closed
+     * @return Number of rows written
+     * @throws IOException if writing to the stream fails
+     */
+    long writeTaskHistory(ExportScope scope, ExportFormat format, OutputStream out) throws IOException;
+
+    /**
+     * Projects covered by an export: one project, or all projects created by the owner when projectId is null
+     */
+    record ExportScope(Integer ownerId, Integer projectId) {
+    }
+}
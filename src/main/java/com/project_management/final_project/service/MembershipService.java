@@ -0,0 +1,28 @@
+package com.project_management.final_project.service;
+
+import java.util.Collection;
+
+public interface MembershipService {
+    
+    /**
+     * Check if a user is a team member of a project
+     * @param userId The user ID
+     * @param projectId The project ID
+     * @return true if the user is a member of the project, false otherwise
+     */
+    boolean isMember(Integer userId, Integer projectId);
+    
+    /**
+     * Get the IDs of all projects a user is a team member of
+     * @param userId The user ID
+     * @return Sorted array of project IDs
+     */
+    int[] getProjectIds(Integer userId);
+    
+    /**
+     * Drop cached memberships for the given users once the current transaction commits
+     * (immediately when no transaction is active), on this node and on all other nodes
+     * @param userIds The IDs of the users whose memberships changed
+     */
+    void invalidate(Collection<Integer> userIds);
+}
@@ -0,0 +1,24 @@
+package com.project_management.final_project.service;
+
+import com.project_management.final_project.entities.Task;
+
+import java.util.Collection;
+
+/**
+ * Task notifications mailed as digests. Events are buffered per recipient for a short window, so a burst of
+ * changes (e.g. auto-assigning hundreds of tasks) becomes one mail per recipient.
+ */
+public interface NotificationService {
+    /**
+     * Notify the assignees of tasks that were just assigned. Inside a transaction the notifications are
+     * queued only once it commits
+     * @param tasks Tasks with their new assignee and project loaded or loadable
+     */
+    void tasksAssigned(Collection<Task> tasks);
+
+    /**
+     * Queue a reminder to the assignee of every open task that is due soon or overdue
+     * @return Number of reminders queued
+     */
+    int sendDueReminders();
+}
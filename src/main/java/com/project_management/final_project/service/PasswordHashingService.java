@@ -0,0 +1,26 @@
+package com.project_management.final_project.service;
+
+public interface PasswordHashingService {
+    
+    /**
+     * Check a raw password against a stored hash on the password hashing executor
+     * @param rawPassword The password entered by the user
+     * @param encodedPassword The stored password hash
+     * @return true if the password matches, false otherwise
+     */
+    boolean matches(CharSequence rawPassword, String encodedPassword);
+    
+    /**
+     * Hash a password on the password hashing executor
+     * @param rawPassword The password to hash
+     * @return The password hash
+     */
+    String encode(CharSequence rawPassword);
+    
+    /**
+     * Check if a stored hash was created with weaker settings than currently configured
+     * @param encodedPassword The stored password hash
+     * @return true if the password should be re-hashed
+     */
+    boolean needsRehash(String encodedPassword);
+}
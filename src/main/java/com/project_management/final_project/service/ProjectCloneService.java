@@ -0,0 +1,25 @@
+package com.project_management.final_project.service;
+
+import com.project_management.final_project.dto.request.CloneProjectRequest;
+import com.project_management.final_project.dto.response.ProjectCloneJobResponse;
+
+/**
+ * Copies of a project with its team members and tasks, made by background jobs with set-based SQL.
+ * Job progress is kept in Redis, so any node can report it.
+ */
+public interface ProjectCloneService {
+    /**
+     * Start copying a project created by the current user
+     * @param sourceProjectId The ID of the project to copy
+     * @param request The name of the copy and what to copy
+     * @return The queued job
+     */
+    ProjectCloneJobResponse startClone(Integer sourceProjectId, CloneProjectRequest request);
+
+    /**
+     * Get the progress of a clone job started by the current user
+     * @param jobId The ID of the job
+     * @return The job
+     */
+    ProjectCloneJobResponse getJob(String jobId);
+}
@@ -67,9 +67,10 @@ public interface ProjectService {
      * @param search Optional search term
      * @param page Page number
      * @param size Page size
+     * @param includeTotal Whether to compute the total count (false skips the count query)
      * @return A paged response of project dropdown items
      */
-    PagedResponse<ProjectDropdownResponse> getMyProjectsForDropdown(String search, Integer page, Integer size);
+    PagedResponse<ProjectDropdownResponse> getMyProjectsForDropdown(String search, Integer page, Integer size, boolean includeTotal);
     
     /**
      * Update an existing project and return all projects
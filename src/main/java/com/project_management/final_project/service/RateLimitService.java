@@ -0,0 +1,14 @@
+package com.project_management.final_project.service;
+
+import com.project_management.final_project.config.RateLimitPolicy;
+
+public interface RateLimitService {
+    
+    /**
+     * Take one token from the bucket of a policy and key
+     * @param policy The rate limit policy
+     * @param key The caller identity the policy applies to (IP address, email, route)
+     * @throws com.project_management.final_project.exception.RateLimitException if the bucket is empty
+     */
+    void consume(RateLimitPolicy policy, String key);
+}
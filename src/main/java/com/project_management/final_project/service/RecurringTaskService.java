@@ -0,0 +1,45 @@
+package com.project_management.final_project.service;
+
+import com.project_management.final_project.dto.request.RecurringTaskTemplateRequest;
+import com.project_management.final_project.dto.response.RecurringTaskTemplateResponse;
+
+import java.util.List;
+
+/**
+ * Recurring task templates and the creation of their tasks.
+ * Each occurrence of a template's cron expression becomes one task of the project, created ahead of time
+ * by whichever node's timer reaches it first.
+ */
+public interface RecurringTaskService {
+    /**
+     * Get the recurring task templates of a project
+     * @param projectId The ID of the project
+     * @return Templates, oldest first
+     */
+    List<RecurringTaskTemplateResponse> getTemplates(Integer projectId);
+
+    /**
+     * Create a recurring task template; occurrences start after the current time
+     * @param projectId The ID of the project
+     * @param request The template
+     * @return The created template
+     */
+    RecurringTaskTemplateResponse createTemplate(Integer projectId, RecurringTaskTemplateRequest request);
+
+    /**
+     * Replace a template; changes apply to tasks not created yet. A new expression, or resuming a paused
+     * template, restarts occurrences after the current time
+     * @param projectId The ID of the project
+     * @param templateId The ID of the template
+     * @param request The template
+     * @return The updated template
+     */
+    RecurringTaskTemplateResponse updateTemplate(Integer projectId, Integer templateId, RecurringTaskTemplateRequest request);
+
+    /**
+     * Delete a template; tasks already created are kept
+     * @param projectId The ID of the project
+     * @param templateId The ID of the template
+     */
+    void deleteTemplate(Integer projectId, Integer templateId);
+}
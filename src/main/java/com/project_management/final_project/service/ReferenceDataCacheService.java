@@ -0,0 +1,19 @@
+package com.project_management.final_project.service;
+
+import com.project_management.final_project.dto.response.CacheRegionStatisticsResponse;
+
+import java.util.List;
+
+public interface ReferenceDataCacheService {
+    /**
+     * Evicts all second-level cache regions on this node and asks every other node to do the same.
+     * Needed after roles, permissions, modules or specializations are changed outside a Flyway migration.
+     */
+    void evictAll();
+
+    /**
+     * Hit, miss and size figures of every second-level cache region on this node
+     * @return One entry per region
+     */
+    List<CacheRegionStatisticsResponse> getStatistics();
+}
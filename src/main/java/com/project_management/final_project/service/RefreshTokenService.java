@@ -0,0 +1,33 @@
+package com.project_management.final_project.service;
+
+public interface RefreshTokenService {
+    
+    /**
+     * Register a newly issued refresh token as the current token of its session
+     * @param tokenId The refresh token ID (jti claim)
+     * @param userId The ID of the user the token belongs to
+     * @param sessionId The session ID (sid claim)
+     * @param ttlMillis Time until the token expires, in milliseconds
+     */
+    void register(String tokenId, Integer userId, String sessionId, long ttlMillis);
+    
+    /**
+     * Consume a refresh token; each token can be consumed only once
+     * @param tokenId The refresh token ID (jti claim)
+     * @return The session ID the token belonged to, or null if it was already used, revoked or expired
+     */
+    String consume(String tokenId);
+    
+    /**
+     * Revoke a single session of a user (logout)
+     * @param userId The user ID
+     * @param sessionId The session ID
+     */
+    void revokeSession(Integer userId, String sessionId);
+    
+    /**
+     * Revoke all sessions of a user
+     * @param userId The user ID
+     */
+    void revokeAllSessions(Integer userId);
+}
@@ -0,0 +1,28 @@
+package com.project_management.final_project.service;
+
+import com.project_management.final_project.dto.response.TaskTransitionCountResponse;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Keeps task_history limited to a recent window. Older rows are counted into per-project daily rollups
+ * and moved to the task_history_archive table, so queries on recent history only scan recent rows.
+ */
+public interface TaskHistoryRetentionService {
+    /**
+     * Move history rows older than the retention period to the rollups and the archive, in chunks
+     * @return Number of rows archived
+     */
+    long archiveExpiredHistory();
+
+    /**
+     * Get the number of status transitions per day and (old, new) status pair of a project,
+     * for archived and recent days alike
+     * @param projectId The ID of the project
+     * @param from First day
+     * @param to Last day
+     * @return Transition counts ordered by day
+     */
+    List<TaskTransitionCountResponse> getDailyTransitions(Integer projectId, LocalDate from, LocalDate to);
+}
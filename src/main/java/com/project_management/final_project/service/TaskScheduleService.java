@@ -0,0 +1,69 @@
+package com.project_management.final_project.service;
+
+import com.project_management.final_project.dto.request.AddTaskDependencyRequest;
+import com.project_management.final_project.dto.response.ProjectScheduleResponse;
+import com.project_management.final_project.dto.response.TaskDependencyResponse;
+import com.project_management.final_project.dto.response.TaskScheduleResponse;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Task dependencies and the critical path schedule derived from them.
+ * Each project's schedule is computed in memory from the tasks' planned dates and finish-to-start links,
+ * cached per node and kept current across nodes through a change counter in Redis.
+ */
+public interface TaskScheduleService {
+    /**
+     * Get the schedule summary of a project with one critical path
+     * @param projectId The ID of the project
+     * @return The schedule summary
+     */
+    ProjectScheduleResponse getProjectSchedule(Integer projectId);
+
+    /**
+     * Get the computed dates and slack of one task
+     * @param projectId The ID of the project
+     * @param taskId The ID of the task
+     * @return The task's schedule
+     */
+    TaskScheduleResponse getTaskSchedule(Integer projectId, Integer taskId);
+
+    /**
+     * Get the dependencies of a project
+     * @param projectId The ID of the project
+     * @return Dependencies, oldest first
+     */
+    List<TaskDependencyResponse> getDependencies(Integer projectId);
+
+    /**
+     * Make one task of a project depend on another; links that would create a cycle are rejected
+     * @param projectId The ID of the project
+     * @param request The predecessor and successor task IDs
+     * @return The created dependency
+     */
+    TaskDependencyResponse addDependency(Integer projectId, AddTaskDependencyRequest request);
+
+    /**
+     * Remove a dependency
+     * @param projectId The ID of the project
+     * @param dependencyId The ID of the dependency
+     */
+    void removeDependency(Integer projectId, Long dependencyId);
+
+    /**
+     * Record that tasks or dependencies of a project were added or removed, after the surrounding transaction commits
+     * @param projectId The ID of the project
+     */
+    void scheduleChanged(Integer projectId);
+
+    /**
+     * Record new planned dates of a task, after the surrounding transaction commits.
+     * Cached schedules that are up to date apply the change incrementally.
+     * @param projectId The ID of the project
+     * @param taskId The ID of the task
+     * @param startDate The new start date, or null
+     * @param dueDate The new due date, or null
+     */
+    void taskDatesChanged(Integer projectId, Integer taskId, LocalDate startDate, LocalDate dueDate);
+}
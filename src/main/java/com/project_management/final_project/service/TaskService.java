@@ -41,9 +41,10 @@ public interface TaskService {
      * Assign a task to a team member
      * @param taskId The ID of the task to assign
      * @param request The assignment request containing the user ID
+     * @param expectedVersion The version the client last saw (If-Match), or null to skip the check
      * @return The updated task
      */
-    TaskResponse assignTask(Integer taskId, AssignTaskRequest request);
+    TaskResponse assignTask(Integer taskId, AssignTaskRequest request, Integer expectedVersion);
     
     /**
      * Get all tasks assigned to the current user for a specific project
@@ -71,9 +72,11 @@ public interface TaskService {
      * @param taskId The ID of the task to update
      * @param projectId The ID of the project the task belongs to
      * @param request The status update request
+     * @param expectedVersion The version the client last saw (If-Match), or null to apply the change
+     *                        to the latest state, retrying if a concurrent update wins the race
      * @return The updated task
      */
-    TaskResponse updateTaskStatus(Integer taskId, Integer projectId, UpdateTaskStatusRequest request);
+    TaskResponse updateTaskStatus(Integer taskId, Integer projectId, UpdateTaskStatusRequest request, Integer expectedVersion);
     
     /**
      * Get all tasks for a project with filtering options
@@ -95,7 +98,8 @@ public interface TaskService {
      * @param taskId The ID of the task to update
      * @param projectId The ID of the project the task belongs to
      * @param request The task update request
+     * @param expectedVersion The version the client last saw (If-Match), or null to skip the check
      * @return List of all tasks in the project including the updated task
      */
-    List<ProjectTaskResponse> updateTask(Integer taskId, Integer projectId, UpdateTaskRequest request);
+    List<ProjectTaskResponse> updateTask(Integer taskId, Integer projectId, UpdateTaskRequest request, Integer expectedVersion);
 } 
\ No newline at end of file
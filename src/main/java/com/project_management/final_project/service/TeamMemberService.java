@@ -7,6 +7,7 @@ import com.project_management.final_project.dto.response.TeamMemberWithWorkloadR
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.io.InputStream;
 import java.util.List;
 
 public interface TeamMemberService {
@@ -19,6 +20,14 @@ public interface TeamMemberService {
      */
     int addTeamMembers(Integer projectId, List<AddTeamMemberRequest> requests);
     
+    /**
+     * Import team members into a project from a CSV roster
+     * @param projectId The ID of the project to add members to
+     * @param roster CSV content with one "email,specialization" line per member
+     * @return Number of team members added
+     */
+    int importTeamMembers(Integer projectId, InputStream roster);
+    
     /**
      * Get team members for a project with filtering
      * @param projectId The ID of the project to get members for
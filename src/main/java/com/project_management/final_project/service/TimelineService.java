@@ -0,0 +1,54 @@
+package com.project_management.final_project.service;
+
+import com.project_management.final_project.dto.response.TimelineResponse;
+
+import java.time.LocalDate;
+
+/**
+ * Timeline (Gantt) views: the tasks whose planned dates overlap a date range, with per-day or per-week counts.
+ * Project timelines are answered from an interval index over the project's task dates, cached per node and
+ * kept current through a change counter in Redis.
+ */
+public interface TimelineService {
+    /**
+     * Bucket size of the counts in a timeline
+     */
+    enum Bucket {
+        DAY,
+        WEEK
+    }
+
+    /**
+     * Get the timeline of a project
+     * @param projectId The ID of the project
+     * @param from First day of the range
+     * @param to Last day of the range
+     * @param bucket Bucket size of the counts
+     * @return Tasks overlapping the range in start order, and counts per bucket
+     */
+    TimelineResponse getProjectTimeline(Integer projectId, LocalDate from, LocalDate to, Bucket bucket);
+
+    /**
+     * Get the timeline of the tasks assigned to the current user, across their projects
+     * @param from First day of the range
+     * @param to Last day of the range
+     * @param bucket Bucket size of the counts
+     * @return Tasks overlapping the range in start order, and counts per bucket
+     */
+    TimelineResponse getMyTimeline(LocalDate from, LocalDate to, Bucket bucket);
+
+    /**
+     * Record that tasks were added to a project; cached indexes of the project are dropped after commit
+     * @param projectId The ID of the project
+     */
+    void tasksChanged(Integer projectId);
+
+    /**
+     * Record new planned dates of a task; they are applied to this node's cached index after commit
+     * @param projectId The ID of the project
+     * @param taskId The ID of the task
+     * @param startDate The new start date, or null
+     * @param dueDate The new due date, or null
+     */
+    void taskDatesChanged(Integer projectId, Integer taskId, LocalDate startDate, LocalDate dueDate);
+}
@@ -0,0 +1,19 @@
+package com.project_management.final_project.service;
+
+import java.util.Collection;
+
+public interface TokenRevocationService {
+    
+    /**
+     * Revoke login sessions so that access tokens carrying their session ID are rejected
+     * @param sessionIds The session IDs to revoke
+     */
+    void revokeSessions(Collection<String> sessionIds);
+    
+    /**
+     * Check if a session has been revoked
+     * @param sessionId The session ID from the token's sid claim
+     * @return true if the session is revoked, false otherwise
+     */
+    boolean isSessionRevoked(String sessionId);
+}
@@ -0,0 +1,211 @@
+package com.project_management.final_project.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project_management.final_project.dto.response.TaskHistoryResponse;
+import com.project_management.final_project.service.ActivityFeedService;
+import com.project_management.final_project.util.TransactionUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * Activity feeds stored as capped Redis lists of JSON entries (activity-feed:{feed}:{userId}), newest first.
+ * Each feed has a sequence counter that moves on every push and eviction. A cold read loads the feed from
+ * the database and stores it only if the sequence did not move meanwhile, so a backfill can never
+ * overwrite an entry pushed while it was loading. Pushes only extend feeds that are already materialized.
+ * A feed with no entries is materialized as a single empty-string entry, so it is not reloaded on every read.
+ * If Redis is unavailable, reads fall through to the database and pushes are dropped.
+ */
+@Service
+public class ActivityFeedServiceImpl implements ActivityFeedService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ActivityFeedServiceImpl.class);
+    private static final String KEY_PREFIX = "activity-feed:";
+    private static final String SEQUENCE_SUFFIX = ":seq";
+    // Only entry of a feed that is materialized but empty; pushes go in front of it
+    private static final String EMPTY_MARKER = "";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final DefaultRedisScript<Long> pushScript;
+    private final DefaultRedisScript<Long> backfillScript;
+
+    @Value("${activity-feed.capacity:50}")
+    private int capacity;
+
+    @Value("${activity-feed.ttl-days:30}")
+    private long ttlDays;
+
+    @Autowired
+    public ActivityFeedServiceImpl(StringRedisTemplate stringRedisTemplate, ObjectMapper objectMapper) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.pushScript = new DefaultRedisScript<>();
+        this.pushScript.setLocation(new ClassPathResource("scripts/activity_feed_push.lua"));
+        this.pushScript.setResultType(Long.class);
+        this.backfillScript = new DefaultRedisScript<>();
+        this.backfillScript.setLocation(new ClassPathResource("scripts/activity_feed_backfill.lua"));
+        this.backfillScript.setResultType(Long.class);
+    }
+
+    @Override
+    public void publish(TaskHistoryResponse entry, Integer projectOwnerId, Integer assigneeId) {
+        List<String> targets = new ArrayList<>(2);
+        if (projectOwnerId != null) {
+            targets.add(feedKey(Feed.PROJECTS, projectOwnerId));
+        }
+        if (assigneeId != null) {
+            targets.add(feedKey(Feed.ASSIGNED, assigneeId));
+        }
+        if (targets.isEmpty()) {
+            return;
+        }
+
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(entry);
+        } catch (JsonProcessingException e) {
+            logger.warn("Failed to serialize activity feed entry {}: {}", entry.getId(), e.getMessage());
+            return;
+        }
+        TransactionUtil.afterCommit(() -> {
+            for (String feedKey : targets) {
+                push(feedKey, json);
+            }
+        });
+    }
+
+    @Override
+    public void evict(Feed feed, Collection<Integer> userIds) {
+        List<String> feedKeys = new ArrayList<>(userIds.size());
+        for (Integer userId : userIds) {
+            if (userId != null) {
+                feedKeys.add(feedKey(feed, userId));
+            }
+        }
+        if (!feedKeys.isEmpty()) {
+            TransactionUtil.afterCommit(() -> delete(feedKeys));
+        }
+    }
+
+    @Override
+    public List<TaskHistoryResponse> getFeed(Feed feed, Integer userId, int limit,
+                                             IntFunction<List<TaskHistoryResponse>> loader) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        if (limit > capacity) {
+            // Feeds only keep the newest entries
+            return loader.apply(limit);
+        }
+
+        String feedKey = feedKey(feed, userId);
+        String sequenceKey = feedKey + SEQUENCE_SUFFIX;
+        String sequence;
+        try {
+            List<String> cached = stringRedisTemplate.opsForList().range(feedKey, 0, limit - 1);
+            if (cached != null && !cached.isEmpty()) {
+                List<TaskHistoryResponse> entries = deserialize(cached);
+                if (entries != null) {
+                    return entries;
+                }
+                // Unreadable entries (e.g. written by an older version): rebuild the feed
+                delete(List.of(feedKey));
+            }
+            sequence = stringRedisTemplate.opsForValue().get(sequenceKey);
+        } catch (Exception e) {
+            logger.warn("Activity feed {} unavailable: {}", feedKey, e.getMessage());
+            return loader.apply(limit);
+        }
+
+        List<TaskHistoryResponse> entries = loader.apply(capacity);
+        backfill(feedKey, sequenceKey, sequence, entries);
+        return entries.size() > limit ? entries.subList(0, limit) : entries;
+    }
+
+    private void push(String feedKey, String json) {
+        try {
+            stringRedisTemplate.execute(pushScript, List.of(feedKey, feedKey + SEQUENCE_SUFFIX),
+                    json, String.valueOf(capacity), String.valueOf(ttlSeconds()));
+        } catch (Exception e) {
+            // The sequence did not move either, so a concurrent backfill may miss this entry until the TTL
+            logger.warn("Failed to push to activity feed {}: {}", feedKey, e.getMessage());
+        }
+    }
+
+    private void backfill(String feedKey, String sequenceKey, String sequence, List<TaskHistoryResponse> entries) {
+        List<String> args = new ArrayList<>(entries.size() + 2);
+        args.add(sequence != null ? sequence : "");
+        args.add(String.valueOf(ttlSeconds()));
+        try {
+            for (TaskHistoryResponse entry : entries) {
+                args.add(objectMapper.writeValueAsString(entry));
+            }
+            Long stored = stringRedisTemplate.execute(backfillScript, List.of(feedKey, sequenceKey), args.toArray());
+            if (stored == null || stored == 0L) {
+                logger.debug("Skipped backfill of activity feed {}: it changed while loading", feedKey);
+            }
+        } catch (Exception e) {
+            logger.warn("Failed to backfill activity feed {}: {}", feedKey, e.getMessage());
+        }
+    }
+
+    private void delete(List<String> feedKeys) {
+        long ttlSeconds = ttlSeconds();
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (String feedKey : feedKeys) {
+                    byte[] rawSequenceKey = (feedKey + SEQUENCE_SUFFIX).getBytes(StandardCharsets.UTF_8);
+                    // Move the sequence first so in-flight backfills loaded before the change are discarded
+                    connection.stringCommands().incr(rawSequenceKey);
+                    connection.keyCommands().expire(rawSequenceKey, ttlSeconds);
+                    connection.keyCommands().del(feedKey.getBytes(StandardCharsets.UTF_8));
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            logger.warn("Failed to evict activity feeds {}: {}", feedKeys, e.getMessage());
+        }
+    }
+
+    /**
+     * @return The entries in list order, without the empty marker, or null if any of them cannot be read
+     */
+    private List<TaskHistoryResponse> deserialize(List<String> cached) {
+        List<TaskHistoryResponse> entries = new ArrayList<>(cached.size());
+        for (String json : cached) {
+            if (EMPTY_MARKER.equals(json)) {
+                continue;
+            }
+            try {
+                entries.add(objectMapper.readValue(json, TaskHistoryResponse.class));
+            } catch (JsonProcessingException e) {
+                logger.warn("Unreadable activity feed entry: {}", e.getMessage());
+                return null;
+            }
+        }
+        return entries;
+    }
+
+    private long ttlSeconds() {
+        return Duration.ofDays(ttlDays).toSeconds();
+    }
+
+    private static String feedKey(Feed feed, Integer userId) {
+        return KEY_PREFIX + feed.getKeyName() + ":" + userId;
+    }
+}
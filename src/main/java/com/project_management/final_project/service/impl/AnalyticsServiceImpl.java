@@ -0,0 +1,334 @@
+package com.project_management.final_project.service.impl;
+
+import com.project_management.final_project.config.SecurityUtil;
+import com.project_management.final_project.dto.response.BurndownPointResponse;
+import com.project_management.final_project.dto.response.CumulativeFlowPointResponse;
+import com.project_management.final_project.dto.response.DurationStatisticsResponse;
+import com.project_management.final_project.dto.response.FlowTimeSummaryResponse;
+import com.project_management.final_project.dto.response.PagedResponse;
+import com.project_management.final_project.dto.response.TaskFlowMetricResponse;
+import com.project_management.final_project.dto.response.ThroughputWeekResponse;
+import com.project_management.final_project.entities.Project;
+import com.project_management.final_project.entities.ProjectDailySnapshot;
+import com.project_management.final_project.entities.TaskFlowMetric;
+import com.project_management.final_project.exception.AppException;
+import com.project_management.final_project.exception.ErrorCode;
+import com.project_management.final_project.repository.AnalyticsRepository;
+import com.project_management.final_project.repository.ProjectDailySnapshotRepository;
+import com.project_management.final_project.repository.ProjectRepository;
+import com.project_management.final_project.repository.TaskFlowMetricRepository;
+import com.project_management.final_project.service.AnalyticsService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Service
+public class AnalyticsServiceImpl implements AnalyticsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AnalyticsServiceImpl.class);
+    private static final String SNAPSHOT_JOB_LOCK_KEY = "analytics:snapshot-job:lock";
+    private static final int DEFAULT_RANGE_DAYS = 30;
+    private static final int MAX_THROUGHPUT_WEEKS = 104;
+
+    private final AnalyticsRepository analyticsRepository;
+    private final ProjectDailySnapshotRepository snapshotRepository;
+    private final TaskFlowMetricRepository taskFlowMetricRepository;
+    private final ProjectRepository projectRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final SecurityUtil securityUtil;
+    private final TransactionTemplate writeTransaction;
+    private final TransactionTemplate readOnlyTransaction;
+
+    @Value("${analytics.max-range-days:366}")
+    private int maxRangeDays;
+
+    @Value("${analytics.snapshot.lock-ttl-minutes:60}")
+    private long snapshotLockTtlMinutes;
+
+    @Autowired
+    public AnalyticsServiceImpl(
+            AnalyticsRepository analyticsRepository,
+            ProjectDailySnapshotRepository snapshotRepository,
+            TaskFlowMetricRepository taskFlowMetricRepository,
+            ProjectRepository projectRepository,
+            StringRedisTemplate stringRedisTemplate,
+            SecurityUtil securityUtil,
+            PlatformTransactionManager transactionManager) {
+        this.analyticsRepository = analyticsRepository;
+        this.snapshotRepository = snapshotRepository;
+        this.taskFlowMetricRepository = taskFlowMetricRepository;
+        this.projectRepository = projectRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.securityUtil = securityUtil;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public List<BurndownPointResponse> getBurndown(Integer projectId, LocalDate from, LocalDate to) {
+        LocalDate[] range = resolveRange(projectId, from, to);
+        return dailySnapshots(projectId, range[0], range[1]).stream()
+                .map(BurndownPointResponse::fromSnapshot)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<CumulativeFlowPointResponse> getCumulativeFlow(Integer projectId, LocalDate from, LocalDate to) {
+        LocalDate[] range = resolveRange(projectId, from, to);
+        return dailySnapshots(projectId, range[0], range[1]).stream()
+                .map(CumulativeFlowPointResponse::fromSnapshot)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<ThroughputWeekResponse> getWeeklyThroughput(Integer projectId, int weeks) {
+        if (weeks < 1 || weeks > MAX_THROUGHPUT_WEEKS) {
+            throw new AppException(ErrorCode.INVALID_REQUEST, "Weeks must be between 1 and " + MAX_THROUGHPUT_WEEKS);
+        }
+        checkOwner(projectId, "view the analytics of");
+
+        LocalDate today = LocalDate.now();
+        LocalDate firstWeek = today.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).minusWeeks(weeks - 1);
+        int[] completed = new int[weeks];
+        for (ProjectDailySnapshot snapshot : dailySnapshots(projectId, firstWeek, today)) {
+            completed[(int) (ChronoUnit.DAYS.between(firstWeek, snapshot.getSnapshotDate()) / 7)] += snapshot.getCompletedToday();
+        }
+
+        List<ThroughputWeekResponse> throughput = new ArrayList<>(weeks);
+        for (int week = 0; week < weeks; week++) {
+            throughput.add(new ThroughputWeekResponse(firstWeek.plusWeeks(week), completed[week]));
+        }
+        return throughput;
+    }
+
+    @Override
+    public FlowTimeSummaryResponse getFlowTimes(Integer projectId, LocalDate from, LocalDate to) {
+        LocalDate[] range = resolveRange(projectId, from, to);
+        List<TaskFlowMetric> metrics = taskFlowMetricRepository.findByProjectIdAndCompletedAtBetween(
+                projectId, range[0].atStartOfDay(), range[1].atTime(LocalTime.MAX));
+
+        return FlowTimeSummaryResponse.builder()
+                .completedTasks(metrics.size())
+                .leadTime(statistics(metrics.stream().map(TaskFlowMetric::getLeadTime)))
+                .cycleTime(statistics(metrics.stream().map(TaskFlowMetric::getCycleTime)))
+                .build();
+    }
+
+    @Override
+    public PagedResponse<TaskFlowMetricResponse> getTaskFlowMetrics(Integer projectId, Pageable pageable) {
+        checkOwner(projectId, "view the analytics of");
+        return PagedResponse.fromPage(taskFlowMetricRepository
+                .findByProjectIdAndCompletedAtIsNotNull(projectId, pageable)
+                .map(TaskFlowMetricResponse::fromEntity));
+    }
+
+    @Override
+    public void rebuildProject(Integer projectId) {
+        checkOwner(projectId, "rebuild the analytics of");
+        rebuild(projectId);
+    }
+
+    /**
+     * Replace a project's snapshots and flow metrics with ones folded from its whole history; callers
+     * check access, the nightly job runs without a user
+     */
+    private void rebuild(Integer projectId) {
+        long start = System.currentTimeMillis();
+        LocalDate today = LocalDate.now();
+        int days = Objects.requireNonNullElse(writeTransaction.execute(status -> {
+            analyticsRepository.deleteProjectAnalytics(projectId);
+            LocalDate firstDay = analyticsRepository.findFirstTaskDate(projectId);
+            if (firstDay == null) {
+                return 0;
+            }
+            ProjectFlowFold fold = new ProjectFlowFold(projectId, firstDay, today);
+            analyticsRepository.streamFlowEvents(projectId, firstDay.atStartOfDay(), fold::accept);
+            List<ProjectDailySnapshot> snapshots = fold.snapshots(ProjectFlowFold.countsOf(null));
+            analyticsRepository.upsertSnapshots(snapshots);
+            analyticsRepository.upsertFlowMetrics(fold.flowMetrics());
+            return snapshots.size();
+        }), 0);
+        logger.info("Rebuilt {} daily snapshots for project ID {} in {} ms",
+                days, projectId, System.currentTimeMillis() - start);
+    }
+
+    @Override
+    @Scheduled(cron = "${analytics.snapshot.cron:0 15 0 * * *}")
+    public void snapshotAllProjects() {
+        String lockValue = UUID.randomUUID().toString();
+        if (!acquireSnapshotLock(lockValue)) {
+            logger.info("Daily analytics snapshot is already running on another node");
+            return;
+        }
+        try {
+            List<Integer> projectIds = analyticsRepository.findProjectIdsWithTasks();
+            int failed = 0;
+            for (Integer projectId : projectIds) {
+                try {
+                    snapshotProject(projectId);
+                } catch (Exception e) {
+                    // One broken project must not hold back the others; it is caught up on the next run
+                    failed++;
+                    logger.error("Failed to snapshot analytics of project ID {}: {}", projectId, e.getMessage(), e);
+                }
+            }
+            logger.info("Daily analytics snapshot finished for {} projects ({} failed)", projectIds.size(), failed);
+        } finally {
+            releaseSnapshotLock(lockValue);
+        }
+    }
+
+    /**
+     * Fold the days between the project's latest snapshot and today into new snapshots
+     */
+    private void snapshotProject(Integer projectId) {
+        ProjectDailySnapshot latest = snapshotRepository.findTopByProjectIdOrderBySnapshotDateDesc(projectId).orElse(null);
+        if (latest == null) {
+            rebuild(projectId);
+            return;
+        }
+        LocalDate from = latest.getSnapshotDate().plusDays(1);
+        LocalDate today = LocalDate.now();
+        if (!from.isBefore(today)) {
+            return;
+        }
+        writeTransaction.executeWithoutResult(status -> {
+            ProjectFlowFold fold = new ProjectFlowFold(projectId, from, today);
+            analyticsRepository.streamFlowEvents(projectId, from.atStartOfDay(), fold::accept);
+            analyticsRepository.upsertSnapshots(fold.snapshots(ProjectFlowFold.countsOf(latest)));
+            analyticsRepository.upsertFlowMetrics(fold.flowMetrics());
+        });
+    }
+
+    /**
+     * Snapshots for every day of the range: persisted days are read as they are, days since the latest
+     * snapshot (today, or more if the nightly job is behind) are folded from the history without being stored
+     */
+    private List<ProjectDailySnapshot> dailySnapshots(Integer projectId, LocalDate from, LocalDate to) {
+        LocalDate today = LocalDate.now();
+        ProjectDailySnapshot latest = snapshotRepository.findTopByProjectIdOrderBySnapshotDateDesc(projectId).orElse(null);
+        if (latest == null) {
+            LocalDate firstTaskDate = analyticsRepository.findFirstTaskDate(projectId);
+            if (firstTaskDate != null && firstTaskDate.isBefore(today)) {
+                // Never snapshotted: build the snapshots once rather than folding the whole history on every request
+                rebuild(projectId);
+                latest = snapshotRepository.findTopByProjectIdOrderBySnapshotDateDesc(projectId).orElse(null);
+            }
+        }
+
+        List<ProjectDailySnapshot> snapshots = new ArrayList<>(
+                snapshotRepository.findByProjectIdAndSnapshotDateBetweenOrderBySnapshotDateAsc(projectId, from, to));
+
+        // With no snapshot at all, the project has no tasks from before today
+        LocalDate tailFrom = latest != null ? latest.getSnapshotDate().plusDays(1) : today;
+        LocalDate tailTo = to.isAfter(today) ? today : to;
+        if (!tailFrom.isAfter(tailTo)) {
+            ProjectFlowFold fold = new ProjectFlowFold(projectId, tailFrom, tailTo.plusDays(1));
+            readOnlyTransaction.executeWithoutResult(status ->
+                    analyticsRepository.streamFlowEvents(projectId, tailFrom.atStartOfDay(), fold::accept));
+            for (ProjectDailySnapshot snapshot : fold.snapshots(ProjectFlowFold.countsOf(latest))) {
+                if (!snapshot.getSnapshotDate().isBefore(from)) {
+                    snapshots.add(snapshot);
+                }
+            }
+        }
+        return snapshots;
+    }
+
+    /**
+     * Apply the default range and check it, and that the current user owns the project
+     * @return The first and last day
+     */
+    private LocalDate[] resolveRange(Integer projectId, LocalDate from, LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_RANGE_DAYS - 1);
+        if (start.isAfter(end)) {
+            throw new AppException(ErrorCode.INVALID_REQUEST, "The start date must not be after the end date");
+        }
+        if (ChronoUnit.DAYS.between(start, end) >= maxRangeDays) {
+            throw new AppException(ErrorCode.INVALID_REQUEST, "The date range must not exceed " + maxRangeDays + " days");
+        }
+        checkOwner(projectId, "view the analytics of");
+        return new LocalDate[]{start, end};
+    }
+
+    private void checkOwner(Integer projectId, String action) {
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "Project not found with ID: " + projectId));
+        Integer currentUserId = securityUtil.getCurrentUserId();
+        if (!project.getCreatedBy().getId().equals(currentUserId)) {
+            logger.warn("User ID {} attempted to {} project ID {} created by user ID {}",
+                    currentUserId, action, projectId, project.getCreatedBy().getId());
+            throw new AppException(ErrorCode.UNAUTHORIZED, "You are not authorized to " + action + " this project");
+        }
+    }
+
+    /**
+     * Average and nearest-rank percentiles of the given durations, nulls ignored
+     */
+    private static DurationStatisticsResponse statistics(Stream<Duration> durations) {
+        long[] minutes = durations.filter(Objects::nonNull).mapToLong(Duration::toMinutes).sorted().toArray();
+        if (minutes.length == 0) {
+            return DurationStatisticsResponse.builder().count(0).build();
+        }
+        return DurationStatisticsResponse.builder()
+                .count(minutes.length)
+                .averageHours(toHours(Arrays.stream(minutes).average().orElse(0)))
+                .p50Hours(toHours(percentile(minutes, 50)))
+                .p85Hours(toHours(percentile(minutes, 85)))
+                .p95Hours(toHours(percentile(minutes, 95)))
+                .build();
+    }
+
+    private static long percentile(long[] sorted, int percent) {
+        int rank = (int) Math.ceil(percent / 100.0 * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    private static double toHours(double minutes) {
+        return Math.round(minutes / 60.0 * 100) / 100.0;
+    }
+
+    private boolean acquireSnapshotLock(String lockValue) {
+        try {
+            return Boolean.TRUE.equals(stringRedisTemplate.opsForValue()
+                    .setIfAbsent(SNAPSHOT_JOB_LOCK_KEY, lockValue, Duration.ofMinutes(snapshotLockTtlMinutes)));
+        } catch (Exception e) {
+            // Snapshots are upserts, so running on several nodes only costs duplicate work
+            logger.warn("Could not take the analytics snapshot lock, running without it: {}", e.getMessage());
+            return true;
+        }
+    }
+
+    private void releaseSnapshotLock(String lockValue) {
+        try {
+            if (lockValue.equals(stringRedisTemplate.opsForValue().get(SNAPSHOT_JOB_LOCK_KEY))) {
+                stringRedisTemplate.delete(SNAPSHOT_JOB_LOCK_KEY);
+            }
+        } catch (Exception e) {
+            logger.warn("Could not release the analytics snapshot lock; it expires on its own: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,336 @@
+package com.project_management.final_project.service.impl;
+
+import com.project_management.final_project.config.SecurityUtil;
+import com.project_management.final_project.dto.response.AssigneeRecommendationResponse;
+import com.project_management.final_project.dto.response.AutoAssignedTaskResponse;
+import com.project_management.final_project.dto.response.AutoAssignmentResponse;
+import com.project_management.final_project.entities.Project;
+import com.project_management.final_project.entities.Task;
+import com.project_management.final_project.exception.AppException;
+import com.project_management.final_project.exception.ErrorCode;
+import com.project_management.final_project.repository.ProjectRepository;
+import com.project_management.final_project.repository.SpecializationRepository;
+import com.project_management.final_project.repository.TaskRepository;
+import com.project_management.final_project.repository.UserRepository;
+import com.project_management.final_project.repository.WorkloadRepository;
+import com.project_management.final_project.service.ActivityFeedService;
+import com.project_management.final_project.service.AssignmentRecommendationService;
+import com.project_management.final_project.service.ChangeVersionService;
+import com.project_management.final_project.service.NotificationService;
+import com.project_management.final_project.service.TaskHistoryService;
+import com.project_management.final_project.util.collection.IntArrayList;
+import com.project_management.final_project.util.collection.IntHashSet;
+import com.project_management.final_project.util.collection.IntIntMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Recommendations computed from per-project workload snapshots cached on each node, at most
+ * assignment.cache.max-projects of them (least recently used first out).
+ * <p>
+ * A snapshot holds every member's counters in arrays, so ranking a team of a thousand takes a single pass
+ * without touching the database. It is used while the project's change tag (see {@link ChangeVersionService})
+ * is unchanged, it was taken today and it is younger than assignment.cache.max-age-seconds; the age limit
+ * bounds how stale the cycle times, which also depend on other projects, can get. Without Redis nothing is
+ * cached.
+ * <p>
+ * Bulk assignment ranks on a private copy of the snapshot, counting each task it hands out, so the tasks
+ * spread across the team instead of all going to whoever ranked first.
+ */
+@Service
+public class AssignmentRecommendationServiceImpl implements AssignmentRecommendationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AssignmentRecommendationServiceImpl.class);
+
+    private final WorkloadRepository workloadRepository;
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final SpecializationRepository specializationRepository;
+    private final TaskHistoryService taskHistoryService;
+    private final ChangeVersionService changeVersionService;
+    private final ActivityFeedService activityFeedService;
+    private final NotificationService notificationService;
+    private final SecurityUtil securityUtil;
+    private final TransactionTemplate loadTransaction;
+    private final Map<Integer, ProjectWorkload> workloads = new LinkedHashMap<>(16, 0.75f, true);
+
+    @Value("${assignment.cache.max-projects:32}")
+    private int maxCachedProjects;
+
+    @Value("${assignment.cache.max-age-seconds:900}")
+    private long maxAgeSeconds;
+
+    @Value("${assignment.due-horizon-days:7}")
+    private int dueHorizonDays;
+
+    @Value("${assignment.cycle-time-window-days:180}")
+    private int cycleTimeWindowDays;
+
+    @Value("${assignment.recommendation.max-limit:50}")
+    private int maxLimit;
+
+    @Value("${assignment.auto-assign.max-tasks:500}")
+    private int maxAutoAssignedTasks;
+
+    @Value("${assignment.weights.workload:0.4}")
+    private double workloadWeight;
+
+    @Value("${assignment.weights.specialization:0.3}")
+    private double specializationWeight;
+
+    @Value("${assignment.weights.due-pressure:0.2}")
+    private double duePressureWeight;
+
+    @Value("${assignment.weights.cycle-time:0.1}")
+    private double cycleTimeWeight;
+
+    @Autowired
+    public AssignmentRecommendationServiceImpl(
+            WorkloadRepository workloadRepository,
+            TaskRepository taskRepository,
+            ProjectRepository projectRepository,
+            UserRepository userRepository,
+            SpecializationRepository specializationRepository,
+            TaskHistoryService taskHistoryService,
+            ChangeVersionService changeVersionService,
+            ActivityFeedService activityFeedService,
+            NotificationService notificationService,
+            SecurityUtil securityUtil,
+            PlatformTransactionManager transactionManager) {
+        this.workloadRepository = workloadRepository;
+        this.taskRepository = taskRepository;
+        this.projectRepository = projectRepository;
+        this.userRepository = userRepository;
+        this.specializationRepository = specializationRepository;
+        this.taskHistoryService = taskHistoryService;
+        this.changeVersionService = changeVersionService;
+        this.activityFeedService = activityFeedService;
+        this.notificationService = notificationService;
+        this.securityUtil = securityUtil;
+        // Workloads are cached under the project's ETag, so they are loaded from the primary, never a replica
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public List<AssigneeRecommendationResponse> recommendAssignees(Integer projectId, Integer specializationId, int limit) {
+        if (limit < 1 || limit > maxLimit) {
+            throw new AppException(ErrorCode.INVALID_REQUEST, "limit must be between 1 and " + maxLimit);
+        }
+        checkOwner(projectId, "get assignee recommendations for");
+        checkSpecialization(specializationId);
+
+        ProjectWorkload workload = currentWorkload(projectId);
+        ProjectWorkload.Weights weights = weights();
+        List<AssigneeRecommendationResponse> recommendations = new ArrayList<>(Math.min(limit, workload.size()));
+        for (int member : workload.top(limit, specializationId, weights)) {
+            double cycleHours = workload.averageCycleHours(member);
+            recommendations.add(AssigneeRecommendationResponse.builder()
+                    .userId(workload.userId(member))
+                    .name(workload.name(member))
+                    .email(workload.email(member))
+                    .specialization(workload.specializationName(member))
+                    .specializationMatch(workload.isSpecializationMatch(member, specializationId))
+                    .openTasks(workload.openTasks(member))
+                    .dueSoonTasks(workload.dueSoonTasks(member))
+                    .averageCycleHours(Double.isNaN(cycleHours) ? null : Math.round(cycleHours * 10) / 10.0)
+                    .score(Math.round(workload.score(member, specializationId, weights) * 1000) / 1000.0)
+                    .build());
+        }
+        return recommendations;
+    }
+
+    @Override
+    @Transactional
+    public AutoAssignmentResponse autoAssignUnassignedTasks(Integer projectId, Integer specializationId) {
+        checkOwner(projectId, "auto-assign tasks in");
+        checkSpecialization(specializationId);
+
+        // One extra row tells whether tasks are left over for another run
+        List<Task> tasks = taskRepository.findUnassignedTasksForAutoAssignment(
+                projectId, PageRequest.of(0, maxAutoAssignedTasks + 1));
+        boolean moreUnassigned = tasks.size() > maxAutoAssignedTasks;
+        if (moreUnassigned) {
+            tasks = tasks.subList(0, maxAutoAssignedTasks);
+        }
+        if (tasks.isEmpty()) {
+            return AutoAssignmentResponse.builder()
+                    .projectId(projectId)
+                    .assignments(List.of())
+                    .build();
+        }
+
+        ProjectWorkload workload = currentWorkload(projectId).copy();
+        if (workload.size() == 0) {
+            throw new AppException(ErrorCode.INVALID_REQUEST, "The project has no active team members to assign tasks to");
+        }
+
+        ProjectWorkload.Weights weights = weights();
+        LocalDate dueBy = LocalDate.now().plusDays(dueHorizonDays);
+        IntHashSet assigned = new IntHashSet();
+        List<Integer> assigneeIds = new ArrayList<>();
+        List<AutoAssignedTaskResponse> assignments = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            int member = workload.top(1, specializationId, weights)[0];
+            workload.recordAssignment(member, task.getDueDate() != null && !task.getDueDate().isAfter(dueBy));
+
+            int userId = workload.userId(member);
+            task.setAssignee(userRepository.getReferenceById(userId));
+            task.setStatus(Task.Status.TODO);
+            taskHistoryService.createTaskStatusHistory(task, Task.Status.UNASSIGNED, Task.Status.TODO);
+            if (assigned.add(userId)) {
+                assigneeIds.add(userId);
+            }
+
+            assignments.add(AutoAssignedTaskResponse.builder()
+                    .taskId(task.getId())
+                    .title(task.getTitle())
+                    .priority(task.getPriority() != null ? task.getPriority().name() : null)
+                    .dueDate(task.getDueDate())
+                    .assigneeId(userId)
+                    .assigneeName(workload.name(member))
+                    .build());
+        }
+
+        // Flushing detects tasks changed concurrently; the whole run is then rolled back
+        taskRepository.flush();
+        changeVersionService.projectChanged(projectId);
+        // The new assignees' feeds now miss the earlier history of these tasks
+        activityFeedService.evict(ActivityFeedService.Feed.ASSIGNED, assigneeIds);
+        // One digest per assignee rather than one mail per task
+        notificationService.tasksAssigned(tasks);
+
+        logger.info("Auto-assigned {} tasks to {} members in project ID {}", assignments.size(),
+                assigneeIds.size(), projectId);
+        return AutoAssignmentResponse.builder()
+                .projectId(projectId)
+                .assignedCount(assignments.size())
+                .moreUnassigned(moreUnassigned)
+                .assignments(assignments)
+                .build();
+    }
+
+    /**
+     * Get the cached workload snapshot if it is current, otherwise build it from the database
+     */
+    private ProjectWorkload currentWorkload(Integer projectId) {
+        String eTag = changeVersionService.projectETag(projectId);
+        ProjectWorkload cached;
+        synchronized (workloads) {
+            cached = workloads.get(projectId);
+        }
+        long now = System.currentTimeMillis();
+        if (cached != null && eTag != null && eTag.equals(cached.getETag())
+                && now - cached.getLoadedAt() < maxAgeSeconds * 1000
+                && toDate(cached.getLoadedAt()).equals(LocalDate.now())) {
+            return cached;
+        }
+
+        long start = System.nanoTime();
+        ProjectWorkload workload = loadTransaction.execute(status -> load(projectId, eTag));
+        logger.debug("Loaded workload of project ID {} ({} members) in {} ms", projectId, workload.size(),
+                (System.nanoTime() - start) / 1_000_000);
+
+        if (eTag != null) {
+            synchronized (workloads) {
+                workloads.put(projectId, workload);
+                Iterator<ProjectWorkload> eldest = workloads.values().iterator();
+                while (workloads.size() > maxCachedProjects && eldest.hasNext()) {
+                    eldest.next();
+                    eldest.remove();
+                }
+            }
+        }
+        return workload;
+    }
+
+    private ProjectWorkload load(Integer projectId, String eTag) {
+        IntArrayList userIds = new IntArrayList(64);
+        IntArrayList specializationIds = new IntArrayList(64);
+        List<String> names = new ArrayList<>();
+        List<String> emails = new ArrayList<>();
+        List<String> specializationNames = new ArrayList<>();
+        workloadRepository.forEachMember(projectId, (userId, name, email, specializationId, specializationName) -> {
+            userIds.add(userId);
+            names.add(name);
+            emails.add(email);
+            specializationIds.add(specializationId);
+            specializationNames.add(specializationName);
+        });
+
+        int size = userIds.size();
+        IntIntMap memberByUserId = new IntIntMap(size);
+        for (int member = 0; member < size; member++) {
+            memberByUserId.put(userIds.get(member), member);
+        }
+        int[] openTasks = new int[size];
+        int[] dueSoonTasks = new int[size];
+        double[] cycleHours = new double[size];
+        Arrays.fill(cycleHours, Double.NaN);
+
+        // Counts of former members (tasks not yet unassigned) have no slot and are skipped
+        workloadRepository.forEachOpenTaskCount(projectId, LocalDate.now().plusDays(dueHorizonDays),
+                (userId, open, dueSoon) -> {
+                    int member = memberByUserId.get(userId, -1);
+                    if (member >= 0) {
+                        openTasks[member] = open;
+                        dueSoonTasks[member] = dueSoon;
+                    }
+                });
+        workloadRepository.forEachAverageCycleTime(projectId, LocalDateTime.now().minusDays(cycleTimeWindowDays),
+                (userId, averageHours) -> {
+                    int member = memberByUserId.get(userId, -1);
+                    if (member >= 0) {
+                        cycleHours[member] = averageHours;
+                    }
+                });
+
+        return new ProjectWorkload(userIds.toArray(), names.toArray(new String[0]), emails.toArray(new String[0]),
+                specializationIds.toArray(), specializationNames.toArray(new String[0]),
+                openTasks, dueSoonTasks, cycleHours, eTag);
+    }
+
+    private ProjectWorkload.Weights weights() {
+        return new ProjectWorkload.Weights(workloadWeight, specializationWeight, duePressureWeight, cycleTimeWeight);
+    }
+
+    private static LocalDate toDate(long epochMillis) {
+        return Instant.ofEpochMilli(epochMillis).atZone(ZoneId.systemDefault()).toLocalDate();
+    }
+
+    private void checkSpecialization(Integer specializationId) {
+        if (specializationId != null && !specializationRepository.existsById(specializationId)) {
+            throw new AppException(ErrorCode.NOT_FOUND, "Specialization not found with ID: " + specializationId);
+        }
+    }
+
+    private Project checkOwner(Integer projectId, String action) {
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "Project not found with ID: " + projectId));
+        Integer currentUserId = securityUtil.getCurrentUserId();
+        if (!project.getCreatedBy().getId().equals(currentUserId)) {
+            logger.warn("User ID {} attempted to {} project ID {} created by user ID {}",
+                    currentUserId, action, projectId, project.getCreatedBy().getId());
+            throw new AppException(ErrorCode.UNAUTHORIZED, "You are not authorized to " + action + " this project");
+        }
+        return project;
+    }
+}
@@ -1,6 +1,7 @@
 package com.project_management.final_project.service.impl;
 
 import com.project_management.final_project.config.JwtKeyProvider;
+import com.project_management.final_project.config.PermissionClaimCodec;
 import com.project_management.final_project.dto.request.AuthRequest;
 import com.project_management.final_project.dto.request.IntrospectRequest;
 import com.project_management.final_project.dto.request.ResetPasswordRequest;
@@ -12,21 +13,23 @@ import com.project_management.final_project.exception.AppException;
 import com.project_management.final_project.exception.ErrorCode;
 import com.project_management.final_project.repository.UserRepository;
 import com.project_management.final_project.service.AuthService;
+import com.project_management.final_project.service.PasswordHashingService;
+import com.project_management.final_project.service.RefreshTokenService;
 import com.project_management.final_project.util.ValidationUtil;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.security.SecurityException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
-import java.util.Base64;
 import java.util.Date;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
@@ -40,15 +43,31 @@ public class AuthServiceImpl implements AuthService {
     @Value("${jwt.refresh-token.expiration}")
     private long refreshTokenExpiration;
 
+    @Value("${jwt.permission-claim.format:compact}")
+    private String permissionClaimFormat;
+
+    public static final String SESSION_ID_CLAIM = "sid";
+    public static final String TOKEN_TYPE_CLAIM = "type";
+    public static final String REFRESH_TOKEN_TYPE = "REFRESH";
+
     private SecretKey key;
+    private final JwtParser jwtParser;
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final PermissionClaimCodec permissionClaimCodec;
+    private final RefreshTokenService refreshTokenService;
     private static final Logger logger = LoggerFactory.getLogger(AuthServiceImpl.class);
 
-    public AuthServiceImpl(UserRepository userRepository, PasswordEncoder passwordEncoder, JwtKeyProvider jwtKeyProvider) {
+    public AuthServiceImpl(UserRepository userRepository, PasswordHashingService passwordHashingService,
+                           JwtKeyProvider jwtKeyProvider, PermissionClaimCodec permissionClaimCodec,
+                           RefreshTokenService refreshTokenService) {
         this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHashingService = passwordHashingService;
+        this.permissionClaimCodec = permissionClaimCodec;
+        this.refreshTokenService = refreshTokenService;
         this.key = jwtKeyProvider.getKey();
+        // The parser is immutable and thread-safe, build it once instead of per token
+        this.jwtParser = Jwts.parser().verifyWith(key).build();
     }
 
     @Override
@@ -66,24 +85,30 @@ public class AuthServiceImpl implements AuthService {
     }
 
     @Override
-    public String generateAccessToken(User user) {
+    public String generateAccessToken(User user, String sessionId) {
         try {
-            logger.info("GEN key: " + Base64.getEncoder().encodeToString(key.getEncoded()));
-            return Jwts.builder()
+            var claims = Jwts.builder()
                     .claims()
                     .add("id", user.getId())
+                    .add(SESSION_ID_CLAIM, sessionId)
                     .add("name", user.getName())
                     .add("email", user.getEmail())
-                    .add("role", user.getRole().getName())
-                    .add("permissions", user.getRole().getPermissions().stream()
-                            .map(p -> new PermissionResponse(
-                                    p.getModule().getName(),
-                                    p.isCanView(),
-                                    p.isCanCreate(),
-                                    p.isCanUpdate(),
-                                    p.isCanDelete()
-                            ))
-                            .collect(Collectors.toList()))
+                    .add("role", user.getRole().getName());
+            if ("legacy".equalsIgnoreCase(permissionClaimFormat)) {
+                claims.add("permissions", user.getRole().getPermissions().stream()
+                        .map(p -> new PermissionResponse(
+                                p.getModule().getName(),
+                                p.isCanView(),
+                                p.isCanCreate(),
+                                p.isCanUpdate(),
+                                p.isCanDelete()
+                        ))
+                        .collect(Collectors.toList()));
+            } else {
+                claims.add(PermissionClaimCodec.VERSION_CLAIM, PermissionClaimCodec.CURRENT_VERSION)
+                        .add(PermissionClaimCodec.PERMISSIONS_CLAIM, permissionClaimCodec.encode(user.getRole().getPermissions()));
+            }
+            return claims
                     .subject(user.getEmail())
                     .issuedAt(new Date())
                     .expiration(new Date(System.currentTimeMillis() + accessTokenExpiration))
@@ -96,25 +121,28 @@ public class AuthServiceImpl implements AuthService {
     }
 
     @Override
-    public String generateRefreshToken(User user) {
-        return Jwts.builder()
+    public String generateRefreshToken(User user, String sessionId) {
+        String tokenId = UUID.randomUUID().toString();
+        String refreshToken = Jwts.builder()
                 .claims()
+                .id(tokenId)
+                .add("id", user.getId())
+                .add(SESSION_ID_CLAIM, sessionId)
+                .add(TOKEN_TYPE_CLAIM, REFRESH_TOKEN_TYPE)
                 .subject(user.getEmail())
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis() + refreshTokenExpiration))
                 .and()
                 .signWith(key, Jwts.SIG.HS512)
                 .compact();
+        refreshTokenService.register(tokenId, user.getId(), sessionId, refreshTokenExpiration);
+        return refreshToken;
     }
 
     @Override
     public Claims validateToken(String token) {
         try {
-            return Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            return jwtParser.parseSignedClaims(token).getPayload();
         } catch (ExpiredJwtException e) {
             throw new AppException(ErrorCode.TOKEN_EXPIRED);
         } catch (MalformedJwtException e) {
@@ -127,17 +155,47 @@ public class AuthServiceImpl implements AuthService {
     }
 
     @Override
-    public String refreshAccessToken(String refreshToken) {
+    public AuthResponse refreshAccessToken(String refreshToken) {
         Claims claims = validateToken(refreshToken);
-        // 1. Get the subject (email or userId)
-        String email = claims.getSubject();
+        if (!REFRESH_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM, String.class))) {
+            logger.warn("Token presented for refresh is not a refresh token");
+            throw new AppException(ErrorCode.TOKEN_INVALID);
+        }
+        Integer userId = claims.get("id", Integer.class);
+        String sessionId = claims.get(SESSION_ID_CLAIM, String.class);
+
+        // 1. Consume the refresh token; each token can be used only once
+        String registeredSessionId = refreshTokenService.consume(claims.getId());
+        if (registeredSessionId == null || !registeredSessionId.equals(sessionId)) {
+            // A valid, unexpired token that is no longer registered was either revoked or already used.
+            // Treat it as stolen and end every session of the user.
+            logger.warn("Refresh token {} for user ID {} was reused or revoked; revoking all sessions", 
+                    claims.getId(), userId);
+            refreshTokenService.revokeAllSessions(userId);
+            throw new AppException(ErrorCode.TOKEN_REVOKED);
+        }
 
         // 2. Load user from DB
-        User user = userRepository.findByEmail(email)
+        User user = userRepository.findById(userId)
                 .orElseThrow(() -> new AppException(ErrorCode.USER_NOT_FOUND));
 
-        // 3. Generate a new access token
-        return generateAccessToken(user);
+        // 3. Rotate: issue a new access and refresh token for the same session
+        String accessToken = generateAccessToken(user, sessionId);
+        String newRefreshToken = generateRefreshToken(user, sessionId);
+        return new AuthResponse(accessToken, newRefreshToken);
+    }
+
+    @Override
+    public void logout(Integer userId, String sessionId) {
+        if (sessionId == null) {
+            throw new AppException(ErrorCode.TOKEN_INVALID);
+        }
+        refreshTokenService.revokeSession(userId, sessionId);
+    }
+
+    @Override
+    public void logoutAllSessions(Integer userId) {
+        refreshTokenService.revokeAllSessions(userId);
     }
 
     @Override
@@ -154,12 +212,26 @@ public class AuthServiceImpl implements AuthService {
         User user = userRepository.findByEmail(request.getEmail())
                 .orElseThrow(() -> new AppException(ErrorCode.USER_NOT_FOUND));
                 
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        if (!passwordHashingService.matches(request.getPassword(), user.getPassword())) {
             throw new AppException(ErrorCode.ACCOUNT_INVALID);
         }
         
-        String accessToken = generateAccessToken(user);
-        String refreshToken = generateRefreshToken(user);
+        // Upgrade hashes created with an older cost factor while the raw password is at hand
+        if (passwordHashingService.needsRehash(user.getPassword())) {
+            try {
+                user.setPassword(passwordHashingService.encode(request.getPassword()));
+                userRepository.save(user);
+                logger.info("Re-hashed password for user ID {} with the current cost factor", user.getId());
+            } catch (AppException e) {
+                // Not worth failing the login over; the upgrade is retried on the next login
+                logger.warn("Skipped password re-hash for user ID {}: {}", user.getId(), e.getMessage());
+            }
+        }
+        
+        // Each login starts a new session, shared by the access and refresh tokens issued for it
+        String sessionId = UUID.randomUUID().toString();
+        String accessToken = generateAccessToken(user, sessionId);
+        String refreshToken = generateRefreshToken(user, sessionId);
         return new AuthResponse(accessToken, refreshToken);
     }
  
@@ -194,9 +266,12 @@ public class AuthServiceImpl implements AuthService {
                     .orElseThrow(() -> new AppException(ErrorCode.USER_NOT_FOUND));
             
             // Update password
-            user.setPassword(passwordEncoder.encode(request.getNewPassword()));
+            user.setPassword(passwordHashingService.encode(request.getNewPassword()));
             userRepository.save(user);
             
+            // Sessions opened with the old password (possibly by whoever learned it) must not outlive it
+            refreshTokenService.revokeAllSessions(user.getId());
+            
             logger.info("Password reset successful for user: {}", email);
         } catch (AppException e) {
             throw e;
@@ -0,0 +1,164 @@
+package com.project_management.final_project.service.impl;
+
+import com.project_management.final_project.service.ChangeVersionService;
+import com.project_management.final_project.service.MembershipService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Change counters stored as plain Redis integers (INCR), read back with a single MGET per request.
+ * Counters start at the current time in milliseconds rather than 0, so a counter lost with a Redis
+ * restart can never come back to a value a client already holds. If Redis is unavailable, or a
+ * counter is missing, no ETag is produced and the request falls through to the database.
+ */
+@Service
+public class ChangeVersionServiceImpl implements ChangeVersionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChangeVersionServiceImpl.class);
+    private static final String PROJECT_KEY_PREFIX = "version:project:";
+    private static final String USER_KEY_PREFIX = "version:user:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MembershipService membershipService;
+
+    @Autowired
+    public ChangeVersionServiceImpl(StringRedisTemplate stringRedisTemplate, MembershipService membershipService) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.membershipService = membershipService;
+    }
+
+    @Override
+    public void projectChanged(Integer projectId) {
+        if (projectId == null) {
+            return;
+        }
+        afterCommit(List.of(PROJECT_KEY_PREFIX + projectId));
+    }
+
+    @Override
+    public void membershipChanged(Integer projectId, Collection<Integer> userIds) {
+        List<String> keys = new ArrayList<>(userIds.size() + 1);
+        if (projectId != null) {
+            keys.add(PROJECT_KEY_PREFIX + projectId);
+        }
+        for (Integer userId : userIds) {
+            keys.add(USER_KEY_PREFIX + userId);
+        }
+        afterCommit(keys);
+    }
+
+    @Override
+    public String projectETag(Integer projectId) {
+        List<String> versions = readVersions(List.of(PROJECT_KEY_PREFIX + projectId));
+        if (versions == null) {
+            return null;
+        }
+        return "\"p" + projectId + "-" + toVersion(versions.get(0)) + "\"";
+    }
+
+    @Override
+    public String userProjectsETag(Integer userId) {
+        // Project IDs come from the membership index (local/Redis), not from MySQL
+        int[] projectIds = membershipService.getProjectIds(userId);
+        List<String> keys = new ArrayList<>(projectIds.length + 1);
+        keys.add(USER_KEY_PREFIX + userId);
+        for (int projectId : projectIds) {
+            keys.add(PROJECT_KEY_PREFIX + projectId);
+        }
+        List<String> versions = readVersions(keys);
+        if (versions == null) {
+            return null;
+        }
+
+        // Fold the sorted (project ID, version) pairs into one 64-bit FNV-1a hash
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < projectIds.length; i++) {
+            hash = fnv(hash, projectIds[i]);
+            hash = fnv(hash, toVersion(versions.get(i + 1)));
+        }
+        return "\"u" + userId + "-" + toVersion(versions.get(0)) + "-" + Long.toHexString(hash) + "\"";
+    }
+
+    private void afterCommit(List<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    increment(keys);
+                }
+            });
+        } else {
+            increment(keys);
+        }
+    }
+
+    private void increment(List<String> keys) {
+        byte[] initialValue = String.valueOf(System.currentTimeMillis()).getBytes(StandardCharsets.UTF_8);
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (String key : keys) {
+                    byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+                    connection.stringCommands().setNX(rawKey, initialValue);
+                    connection.stringCommands().incr(rawKey);
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            logger.warn("Failed to bump change versions {}: {}", keys, e.getMessage());
+        }
+    }
+
+    /**
+     * MGET the counters; missing ones are initialized for the next request
+     * @return The counter values in key order, or null if any is unavailable
+     */
+    private List<String> readVersions(List<String> keys) {
+        try {
+            List<String> versions = stringRedisTemplate.opsForValue().multiGet(keys);
+            if (versions == null || versions.size() != keys.size()) {
+                return null;
+            }
+            boolean complete = true;
+            for (int i = 0; i < keys.size(); i++) {
+                if (versions.get(i) == null) {
+                    stringRedisTemplate.opsForValue().setIfAbsent(keys.get(i), String.valueOf(System.currentTimeMillis()));
+                    complete = false;
+                }
+            }
+            return complete ? versions : null;
+        } catch (Exception e) {
+            logger.debug("Change versions unavailable: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static long toVersion(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+
+    private static long fnv(long hash, long value) {
+        for (int shift = 0; shift < 64; shift += 8) {
+            hash ^= (value >>> shift) & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
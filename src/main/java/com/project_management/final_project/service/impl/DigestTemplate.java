@@ -0,0 +1,108 @@
+package com.project_management.final_project.service.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Mail template parsed once into literal text and placeholders, so rendering is a single pass of appends.
+ * <p>
+ * {@code {{name}}} inserts a value HTML-escaped and {@code {{{name}}}} inserts it as is, for markup rendered
+ * from another template. Missing values render as empty text.
+ */
+final class DigestTemplate {
+
+    private final String[] literals;
+    private final String[] keys;
+    private final boolean[] raw;
+
+    private DigestTemplate(String[] literals, String[] keys, boolean[] raw) {
+        this.literals = literals;
+        this.keys = keys;
+        this.raw = raw;
+    }
+
+    /**
+     * Load and parse a UTF-8 template from the classpath
+     * @param resource The resource path, e.g. "mail/notification-digest.html"
+     */
+    static DigestTemplate load(String resource) {
+        try (InputStream in = DigestTemplate.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalStateException("Mail template not found: " + resource);
+            }
+            return compile(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read mail template " + resource, e);
+        }
+    }
+
+    static DigestTemplate compile(String source) {
+        List<String> literals = new ArrayList<>();
+        List<String> keys = new ArrayList<>();
+        List<Boolean> raw = new ArrayList<>();
+        int position = 0;
+        while (true) {
+            int open = source.indexOf("{{", position);
+            if (open < 0) {
+                break;
+            }
+            boolean isRaw = source.startsWith("{{{", open);
+            String close = isRaw ? "}}}" : "}}";
+            int keyStart = open + (isRaw ? 3 : 2);
+            int end = source.indexOf(close, keyStart);
+            if (end < 0) {
+                throw new IllegalArgumentException("Unclosed placeholder at offset " + open);
+            }
+            literals.add(source.substring(position, open));
+            keys.add(source.substring(keyStart, end).trim());
+            raw.add(isRaw);
+            position = end + close.length();
+        }
+        literals.add(source.substring(position));
+
+        boolean[] rawFlags = new boolean[raw.size()];
+        for (int i = 0; i < rawFlags.length; i++) {
+            rawFlags[i] = raw.get(i);
+        }
+        return new DigestTemplate(literals.toArray(new String[0]), keys.toArray(new String[0]), rawFlags);
+    }
+
+    /**
+     * Append the template to out
+     * @param values Value of each placeholder name, or null for none
+     */
+    void render(StringBuilder out, Function<String, String> values) {
+        for (int i = 0; i < keys.length; i++) {
+            out.append(literals[i]);
+            String value = values.apply(keys[i]);
+            if (value == null) {
+                continue;
+            }
+            if (raw[i]) {
+                out.append(value);
+            } else {
+                appendEscaped(out, value);
+            }
+        }
+        out.append(literals[keys.length]);
+    }
+
+    static void appendEscaped(StringBuilder out, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '<' -> out.append("&lt;");
+                case '>' -> out.append("&gt;");
+                case '&' -> out.append("&amp;");
+                case '"' -> out.append("&quot;");
+                case '\'' -> out.append("&#39;");
+                default -> out.append(c);
+            }
+        }
+    }
+}
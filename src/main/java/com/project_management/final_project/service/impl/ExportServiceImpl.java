@@ -0,0 +1,99 @@
+package com.project_management.final_project.service.impl;
+
+import com.project_management.final_project.config.SecurityUtil;
+import com.project_management.final_project.dto.request.ExportFormat;
+import com.project_management.final_project.entities.Project;
+import com.project_management.final_project.exception.AppException;
+import com.project_management.final_project.exception.ErrorCode;
+import com.project_management.final_project.repository.ExportRepository;
+import com.project_management.final_project.repository.ProjectRepository;
+import com.project_management.final_project.service.ExportService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+@Service
+public class ExportServiceImpl implements ExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExportServiceImpl.class);
+
+    private final ExportRepository exportRepository;
+    private final ProjectRepository projectRepository;
+    private final SecurityUtil securityUtil;
+    private final TransactionTemplate readOnlyTransaction;
+
+    @Autowired
+    public ExportServiceImpl(
+            ExportRepository exportRepository,
+            ProjectRepository projectRepository,
+            SecurityUtil securityUtil,
+            PlatformTransactionManager transactionManager) {
+        this.exportRepository = exportRepository;
+        this.projectRepository = projectRepository;
+        this.securityUtil = securityUtil;
+        // Read-only, so the export runs on a replica when read routing is enabled
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public ExportScope resolveScope(Integer projectId) {
+        Integer currentUserId = securityUtil.getCurrentUserId();
+        if (projectId != null) {
+            Project project = projectRepository.findById(projectId)
+                    .orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "Project not found with ID: " + projectId));
+            if (!project.getCreatedBy().getId().equals(currentUserId)) {
+                logger.warn("User ID {} attempted to export project ID {} created by another user", currentUserId, projectId);
+                throw new AppException(ErrorCode.UNAUTHORIZED, "You can only export projects you created");
+            }
+        }
+        return new ExportScope(currentUserId, projectId);
+    }
+
+    @Override
+    public long writeTasks(ExportScope scope, ExportFormat format, OutputStream out) throws IOException {
+        return write("tasks", scope, format, out,
+                handler -> exportRepository.streamTasks(scope.projectId(), scope.ownerId(), handler));
+    }
+
+    @Override
+    public long writeTaskHistory(ExportScope scope, ExportFormat format, OutputStream out) throws IOException {
+        return write("task history", scope, format, out,
+                handler -> exportRepository.streamTaskHistory(scope.projectId(), scope.ownerId(), handler));
+    }
+
+    private long write(String name, ExportScope scope, ExportFormat format, OutputStream out,
+                       Consumer<RowCallbackHandler> query) throws IOException {
+        long start = System.currentTimeMillis();
+        ResultSetExportWriter writer = ResultSetExportWriter.create(format, out);
+        long[] rows = {0};
+        RowCallbackHandler handler = rs -> {
+            try {
+                writer.writeRow(rs);
+                rows[0]++;
+            } catch (IOException e) {
+                // Typically the client went away; stop writing and let the query unwind
+                throw new UncheckedIOException(e);
+            }
+        };
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> query.accept(handler));
+        } catch (UncheckedIOException e) {
+            logger.warn("Export of {} for {} aborted after {} rows: {}", name, scope, rows[0], e.getCause().getMessage());
+            throw e.getCause();
+        }
+        writer.flush();
+        logger.info("Exported {} {} rows as {} for {} in {} ms",
+                rows[0], name, format, scope, System.currentTimeMillis() - start);
+        return rows[0];
+    }
+}
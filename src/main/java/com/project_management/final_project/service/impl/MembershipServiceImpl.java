@@ -0,0 +1,256 @@
+package com.project_management.final_project.service.impl;
+
+import com.project_management.final_project.repository.TeamMemberRepository;
+import com.project_management.final_project.service.MembershipService;
+import com.project_management.final_project.util.collection.IntArrayList;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Membership index keeping each user's project IDs as a sorted int array.
+ * Lookups go local map -> Redis -> database. Redis holds the shared copy for all nodes,
+ * and changes are broadcast on a pub/sub channel so every node drops its local entry.
+ * <p>
+ * Every invalidation moves a per-user generation counter, in Redis and locally. A database load stores its
+ * result only if the generation it read before loading is still current, so a load that started before a
+ * membership change can never cache the old project IDs after the change was invalidated.
+ */
+@Service
+public class MembershipServiceImpl implements MembershipService, MessageListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(MembershipServiceImpl.class);
+    private static final String KEY_PREFIX = "membership:user:";
+    private static final String GENERATION_SUFFIX = ":gen";
+    private static final String INVALIDATION_CHANNEL = "membership:invalidate";
+    private static final int[] EMPTY = new int[0];
+
+    private final TeamMemberRepository teamMemberRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final TransactionTemplate loadTransaction;
+    private final DefaultRedisScript<Long> fillScript;
+    private final ConcurrentHashMap<Integer, CachedProjectIds> localCache = new ConcurrentHashMap<>();
+    // Local invalidations per user; localCache is only written while holding the user's entry here
+    private final ConcurrentHashMap<Integer, Long> localGenerations = new ConcurrentHashMap<>();
+
+    @Value("${membership.cache.local-ttl-seconds:60}")
+    private long localTtlSeconds;
+
+    @Value("${membership.cache.redis-ttl-minutes:60}")
+    private long redisTtlMinutes;
+
+    @Autowired
+    public MembershipServiceImpl(
+            TeamMemberRepository teamMemberRepository,
+            StringRedisTemplate stringRedisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            PlatformTransactionManager transactionManager) {
+        this.teamMemberRepository = teamMemberRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.listenerContainer = listenerContainer;
+        // Not read-only on purpose: a replica lagging behind the invalidation would be cached as current.
+        // A new transaction, because joining a caller's read-only one would still read the replica.
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.fillScript = new DefaultRedisScript<>();
+        this.fillScript.setLocation(new ClassPathResource("scripts/membership_fill.lua"));
+        this.fillScript.setResultType(Long.class);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    @Override
+    public boolean isMember(Integer userId, Integer projectId) {
+        if (userId == null || projectId == null) {
+            return false;
+        }
+        return Arrays.binarySearch(getProjectIds(userId), projectId) >= 0;
+    }
+
+    @Override
+    public int[] getProjectIds(Integer userId) {
+        long now = System.currentTimeMillis();
+        CachedProjectIds cached = localCache.get(userId);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.projectIds();
+        }
+
+        long generation = localGenerations.getOrDefault(userId, 0L);
+        int[] projectIds = loadProjectIds(userId);
+        localGenerations.compute(userId, (id, current) -> {
+            if ((current != null ? current : 0L) == generation) {
+                localCache.put(userId, new CachedProjectIds(projectIds, now + localTtlSeconds * 1000));
+            }
+            return current;
+        });
+        return projectIds;
+    }
+
+    @Override
+    public void invalidate(Collection<Integer> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        List<Integer> ids = List.copyOf(userIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(ids);
+                }
+            });
+        } else {
+            evict(ids);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        for (String id : body.split(",")) {
+            if (!id.isEmpty()) {
+                evictLocal(Integer.valueOf(id));
+            }
+        }
+    }
+
+    private int[] loadProjectIds(Integer userId) {
+        String key = KEY_PREFIX + userId;
+        String generationKey = key + GENERATION_SUFFIX;
+        String generation;
+        try {
+            List<String> values = stringRedisTemplate.opsForValue().multiGet(List.of(key, generationKey));
+            if (values != null && values.get(0) != null) {
+                return decode(values.get(0));
+            }
+            generation = values != null ? values.get(1) : null;
+        } catch (Exception e) {
+            // Without the generation the result cannot be stored safely
+            logger.warn("Failed to read membership cache for user ID {}: {}", userId, e.getMessage());
+            return queryProjectIds(userId);
+        }
+
+        int[] projectIds = queryProjectIds(userId);
+        try {
+            Long stored = stringRedisTemplate.execute(fillScript, List.of(key, generationKey),
+                    generation != null ? generation : "", encode(projectIds),
+                    String.valueOf(Duration.ofMinutes(redisTtlMinutes).toSeconds()));
+            if (stored == null || stored == 0L) {
+                logger.debug("Skipped membership cache fill for user ID {}: it was invalidated while loading", userId);
+            }
+        } catch (Exception e) {
+            logger.warn("Failed to write membership cache for user ID {}: {}", userId, e.getMessage());
+        }
+        return projectIds;
+    }
+
+    private int[] queryProjectIds(Integer userId) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            // Already on the primary, and this way the caller's own uncommitted changes are seen
+            return readProjectIds(userId);
+        }
+        return loadTransaction.execute(status -> readProjectIds(userId));
+    }
+
+    private int[] readProjectIds(Integer userId) {
+        IntArrayList fromDb = new IntArrayList();
+        for (Integer projectId : teamMemberRepository.findProjectIdsByUserId(userId)) {
+            fromDb.add(projectId);
+        }
+        fromDb.sort();
+        return fromDb.toArray();
+    }
+
+    private void evict(List<Integer> userIds) {
+        for (Integer userId : userIds) {
+            evictLocal(userId);
+        }
+        // Outlives any load that read the previous generation
+        long generationTtlSeconds = Duration.ofMinutes(redisTtlMinutes).toSeconds();
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Integer userId : userIds) {
+                    byte[] rawGenerationKey = (KEY_PREFIX + userId + GENERATION_SUFFIX).getBytes(StandardCharsets.UTF_8);
+                    // Move the generation first so in-flight loads that started before the change are discarded
+                    connection.stringCommands().incr(rawGenerationKey);
+                    connection.keyCommands().expire(rawGenerationKey, generationTtlSeconds);
+                    connection.keyCommands().del((KEY_PREFIX + userId).getBytes(StandardCharsets.UTF_8));
+                }
+                return null;
+            });
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, encode(userIds));
+        } catch (Exception e) {
+            logger.error("Failed to invalidate membership cache for user IDs {}: {}", userIds, e.getMessage());
+        }
+    }
+
+    private void evictLocal(Integer userId) {
+        localGenerations.merge(userId, 1L, Long::sum);
+        localCache.remove(userId);
+    }
+
+    private static String encode(int[] ids) {
+        StringBuilder sb = new StringBuilder(ids.length * 4);
+        for (int i = 0; i < ids.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(ids[i]);
+        }
+        return sb.toString();
+    }
+
+    private static String encode(List<Integer> ids) {
+        StringBuilder sb = new StringBuilder(ids.size() * 4);
+        for (Integer id : ids) {
+            if (sb.length() > 0) {
+                sb.append(',');
+            }
+            sb.append(id);
+        }
+        return sb.toString();
+    }
+
+    private static int[] decode(String value) {
+        if (value.isEmpty()) {
+            return EMPTY;
+        }
+        String[] parts = value.split(",");
+        int[] ids = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            ids[i] = Integer.parseInt(parts[i]);
+        }
+        return ids;
+    }
+
+    private record CachedProjectIds(int[] projectIds, long expiresAt) {
+    }
+}
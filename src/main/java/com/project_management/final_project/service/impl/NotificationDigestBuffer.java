@@ -0,0 +1,314 @@
+package com.project_management.final_project.service.impl;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Collects notification events per recipient and mails each recipient one digest per window.
+ * <p>
+ * A recipient's first event opens a window of windowMillis; every later event before it closes joins the same
+ * digest, so a burst such as auto-assigning 500 tasks becomes one mail per assignee. A digest keeps the first
+ * maxItems events for its table and only counts the rest.
+ * <p>
+ * Closed digests are rendered and sent by a small pool of sender threads. Each sender sends its batch through
+ * one {@link JavaMailSender#send(MimeMessage...)} call, which opens a single SMTP connection for the whole
+ * batch, and all senders share one rate limit of maxPerSecond messages.
+ */
+final class NotificationDigestBuffer {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationDigestBuffer.class);
+
+    private final JavaMailSender mailSender;
+    private final Settings settings;
+    private final DigestTemplate layout;
+    private final DigestTemplate item;
+    private final ConcurrentHashMap<String, Digest> digests = new ConcurrentHashMap<>();
+    // Events held in the digests' tables, bounded by maxBufferedEvents
+    private final AtomicInteger buffered = new AtomicInteger();
+    private final ExecutorService senders;
+    private final ScheduledExecutorService flusher;
+    private final Object throttleLock = new Object();
+    private long nextSendAt;
+
+    /**
+     * @param from Sender address, or empty for the mail session's default
+     * @param windowMillis How long a digest collects events after its first one
+     * @param maxItems Events listed in one digest; later ones are only counted
+     * @param maxBufferedEvents Events listed across all open digests; beyond it events are only counted,
+     *                          or dropped if their recipient has no open digest
+     * @param batchSize Digests sent over one SMTP connection
+     * @param connections Sender threads, and so concurrent SMTP connections
+     * @param maxPerSecond Messages sent per second across all connections, or 0 for no limit
+     */
+    record Settings(String from, long windowMillis, int maxItems, int maxBufferedEvents,
+                    int batchSize, int connections, int maxPerSecond) {
+    }
+
+    /**
+     * Open digest of one recipient; only changed inside the map's compute functions
+     */
+    private static final class Digest {
+        final String recipientName;
+        final long openedAt;
+        final List<NotificationEvent> items = new ArrayList<>();
+        final int[] counts = new int[NotificationEvent.Type.values().length];
+        int total;
+
+        Digest(String recipientName, long openedAt) {
+            this.recipientName = recipientName;
+            this.openedAt = openedAt;
+        }
+    }
+
+    private record ClosedDigest(String recipientEmail, Digest digest) {
+    }
+
+    NotificationDigestBuffer(JavaMailSender mailSender, Settings settings,
+                             DigestTemplate layout, DigestTemplate item) {
+        this.mailSender = mailSender;
+        this.settings = settings;
+        this.layout = layout;
+        this.item = item;
+        AtomicInteger senderCount = new AtomicInteger();
+        this.senders = Executors.newFixedThreadPool(Math.max(1, settings.connections()), runnable -> {
+            Thread thread = new Thread(runnable, "notification-mail-" + senderCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "notification-digest-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.nextSendAt = System.nanoTime();
+    }
+
+    /**
+     * Close and send due digests every interval until {@link #shutdown()}
+     */
+    void start(long flushIntervalMillis) {
+        flusher.scheduleWithFixedDelay(() -> {
+            try {
+                flush(false);
+            } catch (Exception e) {
+                logger.error("Sending notification digests failed: {}", e.getMessage(), e);
+            }
+        }, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Add an event to its recipient's open digest, opening one if needed
+     * @return false if the buffer is full and the event was dropped
+     */
+    boolean add(NotificationEvent event) {
+        if (event.recipientEmail() == null || event.recipientEmail().isBlank()) {
+            return false;
+        }
+        boolean[] added = new boolean[1];
+        digests.compute(event.recipientEmail(), (email, digest) -> {
+            if (digest == null) {
+                digest = new Digest(event.recipientName(), System.currentTimeMillis());
+            }
+            if (digest.items.size() < settings.maxItems()) {
+                if (buffered.incrementAndGet() <= settings.maxBufferedEvents()) {
+                    digest.items.add(event);
+                } else {
+                    buffered.decrementAndGet();
+                    if (digest.total == 0) {
+                        // Nothing to list; an open digest still counts the event under "more"
+                        return null;
+                    }
+                }
+            }
+            digest.counts[event.type().ordinal()]++;
+            digest.total++;
+            added[0] = true;
+            return digest;
+        });
+        if (!added[0]) {
+            logger.warn("Notification buffer is full, dropping {} notification for task ID {} to {}",
+                    event.type(), event.taskId(), event.recipientEmail());
+        }
+        return added[0];
+    }
+
+    /**
+     * Close digests and send them, waiting until all are sent
+     * @param all true to close every open digest, false for those whose window has passed
+     * @return Number of digests delivered
+     */
+    synchronized int flush(boolean all) {
+        long now = System.currentTimeMillis();
+        List<ClosedDigest> closed = new ArrayList<>();
+        for (String email : digests.keySet()) {
+            Digest[] taken = new Digest[1];
+            digests.computeIfPresent(email, (key, digest) -> {
+                if (!all && now - digest.openedAt < settings.windowMillis()) {
+                    return digest;
+                }
+                taken[0] = digest;
+                return null;
+            });
+            if (taken[0] != null) {
+                buffered.addAndGet(-taken[0].items.size());
+                closed.add(new ClosedDigest(email, taken[0]));
+            }
+        }
+        if (closed.isEmpty()) {
+            return 0;
+        }
+
+        int batchSize = Math.max(1, settings.batchSize());
+        List<Future<Integer>> batches = new ArrayList<>();
+        for (int start = 0; start < closed.size(); start += batchSize) {
+            List<ClosedDigest> batch = closed.subList(start, Math.min(closed.size(), start + batchSize));
+            batches.add(senders.submit(() -> send(batch)));
+        }
+        int delivered = 0;
+        for (Future<Integer> batch : batches) {
+            try {
+                delivered += batch.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (ExecutionException e) {
+                logger.error("Sending a notification digest batch failed: {}", e.getCause().getMessage(), e.getCause());
+            }
+        }
+        logger.info("Sent {} of {} notification digests in {} ms",
+                delivered, closed.size(), System.currentTimeMillis() - now);
+        return delivered;
+    }
+
+    /**
+     * Send every open digest, then stop the flusher and the senders
+     */
+    void shutdown() {
+        flusher.shutdownNow();
+        try {
+            flush(true);
+        } catch (Exception e) {
+            logger.warn("Could not send open notification digests on shutdown: {}", e.getMessage());
+        }
+        senders.shutdown();
+    }
+
+    /**
+     * Render a batch and send it over one connection
+     * @return Number of messages delivered
+     */
+    private int send(List<ClosedDigest> batch) throws InterruptedException {
+        List<MimeMessage> messages = new ArrayList<>(batch.size());
+        for (ClosedDigest closed : batch) {
+            try {
+                messages.add(render(closed));
+            } catch (MessagingException e) {
+                logger.error("Could not render the notification digest to {}: {}", closed.recipientEmail(), e.getMessage());
+            }
+        }
+        if (messages.isEmpty()) {
+            return 0;
+        }
+        throttle(messages.size());
+        try {
+            mailSender.send(messages.toArray(new MimeMessage[0]));
+            return messages.size();
+        } catch (MailSendException e) {
+            // Notifications are best effort; the next digest carries newer events
+            Map<Object, Exception> failed = e.getFailedMessages();
+            logger.error("Failed to send {} of {} notification digests: {}",
+                    failed.isEmpty() ? messages.size() : failed.size(), messages.size(), e.getMessage());
+            return failed.isEmpty() ? 0 : messages.size() - failed.size();
+        } catch (MailException e) {
+            logger.error("Failed to send {} notification digests: {}", messages.size(), e.getMessage());
+            return 0;
+        }
+    }
+
+    private MimeMessage render(ClosedDigest closed) throws MessagingException {
+        Digest digest = closed.digest();
+        StringBuilder items = new StringBuilder(digest.items.size() * 160);
+        for (NotificationEvent event : digest.items) {
+            item.render(items, key -> switch (key) {
+                case "type" -> event.type().label();
+                case "title" -> event.taskTitle();
+                case "project" -> event.projectName();
+                case "dueDate" -> event.dueDate() != null ? event.dueDate().toString() : "-";
+                default -> null;
+            });
+        }
+        int more = digest.total - digest.items.size();
+        StringBuilder html = new StringBuilder(items.length() + 1024);
+        layout.render(html, key -> switch (key) {
+            case "recipientName" -> digest.recipientName;
+            case "summary" -> summary(digest);
+            case "items" -> items.toString();
+            case "more" -> more > 0 ? "...and " + more + " more." : null;
+            default -> null;
+        });
+
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, false, "UTF-8");
+        if (settings.from() != null && !settings.from().isBlank()) {
+            helper.setFrom(settings.from());
+        }
+        helper.setTo(closed.recipientEmail());
+        helper.setSubject(digest.total == 1
+                ? digest.items.get(0).type().label() + ": " + digest.items.get(0).taskTitle()
+                : "You have " + digest.total + " task updates");
+        helper.setText(html.toString(), true);
+        return message;
+    }
+
+    private static String summary(Digest digest) {
+        StringBuilder summary = new StringBuilder();
+        for (NotificationEvent.Type type : NotificationEvent.Type.values()) {
+            int count = digest.counts[type.ordinal()];
+            if (count == 0) {
+                continue;
+            }
+            if (summary.length() > 0) {
+                summary.append(", ");
+            }
+            summary.append(type.label()).append(": ").append(count);
+        }
+        return summary.toString();
+    }
+
+    /**
+     * Wait for the batch's slot under the shared rate limit
+     */
+    private void throttle(int messages) throws InterruptedException {
+        if (settings.maxPerSecond() <= 0) {
+            return;
+        }
+        long cost = TimeUnit.SECONDS.toNanos(messages) / settings.maxPerSecond();
+        long sendAt;
+        synchronized (throttleLock) {
+            sendAt = Math.max(System.nanoTime(), nextSendAt);
+            nextSendAt = sendAt + cost;
+        }
+        long wait = sendAt - System.nanoTime();
+        if (wait > 0) {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        }
+    }
+}
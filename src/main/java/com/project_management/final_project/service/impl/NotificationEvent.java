@@ -0,0 +1,33 @@
+package com.project_management.final_project.service.impl;
+
+import java.time.LocalDate;
+
+/**
+ * One task notification for one recipient, captured with everything the digest shows so rendering
+ * needs no database access
+ */
+record NotificationEvent(
+        Type type,
+        String recipientEmail,
+        String recipientName,
+        int taskId,
+        String taskTitle,
+        String projectName,
+        LocalDate dueDate) {
+
+    enum Type {
+        ASSIGNED("Assigned to you"),
+        DUE_SOON("Due soon"),
+        OVERDUE("Overdue");
+
+        private final String label;
+
+        Type(String label) {
+            this.label = label;
+        }
+
+        String label() {
+            return label;
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.project_management.final_project.service.impl;
+
+import com.project_management.final_project.entities.Task;
+import com.project_management.final_project.entities.User;
+import com.project_management.final_project.repository.TaskRepository;
+import com.project_management.final_project.service.NotificationService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Notifications go through a {@link NotificationDigestBuffer}: events are only captured here, and the
+ * buffer's own threads render and send one digest per recipient once its window closes. The buffer is
+ * local to each node; a recipient with events on two nodes gets two digests.
+ */
+@Service
+public class NotificationServiceImpl implements NotificationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationServiceImpl.class);
+    private static final String REMINDER_JOB_LOCK_PREFIX = "notifications:reminders:";
+    private static final String DIGEST_TEMPLATE = "mail/notification-digest.html";
+    private static final String DIGEST_ITEM_TEMPLATE = "mail/notification-digest-item.html";
+    private static final EnumSet<Task.Status> DUE_SOON_STATUSES = EnumSet.of(Task.Status.TODO, Task.Status.IN_PROGRESS);
+    private static final EnumSet<Task.Status> OVERDUE_STATUSES =
+            EnumSet.of(Task.Status.TODO, Task.Status.IN_PROGRESS, Task.Status.OVERDUE);
+
+    private final JavaMailSender mailSender;
+    private final TaskRepository taskRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final TransactionTemplate readTransactionTemplate;
+    private NotificationDigestBuffer buffer;
+
+    @Value("${notifications.enabled:true}")
+    private boolean enabled;
+
+    @Value("${notifications.mail.from:${spring.mail.username:}}")
+    private String from;
+
+    @Value("${notifications.digest.window-ms:60000}")
+    private long windowMs;
+
+    @Value("${notifications.digest.flush-interval-ms:5000}")
+    private long flushIntervalMs;
+
+    @Value("${notifications.digest.max-items:50}")
+    private int maxItems;
+
+    @Value("${notifications.digest.max-buffered-events:100000}")
+    private int maxBufferedEvents;
+
+    @Value("${notifications.mail.batch-size:50}")
+    private int batchSize;
+
+    @Value("${notifications.mail.connections:2}")
+    private int connections;
+
+    @Value("${notifications.mail.max-per-second:10}")
+    private int maxPerSecond;
+
+    @Value("${notifications.reminders.due-soon-days:2}")
+    private int dueSoonDays;
+
+    @Value("${notifications.reminders.overdue-max-days:30}")
+    private int overdueMaxDays;
+
+    @Value("${notifications.reminders.chunk-size:1000}")
+    private int reminderChunkSize;
+
+    @Autowired
+    public NotificationServiceImpl(
+            JavaMailSender mailSender,
+            TaskRepository taskRepository,
+            StringRedisTemplate stringRedisTemplate,
+            PlatformTransactionManager transactionManager) {
+        this.mailSender = mailSender;
+        this.taskRepository = taskRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.readTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readTransactionTemplate.setReadOnly(true);
+    }
+
+    @PostConstruct
+    public void start() {
+        NotificationDigestBuffer.Settings settings = new NotificationDigestBuffer.Settings(
+                from, windowMs, maxItems, maxBufferedEvents, batchSize, connections, maxPerSecond);
+        buffer = new NotificationDigestBuffer(mailSender, settings,
+                DigestTemplate.load(DIGEST_TEMPLATE), DigestTemplate.load(DIGEST_ITEM_TEMPLATE));
+        buffer.start(flushIntervalMs);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        buffer.shutdown();
+    }
+
+    @Override
+    public void tasksAssigned(Collection<Task> tasks) {
+        if (!enabled || tasks.isEmpty()) {
+            return;
+        }
+        // Capture now, while the entities can still be loaded; the buffer's threads have no session
+        List<NotificationEvent> events = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            if (task.getAssignee() != null) {
+                events.add(toEvent(NotificationEvent.Type.ASSIGNED, task));
+            }
+        }
+        if (events.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    events.forEach(buffer::add);
+                }
+            });
+        } else {
+            events.forEach(buffer::add);
+        }
+    }
+
+    @Scheduled(cron = "${notifications.reminders.cron:0 0 8 * * *}")
+    public void runScheduledReminders() {
+        if (!enabled) {
+            return;
+        }
+        if (!acquireDailyLock()) {
+            logger.info("Due date reminders were already sent today by another node");
+            return;
+        }
+        try {
+            sendDueReminders();
+        } catch (Exception e) {
+            logger.error("Sending due date reminders failed: {}", e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public int sendDueReminders() {
+        long start = System.currentTimeMillis();
+        LocalDate today = LocalDate.now();
+        int dueSoon = queueReminders(NotificationEvent.Type.DUE_SOON, today, today.plusDays(dueSoonDays),
+                DUE_SOON_STATUSES);
+        int overdue = queueReminders(NotificationEvent.Type.OVERDUE, today.minusDays(overdueMaxDays),
+                today.minusDays(1), OVERDUE_STATUSES);
+        logger.info("Queued {} due soon and {} overdue reminders in {} ms",
+                dueSoon, overdue, System.currentTimeMillis() - start);
+        return dueSoon + overdue;
+    }
+
+    /**
+     * Queue one reminder per matching task, reading the tasks in keyset chunks
+     */
+    private int queueReminders(NotificationEvent.Type type, LocalDate from, LocalDate to,
+                               Collection<Task.Status> statuses) {
+        int queued = 0;
+        int afterId = 0;
+        while (true) {
+            int lastId = afterId;
+            List<NotificationEvent> events = Objects.requireNonNull(readTransactionTemplate.execute(status -> {
+                List<Task> tasks = taskRepository.findAssignedTasksDueBetween(
+                        lastId, from, to, statuses, PageRequest.of(0, reminderChunkSize));
+                List<NotificationEvent> chunk = new ArrayList<>(tasks.size());
+                for (Task task : tasks) {
+                    chunk.add(toEvent(type, task));
+                }
+                return chunk;
+            }));
+            for (NotificationEvent event : events) {
+                if (buffer.add(event)) {
+                    queued++;
+                }
+            }
+            if (events.size() < reminderChunkSize) {
+                return queued;
+            }
+            afterId = events.get(events.size() - 1).taskId();
+        }
+    }
+
+    private static NotificationEvent toEvent(NotificationEvent.Type type, Task task) {
+        User assignee = task.getAssignee();
+        return new NotificationEvent(type, assignee.getEmail(), assignee.getName(), task.getId(),
+                task.getTitle(), task.getProject().getName(), task.getDueDate());
+    }
+
+    /**
+     * One node sends the day's reminders; the lock expires before the next day's run
+     */
+    private boolean acquireDailyLock() {
+        try {
+            return Boolean.TRUE.equals(stringRedisTemplate.opsForValue()
+                    .setIfAbsent(REMINDER_JOB_LOCK_PREFIX + LocalDate.now(), "1", Duration.ofHours(20)));
+        } catch (Exception e) {
+            // A duplicate reminder is better than none
+            logger.warn("Could not take the reminder lock, sending without it: {}", e.getMessage());
+            return true;
+        }
+    }
+}
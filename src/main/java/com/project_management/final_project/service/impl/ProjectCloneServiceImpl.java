@@ -0,0 +1,344 @@
+package com.project_management.final_project.service.impl;
+
+import com.project_management.final_project.config.SecurityUtil;
+import com.project_management.final_project.dto.request.CloneProjectRequest;
+import com.project_management.final_project.dto.response.ProjectCloneJobResponse;
+import com.project_management.final_project.entities.Project;
+import com.project_management.final_project.exception.AppException;
+import com.project_management.final_project.exception.ErrorCode;
+import com.project_management.final_project.repository.ProjectCloneRepository;
+import com.project_management.final_project.repository.ProjectRepository;
+import com.project_management.final_project.service.ChangeVersionService;
+import com.project_management.final_project.service.MembershipService;
+import com.project_management.final_project.service.ProjectCloneService;
+import com.project_management.final_project.service.TaskScheduleService;
+import com.project_management.final_project.service.TimelineService;
+import com.project_management.final_project.util.collection.IntArrayList;
+import com.project_management.final_project.util.collection.IntIntMap;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Project copies made with INSERT ... SELECT on a small pool of job threads.
+ * <p>
+ * Projects with up to project-clone.single-transaction-max-tasks tasks are copied in one transaction, so a
+ * failed copy leaves nothing behind. Larger projects are copied in chunked transactions of
+ * project-clone.chunk-size tasks, keeping locks and undo small; if a chunk fails, the partial copy is
+ * deleted. Progress is written to a Redis hash after every chunk.
+ */
+@Service
+public class ProjectCloneServiceImpl implements ProjectCloneService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProjectCloneServiceImpl.class);
+    private static final String JOB_KEY_PREFIX = "project-clone:job:";
+
+    private static final String QUEUED = "QUEUED";
+    private static final String RUNNING = "RUNNING";
+    private static final String COMPLETED = "COMPLETED";
+    private static final String FAILED = "FAILED";
+
+    private final ProjectCloneRepository projectCloneRepository;
+    private final ProjectRepository projectRepository;
+    private final MembershipService membershipService;
+    private final ChangeVersionService changeVersionService;
+    private final TaskScheduleService taskScheduleService;
+    private final TimelineService timelineService;
+    private final SecurityUtil securityUtil;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor executor;
+
+    @Value("${project-clone.chunk-size:5000}")
+    private int chunkSize;
+
+    @Value("${project-clone.single-transaction-max-tasks:20000}")
+    private int singleTransactionMaxTasks;
+
+    @Value("${project-clone.job-ttl-hours:24}")
+    private long jobTtlHours;
+
+    /**
+     * What a job copies, fixed when it is started
+     */
+    private record CloneJob(String id, int ownerId, int sourceProjectId, String name, int shiftDays,
+                            boolean includeTeamMembers, boolean includeTasks, boolean keepAssignees,
+                            int tasksTotal) {
+    }
+
+    /**
+     * What a job has copied so far
+     */
+    private static final class CloneProgress {
+        int projectId;
+        IntArrayList memberUserIds = new IntArrayList();
+        int lastSourceTaskId;
+        int tasksCopied;
+        int dependenciesCopied;
+    }
+
+    @Autowired
+    public ProjectCloneServiceImpl(
+            ProjectCloneRepository projectCloneRepository,
+            ProjectRepository projectRepository,
+            MembershipService membershipService,
+            ChangeVersionService changeVersionService,
+            TaskScheduleService taskScheduleService,
+            TimelineService timelineService,
+            SecurityUtil securityUtil,
+            StringRedisTemplate stringRedisTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${project-clone.workers:2}") int workers,
+            @Value("${project-clone.queue-capacity:16}") int queueCapacity) {
+        this.projectCloneRepository = projectCloneRepository;
+        this.projectRepository = projectRepository;
+        this.membershipService = membershipService;
+        this.changeVersionService = changeVersionService;
+        this.taskScheduleService = taskScheduleService;
+        this.timelineService = timelineService;
+        this.securityUtil = securityUtil;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                workers, workers,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "project-clone-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        // Give running copies a chance to finish; a chunked copy cut short stays partial
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            logger.warn("Project clone jobs still running at shutdown: {}", executor.getActiveCount());
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ProjectCloneJobResponse startClone(Integer sourceProjectId, CloneProjectRequest request) {
+        Integer currentUserId = securityUtil.getCurrentUserId();
+        Project source = projectRepository.findById(sourceProjectId)
+                .orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "Project not found with ID: " + sourceProjectId));
+        if (!source.getCreatedBy().getId().equals(currentUserId)) {
+            logger.warn("User ID {} attempted to clone project ID {} created by user ID {}",
+                    currentUserId, sourceProjectId, source.getCreatedBy().getId());
+            throw new AppException(ErrorCode.UNAUTHORIZED, "You are not authorized to clone this project");
+        }
+        String name = request.getName().trim();
+        if (projectRepository.existsByNameAndCreatedById(name, currentUserId)) {
+            throw new AppException(ErrorCode.DUPLICATE_ENTITY, "Project name already exists, please choose a different name.");
+        }
+
+        int shiftDays = request.getStartDate() != null && source.getStartDate() != null
+                ? Math.toIntExact(ChronoUnit.DAYS.between(source.getStartDate(), request.getStartDate()))
+                : 0;
+        boolean includeTeamMembers = !Boolean.FALSE.equals(request.getIncludeTeamMembers());
+        boolean includeTasks = !Boolean.FALSE.equals(request.getIncludeTasks());
+        // Assignees are only kept when they are members of the copy
+        boolean keepAssignees = includeTeamMembers && !Boolean.FALSE.equals(request.getKeepAssignees());
+        int tasksTotal = includeTasks ? projectCloneRepository.countCopiedTasks(sourceProjectId) : 0;
+
+        CloneJob job = new CloneJob(UUID.randomUUID().toString(), currentUserId, sourceProjectId, name, shiftDays,
+                includeTeamMembers, includeTasks, keepAssignees, tasksTotal);
+        Map<String, String> fields = new HashMap<>();
+        fields.put("status", QUEUED);
+        fields.put("ownerId", String.valueOf(currentUserId));
+        fields.put("sourceProjectId", String.valueOf(sourceProjectId));
+        fields.put("tasksTotal", String.valueOf(tasksTotal));
+        stringRedisTemplate.opsForHash().putAll(jobKey(job.id()), fields);
+        stringRedisTemplate.expire(jobKey(job.id()), Duration.ofHours(jobTtlHours));
+
+        try {
+            executor.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            stringRedisTemplate.delete(jobKey(job.id()));
+            logger.warn("Project clone queue is full ({} queued), rejecting clone of project ID {}",
+                    executor.getQueue().size(), sourceProjectId);
+            throw new AppException(ErrorCode.SERVICE_BUSY);
+        }
+
+        logger.info("Queued clone job {} of project ID {} ({} tasks) for user ID {}",
+                job.id(), sourceProjectId, tasksTotal, currentUserId);
+        return ProjectCloneJobResponse.builder()
+                .jobId(job.id())
+                .status(QUEUED)
+                .sourceProjectId(sourceProjectId)
+                .tasksTotal(tasksTotal)
+                .build();
+    }
+
+    @Override
+    public ProjectCloneJobResponse getJob(String jobId) {
+        Integer currentUserId = securityUtil.getCurrentUserId();
+        Map<Object, Object> fields = stringRedisTemplate.opsForHash().entries(jobKey(jobId));
+        // Other users' jobs are reported as missing rather than forbidden
+        if (fields.isEmpty() || !String.valueOf(currentUserId).equals(fields.get("ownerId"))) {
+            throw new AppException(ErrorCode.NOT_FOUND, "Clone job not found: " + jobId);
+        }
+        Object projectId = fields.get("projectId");
+        return ProjectCloneJobResponse.builder()
+                .jobId(jobId)
+                .status((String) fields.get("status"))
+                .sourceProjectId(intField(fields, "sourceProjectId"))
+                .projectId(projectId != null ? Integer.valueOf((String) projectId) : null)
+                .tasksTotal(intField(fields, "tasksTotal"))
+                .tasksCopied(intField(fields, "tasksCopied"))
+                .membersCopied(intField(fields, "membersCopied"))
+                .dependenciesCopied(intField(fields, "dependenciesCopied"))
+                .error((String) fields.get("error"))
+                .build();
+    }
+
+    private void run(CloneJob job) {
+        long start = System.currentTimeMillis();
+        updateJob(job.id(), Map.of("status", RUNNING));
+        CloneProgress progress = new CloneProgress();
+        IntIntMap idMap = new IntIntMap(job.tasksTotal());
+        try {
+            if (job.tasksTotal() <= singleTransactionMaxTasks) {
+                transactionTemplate.executeWithoutResult(status -> {
+                    copyProject(job, progress);
+                    while (copyTaskChunk(job, progress, idMap)) {
+                        reportTasks(job, progress);
+                    }
+                    copyDependencies(job, progress, idMap);
+                });
+            } else {
+                copyInChunks(job, progress, idMap);
+            }
+        } catch (Exception e) {
+            logger.error("Clone job {} of project ID {} failed: {}", job.id(), job.sourceProjectId(), e.getMessage(), e);
+            updateJob(job.id(), Map.of("status", FAILED, "error", "The project could not be copied, please try again."));
+            return;
+        }
+
+        int projectId = progress.projectId;
+        if (!progress.memberUserIds.isEmpty()) {
+            List<Integer> memberUserIds = List.copyOf(progress.memberUserIds.asList());
+            membershipService.invalidate(memberUserIds);
+            changeVersionService.membershipChanged(projectId, memberUserIds);
+        }
+        changeVersionService.projectChanged(projectId);
+        taskScheduleService.scheduleChanged(projectId);
+        timelineService.tasksChanged(projectId);
+
+        Map<String, String> fields = new HashMap<>();
+        fields.put("status", COMPLETED);
+        fields.put("projectId", String.valueOf(projectId));
+        fields.put("tasksCopied", String.valueOf(progress.tasksCopied));
+        fields.put("membersCopied", String.valueOf(progress.memberUserIds.size()));
+        fields.put("dependenciesCopied", String.valueOf(progress.dependenciesCopied));
+        updateJob(job.id(), fields);
+        logger.info("Clone job {} copied project ID {} to project ID {}: {} members, {} tasks, {} dependencies in {} ms",
+                job.id(), job.sourceProjectId(), projectId, progress.memberUserIds.size(), progress.tasksCopied,
+                progress.dependenciesCopied, System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Copy a large project with each chunk of tasks in its own transaction, deleting the copy if one fails
+     */
+    private void copyInChunks(CloneJob job, CloneProgress progress, IntIntMap idMap) {
+        transactionTemplate.executeWithoutResult(status -> copyProject(job, progress));
+        try {
+            while (Boolean.TRUE.equals(transactionTemplate.execute(status -> copyTaskChunk(job, progress, idMap)))) {
+                reportTasks(job, progress);
+            }
+            transactionTemplate.executeWithoutResult(status -> copyDependencies(job, progress, idMap));
+        } catch (RuntimeException e) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> projectCloneRepository.deleteCopy(progress.projectId));
+                // Members may have looked up their projects while the copy existed
+                membershipService.invalidate(progress.memberUserIds.asList());
+            } catch (Exception cleanup) {
+                logger.error("Could not delete the partial copy (project ID {}) of clone job {}: {}",
+                        progress.projectId, job.id(), cleanup.getMessage(), cleanup);
+            }
+            throw e;
+        }
+    }
+
+    private void copyProject(CloneJob job, CloneProgress progress) {
+        progress.projectId = projectCloneRepository.insertProject(
+                job.sourceProjectId(), job.name(), job.shiftDays(), job.ownerId());
+        if (job.includeTeamMembers()) {
+            progress.memberUserIds = projectCloneRepository.copyTeamMembers(job.sourceProjectId(), progress.projectId);
+        }
+    }
+
+    /**
+     * @return true if a chunk was copied, false once no task is left
+     */
+    private boolean copyTaskChunk(CloneJob job, CloneProgress progress, IntIntMap idMap) {
+        if (!job.includeTasks()) {
+            return false;
+        }
+        int before = idMap.size();
+        int lastId = projectCloneRepository.copyTaskChunk(job.sourceProjectId(), progress.projectId,
+                progress.lastSourceTaskId, chunkSize, job.shiftDays(), job.keepAssignees(), job.ownerId(), idMap);
+        if (lastId == progress.lastSourceTaskId) {
+            return false;
+        }
+        progress.lastSourceTaskId = lastId;
+        progress.tasksCopied += idMap.size() - before;
+        return true;
+    }
+
+    private void copyDependencies(CloneJob job, CloneProgress progress, IntIntMap idMap) {
+        if (!idMap.isEmpty()) {
+            progress.dependenciesCopied = projectCloneRepository.copyDependencies(
+                    job.sourceProjectId(), progress.projectId, idMap, job.ownerId());
+        }
+    }
+
+    private void reportTasks(CloneJob job, CloneProgress progress) {
+        updateJob(job.id(), Map.of("tasksCopied", String.valueOf(progress.tasksCopied)));
+    }
+
+    /**
+     * Progress is informational; a Redis failure does not stop the copy
+     */
+    private void updateJob(String jobId, Map<String, String> fields) {
+        try {
+            stringRedisTemplate.opsForHash().putAll(jobKey(jobId), fields);
+            stringRedisTemplate.expire(jobKey(jobId), Duration.ofHours(jobTtlHours));
+        } catch (Exception e) {
+            logger.warn("Could not update the progress of clone job {}: {}", jobId, e.getMessage());
+        }
+    }
+
+    private static int intField(Map<Object, Object> fields, String name) {
+        Object value = fields.get(name);
+        return value != null ? Integer.parseInt((String) value) : 0;
+    }
+
+    private static String jobKey(String jobId) {
+        return JOB_KEY_PREFIX + jobId;
+    }
+}
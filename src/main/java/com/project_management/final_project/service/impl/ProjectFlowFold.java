@@ -0,0 +1,185 @@
+package com.project_management.final_project.service.impl;
+
+import com.project_management.final_project.entities.ProjectDailySnapshot;
+import com.project_management.final_project.entities.Task;
+import com.project_management.final_project.entities.TaskFlowMetric;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Single-pass fold of a project's status changes, ordered by (task, change time), into daily status counts
+ * and per-task flow metrics for the days [from, to).
+ * <p>
+ * Each change contributes -1 to its old status and +1 to its new status on the day it happened, and each task
+ * created in the period contributes +1 to its initial status on its creation day. The day counts are then the
+ * running sum of these deltas on top of the counts at the end of the day before {@code from}, so a period can
+ * be folded on its own once the previous day's snapshot exists.
+ * <p>
+ * Only one task is held at a time; memory is bounded by the number of days plus one metric per task seen.
+ */
+final class ProjectFlowFold {
+
+    private static final Task.Status[] STATUSES = Task.Status.values();
+
+    private final Integer projectId;
+    private final LocalDate from;
+    private final LocalDateTime periodStart;
+    private final int days;
+    private final int[][] statusDeltas;
+    private final int[] createdPerDay;
+    private final int[] completedPerDay;
+    private final List<TaskFlowMetric> flowMetrics = new ArrayList<>();
+
+    // Task currently being folded
+    private Integer taskId;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+    private Task.Status lastStatus;
+    private boolean firstRow;
+
+    ProjectFlowFold(Integer projectId, LocalDate from, LocalDate to) {
+        this.projectId = projectId;
+        this.from = from;
+        this.periodStart = from.atStartOfDay();
+        this.days = (int) Math.max(0, ChronoUnit.DAYS.between(from, to));
+        this.statusDeltas = new int[days][STATUSES.length];
+        this.createdPerDay = new int[days];
+        this.completedPerDay = new int[days];
+    }
+
+    /**
+     * Fold one row; rows of a task must be consecutive and in change order
+     * @see com.project_management.final_project.repository.AnalyticsRepository.FlowEventConsumer
+     */
+    void accept(int rowTaskId, LocalDateTime rowCreatedAt, Task.Status status,
+                Task.Status oldStatus, Task.Status newStatus, LocalDateTime changedAt) {
+        if (taskId == null || taskId != rowTaskId) {
+            finishTask();
+            taskId = rowTaskId;
+            // Tasks without a creation time are counted from the start of the period
+            createdAt = rowCreatedAt != null ? rowCreatedAt : periodStart;
+            startedAt = null;
+            completedAt = null;
+            lastStatus = status;
+            firstRow = true;
+        }
+
+        if (firstRow) {
+            firstRow = false;
+            if (!createdAt.isBefore(periodStart)) {
+                // Creation is not recorded in the history: the status before the first change is the initial one,
+                // and a task that never changed is still in its initial status
+                Task.Status initialStatus = changedAt == null ? status : (oldStatus != null ? oldStatus : newStatus);
+                int day = dayIndex(createdAt);
+                if (day >= 0) {
+                    statusDeltas[day][initialStatus.ordinal()]++;
+                    createdPerDay[day]++;
+                }
+            }
+        }
+
+        if (changedAt == null) {
+            return;
+        }
+        int day = dayIndex(changedAt);
+        if (day >= 0) {
+            if (oldStatus != null) {
+                statusDeltas[day][oldStatus.ordinal()]--;
+            }
+            if (newStatus != null) {
+                statusDeltas[day][newStatus.ordinal()]++;
+            }
+            if (newStatus == Task.Status.COMPLETED) {
+                completedPerDay[day]++;
+            }
+        }
+        if (newStatus == Task.Status.IN_PROGRESS && startedAt == null) {
+            startedAt = changedAt;
+        }
+        if (newStatus == Task.Status.COMPLETED) {
+            completedAt = changedAt;
+        }
+        if (newStatus != null) {
+            lastStatus = newStatus;
+        }
+    }
+
+    /**
+     * Daily snapshots of the period
+     * @param initialCounts Status counts at the end of the day before the period, indexed by status ordinal
+     * @return One snapshot per day, in date order
+     */
+    List<ProjectDailySnapshot> snapshots(int[] initialCounts) {
+        int[] counts = initialCounts.clone();
+        List<ProjectDailySnapshot> snapshots = new ArrayList<>(days);
+        for (int day = 0; day < days; day++) {
+            for (int status = 0; status < counts.length; status++) {
+                counts[status] += statusDeltas[day][status];
+            }
+            snapshots.add(ProjectDailySnapshot.builder()
+                    .projectId(projectId)
+                    .snapshotDate(from.plusDays(day))
+                    .unassigned(Math.max(0, counts[Task.Status.UNASSIGNED.ordinal()]))
+                    .todo(Math.max(0, counts[Task.Status.TODO.ordinal()]))
+                    .inProgress(Math.max(0, counts[Task.Status.IN_PROGRESS.ordinal()]))
+                    .completed(Math.max(0, counts[Task.Status.COMPLETED.ordinal()]))
+                    .overdue(Math.max(0, counts[Task.Status.OVERDUE.ordinal()]))
+                    .archived(Math.max(0, counts[Task.Status.ARCHIVED.ordinal()]))
+                    .createdToday(createdPerDay[day])
+                    .completedToday(completedPerDay[day])
+                    .build());
+        }
+        return snapshots;
+    }
+
+    /**
+     * Flow metrics of every task seen; completion is kept only if the task is still completed after its last change
+     */
+    List<TaskFlowMetric> flowMetrics() {
+        finishTask();
+        return flowMetrics;
+    }
+
+    /**
+     * Status counts of a snapshot, indexed by status ordinal
+     */
+    static int[] countsOf(ProjectDailySnapshot snapshot) {
+        int[] counts = new int[STATUSES.length];
+        if (snapshot != null) {
+            counts[Task.Status.UNASSIGNED.ordinal()] = snapshot.getUnassigned();
+            counts[Task.Status.TODO.ordinal()] = snapshot.getTodo();
+            counts[Task.Status.IN_PROGRESS.ordinal()] = snapshot.getInProgress();
+            counts[Task.Status.COMPLETED.ordinal()] = snapshot.getCompleted();
+            counts[Task.Status.OVERDUE.ordinal()] = snapshot.getOverdue();
+            counts[Task.Status.ARCHIVED.ordinal()] = snapshot.getArchived();
+        }
+        return counts;
+    }
+
+    private void finishTask() {
+        if (taskId == null) {
+            return;
+        }
+        flowMetrics.add(TaskFlowMetric.builder()
+                .taskId(taskId)
+                .projectId(projectId)
+                .createdAt(createdAt)
+                .startedAt(startedAt)
+                .completedAt(lastStatus == Task.Status.COMPLETED ? completedAt : null)
+                .build());
+        taskId = null;
+    }
+
+    /**
+     * Index of the day within the period, or -1 if the time falls outside of it
+     */
+    private int dayIndex(LocalDateTime time) {
+        long day = ChronoUnit.DAYS.between(from, time.toLocalDate());
+        return day >= 0 && day < days ? (int) day : -1;
+    }
+}
@@ -0,0 +1,443 @@
+package com.project_management.final_project.service.impl;
+
+import com.project_management.final_project.util.collection.IntArrayList;
+import com.project_management.final_project.util.collection.IntIntMap;
+
+import java.util.Arrays;
+
+/**
+ * Critical path schedule of one project's tasks, held in primitive arrays.
+ * <p>
+ * Tasks are dense indices; finish-to-start dependencies are stored as CSR adjacency arrays in both directions,
+ * and the tasks are kept in a topological order. Dates are epoch days, and a task occupies the days
+ * [start, finish] inclusive, so a task without dates takes one day.
+ * <p>
+ * Forward pass: a task starts on the later of its own start date (or the schedule origin if it has none) and
+ * the day after its last predecessor finishes. Backward pass: a task must finish the day before its first
+ * successor has to start, or by the projected finish (the latest earliest finish) if it has no successors.
+ * Slack is latest start minus earliest start, never negative; tasks without slack are critical.
+ * <p>
+ * A change of one task's dates is propagated only to the tasks downstream of it (forward) or upstream of it
+ * (backward), walking the topological order from the task's position. Adding or removing tasks or links
+ * needs a new instance.
+ * <p>
+ * Not thread-safe; callers synchronize on the instance.
+ */
+final class ProjectSchedule implements ProjectVersionCache.Versioned {
+
+    static final int NO_DATE = Integer.MIN_VALUE;
+
+    private final int size;
+    private final int origin;
+    private final int[] taskIds;
+    private final IntIntMap indexById;
+    private final int dependencyCount;
+    private final int dependencyVersion;
+
+    // Planned dates (NO_DATE if unset) and the duration in days derived from them
+    private final int[] plannedStart;
+    private final int[] plannedDue;
+    private final int[] duration;
+
+    // successors of i: successors[successorOffsets[i] .. successorOffsets[i + 1]), same for predecessors
+    private final int[] successorOffsets;
+    private final int[] successors;
+    private final int[] predecessorOffsets;
+    private final int[] predecessors;
+
+    // order[position[i]] == i
+    private final int[] order;
+    private final int[] position;
+
+    private final int[] earliestStart;
+    private final int[] earliestFinish;
+    private final int[] latestStart;
+    private final int[] latestFinish;
+    private int projectedFinish;
+
+    // Tasks waiting to be recomputed during an incremental update; all false between updates
+    private final boolean[] pending;
+
+    private long version;
+
+    /**
+     * Build the schedule and run both passes
+     * @param origin Start day of tasks without a start date or predecessors
+     * @param dependencyVersion The project's dependency version the links were read at
+     * @param taskIds Task IDs
+     * @param startDates Planned start day per task, NO_DATE if unset
+     * @param dueDates Due day per task, NO_DATE if unset
+     * @param predecessorIds Predecessor task ID per link; links to unknown tasks are ignored
+     * @param successorIds Successor task ID per link
+     * @throws IllegalStateException if the links contain a cycle
+     */
+    ProjectSchedule(int origin, int dependencyVersion, IntArrayList taskIds, IntArrayList startDates,
+                    IntArrayList dueDates, IntArrayList predecessorIds, IntArrayList successorIds) {
+        this.size = taskIds.size();
+        this.origin = origin;
+        this.dependencyVersion = dependencyVersion;
+        this.taskIds = taskIds.toArray();
+        this.indexById = new IntIntMap(size);
+        this.plannedStart = startDates.toArray();
+        this.plannedDue = dueDates.toArray();
+        this.duration = new int[size];
+        for (int i = 0; i < size; i++) {
+            indexById.put(this.taskIds[i], i);
+            duration[i] = durationOf(plannedStart[i], plannedDue[i]);
+        }
+
+        // Translate links to index pairs, then bucket them by source (counting sort) in both directions
+        int links = predecessorIds.size();
+        int[] from = new int[links];
+        int[] to = new int[links];
+        int edges = 0;
+        for (int i = 0; i < links; i++) {
+            int predecessor = indexById.get(predecessorIds.get(i), -1);
+            int successor = indexById.get(successorIds.get(i), -1);
+            if (predecessor >= 0 && successor >= 0) {
+                from[edges] = predecessor;
+                to[edges] = successor;
+                edges++;
+            }
+        }
+        this.dependencyCount = edges;
+        this.successorOffsets = new int[size + 1];
+        this.successors = new int[edges];
+        this.predecessorOffsets = new int[size + 1];
+        this.predecessors = new int[edges];
+        bucket(from, to, edges, successorOffsets, successors);
+        bucket(to, from, edges, predecessorOffsets, predecessors);
+
+        this.order = new int[size];
+        this.position = new int[size];
+        sortTopologically();
+
+        this.earliestStart = new int[size];
+        this.earliestFinish = new int[size];
+        this.latestStart = new int[size];
+        this.latestFinish = new int[size];
+        this.pending = new boolean[size];
+        computeAll();
+    }
+
+    /**
+     * Apply new planned dates to one task and propagate the effect
+     * @param taskId The task ID
+     * @param startDate The new planned start day, NO_DATE if unset
+     * @param dueDate The new due day, NO_DATE if unset
+     * @return false if the task is not part of this schedule
+     */
+    boolean updateTask(int taskId, int startDate, int dueDate) {
+        int task = indexById.get(taskId, -1);
+        if (task < 0) {
+            return false;
+        }
+        int newDuration = durationOf(startDate, dueDate);
+        boolean durationChanged = newDuration != duration[task];
+        plannedStart[task] = startDate;
+        plannedDue[task] = dueDate;
+        duration[task] = newDuration;
+
+        // Forward: only tasks whose earliest finish moved pass the change on to their successors
+        pending[task] = true;
+        int remaining = 1;
+        for (int p = position[task]; p < size && remaining > 0; p++) {
+            int current = order[p];
+            if (!pending[current]) {
+                continue;
+            }
+            pending[current] = false;
+            remaining--;
+            int previousFinish = earliestFinish[current];
+            computeEarliest(current);
+            if (earliestFinish[current] != previousFinish) {
+                remaining += markAll(successors, successorOffsets[current], successorOffsets[current + 1]);
+            }
+        }
+
+        int previousProjectedFinish = projectedFinish;
+        projectedFinish = maxEarliestFinish();
+        if (projectedFinish != previousProjectedFinish) {
+            // Every task without successors has a new deadline
+            computeLatestAll();
+        } else if (durationChanged) {
+            // Latest dates do not depend on earliest ones, only the task's own latest start and its predecessors move
+            pending[task] = true;
+            remaining = 1;
+            for (int p = position[task]; p >= 0 && remaining > 0; p--) {
+                int current = order[p];
+                if (!pending[current]) {
+                    continue;
+                }
+                pending[current] = false;
+                remaining--;
+                int previousStart = latestStart[current];
+                computeLatest(current);
+                if (latestStart[current] != previousStart) {
+                    remaining += markAll(predecessors, predecessorOffsets[current], predecessorOffsets[current + 1]);
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Check if adding the link predecessor -> successor would close a cycle, i.e. the successor already reaches
+     * the predecessor. Only tasks placed before the predecessor in the topological order can lie on such a path.
+     * @return true if the link would create a cycle
+     */
+    boolean wouldCreateCycle(int predecessorId, int successorId) {
+        int predecessor = indexById.get(predecessorId, -1);
+        int successor = indexById.get(successorId, -1);
+        if (predecessor < 0 || successor < 0) {
+            // A task missing from the schedule was created after it was built and has no links yet
+            return false;
+        }
+        if (predecessor == successor) {
+            return true;
+        }
+        if (position[successor] > position[predecessor]) {
+            return false;
+        }
+
+        int limit = position[predecessor];
+        boolean[] visited = new boolean[size];
+        int[] stack = new int[size];
+        int top = 0;
+        stack[top++] = successor;
+        visited[successor] = true;
+        while (top > 0) {
+            int current = stack[--top];
+            for (int e = successorOffsets[current]; e < successorOffsets[current + 1]; e++) {
+                int next = successors[e];
+                if (next == predecessor) {
+                    return true;
+                }
+                if (!visited[next] && position[next] < limit) {
+                    visited[next] = true;
+                    stack[top++] = next;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * One critical path from a task finishing on the projected finish back to a task that could not start
+     * earlier, following links without slack
+     * @return Task indices in schedule order, empty if there are no tasks
+     */
+    int[] criticalPath() {
+        int last = -1;
+        for (int p = size - 1; p >= 0; p--) {
+            int task = order[p];
+            if (earliestFinish[task] == projectedFinish) {
+                last = task;
+                break;
+            }
+        }
+        if (last < 0) {
+            return new int[0];
+        }
+
+        IntArrayList path = new IntArrayList();
+        int current = last;
+        while (current >= 0) {
+            path.add(current);
+            int next = -1;
+            for (int e = predecessorOffsets[current]; e < predecessorOffsets[current + 1]; e++) {
+                int predecessor = predecessors[e];
+                if (earliestFinish[predecessor] + 1 == earliestStart[current] && isCritical(predecessor)) {
+                    next = predecessor;
+                    break;
+                }
+            }
+            current = next;
+        }
+
+        int[] reversed = path.toArray();
+        for (int i = 0, j = reversed.length - 1; i < j; i++, j--) {
+            int swap = reversed[i];
+            reversed[i] = reversed[j];
+            reversed[j] = swap;
+        }
+        return reversed;
+    }
+
+    int indexOf(int taskId) {
+        return indexById.get(taskId, -1);
+    }
+
+    int size() {
+        return size;
+    }
+
+    int dependencyCount() {
+        return dependencyCount;
+    }
+
+    int dependencyVersion() {
+        return dependencyVersion;
+    }
+
+    int origin() {
+        return origin;
+    }
+
+    int projectedFinish() {
+        return projectedFinish;
+    }
+
+    int taskId(int task) {
+        return taskIds[task];
+    }
+
+    int plannedDue(int task) {
+        return plannedDue[task];
+    }
+
+    int earliestStart(int task) {
+        return earliestStart[task];
+    }
+
+    int earliestFinish(int task) {
+        return earliestFinish[task];
+    }
+
+    int latestStart(int task) {
+        return latestStart[task];
+    }
+
+    int latestFinish(int task) {
+        return latestFinish[task];
+    }
+
+    int slack(int task) {
+        return latestStart[task] - earliestStart[task];
+    }
+
+    boolean isCritical(int task) {
+        return latestStart[task] == earliestStart[task];
+    }
+
+    /**
+     * Days the task is projected to finish after its due date, 0 if on time or without a due date
+     */
+    int slip(int task) {
+        return plannedDue[task] == NO_DATE ? 0 : Math.max(0, earliestFinish[task] - plannedDue[task]);
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    private void computeAll() {
+        for (int p = 0; p < size; p++) {
+            computeEarliest(order[p]);
+        }
+        projectedFinish = maxEarliestFinish();
+        computeLatestAll();
+    }
+
+    private void computeLatestAll() {
+        for (int p = size - 1; p >= 0; p--) {
+            computeLatest(order[p]);
+        }
+    }
+
+    private void computeEarliest(int task) {
+        int start = plannedStart[task] != NO_DATE ? plannedStart[task] : origin;
+        for (int e = predecessorOffsets[task]; e < predecessorOffsets[task + 1]; e++) {
+            start = Math.max(start, earliestFinish[predecessors[e]] + 1);
+        }
+        earliestStart[task] = start;
+        earliestFinish[task] = start + duration[task] - 1;
+    }
+
+    private void computeLatest(int task) {
+        int finish = projectedFinish;
+        for (int e = successorOffsets[task]; e < successorOffsets[task + 1]; e++) {
+            finish = Math.min(finish, latestStart[successors[e]] - 1);
+        }
+        latestFinish[task] = finish;
+        latestStart[task] = finish - duration[task] + 1;
+    }
+
+    private int maxEarliestFinish() {
+        int max = origin - 1;
+        for (int i = 0; i < size; i++) {
+            max = Math.max(max, earliestFinish[i]);
+        }
+        return max;
+    }
+
+    /**
+     * Mark the tasks in adjacency[from, to) as pending
+     * @return Number of tasks newly marked
+     */
+    private int markAll(int[] adjacency, int from, int to) {
+        int marked = 0;
+        for (int e = from; e < to; e++) {
+            if (!pending[adjacency[e]]) {
+                pending[adjacency[e]] = true;
+                marked++;
+            }
+        }
+        return marked;
+    }
+
+    /**
+     * Kahn's algorithm over the CSR arrays; sources are taken in index order, so the order is deterministic
+     */
+    private void sortTopologically() {
+        int[] inDegree = new int[size];
+        int tail = 0;
+        for (int i = 0; i < size; i++) {
+            inDegree[i] = predecessorOffsets[i + 1] - predecessorOffsets[i];
+            if (inDegree[i] == 0) {
+                order[tail++] = i;
+            }
+        }
+        for (int head = 0; head < tail; head++) {
+            int task = order[head];
+            position[task] = head;
+            for (int e = successorOffsets[task]; e < successorOffsets[task + 1]; e++) {
+                if (--inDegree[successors[e]] == 0) {
+                    order[tail++] = successors[e];
+                }
+            }
+        }
+        if (tail != size) {
+            throw new IllegalStateException("Task dependencies contain a cycle through " + (size - tail) + " tasks");
+        }
+    }
+
+    /**
+     * Group the edges by source into CSR form
+     */
+    private static void bucket(int[] sources, int[] targets, int edges, int[] offsets, int[] adjacency) {
+        for (int e = 0; e < edges; e++) {
+            offsets[sources[e] + 1]++;
+        }
+        for (int i = 1; i < offsets.length; i++) {
+            offsets[i] += offsets[i - 1];
+        }
+        int[] next = Arrays.copyOf(offsets, offsets.length - 1);
+        for (int e = 0; e < edges; e++) {
+            adjacency[next[sources[e]]++] = targets[e];
+        }
+    }
+
+    private static int durationOf(int startDate, int dueDate) {
+        if (startDate == NO_DATE || dueDate == NO_DATE || dueDate < startDate) {
+            return 1;
+        }
+        return dueDate - startDate + 1;
+    }
+}
@@ -17,6 +17,7 @@ import com.project_management.final_project.exception.ErrorCode;
 import com.project_management.final_project.repository.ProjectRepository;
 import com.project_management.final_project.repository.TeamMemberRepository;
 import com.project_management.final_project.repository.UserRepository;
+import com.project_management.final_project.service.ChangeVersionService;
 import com.project_management.final_project.service.ProjectService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -24,6 +25,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
@@ -40,17 +42,20 @@ public class ProjectServiceImpl implements ProjectService {
     private final UserRepository userRepository;
     private final TeamMemberRepository teamMemberRepository;
     private final SecurityUtil securityUtil;
+    private final ChangeVersionService changeVersionService;
 
     @Autowired
     public ProjectServiceImpl(
             ProjectRepository projectRepository, 
             UserRepository userRepository, 
             TeamMemberRepository teamMemberRepository,
-            SecurityUtil securityUtil) {
+            SecurityUtil securityUtil,
+            ChangeVersionService changeVersionService) {
         this.projectRepository = projectRepository;
         this.userRepository = userRepository;
         this.teamMemberRepository = teamMemberRepository;
         this.securityUtil = securityUtil;
+        this.changeVersionService = changeVersionService;
     }
 
     @Override
@@ -205,6 +210,7 @@ public class ProjectServiceImpl implements ProjectService {
             
             // Save updated project
             Project updatedProject = projectRepository.save(project);
+            changeVersionService.projectChanged(id);
             
             logger.info("Updated project ID {} by user ID {}", id, currentUserId);
             
@@ -310,6 +316,21 @@ public class ProjectServiceImpl implements ProjectService {
                     Sort.by(direction, filterRequest.getSortBy())
             );
             
+            // Without a total, skip the count query and only look one row ahead
+            if (Boolean.FALSE.equals(filterRequest.getIncludeTotal())) {
+                Slice<Project> projectsSlice = projectRepository.findProjectSliceByTeamMemberUserIdWithFilters(
+                        currentUserId,
+                        filterRequest.getName(),
+                        filterRequest.getStatus(),
+                        pageable
+                );
+                
+                logger.info("Retrieved {} projects (no total) where user ID {} is a team member", 
+                        projectsSlice.getNumberOfElements(), currentUserId);
+                
+                return PagedResponse.fromSlice(projectsSlice.map(ProjectResponse::fromEntity));
+            }
+            
             // Query projects where the user is a team member with filters
             Page<Project> projectsPage = projectRepository.findProjectsByTeamMemberUserIdWithFilters(
                     currentUserId,
@@ -333,7 +354,7 @@ public class ProjectServiceImpl implements ProjectService {
     }
 
     @Override
-    public PagedResponse<ProjectDropdownResponse> getMyProjectsForDropdown(String search, Integer page, Integer size) {
+    public PagedResponse<ProjectDropdownResponse> getMyProjectsForDropdown(String search, Integer page, Integer size, boolean includeTotal) {
         try {
             // Get current user ID
             Integer currentUserId = securityUtil.getCurrentUserId();
@@ -341,6 +362,16 @@ public class ProjectServiceImpl implements ProjectService {
             // Create pageable with sorting by name
             Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.ASC, "name"));
             
+            if (!includeTotal) {
+                Slice<Project> projectsSlice = projectRepository.findProjectSliceByTeamMemberUserIdWithFilters(
+                        currentUserId,
+                        search,
+                        null,
+                        pageable
+                );
+                return PagedResponse.fromSlice(projectsSlice.map(ProjectDropdownResponse::fromEntity));
+            }
+            
             // Query projects where the user is a team member with name filter
             Page<Project> projectsPage = projectRepository.findProjectsByTeamMemberUserIdWithFilters(
                     currentUserId,
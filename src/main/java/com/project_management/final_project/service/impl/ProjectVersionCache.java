@@ -0,0 +1,174 @@
+package com.project_management.final_project.service.impl;
+
+import com.project_management.final_project.util.TransactionUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Values built from a project's rows, cached per node for at most maxProjects projects (least recently used
+ * first out) and tied to the Redis counter {keyPrefix}{projectId}.
+ * <p>
+ * A cached value is used only while it carries the current counter value. Changes increment the counter after
+ * commit; the node that made a change may apply it to its cached value in place when the counter moved by
+ * exactly one, i.e. when no other change happened in between, and every other node rebuilds on its next read.
+ * Without Redis nothing is cached.
+ * <p>
+ * Values are built in a read-write transaction so they come from the primary: a replica lagging behind the
+ * counter would be cached as current. Callers lock a value while reading or changing it.
+ */
+final class ProjectVersionCache<T extends ProjectVersionCache.Versioned> {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProjectVersionCache.class);
+
+    /**
+     * A cached value, stamped with the counter value it is current for
+     */
+    interface Versioned {
+        long getVersion();
+
+        void setVersion(long version);
+    }
+
+    private final String name;
+    private final String keyPrefix;
+    private final int maxProjects;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final TransactionTemplate loadTransaction;
+    private final Map<Integer, T> values = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * @param name What is cached, for log messages
+     * @param keyPrefix Prefix of the counter keys, followed by the project ID
+     * @param maxProjects Projects kept per node
+     */
+    ProjectVersionCache(String name, String keyPrefix, int maxProjects,
+                        StringRedisTemplate stringRedisTemplate, PlatformTransactionManager transactionManager) {
+        this.name = name;
+        this.keyPrefix = keyPrefix;
+        this.maxProjects = maxProjects;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Get the cached value if it is current, otherwise build it from the database
+     * @param usable Further condition a current cached value must meet, checked while holding its lock
+     * @param loader Builds the value; runs inside the load transaction
+     */
+    T current(Integer projectId, Predicate<T> usable, Supplier<T> loader) {
+        Long version = readVersion(projectId);
+        T cached = cached(projectId);
+        if (cached != null && version != null) {
+            synchronized (cached) {
+                if (cached.getVersion() == version && usable.test(cached)) {
+                    return cached;
+                }
+            }
+        }
+
+        long start = System.nanoTime();
+        T value = loadTransaction.execute(status -> loader.get());
+        logger.debug("Built {} of project ID {} in {} ms", name, projectId, (System.nanoTime() - start) / 1_000_000);
+
+        if (version != null) {
+            value.setVersion(version);
+            synchronized (values) {
+                values.put(projectId, value);
+                Iterator<T> eldest = values.values().iterator();
+                while (values.size() > maxProjects && eldest.hasNext()) {
+                    eldest.next();
+                    eldest.remove();
+                }
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Once the current transaction commits, increment the project's counter and drop its cached value
+     */
+    void changed(Integer projectId) {
+        TransactionUtil.afterCommit(() -> {
+            incrementVersion(projectId);
+            evict(projectId);
+        });
+    }
+
+    /**
+     * Once the current transaction commits, increment the project's counter and apply the change to the
+     * cached value if no other change happened in between, otherwise drop it
+     * @param update Applies the change while holding the value's lock and returns false if it cannot; the
+     *               value may already have been built with the change, so it must set absolute values
+     */
+    void changed(Integer projectId, Predicate<T> update) {
+        TransactionUtil.afterCommit(() -> {
+            Long version = incrementVersion(projectId);
+            T cached = cached(projectId);
+            if (cached == null) {
+                return;
+            }
+            synchronized (cached) {
+                if (version != null && cached.getVersion() == version - 1 && update.test(cached)) {
+                    cached.setVersion(version);
+                    return;
+                }
+            }
+            evict(projectId);
+        });
+    }
+
+    private T cached(Integer projectId) {
+        synchronized (values) {
+            return values.get(projectId);
+        }
+    }
+
+    private void evict(Integer projectId) {
+        synchronized (values) {
+            values.remove(projectId);
+        }
+    }
+
+    /**
+     * Read the project's counter, initializing a missing one
+     * @return The counter value, or null if Redis is unavailable
+     */
+    private Long readVersion(Integer projectId) {
+        String key = keyPrefix + projectId;
+        try {
+            String value = stringRedisTemplate.opsForValue().get(key);
+            if (value == null) {
+                // Start at the current time so a counter lost with Redis never returns to a cached value
+                stringRedisTemplate.opsForValue().setIfAbsent(key, String.valueOf(System.currentTimeMillis()));
+                value = stringRedisTemplate.opsForValue().get(key);
+            }
+            return value != null ? Long.parseLong(value) : null;
+        } catch (Exception e) {
+            logger.debug("Version of the {} of project ID {} unavailable: {}", name, projectId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * @return The counter value after the increment, or null if Redis is unavailable
+     */
+    private Long incrementVersion(Integer projectId) {
+        String key = keyPrefix + projectId;
+        try {
+            stringRedisTemplate.opsForValue().setIfAbsent(key, String.valueOf(System.currentTimeMillis()));
+            return stringRedisTemplate.opsForValue().increment(key);
+        } catch (Exception e) {
+            logger.warn("Failed to bump the version of the {} of project ID {}: {}", name, projectId, e.getMessage());
+            return null;
+        }
+    }
+}
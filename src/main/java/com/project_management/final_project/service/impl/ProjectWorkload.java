@@ -0,0 +1,274 @@
+package com.project_management.final_project.service.impl;
+
+import java.util.Arrays;
+
+/**
+ * Workload counters of one project's team members, held in parallel arrays indexed by member, and the
+ * scoring used to rank them as assignees.
+ * <p>
+ * Each component of the score lies in [0, 1] and is weighted by {@link Weights}:
+ * <ul>
+ *     <li>workload: 1 / (1 + open tasks in the project)</li>
+ *     <li>specialization: 1 if the member has the requested specialization, otherwise 0</li>
+ *     <li>due pressure: 1 / (1 + open tasks that are overdue or due within the horizon)</li>
+ *     <li>cycle time: m / (m + c), with c the member's average cycle time and m the team median, so 0.5 for a
+ *     member at the median and for members without completed work</li>
+ * </ul>
+ * Ranking is a single pass keeping the best k in a bounded min-heap, O(n log k).
+ * <p>
+ * Not thread-safe once counters are changed; shared instances are only read, bulk assignment works on a
+ * {@link #copy()}.
+ */
+final class ProjectWorkload {
+
+    /**
+     * Weight of each score component
+     */
+    record Weights(double workload, double specialization, double duePressure, double cycleTime) {
+    }
+
+    private final int size;
+    private final int[] userIds;
+    private final String[] names;
+    private final String[] emails;
+    private final int[] specializationIds;
+    private final String[] specializationNames;
+    private final double[] averageCycleHours;
+    private final double medianCycleHours;
+    private final int[] openTasks;
+    private final int[] dueSoonTasks;
+
+    // Cache validation
+    private final String eTag;
+    private final long loadedAt;
+
+    /**
+     * @param userIds User ID per member
+     * @param names Name per member
+     * @param emails Email per member
+     * @param specializationIds Specialization ID per member, 0 if none
+     * @param specializationNames Specialization name per member, null if none
+     * @param openTasks Open tasks per member in the project
+     * @param dueSoonTasks Open tasks per member that are overdue or due within the horizon
+     * @param averageCycleHours Average cycle time per member, NaN if unknown
+     * @param eTag The project's change tag the counters were read at, or null
+     */
+    ProjectWorkload(int[] userIds, String[] names, String[] emails, int[] specializationIds,
+                    String[] specializationNames, int[] openTasks, int[] dueSoonTasks, double[] averageCycleHours,
+                    String eTag) {
+        this.size = userIds.length;
+        this.userIds = userIds;
+        this.names = names;
+        this.emails = emails;
+        this.specializationIds = specializationIds;
+        this.specializationNames = specializationNames;
+        this.openTasks = openTasks;
+        this.dueSoonTasks = dueSoonTasks;
+        this.averageCycleHours = averageCycleHours;
+        this.eTag = eTag;
+        this.loadedAt = System.currentTimeMillis();
+        this.medianCycleHours = median(averageCycleHours);
+    }
+
+    private ProjectWorkload(ProjectWorkload source) {
+        this.size = source.size;
+        this.userIds = source.userIds;
+        this.names = source.names;
+        this.emails = source.emails;
+        this.specializationIds = source.specializationIds;
+        this.specializationNames = source.specializationNames;
+        this.averageCycleHours = source.averageCycleHours;
+        this.medianCycleHours = source.medianCycleHours;
+        this.openTasks = source.openTasks.clone();
+        this.dueSoonTasks = source.dueSoonTasks.clone();
+        this.eTag = source.eTag;
+        this.loadedAt = source.loadedAt;
+    }
+
+    /**
+     * @return A copy whose counters can be changed without affecting this instance
+     */
+    ProjectWorkload copy() {
+        return new ProjectWorkload(this);
+    }
+
+    /**
+     * Rank the members
+     * @param limit Maximum number of members to return
+     * @param specializationId The requested specialization, or null to ignore specializations
+     * @param weights The component weights
+     * @return Member indices, best first
+     */
+    int[] top(int limit, Integer specializationId, Weights weights) {
+        int k = Math.min(limit, size);
+        if (k <= 0) {
+            return new int[0];
+        }
+
+        // Min-heap of the best k so far; the root is the weakest of them
+        int[] heap = new int[k];
+        double[] heapScores = new double[k];
+        int heapSize = 0;
+        for (int member = 0; member < size; member++) {
+            double score = score(member, specializationId, weights);
+            if (heapSize < k) {
+                heap[heapSize] = member;
+                heapScores[heapSize] = score;
+                siftUp(heap, heapScores, heapSize++);
+            } else if (isBetter(member, score, heap[0], heapScores[0])) {
+                heap[0] = member;
+                heapScores[0] = score;
+                siftDown(heap, heapScores, heapSize);
+            }
+        }
+
+        // Pop the weakest first, filling from the back
+        int[] ranked = new int[heapSize];
+        for (int i = heapSize - 1; i >= 0; i--) {
+            ranked[i] = heap[0];
+            heap[0] = heap[i];
+            heapScores[0] = heapScores[i];
+            siftDown(heap, heapScores, i);
+        }
+        return ranked;
+    }
+
+    double score(int member, Integer specializationId, Weights weights) {
+        double score = weights.workload() / (1.0 + openTasks[member])
+                + weights.duePressure() / (1.0 + dueSoonTasks[member])
+                + weights.cycleTime() * cycleTimeScore(member);
+        if (specializationId != null && specializationIds[member] == specializationId) {
+            score += weights.specialization();
+        }
+        return score;
+    }
+
+    /**
+     * Count a task just assigned to a member
+     * @param member The member index
+     * @param dueSoon Whether the task is overdue or due within the horizon
+     */
+    void recordAssignment(int member, boolean dueSoon) {
+        openTasks[member]++;
+        if (dueSoon) {
+            dueSoonTasks[member]++;
+        }
+    }
+
+    boolean isSpecializationMatch(int member, Integer specializationId) {
+        return specializationId != null && specializationIds[member] == specializationId;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int userId(int member) {
+        return userIds[member];
+    }
+
+    String name(int member) {
+        return names[member];
+    }
+
+    String email(int member) {
+        return emails[member];
+    }
+
+    String specializationName(int member) {
+        return specializationNames[member];
+    }
+
+    int openTasks(int member) {
+        return openTasks[member];
+    }
+
+    int dueSoonTasks(int member) {
+        return dueSoonTasks[member];
+    }
+
+    /**
+     * @return The member's average cycle time in hours, or NaN if they have not completed any task
+     */
+    double averageCycleHours(int member) {
+        return averageCycleHours[member];
+    }
+
+    String getETag() {
+        return eTag;
+    }
+
+    long getLoadedAt() {
+        return loadedAt;
+    }
+
+    private double cycleTimeScore(int member) {
+        double hours = averageCycleHours[member];
+        if (Double.isNaN(hours) || Double.isNaN(medianCycleHours)) {
+            return 0.5;
+        }
+        return medianCycleHours + hours > 0 ? medianCycleHours / (medianCycleHours + hours) : 0.5;
+    }
+
+    /**
+     * Higher score wins; ties go to the member with fewer open tasks, then to the lower user ID
+     */
+    private boolean isBetter(int member, double score, int other, double otherScore) {
+        if (score != otherScore) {
+            return score > otherScore;
+        }
+        if (openTasks[member] != openTasks[other]) {
+            return openTasks[member] < openTasks[other];
+        }
+        return userIds[member] < userIds[other];
+    }
+
+    private void siftUp(int[] heap, double[] scores, int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!isBetter(heap[parent], scores[parent], heap[index], scores[index])) {
+                break;
+            }
+            swap(heap, scores, parent, index);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int[] heap, double[] scores, int heapSize) {
+        int index = 0;
+        while (true) {
+            int weakest = index;
+            int left = 2 * index + 1;
+            int right = left + 1;
+            if (left < heapSize && isBetter(heap[weakest], scores[weakest], heap[left], scores[left])) {
+                weakest = left;
+            }
+            if (right < heapSize && isBetter(heap[weakest], scores[weakest], heap[right], scores[right])) {
+                weakest = right;
+            }
+            if (weakest == index) {
+                return;
+            }
+            swap(heap, scores, index, weakest);
+            index = weakest;
+        }
+    }
+
+    private static void swap(int[] heap, double[] scores, int i, int j) {
+        int member = heap[i];
+        heap[i] = heap[j];
+        heap[j] = member;
+        double score = scores[i];
+        scores[i] = scores[j];
+        scores[j] = score;
+    }
+
+    private static double median(double[] values) {
+        double[] known = Arrays.stream(values).filter(v -> !Double.isNaN(v)).sorted().toArray();
+        if (known.length == 0) {
+            return Double.NaN;
+        }
+        int middle = known.length / 2;
+        return known.length % 2 == 1 ? known[middle] : (known[middle - 1] + known[middle]) / 2;
+    }
+}
@@ -0,0 +1,118 @@
+package com.project_management.final_project.service.impl;
+
+import com.project_management.final_project.config.RateLimitPolicy;
+import com.project_management.final_project.exception.RateLimitException;
+import com.project_management.final_project.service.RateLimitService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Token bucket rate limiter evaluated atomically in Redis by a Lua script, shared by all nodes.
+ * When Redis rejects a caller, the time until the bucket has a token again is remembered locally,
+ * so repeated attempts during that window are rejected without a Redis round trip.
+ */
+@Service
+public class RateLimitServiceImpl implements RateLimitService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitServiceImpl.class);
+    private static final String KEY_PREFIX = "ratelimit:";
+    private static final int MAX_LOCAL_ENTRIES = 10_000;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final DefaultRedisScript<List> tokenBucketScript;
+    private final Map<RateLimitPolicy, Bucket> buckets = new EnumMap<>(RateLimitPolicy.class);
+    private final ConcurrentHashMap<String, Long> blockedUntil = new ConcurrentHashMap<>();
+
+    @Value("${rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Autowired
+    public RateLimitServiceImpl(StringRedisTemplate stringRedisTemplate, Environment environment) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.tokenBucketScript = new DefaultRedisScript<>();
+        this.tokenBucketScript.setLocation(new ClassPathResource("scripts/token_bucket.lua"));
+        this.tokenBucketScript.setResultType(List.class);
+
+        for (RateLimitPolicy policy : RateLimitPolicy.values()) {
+            String prefix = "rate-limit.policies." + policy.propertyName() + ".";
+            int capacity = environment.getProperty(prefix + "capacity", Integer.class, policy.getDefaultCapacity());
+            long refillPeriodSeconds = environment.getProperty(prefix + "refill-period-seconds", Long.class,
+                    policy.getDefaultRefillPeriodSeconds());
+            buckets.put(policy, new Bucket(capacity, (double) capacity / (refillPeriodSeconds * 1000)));
+        }
+    }
+
+    @Override
+    public void consume(RateLimitPolicy policy, String key) {
+        if (!enabled || key == null) {
+            return;
+        }
+        String bucketKey = KEY_PREFIX + policy.propertyName() + ":" + key;
+        long now = System.currentTimeMillis();
+
+        // Local pre-check: the caller was rejected recently and the bucket cannot have refilled yet
+        Long blocked = blockedUntil.get(bucketKey);
+        if (blocked != null) {
+            if (blocked > now) {
+                throw new RateLimitException(toRetryAfterSeconds(blocked - now));
+            }
+            blockedUntil.remove(bucketKey, blocked);
+        }
+
+        Bucket bucket = buckets.get(policy);
+        List<?> result;
+        try {
+            result = stringRedisTemplate.execute(
+                    tokenBucketScript,
+                    List.of(bucketKey),
+                    String.valueOf(bucket.capacity()),
+                    String.valueOf(bucket.refillPerMilli()),
+                    "1");
+        } catch (Exception e) {
+            // Fail open: an unavailable Redis must not lock everyone out of login
+            logger.warn("Rate limit check failed for {}: {}", bucketKey, e.getMessage());
+            return;
+        }
+        if (result == null || result.size() < 2) {
+            return;
+        }
+
+        boolean allowed = ((Number) result.get(0)).longValue() == 1L;
+        if (!allowed) {
+            long retryAfterMillis = ((Number) result.get(1)).longValue();
+            rememberBlocked(bucketKey, now + retryAfterMillis);
+            logger.warn("Rate limit {} exceeded for key {}", policy, key);
+            throw new RateLimitException(toRetryAfterSeconds(retryAfterMillis));
+        }
+    }
+
+    private void rememberBlocked(String bucketKey, long until) {
+        if (blockedUntil.size() >= MAX_LOCAL_ENTRIES) {
+            long now = System.currentTimeMillis();
+            blockedUntil.values().removeIf(value -> value <= now);
+            if (blockedUntil.size() >= MAX_LOCAL_ENTRIES) {
+                return;
+            }
+        }
+        blockedUntil.put(bucketKey, until);
+    }
+
+    private static long toRetryAfterSeconds(long millis) {
+        return Math.max(1, (millis + 999) / 1000);
+    }
+
+    private record Bucket(int capacity, double refillPerMilli) {
+    }
+}
@@ -0,0 +1,458 @@
+package com.project_management.final_project.service.impl;
+
+import com.project_management.final_project.config.SecurityUtil;
+import com.project_management.final_project.dto.request.RecurringTaskTemplateRequest;
+import com.project_management.final_project.dto.response.RecurringTaskTemplateResponse;
+import com.project_management.final_project.entities.Project;
+import com.project_management.final_project.entities.RecurringTaskTemplate;
+import com.project_management.final_project.entities.Task;
+import com.project_management.final_project.entities.User;
+import com.project_management.final_project.exception.AppException;
+import com.project_management.final_project.exception.ErrorCode;
+import com.project_management.final_project.repository.ProjectRepository;
+import com.project_management.final_project.repository.RecurringTaskTemplateRepository;
+import com.project_management.final_project.repository.TaskRepository;
+import com.project_management.final_project.repository.UserRepository;
+import com.project_management.final_project.service.ChangeVersionService;
+import com.project_management.final_project.service.MembershipService;
+import com.project_management.final_project.service.NotificationService;
+import com.project_management.final_project.service.RecurringTaskService;
+import com.project_management.final_project.service.TaskScheduleService;
+import com.project_management.final_project.service.TimelineService;
+import com.project_management.final_project.util.TransactionUtil;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Recurring tasks created by an in-memory timer instead of polling the database for due work.
+ * <p>
+ * Every node keeps one timer entry per active template, due recurring-tasks.materialize-ahead-days before
+ * the template's next occurrence, in a single-threaded {@link ScheduledThreadPoolExecutor} (a priority queue
+ * ordered by due time). Entries are set when a template is saved on this node and resynced from the
+ * templates table every recurring-tasks.resync-interval-ms, which picks up templates saved on other nodes.
+ * <p>
+ * When an entry is due, the tasks of every occurrence within the look-ahead window are inserted in one
+ * transaction (JDBC-batched), which also advances the template's next occurrence under its optimistic
+ * version. If another node got there first, that update matches no row and the whole transaction rolls
+ * back, so each occurrence becomes exactly one task; the unique key on (recurring_template_id,
+ * occurrence_at) backs this up.
+ */
+@Service
+public class RecurringTaskServiceImpl implements RecurringTaskService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecurringTaskServiceImpl.class);
+    // Occurrences checked when validating that an expression fires at most once a day
+    private static final int VALIDATED_OCCURRENCES = 10;
+    private static final long RETRY_DELAY_MS = 60_000;
+
+    private final RecurringTaskTemplateRepository templateRepository;
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final MembershipService membershipService;
+    private final ChangeVersionService changeVersionService;
+    private final TaskScheduleService taskScheduleService;
+    private final TimelineService timelineService;
+    private final NotificationService notificationService;
+    private final SecurityUtil securityUtil;
+    private final TransactionTemplate transactionTemplate;
+    private final ScheduledThreadPoolExecutor timer;
+    private final Map<Integer, PendingOccurrence> pending = new HashMap<>();
+
+    @Value("${recurring-tasks.enabled:true}")
+    private boolean enabled;
+
+    @Value("${recurring-tasks.materialize-ahead-days:14}")
+    private int materializeAheadDays;
+
+    @Value("${recurring-tasks.batch-size:100}")
+    private int batchSize;
+
+    /**
+     * Timer entry of a template: the occurrence it was set for and its handle in the timer
+     */
+    private record PendingOccurrence(LocalDateTime occurrence, ScheduledFuture<?> future) {
+    }
+
+    @Autowired
+    public RecurringTaskServiceImpl(
+            RecurringTaskTemplateRepository templateRepository,
+            TaskRepository taskRepository,
+            ProjectRepository projectRepository,
+            UserRepository userRepository,
+            MembershipService membershipService,
+            ChangeVersionService changeVersionService,
+            TaskScheduleService taskScheduleService,
+            TimelineService timelineService,
+            NotificationService notificationService,
+            SecurityUtil securityUtil,
+            PlatformTransactionManager transactionManager) {
+        this.templateRepository = templateRepository;
+        this.taskRepository = taskRepository;
+        this.projectRepository = projectRepository;
+        this.userRepository = userRepository;
+        this.membershipService = membershipService;
+        this.changeVersionService = changeVersionService;
+        this.taskScheduleService = taskScheduleService;
+        this.timelineService = timelineService;
+        this.notificationService = notificationService;
+        this.securityUtil = securityUtil;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.timer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "recurring-tasks-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.timer.setRemoveOnCancelPolicy(true);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<RecurringTaskTemplateResponse> getTemplates(Integer projectId) {
+        checkOwner(projectId);
+        return templateRepository.findByProjectIdOrderByIdAsc(projectId).stream()
+                .map(RecurringTaskTemplateResponse::fromEntity)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional
+    public RecurringTaskTemplateResponse createTemplate(Integer projectId, RecurringTaskTemplateRequest request) {
+        Project project = checkOwner(projectId);
+        CronExpression cron = parseCron(request.getCronExpression());
+        User assignee = findAssignee(request.getAssigneeId(), projectId);
+        User currentUser = userRepository.findById(securityUtil.getCurrentUserId())
+                .orElseThrow(() -> new AppException(ErrorCode.USER_NOT_FOUND));
+
+        boolean active = request.getActive() == null || request.getActive();
+        RecurringTaskTemplate template = templateRepository.save(RecurringTaskTemplate.builder()
+                .project(project)
+                .title(request.getTitle())
+                .description(request.getDescription())
+                .priority(request.getPriority() != null ? request.getPriority() : Task.Priority.MEDIUM)
+                .cronExpression(request.getCronExpression())
+                .durationDays(request.getDurationDays() != null ? request.getDurationDays() : 0)
+                .assignee(assignee)
+                .active(active)
+                .nextOccurrence(active ? cron.next(LocalDateTime.now()) : null)
+                .createdBy(currentUser)
+                .build());
+        scheduleAfterCommit(template);
+
+        logger.info("Created recurring task template ID {} in project ID {} ({})", template.getId(), projectId,
+                template.getCronExpression());
+        return RecurringTaskTemplateResponse.fromEntity(template);
+    }
+
+    @Override
+    @Transactional
+    public RecurringTaskTemplateResponse updateTemplate(Integer projectId, Integer templateId,
+                                                        RecurringTaskTemplateRequest request) {
+        checkOwner(projectId);
+        RecurringTaskTemplate template = findTemplate(projectId, templateId);
+        CronExpression cron = parseCron(request.getCronExpression());
+        User assignee = findAssignee(request.getAssigneeId(), projectId);
+
+        boolean active = request.getActive() == null || request.getActive();
+        boolean restart = !template.getCronExpression().equals(request.getCronExpression()) || !template.isActive();
+        template.setTitle(request.getTitle());
+        template.setDescription(request.getDescription());
+        if (request.getPriority() != null) {
+            template.setPriority(request.getPriority());
+        }
+        template.setCronExpression(request.getCronExpression());
+        if (request.getDurationDays() != null) {
+            template.setDurationDays(request.getDurationDays());
+        }
+        template.setAssignee(assignee);
+        template.setActive(active);
+        if (!active) {
+            template.setNextOccurrence(null);
+        } else if (restart) {
+            template.setNextOccurrence(firstOccurrence(cron, templateId));
+        }
+
+        // Flushing detects a concurrent change, including tasks being created from the template meanwhile
+        RecurringTaskTemplate updated = templateRepository.saveAndFlush(template);
+        scheduleAfterCommit(updated);
+
+        logger.info("Updated recurring task template ID {} in project ID {}", templateId, projectId);
+        return RecurringTaskTemplateResponse.fromEntity(updated);
+    }
+
+    @Override
+    @Transactional
+    public void deleteTemplate(Integer projectId, Integer templateId) {
+        checkOwner(projectId);
+        RecurringTaskTemplate template = findTemplate(projectId, templateId);
+        templateRepository.delete(template);
+        TransactionUtil.afterCommit(() -> schedule(templateId, null));
+
+        logger.info("Deleted recurring task template ID {} from project ID {}", templateId, projectId);
+    }
+
+    /**
+     * Set the timer entries from the templates table, on startup and then periodically
+     */
+    @Scheduled(fixedDelayString = "${recurring-tasks.resync-interval-ms:300000}")
+    public void resyncTimer() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Set<Integer> activeIds = new HashSet<>();
+            for (Object[] row : templateRepository.findActiveOccurrences()) {
+                Integer templateId = (Integer) row[0];
+                activeIds.add(templateId);
+                schedule(templateId, (LocalDateTime) row[1]);
+            }
+            List<Integer> stale;
+            synchronized (pending) {
+                stale = pending.keySet().stream().filter(id -> !activeIds.contains(id)).collect(Collectors.toList());
+            }
+            stale.forEach(templateId -> schedule(templateId, null));
+            logger.debug("Recurring task timer holds {} templates", activeIds.size());
+        } catch (Exception e) {
+            logger.error("Failed to resync recurring task timer: {}", e.getMessage(), e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timer.shutdownNow();
+    }
+
+    /**
+     * Timer callback: create the template's due tasks and set the entry for the next occurrence
+     */
+    private void fire(Integer templateId, LocalDateTime occurrence) {
+        synchronized (pending) {
+            PendingOccurrence current = pending.get(templateId);
+            if (current != null && current.occurrence().equals(occurrence)) {
+                pending.remove(templateId);
+            }
+        }
+        try {
+            LocalDateTime next = transactionTemplate.execute(status -> materialize(templateId));
+            schedule(templateId, next);
+        } catch (OptimisticLockingFailureException | DataIntegrityViolationException e) {
+            LocalDateTime next = templateRepository.findById(templateId)
+                    .filter(RecurringTaskTemplate::isActive)
+                    .map(RecurringTaskTemplate::getNextOccurrence)
+                    .orElse(null);
+            if (next != null && next.equals(occurrence)) {
+                // The template did not move on, so no other node got there first; retrying at once would spin
+                logger.warn("Tasks of recurring task template ID {} conflict with existing ones: {}",
+                        templateId, e.getMessage());
+                scheduleAt(templateId, next, RETRY_DELAY_MS);
+            } else {
+                // Another node created these occurrences first; continue from where it left off
+                logger.info("Occurrences of recurring task template ID {} were created by another node", templateId);
+                schedule(templateId, next);
+            }
+        } catch (Exception e) {
+            logger.error("Failed to create tasks of recurring task template ID {}: {}", templateId, e.getMessage(), e);
+            scheduleAt(templateId, occurrence, RETRY_DELAY_MS);
+        }
+    }
+
+    /**
+     * Insert the tasks of all occurrences within the look-ahead window, at most recurring-tasks.batch-size
+     * @return The template's next occurrence without a task, or null if it has none
+     */
+    private LocalDateTime materialize(Integer templateId) {
+        RecurringTaskTemplate template = templateRepository.findById(templateId).orElse(null);
+        if (template == null || !template.isActive() || template.getNextOccurrence() == null) {
+            return null;
+        }
+
+        Project project = template.getProject();
+        CronExpression cron = CronExpression.parse(template.getCronExpression());
+        LocalDateTime horizon = LocalDateTime.now().plusDays(materializeAheadDays);
+        // An assignee who has left the project since gets no new tasks
+        User assignee = template.getAssignee() != null
+                && membershipService.isMember(template.getAssignee().getId(), project.getId())
+                ? template.getAssignee() : null;
+
+        List<Task> tasks = new ArrayList<>();
+        LocalDateTime occurrence = template.getNextOccurrence();
+        // Occurrences that already have a task, e.g. from before the template was paused, are skipped
+        LocalDateTime lastOccurrence = taskRepository.findLastOccurrence(templateId);
+        while (occurrence != null && lastOccurrence != null && !occurrence.isAfter(lastOccurrence)) {
+            occurrence = cron.next(occurrence);
+        }
+        while (occurrence != null && !occurrence.isAfter(horizon) && tasks.size() < batchSize) {
+            LocalDate day = occurrence.toLocalDate();
+            tasks.add(Task.builder()
+                    .title(template.getTitle() + " (" + day + ")")
+                    .description(template.getDescription())
+                    .priority(template.getPriority())
+                    .status(assignee != null ? Task.Status.TODO : Task.Status.UNASSIGNED)
+                    .startDate(day)
+                    .dueDate(day.plusDays(template.getDurationDays()))
+                    .project(project)
+                    .assignee(assignee)
+                    .createdBy(template.getCreatedBy())
+                    .recurringTemplateId(templateId)
+                    .occurrenceAt(occurrence)
+                    .build());
+            occurrence = cron.next(occurrence);
+        }
+        if (tasks.isEmpty()) {
+            if (!Objects.equals(occurrence, template.getNextOccurrence())) {
+                template.setNextOccurrence(occurrence);
+                templateRepository.saveAndFlush(template);
+            }
+            return occurrence;
+        }
+
+        taskRepository.saveAll(tasks);
+        template.setNextOccurrence(occurrence);
+        // The version check in this update is what makes a concurrent node's transaction fail
+        templateRepository.saveAndFlush(template);
+
+        changeVersionService.projectChanged(project.getId());
+        taskScheduleService.scheduleChanged(project.getId());
+        timelineService.tasksChanged(project.getId());
+        notificationService.tasksAssigned(tasks);
+        logger.info("Created {} tasks from recurring task template ID {} in project ID {}, next occurrence {}",
+                tasks.size(), templateId, project.getId(), occurrence);
+        return occurrence;
+    }
+
+    /**
+     * Set, move or clear the timer entry of a template
+     * @param nextOccurrence The template's next occurrence without a task, or null to clear the entry
+     */
+    private void schedule(Integer templateId, LocalDateTime nextOccurrence) {
+        long delay = 0;
+        if (nextOccurrence != null) {
+            delay = Duration.between(LocalDateTime.now(), nextOccurrence.minusDays(materializeAheadDays)).toMillis();
+        }
+        scheduleAt(templateId, nextOccurrence, Math.max(0, delay));
+    }
+
+    private void scheduleAt(Integer templateId, LocalDateTime nextOccurrence, long delayMillis) {
+        synchronized (pending) {
+            PendingOccurrence current = pending.get(templateId);
+            if (current != null) {
+                if (current.occurrence().equals(nextOccurrence) && !current.future().isDone()) {
+                    return;
+                }
+                current.future().cancel(false);
+                pending.remove(templateId);
+            }
+            if (nextOccurrence == null || timer.isShutdown()) {
+                return;
+            }
+            ScheduledFuture<?> future = timer.schedule(() -> fire(templateId, nextOccurrence),
+                    delayMillis, TimeUnit.MILLISECONDS);
+            pending.put(templateId, new PendingOccurrence(nextOccurrence, future));
+        }
+    }
+
+    private void scheduleAfterCommit(RecurringTaskTemplate template) {
+        Integer templateId = template.getId();
+        LocalDateTime nextOccurrence = template.isActive() ? template.getNextOccurrence() : null;
+        TransactionUtil.afterCommit(() -> schedule(templateId, nextOccurrence));
+    }
+
+    /**
+     * The first occurrence of a restarted template: after now and after every occurrence it already has a
+     * task for, which the unique key on (recurring_template_id, occurrence_at) would reject
+     */
+    private LocalDateTime firstOccurrence(CronExpression cron, Integer templateId) {
+        LocalDateTime after = LocalDateTime.now();
+        LocalDateTime lastOccurrence = taskRepository.findLastOccurrence(templateId);
+        if (lastOccurrence != null && lastOccurrence.isAfter(after)) {
+            after = lastOccurrence;
+        }
+        return cron.next(after);
+    }
+
+    /**
+     * Parse a cron expression, accepting only expressions that occur again and at most once a day
+     * (task titles carry the day of their occurrence)
+     */
+    private static CronExpression parseCron(String expression) {
+        CronExpression cron;
+        try {
+            cron = CronExpression.parse(expression);
+        } catch (IllegalArgumentException e) {
+            throw new AppException(ErrorCode.INVALID_REQUEST, "Invalid cron expression: " + e.getMessage());
+        }
+        LocalDateTime occurrence = cron.next(LocalDateTime.now());
+        if (occurrence == null) {
+            throw new AppException(ErrorCode.INVALID_REQUEST, "The cron expression has no future occurrences");
+        }
+        for (int i = 1; i < VALIDATED_OCCURRENCES; i++) {
+            LocalDateTime next = cron.next(occurrence);
+            if (next == null) {
+                break;
+            }
+            if (next.toLocalDate().equals(occurrence.toLocalDate())) {
+                throw new AppException(ErrorCode.INVALID_REQUEST, "Recurring tasks can occur at most once a day");
+            }
+            occurrence = next;
+        }
+        return cron;
+    }
+
+    private User findAssignee(Integer assigneeId, Integer projectId) {
+        if (assigneeId == null) {
+            return null;
+        }
+        User assignee = userRepository.findById(assigneeId)
+                .orElseThrow(() -> new AppException(ErrorCode.USER_NOT_FOUND, "User not found with ID: " + assigneeId));
+        if (!membershipService.isMember(assigneeId, projectId)) {
+            throw new AppException(ErrorCode.UNAUTHORIZED,
+                    "Cannot assign recurring tasks to a user who is not a member of the project");
+        }
+        return assignee;
+    }
+
+    private RecurringTaskTemplate findTemplate(Integer projectId, Integer templateId) {
+        return templateRepository.findById(templateId)
+                .filter(t -> Objects.equals(t.getProject().getId(), projectId))
+                .orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND,
+                        "Recurring task template not found with ID: " + templateId));
+    }
+
+    private Project checkOwner(Integer projectId) {
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "Project not found with ID: " + projectId));
+        Integer currentUserId = securityUtil.getCurrentUserId();
+        if (!project.getCreatedBy().getId().equals(currentUserId)) {
+            logger.warn("User ID {} attempted to manage recurring tasks in project ID {} created by user ID {}",
+                    currentUserId, projectId, project.getCreatedBy().getId());
+            throw new AppException(ErrorCode.UNAUTHORIZED, "You are not authorized to manage recurring tasks in this project");
+        }
+        return project;
+    }
+}
@@ -0,0 +1,100 @@
+package com.project_management.final_project.service.impl;
+
+import com.project_management.final_project.dto.response.CacheRegionStatisticsResponse;
+import com.project_management.final_project.service.ReferenceDataCacheService;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Cluster hook for the Hibernate second-level cache. Reference entities are cached READ_ONLY on every node,
+ * so a change made outside a migration (which restarts the nodes anyway) has to be broadcast explicitly.
+ */
+@Service
+public class ReferenceDataCacheServiceImpl implements ReferenceDataCacheService, MessageListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReferenceDataCacheServiceImpl.class);
+    private static final String EVICTION_CHANNEL = "l2cache:evict";
+
+    private final SessionFactory sessionFactory;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    @Autowired
+    public ReferenceDataCacheServiceImpl(
+            EntityManagerFactory entityManagerFactory,
+            StringRedisTemplate stringRedisTemplate,
+            RedisMessageListenerContainer listenerContainer) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.listenerContainer = listenerContainer;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(EVICTION_CHANNEL));
+    }
+
+    @Override
+    public void evictAll() {
+        evictLocal();
+        try {
+            stringRedisTemplate.convertAndSend(EVICTION_CHANNEL, "all");
+        } catch (Exception e) {
+            logger.warn("Failed to broadcast second-level cache eviction: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public List<CacheRegionStatisticsResponse> getStatistics() {
+        Statistics statistics = sessionFactory.getStatistics();
+        String[] regionNames = statistics.getSecondLevelCacheRegionNames();
+        Arrays.sort(regionNames);
+
+        List<CacheRegionStatisticsResponse> result = new ArrayList<>(regionNames.length);
+        for (String regionName : regionNames) {
+            CacheRegionStatistics region = statistics.getDomainDataRegionStatistics(regionName);
+            if (region == null) {
+                continue;
+            }
+            long hits = region.getHitCount();
+            long misses = region.getMissCount();
+            long lookups = hits + misses;
+            result.add(CacheRegionStatisticsResponse.builder()
+                    .region(regionName)
+                    .hitCount(hits)
+                    .missCount(misses)
+                    .putCount(region.getPutCount())
+                    .elementCount(region.getElementCountInMemory())
+                    .hitRatio(lookups == 0 ? 0.0 : (double) hits / lookups)
+                    .build());
+        }
+        return result;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        // The publishing node receives its own message too; evicting twice is harmless
+        evictLocal();
+    }
+
+    private void evictLocal() {
+        sessionFactory.getCache().evictAllRegions();
+        logger.info("Evicted all second-level cache regions");
+    }
+}
@@ -0,0 +1,88 @@
+package com.project_management.final_project.service.impl;
+
+import com.project_management.final_project.service.RefreshTokenService;
+import com.project_management.final_project.service.TokenRevocationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Refresh token registry in Redis.
+ * refresh:token:{jti} -> session ID of a token that has not been used yet
+ * refresh:session:{sid} -> ID of the current refresh token of the session
+ * refresh:user:{userId}:sessions -> set of the user's session IDs
+ */
+@Service
+public class RefreshTokenServiceImpl implements RefreshTokenService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenServiceImpl.class);
+    private static final String TOKEN_KEY_PREFIX = "refresh:token:";
+    private static final String SESSION_KEY_PREFIX = "refresh:session:";
+    private static final String USER_SESSIONS_KEY_FORMAT = "refresh:user:%d:sessions";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final TokenRevocationService tokenRevocationService;
+
+    @Autowired
+    public RefreshTokenServiceImpl(StringRedisTemplate stringRedisTemplate, TokenRevocationService tokenRevocationService) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.tokenRevocationService = tokenRevocationService;
+    }
+
+    @Override
+    public void register(String tokenId, Integer userId, String sessionId, long ttlMillis) {
+        Duration ttl = Duration.ofMillis(ttlMillis);
+        String userSessionsKey = userSessionsKey(userId);
+        stringRedisTemplate.opsForValue().set(TOKEN_KEY_PREFIX + tokenId, sessionId, ttl);
+        stringRedisTemplate.opsForValue().set(SESSION_KEY_PREFIX + sessionId, tokenId, ttl);
+        stringRedisTemplate.opsForSet().add(userSessionsKey, sessionId);
+        stringRedisTemplate.expire(userSessionsKey, ttl);
+    }
+
+    @Override
+    public String consume(String tokenId) {
+        // GETDEL makes the check-and-use atomic, so two concurrent refreshes cannot both succeed
+        return stringRedisTemplate.opsForValue().getAndDelete(TOKEN_KEY_PREFIX + tokenId);
+    }
+
+    @Override
+    public void revokeSession(Integer userId, String sessionId) {
+        deleteCurrentToken(sessionId);
+        stringRedisTemplate.opsForSet().remove(userSessionsKey(userId), sessionId);
+        tokenRevocationService.revokeSessions(List.of(sessionId));
+        logger.info("Revoked session {} of user ID {}", sessionId, userId);
+    }
+
+    @Override
+    public void revokeAllSessions(Integer userId) {
+        String userSessionsKey = userSessionsKey(userId);
+        Set<String> sessionIds = stringRedisTemplate.opsForSet().members(userSessionsKey);
+        if (sessionIds == null || sessionIds.isEmpty()) {
+            return;
+        }
+        for (String sessionId : sessionIds) {
+            deleteCurrentToken(sessionId);
+        }
+        stringRedisTemplate.delete(userSessionsKey);
+        tokenRevocationService.revokeSessions(new ArrayList<>(sessionIds));
+        logger.info("Revoked {} sessions of user ID {}", sessionIds.size(), userId);
+    }
+
+    private void deleteCurrentToken(String sessionId) {
+        String tokenId = stringRedisTemplate.opsForValue().getAndDelete(SESSION_KEY_PREFIX + sessionId);
+        if (tokenId != null) {
+            stringRedisTemplate.delete(TOKEN_KEY_PREFIX + tokenId);
+        }
+    }
+
+    private static String userSessionsKey(Integer userId) {
+        return String.format(USER_SESSIONS_KEY_FORMAT, userId);
+    }
+}
@@ -0,0 +1,196 @@
+package com.project_management.final_project.service.impl;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import com.project_management.final_project.dto.request.ExportFormat;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Writes the current row of a result set as one NDJSON line or CSV record.
+ * Column labels become field names (NDJSON) or the header line (CSV); the column layout is read
+ * from the metadata of the first row and reused for the rest.
+ */
+abstract class ResultSetExportWriter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+            .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+            .build();
+
+    protected String[] labels;
+    protected int[] types;
+
+    static ResultSetExportWriter create(ExportFormat format, OutputStream out) throws IOException {
+        return format == ExportFormat.CSV ? new Csv(out) : new Ndjson(out);
+    }
+
+    /**
+     * Write the current row of the result set
+     */
+    final void writeRow(ResultSet rs) throws SQLException, IOException {
+        if (labels == null) {
+            ResultSetMetaData metaData = rs.getMetaData();
+            int columnCount = metaData.getColumnCount();
+            labels = new String[columnCount];
+            types = new int[columnCount];
+            for (int i = 0; i < columnCount; i++) {
+                labels[i] = metaData.getColumnLabel(i + 1);
+                types[i] = metaData.getColumnType(i + 1);
+            }
+            writeHeader();
+        }
+        writeValues(rs);
+    }
+
+    /**
+     * Flush buffered output; the underlying stream is left open
+     */
+    abstract void flush() throws IOException;
+
+    protected abstract void writeHeader() throws IOException;
+
+    protected abstract void writeValues(ResultSet rs) throws SQLException, IOException;
+
+    private static boolean isIntegral(int type) {
+        return type == Types.INTEGER || type == Types.BIGINT || type == Types.SMALLINT || type == Types.TINYINT;
+    }
+
+    /**
+     * Read a non-numeric column as text; dates and timestamps are ISO-8601
+     */
+    private static String readText(ResultSet rs, int column, int type) throws SQLException {
+        return switch (type) {
+            case Types.DATE -> {
+                LocalDate date = rs.getObject(column, LocalDate.class);
+                yield date != null ? date.toString() : null;
+            }
+            case Types.TIMESTAMP -> {
+                LocalDateTime dateTime = rs.getObject(column, LocalDateTime.class);
+                yield dateTime != null ? dateTime.toString() : null;
+            }
+            default -> rs.getString(column);
+        };
+    }
+
+    private static final class Ndjson extends ResultSetExportWriter {
+        private final JsonGenerator generator;
+
+        Ndjson(OutputStream out) throws IOException {
+            this.generator = JSON_FACTORY.createGenerator(out);
+            // One object per line: no separator between root values, each line ends with \n instead
+            this.generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        protected void writeHeader() {
+        }
+
+        @Override
+        protected void writeValues(ResultSet rs) throws SQLException, IOException {
+            generator.writeStartObject();
+            for (int i = 0; i < labels.length; i++) {
+                generator.writeFieldName(labels[i]);
+                if (isIntegral(types[i])) {
+                    long value = rs.getLong(i + 1);
+                    if (rs.wasNull()) {
+                        generator.writeNull();
+                    } else {
+                        generator.writeNumber(value);
+                    }
+                } else {
+                    String value = readText(rs, i + 1, types[i]);
+                    if (value == null) {
+                        generator.writeNull();
+                    } else {
+                        generator.writeString(value);
+                    }
+                }
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        void flush() throws IOException {
+            generator.flush();
+        }
+    }
+
+    /**
+     * RFC 4180 CSV with CRLF line breaks. Text starting with a formula character is prefixed
+     * with an apostrophe so spreadsheets do not evaluate user-entered titles or descriptions.
+     */
+    private static final class Csv extends ResultSetExportWriter {
+        private final Writer writer;
+
+        Csv(OutputStream out) {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        }
+
+        @Override
+        protected void writeHeader() throws IOException {
+            for (int i = 0; i < labels.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writeField(labels[i]);
+            }
+            writer.write("\r\n");
+        }
+
+        @Override
+        protected void writeValues(ResultSet rs) throws SQLException, IOException {
+            for (int i = 0; i < labels.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                if (isIntegral(types[i])) {
+                    long value = rs.getLong(i + 1);
+                    if (!rs.wasNull()) {
+                        writer.write(Long.toString(value));
+                    }
+                } else {
+                    String value = readText(rs, i + 1, types[i]);
+                    if (value != null) {
+                        writeField(value);
+                    }
+                }
+            }
+            writer.write("\r\n");
+        }
+
+        private void writeField(String value) throws IOException {
+            boolean formula = !value.isEmpty() && "=+-@\t\r".indexOf(value.charAt(0)) >= 0;
+            boolean quote = formula || value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                    || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+            if (!quote) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            if (formula) {
+                writer.write('\'');
+            }
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+
+        @Override
+        void flush() throws IOException {
+            writer.flush();
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.project_management.final_project.service.impl;
+
+import com.project_management.final_project.config.SecurityUtil;
+import com.project_management.final_project.dto.response.TaskTransitionCountResponse;
+import com.project_management.final_project.entities.Project;
+import com.project_management.final_project.exception.AppException;
+import com.project_management.final_project.exception.ErrorCode;
+import com.project_management.final_project.repository.ProjectRepository;
+import com.project_management.final_project.repository.TaskHistoryArchiveRepository;
+import com.project_management.final_project.service.TaskHistoryRetentionService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+@Service
+public class TaskHistoryRetentionServiceImpl implements TaskHistoryRetentionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskHistoryRetentionServiceImpl.class);
+    private static final String RETENTION_JOB_LOCK_KEY = "task-history:retention-job:lock";
+
+    private final TaskHistoryArchiveRepository taskHistoryArchiveRepository;
+    private final ProjectRepository projectRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final SecurityUtil securityUtil;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${task-history.retention.enabled:true}")
+    private boolean enabled;
+
+    @Value("${task-history.retention.days:180}")
+    private int retentionDays;
+
+    @Value("${task-history.retention.chunk-size:5000}")
+    private int chunkSize;
+
+    @Value("${task-history.retention.chunk-pause-ms:100}")
+    private long chunkPauseMs;
+
+    @Value("${task-history.retention.lock-ttl-minutes:120}")
+    private long lockTtlMinutes;
+
+    @Value("${analytics.max-range-days:366}")
+    private int maxRangeDays;
+
+    @Autowired
+    public TaskHistoryRetentionServiceImpl(
+            TaskHistoryArchiveRepository taskHistoryArchiveRepository,
+            ProjectRepository projectRepository,
+            StringRedisTemplate stringRedisTemplate,
+            SecurityUtil securityUtil,
+            PlatformTransactionManager transactionManager) {
+        this.taskHistoryArchiveRepository = taskHistoryArchiveRepository;
+        this.projectRepository = projectRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.securityUtil = securityUtil;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(cron = "${task-history.retention.cron:0 45 1 * * *}")
+    public void runScheduledRetention() {
+        if (!enabled) {
+            return;
+        }
+        String lockValue = UUID.randomUUID().toString();
+        if (!acquireLock(lockValue)) {
+            logger.info("Task history retention is already running on another node");
+            return;
+        }
+        try {
+            archiveExpiredHistory();
+        } catch (Exception e) {
+            // Chunks already committed stay archived; the rest is picked up by the next run
+            logger.error("Task history retention failed: {}", e.getMessage(), e);
+        } finally {
+            releaseLock(lockValue);
+        }
+    }
+
+    @Override
+    public long archiveExpiredHistory() {
+        // Whole days only, so a day's rollup is complete once its rows are archived
+        LocalDateTime cutoff = LocalDate.now().minusDays(retentionDays).atStartOfDay();
+        long start = System.currentTimeMillis();
+        long archived = 0;
+        int chunks = 0;
+
+        while (true) {
+            // Each chunk commits on its own: rollup, copy and delete together, keeping locks and undo small
+            int moved = Objects.requireNonNullElse(transactionTemplate.execute(status -> {
+                Integer maxId = taskHistoryArchiveRepository.findChunkUpperId(cutoff, chunkSize);
+                if (maxId == null) {
+                    return 0;
+                }
+                taskHistoryArchiveRepository.rollupChunk(maxId, cutoff);
+                int copied = taskHistoryArchiveRepository.archiveChunk(maxId, cutoff);
+                int deleted = taskHistoryArchiveRepository.deleteChunk(maxId, cutoff);
+                if (copied != deleted) {
+                    // Rows changed under us; roll back so nothing is counted or lost twice
+                    throw new IllegalStateException("Archived " + copied + " rows but deleted " + deleted);
+                }
+                return deleted;
+            }), 0);
+            if (moved == 0) {
+                break;
+            }
+            archived += moved;
+            chunks++;
+            pause();
+        }
+
+        logger.info("Archived {} task history rows older than {} in {} chunks ({} ms)",
+                archived, cutoff, chunks, System.currentTimeMillis() - start);
+        return archived;
+    }
+
+    @Override
+    public List<TaskTransitionCountResponse> getDailyTransitions(Integer projectId, LocalDate from, LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(29);
+        if (start.isAfter(end)) {
+            throw new AppException(ErrorCode.INVALID_REQUEST, "The start date must not be after the end date");
+        }
+        if (ChronoUnit.DAYS.between(start, end) >= maxRangeDays) {
+            throw new AppException(ErrorCode.INVALID_REQUEST, "The date range must not exceed " + maxRangeDays + " days");
+        }
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "Project not found with ID: " + projectId));
+        Integer currentUserId = securityUtil.getCurrentUserId();
+        if (!project.getCreatedBy().getId().equals(currentUserId)) {
+            logger.warn("User ID {} attempted to view the daily transitions of project ID {} created by user ID {}",
+                    currentUserId, projectId, project.getCreatedBy().getId());
+            throw new AppException(ErrorCode.UNAUTHORIZED, "You are not authorized to view the history of this project");
+        }
+        return taskHistoryArchiveRepository.findDailyTransitions(projectId, start, end);
+    }
+
+    /**
+     * Give replicas and concurrent writers room between chunks
+     */
+    private void pause() {
+        if (chunkPauseMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(chunkPauseMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean acquireLock(String lockValue) {
+        try {
+            return Boolean.TRUE.equals(stringRedisTemplate.opsForValue()
+                    .setIfAbsent(RETENTION_JOB_LOCK_KEY, lockValue, Duration.ofMinutes(lockTtlMinutes)));
+        } catch (Exception e) {
+            // A concurrent run waits on the same rows and finds them gone, so running without the lock is safe
+            logger.warn("Could not take the task history retention lock, running without it: {}", e.getMessage());
+            return true;
+        }
+    }
+
+    private void releaseLock(String lockValue) {
+        try {
+            if (lockValue.equals(stringRedisTemplate.opsForValue().get(RETENTION_JOB_LOCK_KEY))) {
+                stringRedisTemplate.delete(RETENTION_JOB_LOCK_KEY);
+            }
+        } catch (Exception e) {
+            logger.warn("Could not release the task history retention lock; it expires on its own: {}", e.getMessage());
+        }
+    }
+}
@@ -10,6 +10,7 @@ import com.project_management.final_project.exception.ErrorCode;
 import com.project_management.final_project.repository.TaskHistoryRepository;
 import com.project_management.final_project.repository.TaskRepository;
 import com.project_management.final_project.repository.UserRepository;
+import com.project_management.final_project.service.ActivityFeedService;
 import com.project_management.final_project.service.TaskHistoryService;
 import com.project_management.final_project.service.UserService;
 import org.slf4j.Logger;
@@ -18,11 +19,14 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -34,6 +38,8 @@ public class TaskHistoryServiceImpl implements TaskHistoryService {
     private final UserRepository userRepository;
     private final SecurityUtil securityUtil;
     private final UserService userService;
+    private final ActivityFeedService activityFeedService;
+    private final TransactionTemplate loadTransaction;
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
     @Autowired
@@ -42,12 +48,17 @@ public class TaskHistoryServiceImpl implements TaskHistoryService {
             UserRepository userRepository,
             TaskRepository taskRepository,
             SecurityUtil securityUtil,
-            UserService userService) {
+            UserService userService,
+            ActivityFeedService activityFeedService,
+            PlatformTransactionManager transactionManager) {
         this.taskHistoryRepository = taskHistoryRepository;
         this.userRepository = userRepository;
         this.taskRepository = taskRepository;
         this.securityUtil = securityUtil;
         this.userService = userService;
+        this.activityFeedService = activityFeedService;
+        // Not read-only on purpose: loads backfill the activity feeds, and a lagging replica would be cached
+        this.loadTransaction = new TransactionTemplate(transactionManager);
     }
 
     @Override
@@ -71,6 +82,7 @@ public class TaskHistoryServiceImpl implements TaskHistoryService {
             
             // Save task history
             TaskHistory savedTaskHistory = taskHistoryRepository.save(taskHistory);
+            publishToActivityFeeds(savedTaskHistory);
             
             logger.info("Created task history record ID {} for task ID {}: status changed from {} to {} by user ID {}", 
                     savedTaskHistory.getId(), task.getId(), oldStatus, newStatus, currentUserId);
@@ -108,6 +120,7 @@ public class TaskHistoryServiceImpl implements TaskHistoryService {
             
             // Save all task history records
             List<TaskHistory> savedHistoryRecords = taskHistoryRepository.saveAll(historyRecords);
+            savedHistoryRecords.forEach(this::publishToActivityFeeds);
             
             logger.info("Created {} task history records for team member removal", savedHistoryRecords.size());
             
@@ -184,7 +197,6 @@ public class TaskHistoryServiceImpl implements TaskHistoryService {
     }
     
     @Override
-    @Transactional(readOnly = true)
     public List<TaskHistoryResponse> getRecentTaskHistoryForMyProjects(int limit) {
         try {
             // Get current user ID
@@ -193,18 +205,16 @@ public class TaskHistoryServiceImpl implements TaskHistoryService {
             logger.info("Retrieving {} most recent task history records for projects created by user ID {}", 
                     limit, currentUserId);
             
-            // Get most recent task history records for projects created by the current user
-            PageRequest pageRequest = PageRequest.of(0, limit, Sort.by(Sort.Direction.DESC, "changedAt"));
-            List<TaskHistory> historyRecords = taskHistoryRepository.findMostRecentTaskHistoryForProjectsCreatedByUser(
-                    currentUserId, pageRequest);
+            // Read the materialized feed; the database is only queried when the feed is cold
+            List<TaskHistoryResponse> history = activityFeedService.getFeed(
+                    ActivityFeedService.Feed.PROJECTS, currentUserId, limit,
+                    size -> loadRecentHistory(pageRequest -> taskHistoryRepository
+                            .findMostRecentTaskHistoryForProjectsCreatedByUser(currentUserId, pageRequest), size));
             
             logger.info("Retrieved {} recent task history records for projects created by user ID {}", 
-                    historyRecords.size(), currentUserId);
+                    history.size(), currentUserId);
             
-            // Transform to response DTOs with formatted messages
-            return historyRecords.stream()
-                    .map(this::createHistoryResponseWithMessage)
-                    .collect(Collectors.toList());
+            return history;
         } catch (Exception e) {
             logger.error("Error retrieving recent task history for projects created by user ID {}: {}", 
                     securityUtil.getCurrentUserId(), e.getMessage(), e);
@@ -213,7 +223,6 @@ public class TaskHistoryServiceImpl implements TaskHistoryService {
     }
     
     @Override
-    @Transactional(readOnly = true)
     public List<TaskHistoryResponse> getMyRecentTaskHistory(int limit) {
         try {
             // Get current user ID
@@ -221,22 +230,50 @@ public class TaskHistoryServiceImpl implements TaskHistoryService {
             
             logger.info("Retrieving {} most recent task history records for user ID {}", limit, currentUserId);
             
-            // Get most recent task history records for the current user
-            PageRequest pageRequest = PageRequest.of(0, limit, Sort.by(Sort.Direction.DESC, "changedAt"));
-            List<TaskHistory> historyRecords = taskHistoryRepository.findMostRecentTaskHistoryForUser(currentUserId, pageRequest);
+            // Read the materialized feed; the database is only queried when the feed is cold
+            List<TaskHistoryResponse> history = activityFeedService.getFeed(
+                    ActivityFeedService.Feed.ASSIGNED, currentUserId, limit,
+                    size -> loadRecentHistory(pageRequest -> taskHistoryRepository
+                            .findMostRecentTaskHistoryForUser(currentUserId, pageRequest), size));
             
-            logger.info("Retrieved {} recent task history records for user ID {}", historyRecords.size(), currentUserId);
+            logger.info("Retrieved {} recent task history records for user ID {}", history.size(), currentUserId);
             
-            // Transform to response DTOs with formatted messages
-            return historyRecords.stream()
-                    .map(this::createHistoryResponseWithMessage)
-                    .collect(Collectors.toList());
+            return history;
         } catch (Exception e) {
             logger.error("Error retrieving recent task history for user ID {}: {}", securityUtil.getCurrentUserId(), e.getMessage(), e);
             throw new AppException(ErrorCode.INTERNAL_ERROR, "Failed to retrieve recent task history");
         }
     }
     
+    /**
+     * Load the newest task history records from the primary and format their messages
+     *
+     * @param query The repository query to run
+     * @param size Maximum number of records to load
+     * @return TaskHistoryResponses with formatted messages, newest first
+     */
+    private List<TaskHistoryResponse> loadRecentHistory(Function<PageRequest, List<TaskHistory>> query, int size) {
+        return loadTransaction.execute(status -> {
+            PageRequest pageRequest = PageRequest.of(0, size, Sort.by(Sort.Direction.DESC, "changedAt"));
+            return query.apply(pageRequest).stream()
+                    .map(this::createHistoryResponseWithMessage)
+                    .collect(Collectors.toList());
+        });
+    }
+    
+    /**
+     * Push a saved history record to the activity feeds of the project creator and the task assignee
+     *
+     * @param history The saved task history record
+     */
+    private void publishToActivityFeeds(TaskHistory history) {
+        Task task = history.getTask();
+        Integer projectOwnerId = task.getProject() != null && task.getProject().getCreatedBy() != null
+                ? task.getProject().getCreatedBy().getId() : null;
+        Integer assigneeId = task.getAssignee() != null ? task.getAssignee().getId() : null;
+        activityFeedService.publish(createHistoryResponseWithMessage(history), projectOwnerId, assigneeId);
+    }
+    
     /**
      * Create a TaskHistoryResponse with a formatted message based on the task history record
      *
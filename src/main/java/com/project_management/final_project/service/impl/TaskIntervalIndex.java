@@ -0,0 +1,200 @@
+package com.project_management.final_project.service.impl;
+
+import com.project_management.final_project.util.collection.IntArrayList;
+import com.project_management.final_project.util.collection.IntIntMap;
+
+import java.util.Arrays;
+
+/**
+ * Static interval tree over the planned date ranges of one project's tasks, in epoch days.
+ * <p>
+ * Tasks are kept sorted by start day (then task ID) in parallel arrays that double as an implicit balanced
+ * tree: the middle of every range is the root of that range. Each node also stores the latest end day in its
+ * subtree, so a query for tasks overlapping [from, to] skips every subtree ending before from and every
+ * right subtree starting after to, visiting O(log n + k) nodes and reporting tasks in start order.
+ * <p>
+ * A task spans from its start date to its due date; a task with only one of the two spans that single day,
+ * and a task with neither is not indexed. Date changes move one task within the arrays and recompute the
+ * subtree maxima, O(n) but without sorting again.
+ * <p>
+ * Not thread-safe; callers synchronize on the instance.
+ */
+final class TaskIntervalIndex implements ProjectVersionCache.Versioned {
+
+    /**
+     * Receives the tasks found by {@link #query}
+     */
+    @FunctionalInterface
+    interface IntervalConsumer {
+        /**
+         * @param dueDay The due day, or {@link Integer#MIN_VALUE} if the task has no due date
+         */
+        void accept(int taskId, int startDay, int endDay, int dueDay);
+    }
+
+    private int size;
+    private int[] taskIds;
+    private int[] starts;
+    private int[] ends;
+    private int[] dues;
+    private int[] maxEnds;
+
+    // Cache validation
+    private long version;
+
+    /**
+     * @param taskIds Task IDs
+     * @param startDays Start day per task, in any order
+     * @param endDays End day per task, not before its start day
+     * @param dueDays Due day per task, or {@link Integer#MIN_VALUE} if none
+     */
+    TaskIntervalIndex(IntArrayList taskIds, IntArrayList startDays, IntArrayList endDays, IntArrayList dueDays) {
+        int n = taskIds.size();
+        // Sort positions by (start, task ID) through one primitive sort of packed keys
+        long[] keys = new long[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = ((long) startDays.get(i) << 32) | (taskIds.get(i) & 0xFFFFFFFFL);
+        }
+        Arrays.sort(keys);
+        // Task IDs are unique, so the ID in each key leads back to its original position
+        IntIntMap positionById = new IntIntMap(n);
+        for (int i = 0; i < n; i++) {
+            positionById.put(taskIds.get(i), i);
+        }
+        int[] positions = new int[n];
+        for (int i = 0; i < n; i++) {
+            positions[i] = positionById.get((int) keys[i], -1);
+        }
+
+        int capacity = Math.max(16, n);
+        this.taskIds = new int[capacity];
+        this.starts = new int[capacity];
+        this.ends = new int[capacity];
+        this.dues = new int[capacity];
+        this.maxEnds = new int[capacity];
+        for (int i = 0; i < n; i++) {
+            this.taskIds[i] = taskIds.get(positions[i]);
+            this.starts[i] = startDays.get(positions[i]);
+            this.ends[i] = endDays.get(positions[i]);
+            this.dues[i] = dueDays.get(positions[i]);
+        }
+        this.size = n;
+        buildMaxEnds(0, size);
+    }
+
+    int size() {
+        return size;
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    /**
+     * Report every task whose range overlaps [fromDay, toDay], in start order
+     */
+    void query(int fromDay, int toDay, IntervalConsumer consumer) {
+        if (fromDay <= toDay) {
+            query(0, size, fromDay, toDay, consumer);
+        }
+    }
+
+    /**
+     * Insert, move or remove a task
+     * @param taskId The task ID
+     * @param startDay The new start day, or {@link Integer#MIN_VALUE} to remove the task
+     * @param endDay The new end day, not before the start day
+     * @param dueDay The new due day, or {@link Integer#MIN_VALUE} if none
+     */
+    void update(int taskId, int startDay, int endDay, int dueDay) {
+        int position = -1;
+        for (int i = 0; i < size; i++) {
+            if (taskIds[i] == taskId) {
+                position = i;
+                break;
+            }
+        }
+        if (position >= 0) {
+            int tail = size - position - 1;
+            System.arraycopy(taskIds, position + 1, taskIds, position, tail);
+            System.arraycopy(starts, position + 1, starts, position, tail);
+            System.arraycopy(ends, position + 1, ends, position, tail);
+            System.arraycopy(dues, position + 1, dues, position, tail);
+            size--;
+        }
+
+        if (startDay != Integer.MIN_VALUE) {
+            if (size == taskIds.length) {
+                int capacity = taskIds.length * 2;
+                taskIds = Arrays.copyOf(taskIds, capacity);
+                starts = Arrays.copyOf(starts, capacity);
+                ends = Arrays.copyOf(ends, capacity);
+                dues = Arrays.copyOf(dues, capacity);
+                maxEnds = Arrays.copyOf(maxEnds, capacity);
+            }
+            int insertAt = insertionPoint(startDay, taskId);
+            int tail = size - insertAt;
+            System.arraycopy(taskIds, insertAt, taskIds, insertAt + 1, tail);
+            System.arraycopy(starts, insertAt, starts, insertAt + 1, tail);
+            System.arraycopy(ends, insertAt, ends, insertAt + 1, tail);
+            System.arraycopy(dues, insertAt, dues, insertAt + 1, tail);
+            taskIds[insertAt] = taskId;
+            starts[insertAt] = startDay;
+            ends[insertAt] = endDay;
+            dues[insertAt] = dueDay;
+            size++;
+        }
+        buildMaxEnds(0, size);
+    }
+
+    private void query(int lo, int hi, int fromDay, int toDay, IntervalConsumer consumer) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (maxEnds[mid] < fromDay) {
+                return;
+            }
+            query(lo, mid, fromDay, toDay, consumer);
+            if (starts[mid] > toDay) {
+                // Everything to the right starts even later
+                return;
+            }
+            if (ends[mid] >= fromDay) {
+                consumer.accept(taskIds[mid], starts[mid], ends[mid], dues[mid]);
+            }
+            lo = mid + 1;
+        }
+    }
+
+    /**
+     * @return The latest end day in [lo, hi), stored at the range's middle
+     */
+    private int buildMaxEnds(int lo, int hi) {
+        if (lo >= hi) {
+            return Integer.MIN_VALUE;
+        }
+        int mid = (lo + hi) >>> 1;
+        int max = Math.max(ends[mid], Math.max(buildMaxEnds(lo, mid), buildMaxEnds(mid + 1, hi)));
+        maxEnds[mid] = max;
+        return max;
+    }
+
+    private int insertionPoint(int startDay, int taskId) {
+        int lo = 0;
+        int hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (starts[mid] < startDay || (starts[mid] == startDay && taskIds[mid] < taskId)) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+}
@@ -0,0 +1,329 @@
+package com.project_management.final_project.service.impl;
+
+import com.project_management.final_project.config.SecurityUtil;
+import com.project_management.final_project.dto.request.AddTaskDependencyRequest;
+import com.project_management.final_project.dto.response.ProjectScheduleResponse;
+import com.project_management.final_project.dto.response.TaskDependencyResponse;
+import com.project_management.final_project.dto.response.TaskScheduleResponse;
+import com.project_management.final_project.entities.Project;
+import com.project_management.final_project.entities.Task;
+import com.project_management.final_project.entities.TaskDependency;
+import com.project_management.final_project.entities.User;
+import com.project_management.final_project.exception.AppException;
+import com.project_management.final_project.exception.ErrorCode;
+import com.project_management.final_project.repository.ProjectRepository;
+import com.project_management.final_project.repository.TaskDependencyRepository;
+import com.project_management.final_project.repository.TaskRepository;
+import com.project_management.final_project.repository.TaskScheduleRepository;
+import com.project_management.final_project.repository.UserRepository;
+import com.project_management.final_project.service.MembershipService;
+import com.project_management.final_project.service.TaskScheduleService;
+import com.project_management.final_project.util.collection.IntArrayList;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Project schedules cached per node in a {@link ProjectVersionCache}, at most schedule.cache.max-projects of them.
+ * <p>
+ * Every change to a project's tasks or links increments the Redis counter schedule:project:{id}; the node that
+ * made a date change applies it to its cached schedule incrementally instead of rebuilding.
+ * <p>
+ * Dependency changes lock the project row before anything else is read in their transaction and bump the
+ * project's dependency version, so the cycle check always runs against every committed link.
+ */
+@Service
+public class TaskScheduleServiceImpl implements TaskScheduleService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskScheduleServiceImpl.class);
+    private static final String VERSION_KEY_PREFIX = "schedule:project:";
+
+    private final TaskScheduleRepository taskScheduleRepository;
+    private final TaskDependencyRepository taskDependencyRepository;
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final MembershipService membershipService;
+    private final SecurityUtil securityUtil;
+    private final ProjectVersionCache<ProjectSchedule> schedules;
+
+    @Autowired
+    public TaskScheduleServiceImpl(
+            TaskScheduleRepository taskScheduleRepository,
+            TaskDependencyRepository taskDependencyRepository,
+            TaskRepository taskRepository,
+            ProjectRepository projectRepository,
+            UserRepository userRepository,
+            MembershipService membershipService,
+            SecurityUtil securityUtil,
+            StringRedisTemplate stringRedisTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${schedule.cache.max-projects:32}") int maxCachedProjects) {
+        this.taskScheduleRepository = taskScheduleRepository;
+        this.taskDependencyRepository = taskDependencyRepository;
+        this.taskRepository = taskRepository;
+        this.projectRepository = projectRepository;
+        this.userRepository = userRepository;
+        this.membershipService = membershipService;
+        this.securityUtil = securityUtil;
+        this.schedules = new ProjectVersionCache<>("schedule", VERSION_KEY_PREFIX, maxCachedProjects,
+                stringRedisTemplate, transactionManager);
+    }
+
+    @Override
+    public ProjectScheduleResponse getProjectSchedule(Integer projectId) {
+        Project project = checkCanView(projectId);
+        ProjectSchedule schedule = currentSchedule(projectId, originOf(project), null);
+
+        synchronized (schedule) {
+            int criticalTasks = 0;
+            int lateTasks = 0;
+            for (int task = 0; task < schedule.size(); task++) {
+                if (schedule.isCritical(task)) {
+                    criticalTasks++;
+                }
+                if (schedule.slip(task) > 0) {
+                    lateTasks++;
+                }
+            }
+            List<TaskScheduleResponse> criticalPath = new ArrayList<>();
+            for (int task : schedule.criticalPath()) {
+                criticalPath.add(toResponse(schedule, task));
+            }
+
+            LocalDate projectedFinish = schedule.size() > 0 ? toDate(schedule.projectedFinish()) : null;
+            int slipDays = 0;
+            if (projectedFinish != null && project.getEndDate() != null) {
+                slipDays = (int) Math.max(0, projectedFinish.toEpochDay() - project.getEndDate().toEpochDay());
+            }
+
+            return ProjectScheduleResponse.builder()
+                    .projectId(projectId)
+                    .scheduleStart(toDate(schedule.origin()))
+                    .projectedFinish(projectedFinish)
+                    .plannedEndDate(project.getEndDate())
+                    .slipDays(slipDays)
+                    .taskCount(schedule.size())
+                    .dependencyCount(schedule.dependencyCount())
+                    .criticalTaskCount(criticalTasks)
+                    .lateTaskCount(lateTasks)
+                    .criticalPath(criticalPath)
+                    .build();
+        }
+    }
+
+    @Override
+    public TaskScheduleResponse getTaskSchedule(Integer projectId, Integer taskId) {
+        Project project = checkCanView(projectId);
+        ProjectSchedule schedule = currentSchedule(projectId, originOf(project), null);
+
+        synchronized (schedule) {
+            int task = schedule.indexOf(taskId);
+            if (task < 0) {
+                throw new AppException(ErrorCode.NOT_FOUND, "Task not found in project with ID: " + projectId);
+            }
+            return toResponse(schedule, task);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaskDependencyResponse> getDependencies(Integer projectId) {
+        checkCanView(projectId);
+        return taskDependencyRepository.findByProjectIdWithTasks(projectId).stream()
+                .map(TaskDependencyResponse::fromEntity)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional
+    public TaskDependencyResponse addDependency(Integer projectId, AddTaskDependencyRequest request) {
+        Integer predecessorId = request.getPredecessorId();
+        Integer successorId = request.getSuccessorId();
+        if (predecessorId.equals(successorId)) {
+            throw new AppException(ErrorCode.INVALID_REQUEST, "A task cannot depend on itself");
+        }
+
+        // Lock first: the rows read below must include every link committed before this one
+        Integer dependencyVersion = lockDependencies(projectId);
+        Project project = checkOwner(projectId);
+        Task predecessor = findTaskInProject(predecessorId, projectId);
+        Task successor = findTaskInProject(successorId, projectId);
+
+        if (taskDependencyRepository.existsByPredecessorIdAndSuccessorId(predecessorId, successorId)) {
+            throw new AppException(ErrorCode.DUPLICATE_ENTITY, "This dependency already exists");
+        }
+
+        ProjectSchedule schedule = currentSchedule(projectId, originOf(project), dependencyVersion);
+        boolean cycle;
+        synchronized (schedule) {
+            cycle = schedule.wouldCreateCycle(predecessorId, successorId);
+        }
+        if (cycle) {
+            logger.warn("Rejected dependency of task ID {} on task ID {} in project ID {}: it would create a cycle",
+                    successorId, predecessorId, projectId);
+            throw new AppException(ErrorCode.INVALID_REQUEST,
+                    "Task " + predecessorId + " already depends on task " + successorId + ", directly or indirectly");
+        }
+
+        User currentUser = userRepository.findById(securityUtil.getCurrentUserId())
+                .orElseThrow(() -> new AppException(ErrorCode.USER_NOT_FOUND));
+        TaskDependency dependency = taskDependencyRepository.save(TaskDependency.builder()
+                .projectId(projectId)
+                .predecessor(predecessor)
+                .successor(successor)
+                .createdBy(currentUser)
+                .build());
+        taskScheduleRepository.incrementDependencyVersion(projectId);
+        scheduleChanged(projectId);
+
+        logger.info("Task ID {} now depends on task ID {} in project ID {}", successorId, predecessorId, projectId);
+        return TaskDependencyResponse.fromEntity(dependency);
+    }
+
+    @Override
+    @Transactional
+    public void removeDependency(Integer projectId, Long dependencyId) {
+        lockDependencies(projectId);
+        checkOwner(projectId);
+
+        TaskDependency dependency = taskDependencyRepository.findById(dependencyId)
+                .filter(d -> d.getProjectId().equals(projectId))
+                .orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "Dependency not found with ID: " + dependencyId));
+        taskDependencyRepository.delete(dependency);
+        taskScheduleRepository.incrementDependencyVersion(projectId);
+        scheduleChanged(projectId);
+
+        logger.info("Removed dependency ID {} from project ID {}", dependencyId, projectId);
+    }
+
+    @Override
+    public void scheduleChanged(Integer projectId) {
+        schedules.changed(projectId);
+    }
+
+    @Override
+    public void taskDatesChanged(Integer projectId, Integer taskId, LocalDate startDate, LocalDate dueDate) {
+        schedules.changed(projectId, schedule -> schedule.updateTask(taskId, toEpochDay(startDate), toEpochDay(dueDate)));
+    }
+
+    /**
+     * Get the cached schedule if it is current, otherwise build it from the database
+     * @param origin Start day of tasks without a start date or predecessors
+     * @param dependencyVersion Dependency version the schedule must have been built at, or null for any
+     */
+    private ProjectSchedule currentSchedule(Integer projectId, int origin, Integer dependencyVersion) {
+        return schedules.current(projectId,
+                cached -> cached.origin() == origin
+                        && (dependencyVersion == null || cached.dependencyVersion() == dependencyVersion),
+                () -> load(projectId, origin));
+    }
+
+    private ProjectSchedule load(Integer projectId, int origin) {
+        Integer dependencyVersion = taskScheduleRepository.findDependencyVersion(projectId);
+        IntArrayList taskIds = new IntArrayList(256);
+        IntArrayList startDates = new IntArrayList(256);
+        IntArrayList dueDates = new IntArrayList(256);
+        taskScheduleRepository.forEachTask(projectId, (taskId, startDate, dueDate) -> {
+            taskIds.add(taskId);
+            startDates.add(toEpochDay(startDate));
+            dueDates.add(toEpochDay(dueDate));
+        });
+        IntArrayList predecessorIds = new IntArrayList(256);
+        IntArrayList successorIds = new IntArrayList(256);
+        taskScheduleRepository.forEachDependency(projectId, (predecessorId, successorId) -> {
+            predecessorIds.add(predecessorId);
+            successorIds.add(successorId);
+        });
+
+        try {
+            return new ProjectSchedule(origin, dependencyVersion != null ? dependencyVersion : 0,
+                    taskIds, startDates, dueDates, predecessorIds, successorIds);
+        } catch (IllegalStateException e) {
+            logger.error("Cannot schedule project ID {}: {}", projectId, e.getMessage());
+            throw new AppException(ErrorCode.INTERNAL_ERROR, "Task dependencies of the project contain a cycle");
+        }
+    }
+
+    private Integer lockDependencies(Integer projectId) {
+        Integer dependencyVersion = taskScheduleRepository.lockDependencyVersion(projectId);
+        if (dependencyVersion == null) {
+            throw new AppException(ErrorCode.NOT_FOUND, "Project not found with ID: " + projectId);
+        }
+        return dependencyVersion;
+    }
+
+    private Project checkCanView(Integer projectId) {
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "Project not found with ID: " + projectId));
+        Integer currentUserId = securityUtil.getCurrentUserId();
+        if (!project.getCreatedBy().getId().equals(currentUserId) && !membershipService.isMember(currentUserId, projectId)) {
+            logger.warn("User ID {} attempted to view the schedule of project ID {} without being a member",
+                    currentUserId, projectId);
+            throw new AppException(ErrorCode.UNAUTHORIZED, "You are not a member of this project");
+        }
+        return project;
+    }
+
+    private Project checkOwner(Integer projectId) {
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "Project not found with ID: " + projectId));
+        Integer currentUserId = securityUtil.getCurrentUserId();
+        if (!project.getCreatedBy().getId().equals(currentUserId)) {
+            logger.warn("User ID {} attempted to change dependencies in project ID {} created by user ID {}",
+                    currentUserId, projectId, project.getCreatedBy().getId());
+            throw new AppException(ErrorCode.UNAUTHORIZED, "You are not authorized to change dependencies in this project");
+        }
+        return project;
+    }
+
+    private Task findTaskInProject(Integer taskId, Integer projectId) {
+        Task task = taskRepository.findById(taskId)
+                .orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "Task not found with ID: " + taskId));
+        if (!task.getProject().getId().equals(projectId)) {
+            throw new AppException(ErrorCode.INVALID_REQUEST, "Task " + taskId + " does not belong to this project");
+        }
+        return task;
+    }
+
+    private static TaskScheduleResponse toResponse(ProjectSchedule schedule, int task) {
+        int dueDate = schedule.plannedDue(task);
+        return TaskScheduleResponse.builder()
+                .taskId(schedule.taskId(task))
+                .dueDate(dueDate != ProjectSchedule.NO_DATE ? toDate(dueDate) : null)
+                .earliestStart(toDate(schedule.earliestStart(task)))
+                .earliestFinish(toDate(schedule.earliestFinish(task)))
+                .latestStart(toDate(schedule.latestStart(task)))
+                .latestFinish(toDate(schedule.latestFinish(task)))
+                .slackDays(schedule.slack(task))
+                .critical(schedule.isCritical(task))
+                .slipDays(schedule.slip(task))
+                .build();
+    }
+
+    /**
+     * Tasks without a start date start with the project, or today if the project has no start date either
+     */
+    private static int originOf(Project project) {
+        LocalDate start = project.getStartDate() != null ? project.getStartDate() : LocalDate.now();
+        return (int) start.toEpochDay();
+    }
+
+    private static int toEpochDay(LocalDate date) {
+        return date != null ? (int) date.toEpochDay() : ProjectSchedule.NO_DATE;
+    }
+
+    private static LocalDate toDate(int epochDay) {
+        return LocalDate.ofEpochDay(epochDay);
+    }
+}
@@ -21,23 +21,33 @@ import com.project_management.final_project.exception.AppException;
 import com.project_management.final_project.exception.ErrorCode;
 import com.project_management.final_project.repository.ProjectRepository;
 import com.project_management.final_project.repository.TaskRepository;
-import com.project_management.final_project.repository.TeamMemberRepository;
 import com.project_management.final_project.repository.UserRepository;
+import com.project_management.final_project.service.ActivityFeedService;
+import com.project_management.final_project.service.ChangeVersionService;
+import com.project_management.final_project.service.MembershipService;
+import com.project_management.final_project.service.NotificationService;
 import com.project_management.final_project.service.TaskHistoryService;
+import com.project_management.final_project.service.TaskScheduleService;
 import com.project_management.final_project.service.TaskService;
+import com.project_management.final_project.service.TimelineService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Service
@@ -47,24 +57,45 @@ public class TaskServiceImpl implements TaskService {
     private final TaskRepository taskRepository;
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
-    private final TeamMemberRepository teamMemberRepository;
+    private final MembershipService membershipService;
     private final TaskHistoryService taskHistoryService;
     private final SecurityUtil securityUtil;
+    private final ChangeVersionService changeVersionService;
+    private final ActivityFeedService activityFeedService;
+    private final TaskScheduleService taskScheduleService;
+    private final TimelineService timelineService;
+    private final NotificationService notificationService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${task.status-update.max-attempts:3}")
+    private int statusUpdateMaxAttempts;
 
     @Autowired
     public TaskServiceImpl(
             TaskRepository taskRepository,
             ProjectRepository projectRepository,
             UserRepository userRepository,
-            TeamMemberRepository teamMemberRepository,
+            MembershipService membershipService,
             TaskHistoryService taskHistoryService,
-            SecurityUtil securityUtil) {
+            SecurityUtil securityUtil,
+            ChangeVersionService changeVersionService,
+            ActivityFeedService activityFeedService,
+            TaskScheduleService taskScheduleService,
+            TimelineService timelineService,
+            NotificationService notificationService,
+            PlatformTransactionManager transactionManager) {
         this.taskRepository = taskRepository;
         this.projectRepository = projectRepository;
         this.userRepository = userRepository;
-        this.teamMemberRepository = teamMemberRepository;
+        this.membershipService = membershipService;
         this.taskHistoryService = taskHistoryService;
         this.securityUtil = securityUtil;
+        this.changeVersionService = changeVersionService;
+        this.activityFeedService = activityFeedService;
+        this.taskScheduleService = taskScheduleService;
+        this.timelineService = timelineService;
+        this.notificationService = notificationService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     @Override
@@ -119,7 +150,7 @@ public class TaskServiceImpl implements TaskService {
                                 "User not found with ID: " + request.getAssigneeId()));
                 
                 // Check if the assignee is a member of the project
-                boolean isMember = teamMemberRepository.existsByUserIdAndProjectId(
+                boolean isMember = membershipService.isMember(
                         request.getAssigneeId(), projectId);
                 
                 if (!isMember) {
@@ -152,6 +183,12 @@ public class TaskServiceImpl implements TaskService {
             
             // Save task
             Task savedTask = taskRepository.save(task);
+            changeVersionService.projectChanged(projectId);
+            taskScheduleService.scheduleChanged(projectId);
+            timelineService.tasksChanged(projectId);
+            if (assignee != null) {
+                notificationService.tasksAssigned(List.of(savedTask));
+            }
             
             logger.info("Created new task with ID {} in project ID {} by user ID {}", 
                     savedTask.getId(), projectId, currentUserId);
@@ -190,7 +227,7 @@ public class TaskServiceImpl implements TaskService {
     
     @Override
     @Transactional
-    public TaskResponse assignTask(Integer taskId, AssignTaskRequest request) {
+    public TaskResponse assignTask(Integer taskId, AssignTaskRequest request, Integer expectedVersion) {
         try {
             logger.info("Assigning task ID {} to user ID {}", taskId, request.getUserId());
             
@@ -200,6 +237,7 @@ public class TaskServiceImpl implements TaskService {
             // Find the task by ID
             Task task = taskRepository.findById(taskId)
                     .orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "Task not found with ID: " + taskId));
+            checkExpectedVersion(task, expectedVersion);
             
             // Check if the task already has an assignee
             if (task.getAssignee() != null) {
@@ -227,7 +265,7 @@ public class TaskServiceImpl implements TaskService {
                             "User not found with ID: " + request.getUserId()));
             
             // Check if the assignee is a member of the project
-            boolean isMember = teamMemberRepository.existsByUserIdAndProjectId(
+            boolean isMember = membershipService.isMember(
                     request.getUserId(), project.getId());
             
             if (!isMember) {
@@ -238,17 +276,27 @@ public class TaskServiceImpl implements TaskService {
             }
             
             // Update the task
+            Task.Status oldStatus = task.getStatus();
+            User previousAssignee = task.getAssignee();
             task.setAssignee(assignee);
             task.setStatus(Task.Status.TODO);
             
-            // Save the updated task
-            Task updatedTask = taskRepository.save(task);
+            // Save the updated task; flushing detects concurrent edits and yields the new version
+            Task updatedTask = taskRepository.saveAndFlush(task);
+            changeVersionService.projectChanged(updatedTask.getProject().getId());
+            evictAssigneeFeeds(previousAssignee, assignee);
+            notificationService.tasksAssigned(List.of(updatedTask));
+            
+            // Record the status change like any other, so analytics folded from the history stay complete
+            if (oldStatus != Task.Status.TODO) {
+                taskHistoryService.createTaskStatusHistory(updatedTask, oldStatus, Task.Status.TODO);
+            }
             
             logger.info("Successfully assigned task ID {} to user ID {}", taskId, request.getUserId());
             
             return TaskResponse.fromEntity(updatedTask);
             
-        } catch (AppException e) {
+        } catch (AppException | OptimisticLockingFailureException e) {
             throw e;
         } catch (Exception e) {
             logger.error("Error assigning task ID {}: {}", taskId, e.getMessage(), e);
@@ -270,7 +318,7 @@ public class TaskServiceImpl implements TaskService {
                     .orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "Project not found with ID: " + projectId));
             
             // Check if the current user is a member of the project
-            boolean isMember = teamMemberRepository.existsByUserIdAndProjectId(currentUserId, projectId);
+            boolean isMember = membershipService.isMember(currentUserId, projectId);
             
             if (!isMember) {
                 logger.warn("User ID {} attempted to view tasks in project ID {} but is not a member", 
@@ -323,7 +371,7 @@ public class TaskServiceImpl implements TaskService {
                     .orElseThrow(() -> new AppException(ErrorCode.USER_NOT_FOUND, "User not found with ID: " + userId));
             
             // Check if the target user is a member of the project
-            boolean isTargetMember = teamMemberRepository.existsByUserIdAndProjectId(userId, projectId);
+            boolean isTargetMember = membershipService.isMember(userId, projectId);
             
             if (!isTargetMember) {
                 logger.warn("User ID {} is not a member of project ID {}", userId, projectId);
@@ -387,8 +435,27 @@ public class TaskServiceImpl implements TaskService {
     }
 
     @Override
-    @Transactional
-    public TaskResponse updateTaskStatus(Integer taskId, Integer projectId, UpdateTaskStatusRequest request) {
+    public TaskResponse updateTaskStatus(Integer taskId, Integer projectId, UpdateTaskStatusRequest request,
+                                         Integer expectedVersion) {
+        // Without a precondition a status change does not depend on what the client saw, so when another
+        // update wins the race it is simply re-applied to the fresh state (re-running all the checks)
+        int maxAttempts = expectedVersion == null ? Math.max(1, statusUpdateMaxAttempts) : 1;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(
+                        status -> applyTaskStatus(taskId, projectId, request, expectedVersion));
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    logger.warn("Giving up status update of task ID {} after {} conflicting attempt(s)", taskId, attempt);
+                    throw new AppException(ErrorCode.CONCURRENT_MODIFICATION);
+                }
+                logger.info("Task ID {} was modified concurrently, retrying status update (attempt {})", taskId, attempt + 1);
+            }
+        }
+    }
+
+    private TaskResponse applyTaskStatus(Integer taskId, Integer projectId, UpdateTaskStatusRequest request,
+                                         Integer expectedVersion) {
         try {
             logger.info("Updating status of task ID {} in project ID {} to {}", taskId, projectId, request.getStatus());
             
@@ -398,6 +465,7 @@ public class TaskServiceImpl implements TaskService {
             // Find the task by ID
             Task task = taskRepository.findById(taskId)
                     .orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "Task not found with ID: " + taskId));
+            checkExpectedVersion(task, expectedVersion);
             
             // Verify task belongs to the specified project
             if (!task.getProject().getId().equals(projectId)) {
@@ -429,13 +497,15 @@ public class TaskServiceImpl implements TaskService {
                 logger.info("Removing assignee (User ID: {}) from task ID {} as status is being set to UNASSIGNED", 
                         previousAssignee.getId(), taskId);
                 task.setAssignee(null);
+                evictAssigneeFeeds(previousAssignee, null);
             }
             
             // Update the task status
             task.setStatus(newStatus);
             
-            // Save the updated task
-            Task updatedTask = taskRepository.save(task);
+            // Save the updated task; flushing detects a concurrent update before history is written
+            Task updatedTask = taskRepository.saveAndFlush(task);
+            changeVersionService.projectChanged(updatedTask.getProject().getId());
             
             // Create task history record
             taskHistoryService.createTaskStatusHistory(updatedTask, oldStatus, newStatus);
@@ -445,7 +515,7 @@ public class TaskServiceImpl implements TaskService {
             
             return TaskResponse.fromEntity(updatedTask);
             
-        } catch (AppException e) {
+        } catch (AppException | OptimisticLockingFailureException e) {
             throw e;
         } catch (Exception e) {
             logger.error("Error updating status of task ID {}: {}", taskId, e.getMessage(), e);
@@ -518,7 +588,8 @@ public class TaskServiceImpl implements TaskService {
 
     @Override
     @Transactional
-    public List<ProjectTaskResponse> updateTask(Integer taskId, Integer projectId, UpdateTaskRequest request) {
+    public List<ProjectTaskResponse> updateTask(Integer taskId, Integer projectId, UpdateTaskRequest request,
+                                                Integer expectedVersion) {
         try {
             logger.info("Updating task ID {} in project ID {}", taskId, projectId);
             
@@ -528,6 +599,7 @@ public class TaskServiceImpl implements TaskService {
             // Find the task by ID
             Task task = taskRepository.findById(taskId)
                     .orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "Task not found with ID: " + taskId));
+            checkExpectedVersion(task, expectedVersion);
             
             // Verify task belongs to the specified project
             if (!task.getProject().getId().equals(projectId)) {
@@ -567,7 +639,8 @@ public class TaskServiceImpl implements TaskService {
             Task.Status newStatus = request.getStatus();
             
             // Handle assignee changes
-            User assignee = task.getAssignee();
+            User previousAssignee = task.getAssignee();
+            User assignee = previousAssignee;
             if (request.getAssigneeId() != null) {
                 // Check if user exists
                 assignee = userRepository.findById(request.getAssigneeId())
@@ -575,7 +648,7 @@ public class TaskServiceImpl implements TaskService {
                                 "User not found with ID: " + request.getAssigneeId()));
                 
                 // Check if the assignee is a member of the project
-                boolean isMember = teamMemberRepository.existsByUserIdAndProjectId(
+                boolean isMember = membershipService.isMember(
                         request.getAssigneeId(), projectId);
                 
                 if (!isMember) {
@@ -607,6 +680,8 @@ public class TaskServiceImpl implements TaskService {
             }
             
             // Update task fields
+            boolean datesChanged = !Objects.equals(task.getStartDate(), request.getStartDate())
+                    || !Objects.equals(task.getDueDate(), request.getDueDate());
             task.setTitle(request.getTitle());
             task.setDescription(request.getDescription());
             task.setStartDate(request.getStartDate());
@@ -622,8 +697,17 @@ public class TaskServiceImpl implements TaskService {
             
             task.setAssignee(assignee);
             
-            // Save the updated task
-            Task updatedTask = taskRepository.save(task);
+            // Save the updated task; flushing detects a concurrent update before history is written
+            Task updatedTask = taskRepository.saveAndFlush(task);
+            changeVersionService.projectChanged(updatedTask.getProject().getId());
+            evictAssigneeFeeds(previousAssignee, assignee);
+            if (assignee != null && (previousAssignee == null || !previousAssignee.getId().equals(assignee.getId()))) {
+                notificationService.tasksAssigned(List.of(updatedTask));
+            }
+            if (datesChanged) {
+                taskScheduleService.taskDatesChanged(projectId, taskId, updatedTask.getStartDate(), updatedTask.getDueDate());
+                timelineService.taskDatesChanged(projectId, taskId, updatedTask.getStartDate(), updatedTask.getDueDate());
+            }
             
             // Create task history record if status changed
             if (newStatus != null && !oldStatus.equals(newStatus)) {
@@ -640,11 +724,39 @@ public class TaskServiceImpl implements TaskService {
                     .map(ProjectTaskResponse::fromEntity)
                     .collect(Collectors.toList());
             
-        } catch (AppException e) {
+        } catch (AppException | OptimisticLockingFailureException e) {
             throw e;
         } catch (Exception e) {
             logger.error("Error updating task ID {}: {}", taskId, e.getMessage(), e);
             throw new AppException(ErrorCode.INTERNAL_ERROR, "Failed to update task");
         }
     }
+
+    /**
+     * Enforce an If-Match precondition against the version just loaded
+     * @param task The task as currently stored
+     * @param expectedVersion The version the client expects, or null for no precondition
+     */
+    private void checkExpectedVersion(Task task, Integer expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+            logger.warn("Precondition failed for task ID {}: expected version {}, current version {}",
+                    task.getId(), expectedVersion, task.getVersion());
+            throw new AppException(ErrorCode.PRECONDITION_FAILED, "Task has been modified since it was last read");
+        }
+    }
+
+    /**
+     * Developer feeds list the history of the tasks currently assigned to them, so a task changing hands
+     * invalidates the feeds of both the previous and the new assignee
+     * @param previousAssignee The assignee before the change, or null
+     * @param newAssignee The assignee after the change, or null
+     */
+    private void evictAssigneeFeeds(User previousAssignee, User newAssignee) {
+        Integer previousId = previousAssignee != null ? previousAssignee.getId() : null;
+        Integer newId = newAssignee != null ? newAssignee.getId() : null;
+        if (Objects.equals(previousId, newId)) {
+            return;
+        }
+        activityFeedService.evict(ActivityFeedService.Feed.ASSIGNED, Arrays.asList(previousId, newId));
+    }
 } 
\ No newline at end of file
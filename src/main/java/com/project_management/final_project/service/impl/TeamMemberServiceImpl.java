@@ -15,10 +15,17 @@ import com.project_management.final_project.exception.ErrorCode;
 import com.project_management.final_project.repository.ProjectRepository;
 import com.project_management.final_project.repository.SpecializationRepository;
 import com.project_management.final_project.repository.TaskRepository;
+import com.project_management.final_project.repository.TeamMemberBatchRepository;
 import com.project_management.final_project.repository.TeamMemberRepository;
 import com.project_management.final_project.repository.UserRepository;
+import com.project_management.final_project.service.ActivityFeedService;
+import com.project_management.final_project.service.ChangeVersionService;
+import com.project_management.final_project.service.MembershipService;
 import com.project_management.final_project.service.TaskHistoryService;
 import com.project_management.final_project.service.TeamMemberService;
+import com.project_management.final_project.util.collection.IntArrayList;
+import com.project_management.final_project.util.collection.IntHashSet;
+import com.project_management.final_project.util.collection.IntIntMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -28,9 +35,18 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -41,9 +57,13 @@ public class TeamMemberServiceImpl implements TeamMemberService {
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
     private final TeamMemberRepository teamMemberRepository;
+    private final TeamMemberBatchRepository teamMemberBatchRepository;
+    private final MembershipService membershipService;
+    private final ChangeVersionService changeVersionService;
     private final SpecializationRepository specializationRepository;
     private final TaskRepository taskRepository;
     private final TaskHistoryService taskHistoryService;
+    private final ActivityFeedService activityFeedService;
     private final SecurityUtil securityUtil;
 
     @Autowired
@@ -51,16 +71,24 @@ public class TeamMemberServiceImpl implements TeamMemberService {
             ProjectRepository projectRepository, 
             UserRepository userRepository, 
             TeamMemberRepository teamMemberRepository,
+            TeamMemberBatchRepository teamMemberBatchRepository,
+            MembershipService membershipService,
+            ChangeVersionService changeVersionService,
             SpecializationRepository specializationRepository,
             TaskRepository taskRepository,
             TaskHistoryService taskHistoryService,
+            ActivityFeedService activityFeedService,
             SecurityUtil securityUtil) {
         this.projectRepository = projectRepository;
         this.userRepository = userRepository;
         this.teamMemberRepository = teamMemberRepository;
+        this.teamMemberBatchRepository = teamMemberBatchRepository;
+        this.membershipService = membershipService;
+        this.changeVersionService = changeVersionService;
         this.specializationRepository = specializationRepository;
         this.taskRepository = taskRepository;
         this.taskHistoryService = taskHistoryService;
+        this.activityFeedService = activityFeedService;
         this.securityUtil = securityUtil;
     }
 
@@ -82,56 +110,167 @@ public class TeamMemberServiceImpl implements TeamMemberService {
                 throw new AppException(ErrorCode.UNAUTHORIZED, "You are not authorized to add members to this project");
             }
             
-            // First, check if any of the users are already members of the project
-            for (AddTeamMemberRequest request : requests) {
-                boolean isAlreadyMember = teamMemberRepository.existsByUserIdAndProjectId(
-                        request.getUserId(), projectId);
-                
-                if (isAlreadyMember) {
-                    User user = userRepository.findById(request.getUserId()).orElse(null);
-                    String userName = user != null ? user.getName() : "Unknown";
-                    logger.warn("User ID {} ({}) is already a member of project ID {}", 
-                            request.getUserId(), userName, projectId);
-                    throw new AppException(ErrorCode.DUPLICATE_ENTITY, 
-                            "User " + userName + " is already a member of this project");
-                }
+            return addTeamMembersInBulk(projectId, requests);
+        } catch (AppException e) {
+            throw e;
+        } catch (Exception e) {
+            logger.error("Error adding team members to project ID {}: {}", projectId, e.getMessage(), e);
+            throw new AppException(ErrorCode.INTERNAL_ERROR, "Failed to add team members to project");
+        }
+    }
+    
+    @Override
+    @Transactional
+    public int importTeamMembers(Integer projectId, InputStream roster) {
+        try {
+            List<String[]> rows = parseRoster(roster);
+            if (rows.isEmpty()) {
+                throw new AppException(ErrorCode.INVALID_REQUEST, "Roster file contains no team members");
             }
             
-            List<TeamMember> teamMembersToAdd = new ArrayList<>();
+            // Resolve all emails with a single query
+            Set<String> emails = rows.stream()
+                    .map(row -> row[0].toLowerCase())
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+            Map<String, Integer> userIdsByEmail = new HashMap<>();
+            for (User user : userRepository.findByEmailIn(emails)) {
+                userIdsByEmail.put(user.getEmail().toLowerCase(), user.getId());
+            }
             
-            for (AddTeamMemberRequest request : requests) {
-                // Check if user exists
-                User user = userRepository.findById(request.getUserId())
-                        .orElseThrow(() -> new AppException(ErrorCode.USER_NOT_FOUND, 
-                                "User not found with ID: " + request.getUserId()));
-                
-                // Check if specialization exists
-                Specialization specialization = specializationRepository.findById(request.getSpecializationId())
-                        .orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, 
-                                "Specialization not found with ID: " + request.getSpecializationId()));
-                
-                // Create new team member
-                TeamMember teamMember = TeamMember.builder()
-                        .user(user)
-                        .project(project)
-                        .specialization(specialization)
-                        .build();
-                
-                teamMembersToAdd.add(teamMember);
+            // Specializations are a small lookup table, match them by name or ID
+            Map<String, Integer> specializationIds = new HashMap<>();
+            for (Specialization specialization : specializationRepository.findAll()) {
+                specializationIds.put(specialization.getName().toLowerCase(), specialization.getId());
+                specializationIds.put(String.valueOf(specialization.getId()), specialization.getId());
             }
             
-            // Save all team members
-            List<TeamMember> savedTeamMembers = teamMemberRepository.saveAll(teamMembersToAdd);
+            List<AddTeamMemberRequest> requests = new ArrayList<>(rows.size());
+            for (String[] row : rows) {
+                Integer userId = userIdsByEmail.get(row[0].toLowerCase());
+                if (userId == null) {
+                    throw new AppException(ErrorCode.USER_NOT_FOUND, "User not found with email: " + row[0]);
+                }
+                Integer specializationId = specializationIds.get(row[1].toLowerCase());
+                if (specializationId == null) {
+                    throw new AppException(ErrorCode.NOT_FOUND, "Specialization not found: " + row[1]);
+                }
+                requests.add(new AddTeamMemberRequest(userId, specializationId));
+            }
             
-            logger.info("Added {} team members to project ID {}", savedTeamMembers.size(), projectId);
+            logger.info("Importing {} team members from roster into project ID {}", requests.size(), projectId);
             
-            return savedTeamMembers.size();
+            return addTeamMembers(projectId, requests);
         } catch (AppException e) {
             throw e;
         } catch (Exception e) {
-            logger.error("Error adding team members to project ID {}: {}", projectId, e.getMessage(), e);
-            throw new AppException(ErrorCode.INTERNAL_ERROR, "Failed to add team members to project");
+            logger.error("Error importing team members into project ID {}: {}", projectId, e.getMessage(), e);
+            throw new AppException(ErrorCode.INTERNAL_ERROR, "Failed to import team members");
+        }
+    }
+    
+    /**
+     * Validate and insert team members using one IN query each for users, existing memberships
+     * and specializations, followed by a batched insert
+     *
+     * @param projectId The project ID
+     * @param requests The team members to add
+     * @return Number of team members added
+     */
+    private int addTeamMembersInBulk(Integer projectId, List<AddTeamMemberRequest> requests) {
+        // Reject users listed more than once in the same request
+        IntHashSet seenUserIds = new IntHashSet(requests.size());
+        List<Integer> userIds = new ArrayList<>(requests.size());
+        IntHashSet specializationIds = new IntHashSet();
+        for (AddTeamMemberRequest request : requests) {
+            if (!seenUserIds.add(request.getUserId())) {
+                logger.warn("User ID {} is listed more than once for project ID {}", request.getUserId(), projectId);
+                throw new AppException(ErrorCode.INVALID_REQUEST, 
+                        "User ID " + request.getUserId() + " is listed more than once");
+            }
+            userIds.add(request.getUserId());
+            specializationIds.add(request.getSpecializationId());
+        }
+        
+        // Load all requested users at once
+        Map<Integer, User> usersById = userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, user -> user));
+        
+        // Check if any of the users are already members of the project
+        List<Integer> existingMemberIds = teamMemberRepository.findMemberUserIdsByProjectIdAndUserIdIn(
+                projectId, userIds);
+        if (!existingMemberIds.isEmpty()) {
+            Integer existingUserId = existingMemberIds.get(0);
+            User user = usersById.get(existingUserId);
+            String userName = user != null ? user.getName() : "Unknown";
+            logger.warn("User ID {} ({}) is already a member of project ID {}", existingUserId, userName, projectId);
+            throw new AppException(ErrorCode.DUPLICATE_ENTITY, 
+                    "User " + userName + " is already a member of this project");
+        }
+        
+        // Check that every user exists
+        if (usersById.size() != userIds.size()) {
+            for (int i = 0; i < userIds.size(); i++) {
+                if (!usersById.containsKey(userIds.get(i))) {
+                    throw new AppException(ErrorCode.USER_NOT_FOUND, "User not found with ID: " + userIds.get(i));
+                }
+            }
+        }
+        
+        // Check that every specialization exists
+        int[] requestedSpecializationIds = specializationIds.toArray();
+        IntHashSet foundSpecializationIds = new IntHashSet(requestedSpecializationIds.length);
+        for (Specialization specialization : specializationRepository.findAllById(
+                Arrays.stream(requestedSpecializationIds).boxed().toList())) {
+            foundSpecializationIds.add(specialization.getId());
+        }
+        for (int specializationId : requestedSpecializationIds) {
+            if (!foundSpecializationIds.contains(specializationId)) {
+                throw new AppException(ErrorCode.NOT_FOUND, 
+                        "Specialization not found with ID: " + specializationId);
+            }
         }
+        
+        // Insert all team members in batched multi-row statements
+        int addedCount = teamMemberBatchRepository.insertAll(projectId, requests);
+        membershipService.invalidate(userIds);
+        changeVersionService.membershipChanged(projectId, userIds);
+        
+        logger.info("Added {} team members to project ID {}", addedCount, projectId);
+        
+        return addedCount;
+    }
+    
+    /**
+     * Parse a CSV roster with one "email,specialization" pair per line.
+     * A header line and blank lines are skipped; the specialization may be given by name or ID.
+     *
+     * @param roster The roster content
+     * @return The parsed rows as [email, specialization]
+     */
+    private List<String[]> parseRoster(InputStream roster) throws IOException {
+        List<String[]> rows = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(roster, StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                String[] columns = line.split(",", -1);
+                if (columns.length < 2) {
+                    throw new AppException(ErrorCode.INVALID_REQUEST, 
+                            "Invalid roster line " + lineNumber + ": expected email,specialization");
+                }
+                String email = columns[0].trim();
+                String specialization = columns[1].trim();
+                if (lineNumber == 1 && "email".equalsIgnoreCase(email)) {
+                    continue;
+                }
+                rows.add(new String[] {email, specialization});
+            }
+        }
+        return rows;
     }
     
     @Override
@@ -232,12 +371,18 @@ public class TeamMemberServiceImpl implements TeamMemberService {
             
             // Unassign all tasks assigned to this team member in this project
             int unassignedTasksCount = taskRepository.unassignTasksForTeamMember(userId, projectId);
+            if (unassignedTasksCount > 0) {
+                // Their feed still lists the history of the tasks they no longer hold
+                activityFeedService.evict(ActivityFeedService.Feed.ASSIGNED, List.of(userId));
+            }
             
             logger.info("Unassigned {} tasks from team member ID {} (user ID {}) in project ID {}", 
                     unassignedTasksCount, teamMemberId, userId, projectId);
             
             // Delete the team member
             teamMemberRepository.delete(teamMember);
+            membershipService.invalidate(List.of(userId));
+            changeVersionService.membershipChanged(projectId, List.of(userId));
             
             logger.info("Successfully deleted team member ID {} from project ID {}", teamMemberId, project.getId());
             
@@ -279,14 +424,26 @@ public class TeamMemberServiceImpl implements TeamMemberService {
                     pageable
             );
             
+            // Count tasks for every member on the page with a single grouped query
+            IntArrayList memberUserIds = new IntArrayList(teamMembers.getNumberOfElements());
+            for (TeamMember teamMember : teamMembers.getContent()) {
+                if (teamMember.getUser() != null) {
+                    memberUserIds.add(teamMember.getUser().getId());
+                }
+            }
+            IntIntMap taskCounts = new IntIntMap(memberUserIds.size());
+            if (!memberUserIds.isEmpty()) {
+                for (Object[] row : taskRepository.countTasksByAssigneeIds(memberUserIds.asList())) {
+                    taskCounts.put((Integer) row[0], ((Number) row[1]).intValue());
+                }
+            }
+            
             // Map to response DTOs with workload information
             List<TeamMemberWithWorkloadResponse> teamMemberResponses = teamMembers.getContent().stream()
                     .map(teamMember -> {
-                        Integer userId = teamMember.getUser() != null ? teamMember.getUser().getId() : null;
-                        int taskCount = 0;
-                        if (userId != null) {
-                            taskCount = taskRepository.countByAssigneeId(userId);
-                        }
+                        int taskCount = teamMember.getUser() != null
+                                ? taskCounts.get(teamMember.getUser().getId(), 0)
+                                : 0;
                         return TeamMemberWithWorkloadResponse.fromEntityWithWorkload(teamMember, taskCount);
                     })
                     .collect(Collectors.toList());
@@ -315,7 +472,7 @@ public class TeamMemberServiceImpl implements TeamMemberService {
                     .orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "Project not found with ID: " + projectId));
             
             // Check if the current user is a member of the project
-            boolean isCurrentUserInProject = teamMemberRepository.existsByUserIdAndProjectId(currentUserId, projectId);
+            boolean isCurrentUserInProject = membershipService.isMember(currentUserId, projectId);
             if (!isCurrentUserInProject) {
                 logger.warn("User ID {} attempted to view team members of project ID {} but is not a member", 
                         currentUserId, projectId);
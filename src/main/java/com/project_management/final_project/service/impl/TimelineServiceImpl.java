@@ -0,0 +1,285 @@
+package com.project_management.final_project.service.impl;
+
+import com.project_management.final_project.config.SecurityUtil;
+import com.project_management.final_project.dto.response.TimelineBucketResponse;
+import com.project_management.final_project.dto.response.TimelineResponse;
+import com.project_management.final_project.dto.response.TimelineTaskResponse;
+import com.project_management.final_project.entities.Project;
+import com.project_management.final_project.entities.Task;
+import com.project_management.final_project.exception.AppException;
+import com.project_management.final_project.exception.ErrorCode;
+import com.project_management.final_project.repository.ProjectRepository;
+import com.project_management.final_project.repository.TaskRepository;
+import com.project_management.final_project.repository.TaskScheduleRepository;
+import com.project_management.final_project.repository.TimelineRepository;
+import com.project_management.final_project.service.MembershipService;
+import com.project_management.final_project.service.TimelineService;
+import com.project_management.final_project.util.collection.IntArrayList;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Project timelines answered from interval indexes cached per node in a {@link ProjectVersionCache}, at most
+ * timeline.cache.max-projects of them; user timelines from an indexed query.
+ * <p>
+ * Task creation and date changes increment the Redis counter timeline:project:{id}; the node that made a date
+ * change moves the task within its cached index instead of rebuilding it.
+ * <p>
+ * The index only holds task IDs and dates. Counts per bucket cover every task in the range; titles, statuses
+ * and assignees are read from the database for the first timeline.max-tasks tasks by start date.
+ */
+@Service
+public class TimelineServiceImpl implements TimelineService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TimelineServiceImpl.class);
+    private static final String VERSION_KEY_PREFIX = "timeline:project:";
+    // Details are read in chunks to keep the IN lists short
+    private static final int DETAIL_CHUNK_SIZE = 1000;
+
+    private final TaskScheduleRepository taskScheduleRepository;
+    private final TimelineRepository timelineRepository;
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final MembershipService membershipService;
+    private final SecurityUtil securityUtil;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ProjectVersionCache<TaskIntervalIndex> indexes;
+
+    @Value("${timeline.max-range-days:1100}")
+    private int maxRangeDays;
+
+    @Value("${timeline.max-tasks:2000}")
+    private int maxTasks;
+
+    @Autowired
+    public TimelineServiceImpl(
+            TaskScheduleRepository taskScheduleRepository,
+            TimelineRepository timelineRepository,
+            TaskRepository taskRepository,
+            ProjectRepository projectRepository,
+            MembershipService membershipService,
+            SecurityUtil securityUtil,
+            StringRedisTemplate stringRedisTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${timeline.cache.max-projects:64}") int maxCachedProjects) {
+        this.taskScheduleRepository = taskScheduleRepository;
+        this.timelineRepository = timelineRepository;
+        this.taskRepository = taskRepository;
+        this.projectRepository = projectRepository;
+        this.membershipService = membershipService;
+        this.securityUtil = securityUtil;
+        this.indexes = new ProjectVersionCache<>("timeline index", VERSION_KEY_PREFIX, maxCachedProjects,
+                stringRedisTemplate, transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public TimelineResponse getProjectTimeline(Integer projectId, LocalDate from, LocalDate to, Bucket bucket) {
+        checkRange(from, to);
+        checkCanView(projectId);
+
+        TaskIntervalIndex index = indexes.current(projectId, cached -> true, () -> load(projectId));
+        Matches matches = new Matches();
+        synchronized (index) {
+            index.query(toEpochDay(from), toEpochDay(to), matches::add);
+        }
+        return toResponse(from, to, bucket, matches);
+    }
+
+    @Override
+    public TimelineResponse getMyTimeline(LocalDate from, LocalDate to, Bucket bucket) {
+        checkRange(from, to);
+        Integer currentUserId = securityUtil.getCurrentUserId();
+
+        Matches matches = new Matches();
+        readOnlyTransaction.executeWithoutResult(status -> timelineRepository.forEachAssignedTaskInRange(
+                currentUserId, from, to, (taskId, startDate, dueDate) ->
+                        matches.add(taskId, startDay(startDate, dueDate), endDay(startDate, dueDate), dueDay(dueDate))));
+        return toResponse(from, to, bucket, matches);
+    }
+
+    @Override
+    public void tasksChanged(Integer projectId) {
+        indexes.changed(projectId);
+    }
+
+    @Override
+    public void taskDatesChanged(Integer projectId, Integer taskId, LocalDate startDate, LocalDate dueDate) {
+        indexes.changed(projectId, index -> {
+            if (startDate == null && dueDate == null) {
+                index.update(taskId, Integer.MIN_VALUE, 0, Integer.MIN_VALUE);
+            } else {
+                index.update(taskId, startDay(startDate, dueDate), endDay(startDate, dueDate), dueDay(dueDate));
+            }
+            return true;
+        });
+    }
+
+    /**
+     * Task ranges found for a timeline, in start order
+     */
+    private static final class Matches {
+        private final IntArrayList taskIds = new IntArrayList(256);
+        private final IntArrayList startDays = new IntArrayList(256);
+        private final IntArrayList endDays = new IntArrayList(256);
+        private final IntArrayList dueDays = new IntArrayList(256);
+
+        void add(int taskId, int startDay, int endDay, int dueDay) {
+            taskIds.add(taskId);
+            startDays.add(startDay);
+            endDays.add(endDay);
+            dueDays.add(dueDay);
+        }
+
+        int size() {
+            return taskIds.size();
+        }
+    }
+
+    private TimelineResponse toResponse(LocalDate from, LocalDate to, Bucket bucket, Matches matches) {
+        // Buckets are aligned to whole weeks (Monday to Sunday) and clipped to the range
+        LocalDate firstBucket = bucket == Bucket.WEEK ? from.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)) : from;
+        int bucketDays = bucket == Bucket.WEEK ? 7 : 1;
+        int origin = toEpochDay(firstBucket);
+        int bucketCount = (toEpochDay(to) - origin) / bucketDays + 1;
+        int fromDay = toEpochDay(from);
+        int toDay = toEpochDay(to);
+
+        // Difference array: +1 where a range enters the buckets, -1 after it leaves
+        int[] activeDelta = new int[bucketCount + 1];
+        int[] due = new int[bucketCount];
+        for (int i = 0; i < matches.size(); i++) {
+            int first = (Math.max(matches.startDays.get(i), fromDay) - origin) / bucketDays;
+            int last = (Math.min(matches.endDays.get(i), toDay) - origin) / bucketDays;
+            activeDelta[first]++;
+            activeDelta[last + 1]--;
+            int dueDay = matches.dueDays.get(i);
+            if (dueDay >= fromDay && dueDay <= toDay) {
+                due[(dueDay - origin) / bucketDays]++;
+            }
+        }
+        List<TimelineBucketResponse> buckets = new ArrayList<>(bucketCount);
+        int active = 0;
+        for (int b = 0; b < bucketCount; b++) {
+            active += activeDelta[b];
+            LocalDate start = firstBucket.plusDays((long) b * bucketDays);
+            buckets.add(TimelineBucketResponse.builder()
+                    .start(start.isBefore(from) ? from : start)
+                    .end(b == bucketCount - 1 ? to : start.plusDays(bucketDays - 1))
+                    .activeTasks(active)
+                    .dueTasks(due[b])
+                    .build());
+        }
+
+        int listed = Math.min(matches.size(), maxTasks);
+        return TimelineResponse.builder()
+                .from(from)
+                .to(to)
+                .bucket(bucket.name())
+                .taskCount(matches.size())
+                .truncated(listed < matches.size())
+                .buckets(buckets)
+                .tasks(loadTasks(matches.taskIds, listed))
+                .build();
+    }
+
+    /**
+     * Read the first tasks of a timeline, keeping the timeline's order; tasks deleted meanwhile are skipped
+     */
+    private List<TimelineTaskResponse> loadTasks(IntArrayList taskIds, int count) {
+        Map<Integer, TimelineTaskResponse> byId = new HashMap<>(count * 2);
+        readOnlyTransaction.executeWithoutResult(status -> {
+            for (int offset = 0; offset < count; offset += DETAIL_CHUNK_SIZE) {
+                List<Integer> chunk = taskIds.asList().subList(offset, Math.min(count, offset + DETAIL_CHUNK_SIZE));
+                for (Task task : taskRepository.findByIdInWithProjectAndAssignee(chunk)) {
+                    byId.put(task.getId(), TimelineTaskResponse.fromEntity(task));
+                }
+            }
+        });
+        List<TimelineTaskResponse> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            TimelineTaskResponse task = byId.get(taskIds.get(i));
+            if (task != null) {
+                tasks.add(task);
+            }
+        }
+        return tasks;
+    }
+
+    private TaskIntervalIndex load(Integer projectId) {
+        IntArrayList taskIds = new IntArrayList(256);
+        IntArrayList startDays = new IntArrayList(256);
+        IntArrayList endDays = new IntArrayList(256);
+        IntArrayList dueDays = new IntArrayList(256);
+        taskScheduleRepository.forEachTask(projectId, (taskId, startDate, dueDate) -> {
+            if (startDate != null || dueDate != null) {
+                taskIds.add(taskId);
+                startDays.add(startDay(startDate, dueDate));
+                endDays.add(endDay(startDate, dueDate));
+                dueDays.add(dueDay(dueDate));
+            }
+        });
+        return new TaskIntervalIndex(taskIds, startDays, endDays, dueDays);
+    }
+
+    private void checkRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new AppException(ErrorCode.INVALID_REQUEST, "from must not be after to");
+        }
+        if (to.toEpochDay() - from.toEpochDay() >= maxRangeDays) {
+            throw new AppException(ErrorCode.INVALID_REQUEST, "The range cannot exceed " + maxRangeDays + " days");
+        }
+    }
+
+    private Project checkCanView(Integer projectId) {
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new AppException(ErrorCode.NOT_FOUND, "Project not found with ID: " + projectId));
+        Integer currentUserId = securityUtil.getCurrentUserId();
+        if (!project.getCreatedBy().getId().equals(currentUserId) && !membershipService.isMember(currentUserId, projectId)) {
+            logger.warn("User ID {} attempted to view the timeline of project ID {} without being a member",
+                    currentUserId, projectId);
+            throw new AppException(ErrorCode.UNAUTHORIZED, "You are not a member of this project");
+        }
+        return project;
+    }
+
+    /**
+     * A task without a start date starts on its due date
+     */
+    private static int startDay(LocalDate startDate, LocalDate dueDate) {
+        return (int) (startDate != null ? startDate : dueDate).toEpochDay();
+    }
+
+    /**
+     * A task without a due date ends on its start date; a due date before the start date is ignored
+     */
+    private static int endDay(LocalDate startDate, LocalDate dueDate) {
+        if (dueDate == null) {
+            return (int) startDate.toEpochDay();
+        }
+        return startDate != null ? (int) Math.max(startDate.toEpochDay(), dueDate.toEpochDay()) : (int) dueDate.toEpochDay();
+    }
+
+    private static int dueDay(LocalDate dueDate) {
+        return dueDate != null ? (int) dueDate.toEpochDay() : Integer.MIN_VALUE;
+    }
+
+    private static int toEpochDay(LocalDate date) {
+        return (int) date.toEpochDay();
+    }
+}
@@ -0,0 +1,129 @@
+package com.project_management.final_project.service.impl;
+
+import com.project_management.final_project.service.TokenRevocationService;
+import com.project_management.final_project.util.BloomFilter;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Revoked sessions are kept in the Redis sorted set auth:revoked-sessions, scored by the time until which
+ * access tokens of the session could still be valid. Each node mirrors the set into an in-process Bloom filter,
+ * rebuilt periodically and updated through pub/sub, so the per-request check only reaches Redis
+ * for revoked sessions and the occasional false positive.
+ */
+@Service
+public class TokenRevocationServiceImpl implements TokenRevocationService, MessageListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationServiceImpl.class);
+    private static final String REVOKED_SESSIONS_KEY = "auth:revoked-sessions";
+    private static final String REVOCATION_CHANNEL = "auth:session-revoked";
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    // Revocations received while a rebuild is running, replayed into the new filter
+    private final ConcurrentLinkedQueue<String> recentRevocations = new ConcurrentLinkedQueue<>();
+    private volatile BloomFilter revokedSessions;
+
+    @Value("${jwt.access-token.expiration}")
+    private long accessTokenExpiration;
+
+    @Value("${auth.revocation.bloom-expected-entries:100000}")
+    private int expectedEntries;
+
+    @Autowired
+    public TokenRevocationServiceImpl(StringRedisTemplate stringRedisTemplate,
+                                      RedisMessageListenerContainer listenerContainer) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.listenerContainer = listenerContainer;
+    }
+
+    @PostConstruct
+    public void init() {
+        revokedSessions = new BloomFilter(expectedEntries, FALSE_POSITIVE_RATE);
+        listenerContainer.addMessageListener(this, new ChannelTopic(REVOCATION_CHANNEL));
+        syncFromRedis();
+    }
+
+    @Override
+    public void revokeSessions(Collection<String> sessionIds) {
+        if (sessionIds.isEmpty()) {
+            return;
+        }
+        double revokedUntil = System.currentTimeMillis() + accessTokenExpiration;
+        for (String sessionId : sessionIds) {
+            stringRedisTemplate.opsForZSet().add(REVOKED_SESSIONS_KEY, sessionId, revokedUntil);
+            revokedSessions.add(sessionId);
+            stringRedisTemplate.convertAndSend(REVOCATION_CHANNEL, sessionId);
+        }
+    }
+
+    @Override
+    public boolean isSessionRevoked(String sessionId) {
+        if (!revokedSessions.mightContain(sessionId)) {
+            return false;
+        }
+        try {
+            Double revokedUntil = stringRedisTemplate.opsForZSet().score(REVOKED_SESSIONS_KEY, sessionId);
+            return revokedUntil != null && revokedUntil > System.currentTimeMillis();
+        } catch (Exception e) {
+            // The filter says the session may be revoked and Redis cannot confirm, so fail closed
+            logger.error("Failed to confirm revocation of session {}: {}", sessionId, e.getMessage());
+            return true;
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String sessionId = new String(message.getBody(), StandardCharsets.UTF_8);
+        revokedSessions.add(sessionId);
+        recentRevocations.add(sessionId);
+    }
+
+    /**
+     * Drop expired revocations and rebuild the local filter from Redis
+     */
+    @Scheduled(fixedDelayString = "${auth.revocation.sync-interval-ms:30000}")
+    public void syncFromRedis() {
+        try {
+            long now = System.currentTimeMillis();
+            recentRevocations.clear();
+            stringRedisTemplate.opsForZSet().removeRangeByScore(REVOKED_SESSIONS_KEY, Double.NEGATIVE_INFINITY, now);
+            Set<String> sessionIds = stringRedisTemplate.opsForZSet()
+                    .rangeByScore(REVOKED_SESSIONS_KEY, now, Double.POSITIVE_INFINITY);
+            int size = sessionIds == null ? 0 : sessionIds.size();
+
+            BloomFilter rebuilt = new BloomFilter(Math.max(expectedEntries, size * 2), FALSE_POSITIVE_RATE);
+            if (sessionIds != null) {
+                for (String sessionId : sessionIds) {
+                    rebuilt.add(sessionId);
+                }
+            }
+            revokedSessions = rebuilt;
+            String sessionId;
+            while ((sessionId = recentRevocations.poll()) != null) {
+                rebuilt.add(sessionId);
+            }
+            logger.debug("Synced {} revoked sessions from Redis", size);
+        } catch (Exception e) {
+            // Keep the previous filter; it only ever errs towards checking Redis
+            logger.warn("Failed to sync revoked sessions from Redis: {}", e.getMessage());
+        }
+    }
+}
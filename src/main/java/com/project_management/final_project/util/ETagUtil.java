@@ -0,0 +1,56 @@
+package com.project_management.final_project.util;
+
+import com.project_management.final_project.exception.AppException;
+import com.project_management.final_project.exception.ErrorCode;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Utility class for entity tags derived from an entity's optimistic lock version
+ */
+public class ETagUtil {
+
+    /**
+     * Builds the strong ETag for a version
+     * @param version The entity version
+     * @return The quoted entity tag, e.g. "7"
+     */
+    public static String fromVersion(Integer version) {
+        return "\"" + (version != null ? version : 0) + "\"";
+    }
+
+    /**
+     * Starts a 200 response that carries the ETag when one is available
+     * @param eTag The quoted entity tag, may be null
+     * @return The response builder
+     */
+    public static ResponseEntity.BodyBuilder ok(String eTag) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        return eTag != null ? builder.eTag(eTag) : builder;
+    }
+
+    /**
+     * Parses an If-Match header into the version the client expects.
+     * Only a single strong tag is supported, since each request targets one entity.
+     * @param ifMatch The header value, may be null
+     * @return The expected version, or null if there is no precondition (header missing or "*")
+     * @throws AppException with PRECONDITION_FAILED if the header cannot match any version
+     */
+    public static Integer parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if ("*".equals(tag)) {
+            return null;
+        }
+        // Weak tags never satisfy If-Match (strong comparison)
+        if (tag.length() < 3 || tag.charAt(0) != '"' || tag.charAt(tag.length() - 1) != '"') {
+            throw new AppException(ErrorCode.PRECONDITION_FAILED, "If-Match must be a single strong entity tag");
+        }
+        try {
+            return Integer.valueOf(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new AppException(ErrorCode.PRECONDITION_FAILED);
+        }
+    }
+}
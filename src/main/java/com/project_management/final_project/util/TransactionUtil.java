@@ -0,0 +1,28 @@
+package com.project_management.final_project.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Utility class for work tied to the outcome of the current transaction
+ */
+public class TransactionUtil {
+
+    /**
+     * Runs an action once the current transaction commits, or right away when no transaction is active.
+     * The action is skipped if the transaction rolls back.
+     * @param action The action to run
+     */
+    public static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
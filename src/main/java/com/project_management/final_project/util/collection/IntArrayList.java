@@ -0,0 +1,87 @@
+package com.project_management.final_project.util.collection;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Growable array of primitive ints.
+ * Not thread-safe.
+ */
+public class IntArrayList {
+
+    private int[] elements;
+    private int size;
+
+    public IntArrayList() {
+        this(10);
+    }
+
+    public IntArrayList(int initialCapacity) {
+        elements = new int[Math.max(initialCapacity, 1)];
+    }
+
+    public void add(int value) {
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, elements.length + (elements.length >> 1) + 1);
+        }
+        elements[size++] = value;
+    }
+
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        }
+        return elements[index];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void sort() {
+        Arrays.sort(elements, 0, size);
+    }
+
+    public int[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    /**
+     * Read-only {@link List} view for APIs that need a collection, such as JPA IN parameters.
+     * Nothing is copied, but every access boxes the value again; a list that is read more than once
+     * or kept beyond the call should be copied, e.g. with {@link List#copyOf}, so it is boxed once.
+     * @return List view backed by this list
+     */
+    public List<Integer> asList() {
+        return new BoxedView(this);
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    private static final class BoxedView extends AbstractList<Integer> implements RandomAccess {
+
+        private final IntArrayList list;
+
+        private BoxedView(IntArrayList list) {
+            this.list = list;
+        }
+
+        @Override
+        public Integer get(int index) {
+            return list.get(index);
+        }
+
+        @Override
+        public int size() {
+            return list.size();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.project_management.final_project.util.collection;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Open-addressing hash set of primitive ints with linear probing.
+ * Avoids boxing every ID into an {@link Integer} when checking or de-duplicating large ID sets.
+ * Not thread-safe.
+ */
+public class IntHashSet {
+
+    private static final int FREE = 0;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private int[] keys;
+    private boolean containsFree;
+    private int size;
+    private int mask;
+    private int resizeThreshold;
+
+    public IntHashSet() {
+        this(16);
+    }
+
+    public IntHashSet(int expectedSize) {
+        int capacity = IntHashing.tableSize(expectedSize, LOAD_FACTOR);
+        keys = new int[capacity];
+        mask = capacity - 1;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    /**
+     * Add a value to the set
+     * @param value The value to add
+     * @return true if the value was not already present
+     */
+    public boolean add(int value) {
+        if (value == FREE) {
+            if (containsFree) {
+                return false;
+            }
+            containsFree = true;
+            size++;
+            return true;
+        }
+        int index = IntHashing.hash(value) & mask;
+        while (keys[index] != FREE) {
+            if (keys[index] == value) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = value;
+        if (++size > resizeThreshold) {
+            rehash(keys.length << 1);
+        }
+        return true;
+    }
+
+    /**
+     * Check if a value is in the set
+     * @param value The value to check
+     * @return true if the value is present
+     */
+    public boolean contains(int value) {
+        if (value == FREE) {
+            return containsFree;
+        }
+        int index = IntHashing.hash(value) & mask;
+        int key;
+        while ((key = keys[index]) != FREE) {
+            if (key == value) {
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void forEach(IntConsumer action) {
+        if (containsFree) {
+            action.accept(FREE);
+        }
+        for (int key : keys) {
+            if (key != FREE) {
+                action.accept(key);
+            }
+        }
+    }
+
+    /**
+     * Copy the values into a new array, in no particular order
+     * @return The values of the set
+     */
+    public int[] toArray() {
+        int[] result = new int[size];
+        int i = 0;
+        if (containsFree) {
+            result[i++] = FREE;
+        }
+        for (int key : keys) {
+            if (key != FREE) {
+                result[i++] = key;
+            }
+        }
+        return result;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, FREE);
+        containsFree = false;
+        size = 0;
+    }
+
+    private void rehash(int newCapacity) {
+        int[] oldKeys = keys;
+        keys = new int[newCapacity];
+        mask = newCapacity - 1;
+        resizeThreshold = (int) (newCapacity * LOAD_FACTOR);
+        for (int key : oldKeys) {
+            if (key != FREE) {
+                int index = IntHashing.hash(key) & mask;
+                while (keys[index] != FREE) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = key;
+            }
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.project_management.final_project.util.collection;
+
+/**
+ * Hashing helpers shared by the open-addressing int collections
+ */
+final class IntHashing {
+
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private IntHashing() {
+    }
+
+    /**
+     * Scramble sequential IDs so they spread across the table (Fibonacci hashing)
+     */
+    static int hash(int value) {
+        int h = value * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Smallest power-of-two table that holds expectedSize entries under the load factor
+     */
+    static int tableSize(int expectedSize, float loadFactor) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size must not be negative: " + expectedSize);
+        }
+        long required = (long) Math.ceil(Math.max(expectedSize, 2) / (double) loadFactor);
+        if (required > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Expected size too large: " + expectedSize);
+        }
+        return Math.max(4, Integer.highestOneBit((int) required - 1) << 1);
+    }
+}
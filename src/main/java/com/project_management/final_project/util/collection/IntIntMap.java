@@ -0,0 +1,187 @@
+package com.project_management.final_project.util.collection;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash map from primitive int keys to primitive int values.
+ * Used for per-ID counters and lookups without boxing keys or values.
+ * Not thread-safe.
+ */
+public class IntIntMap {
+
+    private static final int FREE = 0;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private int[] keys;
+    private int[] values;
+    private boolean hasFreeKey;
+    private int freeKeyValue;
+    private int size;
+    private int mask;
+    private int resizeThreshold;
+
+    public IntIntMap() {
+        this(16);
+    }
+
+    public IntIntMap(int expectedSize) {
+        int capacity = IntHashing.tableSize(expectedSize, LOAD_FACTOR);
+        keys = new int[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    /**
+     * Get the value for a key
+     * @param key The key
+     * @param defaultValue Value returned when the key is absent
+     * @return The mapped value, or defaultValue
+     */
+    public int get(int key, int defaultValue) {
+        if (key == FREE) {
+            return hasFreeKey ? freeKeyValue : defaultValue;
+        }
+        int index = IntHashing.hash(key) & mask;
+        int existing;
+        while ((existing = keys[index]) != FREE) {
+            if (existing == key) {
+                return values[index];
+            }
+            index = (index + 1) & mask;
+        }
+        return defaultValue;
+    }
+
+    public boolean containsKey(int key) {
+        if (key == FREE) {
+            return hasFreeKey;
+        }
+        return indexOf(key) >= 0;
+    }
+
+    /**
+     * Set the value for a key
+     * @param key The key
+     * @param value The value
+     */
+    public void put(int key, int value) {
+        if (key == FREE) {
+            if (!hasFreeKey) {
+                hasFreeKey = true;
+                size++;
+            }
+            freeKeyValue = value;
+            return;
+        }
+        int index = slotFor(key);
+        if (keys[index] == key) {
+            values[index] = value;
+            return;
+        }
+        keys[index] = key;
+        values[index] = value;
+        if (++size > resizeThreshold) {
+            rehash(keys.length << 1);
+        }
+    }
+
+    /**
+     * Add a delta to the value for a key, treating an absent key as zero
+     * @param key The key
+     * @param delta The amount to add
+     * @return The new value
+     */
+    public int addTo(int key, int delta) {
+        if (key == FREE) {
+            if (!hasFreeKey) {
+                hasFreeKey = true;
+                size++;
+            }
+            freeKeyValue += delta;
+            return freeKeyValue;
+        }
+        int index = slotFor(key);
+        if (keys[index] == key) {
+            values[index] += delta;
+            return values[index];
+        }
+        keys[index] = key;
+        values[index] = delta;
+        if (++size > resizeThreshold) {
+            rehash(keys.length << 1);
+        }
+        return delta;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void forEach(IntIntConsumer action) {
+        if (hasFreeKey) {
+            action.accept(FREE, freeKeyValue);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != FREE) {
+                action.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    public void clear() {
+        Arrays.fill(keys, FREE);
+        hasFreeKey = false;
+        freeKeyValue = 0;
+        size = 0;
+    }
+
+    private int indexOf(int key) {
+        int index = IntHashing.hash(key) & mask;
+        int existing;
+        while ((existing = keys[index]) != FREE) {
+            if (existing == key) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    private int slotFor(int key) {
+        int index = IntHashing.hash(key) & mask;
+        int existing;
+        while ((existing = keys[index]) != FREE && existing != key) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private void rehash(int newCapacity) {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new int[newCapacity];
+        values = new int[newCapacity];
+        mask = newCapacity - 1;
+        resizeThreshold = (int) (newCapacity * LOAD_FACTOR);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != FREE) {
+                int index = IntHashing.hash(oldKeys[i]) & mask;
+                while (keys[index] != FREE) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface IntIntConsumer {
+        void accept(int key, int value);
+    }
+}
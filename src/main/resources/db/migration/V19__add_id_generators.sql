@@ -0,0 +1,21 @@
+-- Table-based ID generation (pooled-lo, blocks of 50) for write-heavy tables, so Hibernate can batch inserts.
+-- next_val is the first free ID (the first ID of the next block) for Hibernate, which runs with
+-- hibernate.id.generator.stored_last_used=false, and for IdBlockAllocator alike; it starts right after the
+-- current maximum of each table.
+-- The AUTO_INCREMENT columns are kept, but new rows must take their IDs from here.
+CREATE TABLE id_generators (
+    sequence_name VARCHAR(64) PRIMARY KEY,
+    next_val BIGINT NOT NULL
+);
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'tasks', COALESCE(MAX(id), 0) + 1 FROM tasks;
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'task_history', COALESCE(MAX(id), 0) + 1 FROM task_history;
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'team_members', COALESCE(MAX(id), 0) + 1 FROM team_members;
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'messages', COALESCE(MAX(id), 0) + 1 FROM messages;
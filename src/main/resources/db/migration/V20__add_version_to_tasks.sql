@@ -0,0 +1,2 @@
+-- Optimistic locking for tasks; every update increments version
+ALTER TABLE tasks ADD COLUMN version INT NOT NULL DEFAULT 0;
@@ -0,0 +1,32 @@
+-- Task status counts per project at the end of each day, plus the tasks created and completed that day.
+-- Filled by the nightly analytics job from task_history, so dashboards read these rows instead of the history.
+CREATE TABLE project_daily_snapshots (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    project_id INT NOT NULL,
+    snapshot_date DATE NOT NULL,
+    unassigned INT NOT NULL DEFAULT 0,
+    todo INT NOT NULL DEFAULT 0,
+    in_progress INT NOT NULL DEFAULT 0,
+    completed INT NOT NULL DEFAULT 0,
+    overdue INT NOT NULL DEFAULT 0,
+    archived INT NOT NULL DEFAULT 0,
+    created_today INT NOT NULL DEFAULT 0,
+    completed_today INT NOT NULL DEFAULT 0,
+    UNIQUE KEY uk_project_daily_snapshots_project_date (project_id, snapshot_date),
+    FOREIGN KEY (project_id) REFERENCES projects(id)
+);
+
+-- Lead time (created -> completed) and cycle time (first IN_PROGRESS -> completed) inputs per task
+CREATE TABLE task_flow_metrics (
+    task_id INT PRIMARY KEY,
+    project_id INT NOT NULL,
+    created_at DATETIME NOT NULL,
+    started_at DATETIME NULL,
+    completed_at DATETIME NULL,
+    KEY idx_task_flow_metrics_project_completed (project_id, completed_at),
+    FOREIGN KEY (task_id) REFERENCES tasks(id),
+    FOREIGN KEY (project_id) REFERENCES projects(id)
+);
+
+-- History is folded per task in change order
+CREATE INDEX idx_task_history_task_changed ON task_history (task_id, changed_at);
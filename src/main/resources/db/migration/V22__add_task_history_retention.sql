@@ -0,0 +1,30 @@
+-- Status changes per project and day, kept after the raw history rows are archived.
+-- Statuses are '' where the history row had none.
+CREATE TABLE task_history_daily_rollups (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    project_id INT NOT NULL,
+    rollup_date DATE NOT NULL,
+    old_status VARCHAR(20) NOT NULL,
+    new_status VARCHAR(20) NOT NULL,
+    transition_count INT NOT NULL,
+    UNIQUE KEY uk_task_history_daily_rollups (project_id, rollup_date, old_status, new_status),
+    FOREIGN KEY (project_id) REFERENCES projects(id)
+);
+
+-- Raw history rows past the retention period, moved out of task_history by the nightly retention job.
+-- Keeps the original IDs; project_id is copied so archived rows can be read per project without joining tasks.
+CREATE TABLE task_history_archive (
+    id INT PRIMARY KEY,
+    task_id INT NOT NULL,
+    project_id INT NOT NULL,
+    old_status ENUM('UNASSIGNED', 'TODO', 'IN_PROGRESS', 'COMPLETED', 'OVERDUE', 'ARCHIVED'),
+    new_status ENUM('UNASSIGNED', 'TODO', 'IN_PROGRESS', 'COMPLETED', 'OVERDUE', 'ARCHIVED'),
+    changed_by INT NOT NULL,
+    changed_at DATETIME NOT NULL,
+    archived_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    KEY idx_task_history_archive_project_changed (project_id, changed_at),
+    KEY idx_task_history_archive_task (task_id)
+) ROW_FORMAT=COMPRESSED;
+
+-- Finds expired rows for the retention job, and serves the most-recent-first history queries
+CREATE INDEX idx_task_history_changed_at ON task_history (changed_at);
@@ -0,0 +1,21 @@
+-- Finish-to-start links between tasks of one project: the successor cannot start before the predecessor is finished.
+-- Links are validated against cycles when they are added.
+CREATE TABLE task_dependencies (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    project_id INT NOT NULL,
+    predecessor_id INT NOT NULL,
+    successor_id INT NOT NULL,
+    created_by INT NOT NULL,
+    created_at DATETIME NOT NULL,
+    UNIQUE KEY uk_task_dependencies_link (predecessor_id, successor_id),
+    KEY idx_task_dependencies_project (project_id),
+    KEY idx_task_dependencies_successor (successor_id),
+    FOREIGN KEY (project_id) REFERENCES projects(id),
+    FOREIGN KEY (predecessor_id) REFERENCES tasks(id),
+    FOREIGN KEY (successor_id) REFERENCES tasks(id),
+    FOREIGN KEY (created_by) REFERENCES users(id)
+);
+
+-- Bumped in the same transaction as every dependency change. Dependency changes lock the project row,
+-- so a cached dependency graph carrying the current value is known to hold every committed link.
+ALTER TABLE projects ADD COLUMN dependency_version INT NOT NULL DEFAULT 0;
@@ -0,0 +1,2 @@
+-- Timeline of a user's tasks: overlap conditions on the planned dates are evaluated within the index
+CREATE INDEX idx_tasks_assignee_due ON tasks (assignee_id, due_date, start_date);
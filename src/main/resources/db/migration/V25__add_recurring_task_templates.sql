@@ -0,0 +1,33 @@
+-- Recurring tasks: occurrences follow a cron expression (Spring format, seconds first) and are created as
+-- tasks ahead of time. next_occurrence is the first occurrence not created yet; it is advanced together
+-- with the version in the transaction inserting the tasks, so concurrent nodes cannot both create one.
+CREATE TABLE recurring_task_templates (
+    id INT AUTO_INCREMENT PRIMARY KEY,
+    project_id INT NOT NULL,
+    title VARCHAR(200) NOT NULL,
+    description TEXT,
+    priority VARCHAR(10) NOT NULL,
+    cron_expression VARCHAR(120) NOT NULL,
+    duration_days INT NOT NULL DEFAULT 0,
+    assignee_id INT NULL,
+    active BOOLEAN NOT NULL DEFAULT TRUE,
+    next_occurrence DATETIME NULL,
+    created_by INT NOT NULL,
+    created_at DATETIME NOT NULL,
+    updated_at DATETIME NOT NULL,
+    version INT NOT NULL DEFAULT 0,
+    KEY idx_recurring_task_templates_project (project_id),
+    KEY idx_recurring_task_templates_active_next (active, next_occurrence),
+    FOREIGN KEY (project_id) REFERENCES projects(id),
+    FOREIGN KEY (assignee_id) REFERENCES users(id),
+    FOREIGN KEY (created_by) REFERENCES users(id)
+);
+
+-- Tasks remember the occurrence they were created for; the unique key is the last line of defence
+-- against creating one twice
+ALTER TABLE tasks
+    ADD COLUMN recurring_template_id INT NULL,
+    ADD COLUMN occurrence_at DATETIME NULL,
+    ADD UNIQUE KEY uk_tasks_recurring_occurrence (recurring_template_id, occurrence_at),
+    ADD CONSTRAINT fk_tasks_recurring_template FOREIGN KEY (recurring_template_id)
+        REFERENCES recurring_task_templates(id) ON DELETE SET NULL;
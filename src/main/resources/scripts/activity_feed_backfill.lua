@@ -0,0 +1,17 @@
+-- Activity feed backfill: KEYS[1] = feed list, KEYS[2] = feed sequence counter
+-- ARGV[1] = sequence read before loading the entries ('' if none), ARGV[2] = TTL in seconds,
+-- ARGV[3..n] = entries, newest first; none stores a single empty-string entry marking the feed as empty
+-- Returns 1 if the feed was materialized, 0 if a push or eviction happened since the load started
+local sequence = redis.call('GET', KEYS[2]) or ''
+if sequence ~= ARGV[1] then
+    return 0
+end
+
+redis.call('DEL', KEYS[1])
+if #ARGV > 2 then
+    redis.call('RPUSH', KEYS[1], unpack(ARGV, 3))
+else
+    redis.call('RPUSH', KEYS[1], '')
+end
+redis.call('EXPIRE', KEYS[1], tonumber(ARGV[2]))
+return 1
@@ -0,0 +1,20 @@
+-- Activity feed push: KEYS[1] = feed list, KEYS[2] = feed sequence counter
+-- ARGV[1] = entry, ARGV[2] = capacity, ARGV[3] = TTL in seconds
+-- Returns the new list length, or 0 if the feed is cold (not materialized) and was left alone
+local capacity = tonumber(ARGV[2])
+local ttl = tonumber(ARGV[3])
+
+-- Moving the sequence makes any backfill that started before this push discard its snapshot
+redis.call('INCR', KEYS[2])
+redis.call('EXPIRE', KEYS[2], ttl)
+
+-- Cold feeds are rebuilt from the database on their next read, so only warm ones are extended
+local length = redis.call('LPUSHX', KEYS[1], ARGV[1])
+if length > 0 then
+    if length > capacity then
+        redis.call('LTRIM', KEYS[1], 0, capacity - 1)
+        length = capacity
+    end
+    redis.call('EXPIRE', KEYS[1], ttl)
+end
+return length
@@ -0,0 +1,11 @@
+-- Membership cache fill: KEYS[1] = project IDs of a user, KEYS[2] = the user's generation counter
+-- ARGV[1] = generation read before loading from the database ('' if none), ARGV[2] = encoded project IDs,
+-- ARGV[3] = TTL in seconds
+-- Returns 1 if the project IDs were stored, 0 if the user's memberships were invalidated since the load started
+local generation = redis.call('GET', KEYS[2]) or ''
+if generation ~= ARGV[1] then
+    return 0
+end
+
+redis.call('SET', KEYS[1], ARGV[2], 'EX', tonumber(ARGV[3]))
+return 1
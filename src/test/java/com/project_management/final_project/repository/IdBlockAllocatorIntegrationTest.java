@@ -0,0 +1,72 @@
+package com.project_management.final_project.repository;
+
+import com.project_management.final_project.entities.IdGenerators;
+import com.project_management.final_project.entities.Project;
+import com.project_management.final_project.entities.Task;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Hibernate's table generator and IdBlockAllocator share the tasks row of id_generators; neither may hand
+ * out an ID the other has handed out. Runs against the configured database; the tasks are rolled back,
+ * the reserved IDs are not.
+ */
+@SpringBootTest
+@Transactional
+class IdBlockAllocatorIntegrationTest {
+
+    @Autowired
+    private IdBlockAllocator idBlockAllocator;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Test
+    void hibernateAndAllocatorBlocksNeverOverlap() {
+        List<Project> projects = projectRepository.findAll(PageRequest.of(0, 1)).getContent();
+        assumeTrue(!projects.isEmpty(), "needs a seeded project");
+        Project project = projects.get(0);
+
+        Set<Long> hibernateIds = new HashSet<>();
+        List<long[]> blocks = new ArrayList<>();
+        // Several Hibernate blocks of ALLOCATION_SIZE, with allocator blocks taken in between and at their ends
+        for (int i = 0; i < IdGenerators.ALLOCATION_SIZE * 3; i++) {
+            Task task = taskRepository.save(Task.builder()
+                    .title("id-allocation-test-" + i)
+                    .priority(Task.Priority.LOW)
+                    .status(Task.Status.UNASSIGNED)
+                    .project(project)
+                    .createdBy(project.getCreatedBy())
+                    .build());
+            hibernateIds.add(task.getId().longValue());
+            if (i % 37 == 0 || i % IdGenerators.ALLOCATION_SIZE == IdGenerators.ALLOCATION_SIZE - 1) {
+                int count = 1 + i % 7;
+                blocks.add(new long[]{idBlockAllocator.allocate(IdGenerators.TASKS, count), count});
+            }
+        }
+        taskRepository.flush();
+
+        Set<Long> allocatedIds = new HashSet<>();
+        for (long[] block : blocks) {
+            for (long id = block[0]; id < block[0] + block[1]; id++) {
+                assertFalse(hibernateIds.contains(id), "ID " + id + " handed out by Hibernate and the allocator");
+                assertTrue(allocatedIds.add(id), "ID " + id + " handed out by the allocator twice");
+            }
+        }
+    }
+}
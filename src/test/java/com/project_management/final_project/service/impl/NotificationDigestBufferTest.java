@@ -0,0 +1,129 @@
+package com.project_management.final_project.service.impl;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NotificationDigestBufferTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private NotificationDigestBuffer buffer;
+
+    @AfterEach
+    void shutdown() {
+        if (buffer != null) {
+            buffer.shutdown();
+        }
+    }
+
+    @Test
+    void burstBecomesOneDigestPerRecipient() throws Exception {
+        buffer = newBuffer(new NotificationDigestBuffer.Settings(
+                "noreply@pms.local", 60_000, 50, 10_000, 10, 2, 0));
+        for (int i = 1; i <= 500; i++) {
+            assertTrue(buffer.add(event(NotificationEvent.Type.ASSIGNED, "dev1@pms.local", i, "Task " + i)));
+        }
+        buffer.add(event(NotificationEvent.Type.ASSIGNED, "dev2@pms.local", 501, "Task 501"));
+        buffer.add(event(NotificationEvent.Type.OVERDUE, "dev2@pms.local", 502, "Task 502"));
+
+        assertEquals(2, buffer.flush(true));
+
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertEquals(2, received.length);
+        MimeMessage first = forRecipient(received, "dev1@pms.local");
+        assertEquals("You have 500 task updates", first.getSubject());
+        String body = (String) first.getContent();
+        assertTrue(body.contains("Assigned to you: 500"));
+        assertTrue(body.contains("Task 50<"));
+        assertFalse(body.contains("Task 51<"));
+        assertTrue(body.contains("...and 450 more."));
+
+        String second = (String) forRecipient(received, "dev2@pms.local").getContent();
+        assertTrue(second.contains("Assigned to you: 1, Overdue: 1"));
+    }
+
+    @Test
+    void digestWaitsForItsWindow() throws Exception {
+        buffer = newBuffer(new NotificationDigestBuffer.Settings(
+                "noreply@pms.local", 60_000, 50, 10_000, 10, 1, 0));
+        buffer.add(event(NotificationEvent.Type.DUE_SOON, "dev1@pms.local", 1, "Write <report> & review"));
+
+        assertEquals(0, buffer.flush(false));
+        assertEquals(0, greenMail.getReceivedMessages().length);
+
+        assertEquals(1, buffer.flush(true));
+        MimeMessage message = greenMail.getReceivedMessages()[0];
+        assertEquals("Due soon: Write <report> & review", message.getSubject());
+        assertTrue(((String) message.getContent()).contains("Write &lt;report&gt; &amp; review"));
+    }
+
+    @Test
+    void fullBufferDropsEventsOfNewRecipientsOnly() throws Exception {
+        buffer = newBuffer(new NotificationDigestBuffer.Settings(
+                "noreply@pms.local", 60_000, 50, 2, 10, 1, 0));
+        assertTrue(buffer.add(event(NotificationEvent.Type.ASSIGNED, "dev1@pms.local", 1, "Task 1")));
+        assertTrue(buffer.add(event(NotificationEvent.Type.ASSIGNED, "dev1@pms.local", 2, "Task 2")));
+        // Counted in the open digest without being listed
+        assertTrue(buffer.add(event(NotificationEvent.Type.ASSIGNED, "dev1@pms.local", 3, "Task 3")));
+        assertFalse(buffer.add(event(NotificationEvent.Type.ASSIGNED, "dev2@pms.local", 4, "Task 4")));
+
+        assertEquals(1, buffer.flush(true));
+        String body = (String) greenMail.getReceivedMessages()[0].getContent();
+        assertTrue(body.contains("Assigned to you: 3"));
+        assertTrue(body.contains("...and 1 more."));
+    }
+
+    @Test
+    void sendsAreThrottled() {
+        buffer = newBuffer(new NotificationDigestBuffer.Settings(
+                "noreply@pms.local", 60_000, 50, 10_000, 1, 2, 20));
+        for (int i = 1; i <= 10; i++) {
+            buffer.add(event(NotificationEvent.Type.ASSIGNED, "dev" + i + "@pms.local", i, "Task " + i));
+        }
+
+        long start = System.nanoTime();
+        assertEquals(10, buffer.flush(true));
+        // 10 messages at 20 per second: the last one waits for its slot 450 ms in
+        assertTrue(System.nanoTime() - start >= 400_000_000L);
+        assertEquals(10, greenMail.getReceivedMessages().length);
+    }
+
+    private static NotificationDigestBuffer newBuffer(NotificationDigestBuffer.Settings settings) {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(greenMail.getSmtp().getPort());
+        return new NotificationDigestBuffer(mailSender, settings,
+                DigestTemplate.load("mail/notification-digest.html"),
+                DigestTemplate.load("mail/notification-digest-item.html"));
+    }
+
+    private static NotificationEvent event(NotificationEvent.Type type, String email, int taskId, String title) {
+        return new NotificationEvent(type, email, "Developer", taskId, title, "Website", LocalDate.of(2026, 1, 15));
+    }
+
+    private static MimeMessage forRecipient(MimeMessage[] messages, String email) {
+        return Arrays.stream(messages)
+                .filter(message -> {
+                    try {
+                        return email.equals(message.getAllRecipients()[0].toString());
+                    } catch (Exception e) {
+                        return false;
+                    }
+                })
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,152 @@
+package com.project_management.final_project.service.impl;
+
+import com.project_management.final_project.util.collection.IntArrayList;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProjectScheduleTest {
+
+    private static final int ORIGIN = 20_000;
+
+    @Test
+    void incrementalUpdatesMatchAFreshBuild() {
+        for (long seed = 1; seed <= 25; seed++) {
+            Random random = new Random(seed);
+            Fixture fixture = Fixture.random(random, 1 + random.nextInt(150));
+            ProjectSchedule schedule = fixture.build();
+            for (int step = 0; step < 300; step++) {
+                int task = random.nextInt(fixture.size());
+                fixture.change(task, random);
+                assertTrue(schedule.updateTask(fixture.taskIds[task], fixture.startDates[task], fixture.dueDates[task]));
+                assertSameSchedule(fixture.build(), schedule, "seed " + seed + ", step " + step);
+            }
+        }
+    }
+
+    @Test
+    void delayPropagatesDownTheChain() {
+        // 1 -> 2 -> 3, each two days long
+        Fixture fixture = new Fixture(new int[]{1, 2, 3},
+                new int[]{ORIGIN, ORIGIN + 2, ORIGIN + 4}, new int[]{ORIGIN + 1, ORIGIN + 3, ORIGIN + 5},
+                new int[]{1, 2}, new int[]{2, 3});
+        ProjectSchedule schedule = fixture.build();
+        assertEquals(ORIGIN + 5, schedule.projectedFinish());
+        assertEquals(0, schedule.slip(schedule.indexOf(3)));
+
+        assertTrue(schedule.updateTask(1, ORIGIN, ORIGIN + 4));
+        assertEquals(ORIGIN + 8, schedule.projectedFinish());
+        assertEquals(ORIGIN + 5, schedule.earliestStart(schedule.indexOf(2)));
+        assertEquals(3, schedule.slip(schedule.indexOf(3)));
+        assertEquals(3, schedule.criticalPath().length);
+    }
+
+    @Test
+    void unknownTaskIsNotUpdated() {
+        ProjectSchedule schedule = new Fixture(new int[]{1}, new int[]{ORIGIN}, new int[]{ORIGIN},
+                new int[0], new int[0]).build();
+        assertFalse(schedule.updateTask(2, ORIGIN, ORIGIN));
+    }
+
+    @Test
+    void cycleIsRejected() {
+        Fixture fixture = new Fixture(new int[]{1, 2}, new int[]{ORIGIN, ORIGIN}, new int[]{ORIGIN, ORIGIN},
+                new int[]{1, 2}, new int[]{2, 1});
+        assertThrows(IllegalStateException.class, fixture::build);
+    }
+
+    private static void assertSameSchedule(ProjectSchedule expected, ProjectSchedule actual, String context) {
+        assertEquals(expected.projectedFinish(), actual.projectedFinish(), context + ": projected finish");
+        for (int i = 0; i < expected.size(); i++) {
+            int task = actual.indexOf(expected.taskId(i));
+            String at = context + ", task ID " + expected.taskId(i);
+            assertEquals(expected.earliestStart(i), actual.earliestStart(task), at + ": earliest start");
+            assertEquals(expected.earliestFinish(i), actual.earliestFinish(task), at + ": earliest finish");
+            assertEquals(expected.latestStart(i), actual.latestStart(task), at + ": latest start");
+            assertEquals(expected.latestFinish(i), actual.latestFinish(task), at + ": latest finish");
+        }
+    }
+
+    /**
+     * Tasks and links a schedule is built from; the dates are changed in place as the schedule is updated
+     */
+    private static final class Fixture {
+        final int[] taskIds;
+        final int[] startDates;
+        final int[] dueDates;
+        final int[] predecessorIds;
+        final int[] successorIds;
+
+        Fixture(int[] taskIds, int[] startDates, int[] dueDates, int[] predecessorIds, int[] successorIds) {
+            this.taskIds = taskIds;
+            this.startDates = startDates;
+            this.dueDates = dueDates;
+            this.predecessorIds = predecessorIds;
+            this.successorIds = successorIds;
+        }
+
+        /**
+         * Tasks with unordered IDs and links that only point forward in a hidden order, so there is no cycle
+         */
+        static Fixture random(Random random, int size) {
+            int[] taskIds = new int[size];
+            for (int i = 0; i < size; i++) {
+                taskIds[i] = 1000 + i * 7;
+            }
+            for (int i = size - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int swap = taskIds[i];
+                taskIds[i] = taskIds[j];
+                taskIds[j] = swap;
+            }
+            IntArrayList predecessors = new IntArrayList();
+            IntArrayList successors = new IntArrayList();
+            int links = random.nextInt(size * 2 + 1);
+            for (int l = 0; l < links && size > 1; l++) {
+                int a = random.nextInt(size - 1);
+                int b = a + 1 + random.nextInt(size - a - 1);
+                predecessors.add(taskIds[a]);
+                successors.add(taskIds[b]);
+            }
+            Fixture fixture = new Fixture(taskIds, new int[size], new int[size],
+                    predecessors.toArray(), successors.toArray());
+            for (int i = 0; i < size; i++) {
+                fixture.change(i, random);
+            }
+            return fixture;
+        }
+
+        int size() {
+            return taskIds.length;
+        }
+
+        /**
+         * Give a task random dates: moved, resized, partly or fully unset, or a due date before the start
+         */
+        void change(int task, Random random) {
+            int start = ORIGIN - 10 + random.nextInt(60);
+            int due = start + random.nextInt(15) - 2;
+            int kind = random.nextInt(10);
+            startDates[task] = kind == 0 || kind == 2 ? ProjectSchedule.NO_DATE : start;
+            dueDates[task] = kind == 1 || kind == 2 ? ProjectSchedule.NO_DATE : due;
+        }
+
+        ProjectSchedule build() {
+            return new ProjectSchedule(ORIGIN, 0, list(taskIds), list(startDates), list(dueDates),
+                    list(predecessorIds), list(successorIds));
+        }
+
+        private static IntArrayList list(int[] values) {
+            IntArrayList list = new IntArrayList(values.length);
+            for (int value : values) {
+                list.add(value);
+            }
+            return list;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.project_management.final_project.util.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IntArrayListTest {
+
+    @Test
+    void growsPastItsInitialCapacity() {
+        IntArrayList list = new IntArrayList(0);
+        for (int i = 0; i < 1000; i++) {
+            list.add(i * 3);
+        }
+        assertEquals(1000, list.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i * 3, list.get(i));
+        }
+    }
+
+    @Test
+    void rejectsIndexesOutsideTheSize() {
+        IntArrayList list = new IntArrayList(8);
+        list.add(1);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+    }
+
+    @Test
+    void sortsAndCopiesOnlyTheUsedElements() {
+        IntArrayList list = new IntArrayList(16);
+        list.add(5);
+        list.add(-2);
+        list.add(9);
+        list.sort();
+        assertArrayEquals(new int[]{-2, 5, 9}, list.toArray());
+    }
+
+    @Test
+    void clearEmptiesTheListForReuse() {
+        IntArrayList list = new IntArrayList();
+        list.add(1);
+        list.add(2);
+        list.clear();
+        assertTrue(list.isEmpty());
+        assertArrayEquals(new int[0], list.toArray());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(0));
+        list.add(7);
+        assertArrayEquals(new int[]{7}, list.toArray());
+    }
+
+    @Test
+    void asListIsAReadOnlyViewOfTheCurrentElements() {
+        IntArrayList list = new IntArrayList();
+        list.add(4);
+        List<Integer> view = list.asList();
+        list.add(8);
+        assertEquals(List.of(4, 8), view);
+        assertThrows(UnsupportedOperationException.class, () -> view.add(1));
+        list.clear();
+        assertTrue(view.isEmpty());
+    }
+}
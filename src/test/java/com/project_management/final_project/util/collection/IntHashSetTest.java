@@ -0,0 +1,87 @@
+package com.project_management.final_project.util.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IntHashSetTest {
+
+    @Test
+    void keepsEveryValueAcrossRehashes() {
+        IntHashSet set = new IntHashSet(0);
+        for (int i = 1; i <= 10_000; i++) {
+            assertTrue(set.add(i));
+        }
+        assertEquals(10_000, set.size());
+        for (int i = 1; i <= 10_000; i++) {
+            assertTrue(set.contains(i));
+            assertFalse(set.add(i));
+        }
+        assertFalse(set.contains(10_001));
+        assertEquals(10_000, set.size());
+    }
+
+    @Test
+    void matchesAHashSetForRandomValues() {
+        Random random = new Random(42);
+        IntHashSet set = new IntHashSet();
+        Set<Integer> expected = new HashSet<>();
+        for (int i = 0; i < 20_000; i++) {
+            int value = random.nextInt(5_000) - 2_500;
+            assertEquals(expected.add(value), set.add(value));
+        }
+        assertEquals(expected.size(), set.size());
+        for (int value = -3_000; value < 3_000; value++) {
+            assertEquals(expected.contains(value), set.contains(value));
+        }
+    }
+
+    @Test
+    void storesZeroApartFromTheTable() {
+        IntHashSet set = new IntHashSet();
+        assertFalse(set.contains(0));
+        assertTrue(set.add(0));
+        assertFalse(set.add(0));
+        assertTrue(set.contains(0));
+        set.add(3);
+        assertEquals(2, set.size());
+
+        int[] values = set.toArray();
+        Arrays.sort(values);
+        assertArrayEquals(new int[]{0, 3}, values);
+
+        Set<Integer> visited = new HashSet<>();
+        set.forEach(visited::add);
+        assertEquals(Set.of(0, 3), visited);
+    }
+
+    @Test
+    void clearRemovesEveryValue() {
+        IntHashSet set = new IntHashSet();
+        for (int i = 0; i < 100; i++) {
+            set.add(i);
+        }
+        set.clear();
+        assertTrue(set.isEmpty());
+        assertFalse(set.contains(0));
+        assertFalse(set.contains(50));
+        assertEquals(0, set.toArray().length);
+        assertTrue(set.add(50));
+        assertEquals(1, set.size());
+    }
+
+    @Test
+    void rejectsInvalidExpectedSizes() {
+        assertThrows(IllegalArgumentException.class, () -> new IntHashSet(-1));
+        assertThrows(IllegalArgumentException.class, () -> new IntHashSet(Integer.MAX_VALUE));
+    }
+}
@@ -0,0 +1,95 @@
+package com.project_management.final_project.util.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IntIntMapTest {
+
+    @Test
+    void keepsEveryEntryAcrossRehashes() {
+        IntIntMap map = new IntIntMap(0);
+        for (int key = 1; key <= 10_000; key++) {
+            map.put(key, -key);
+        }
+        assertEquals(10_000, map.size());
+        for (int key = 1; key <= 10_000; key++) {
+            assertEquals(-key, map.get(key, 0));
+        }
+    }
+
+    @Test
+    void returnsTheDefaultForMissingKeys() {
+        IntIntMap map = new IntIntMap();
+        map.put(7, 70);
+        assertEquals(-1, map.get(8, -1));
+        assertEquals(-1, map.get(0, -1));
+        assertFalse(map.containsKey(8));
+        assertTrue(map.containsKey(7));
+    }
+
+    @Test
+    void putReplacesTheValueOfAnExistingKey() {
+        IntIntMap map = new IntIntMap();
+        map.put(5, 1);
+        map.put(5, 2);
+        assertEquals(2, map.get(5, 0));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void addToCountsFromZero() {
+        IntIntMap map = new IntIntMap();
+        assertEquals(3, map.addTo(9, 3));
+        assertEquals(5, map.addTo(9, 2));
+        assertEquals(-1, map.addTo(0, -1));
+        assertEquals(-3, map.addTo(0, -2));
+        assertEquals(5, map.get(9, 0));
+        assertEquals(-3, map.get(0, 0));
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    void matchesAHashMapForRandomCounts() {
+        Random random = new Random(7);
+        IntIntMap map = new IntIntMap();
+        Map<Integer, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 20_000; i++) {
+            int key = random.nextInt(4_000) - 2_000;
+            assertEquals((int) expected.merge(key, 1, Integer::sum), map.addTo(key, 1));
+        }
+        assertEquals(expected.size(), map.size());
+        Map<Integer, Integer> visited = new HashMap<>();
+        map.forEach(visited::put);
+        assertEquals(expected, visited);
+    }
+
+    @Test
+    void clearRemovesEveryEntry() {
+        IntIntMap map = new IntIntMap();
+        map.put(0, 10);
+        for (int key = 1; key < 100; key++) {
+            map.put(key, key);
+        }
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertFalse(map.containsKey(0));
+        assertEquals(-1, map.get(0, -1));
+        assertEquals(-1, map.get(50, -1));
+        assertEquals(1, map.addTo(0, 1));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void rejectsInvalidExpectedSizes() {
+        assertThrows(IllegalArgumentException.class, () -> new IntIntMap(-1));
+        assertThrows(IllegalArgumentException.class, () -> new IntIntMap(Integer.MAX_VALUE));
+    }
+}